@@ -0,0 +1,265 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+
+/**
+ * Computes the connected components of a graph, or the weakly connected components of a directed
+ * graph, using a concurrent union-find over the edge list.
+ *
+ * <p>
+ * The graph is accessed through a {@link CSRGraph}, which is used directly if the input graph is
+ * already one and created as a copy otherwise. The edges are split into chunks of consecutive edge
+ * indices, which are handed out dynamically to the threads of a {@link ForkJoinPool}, and each
+ * thread merges the endpoints of its edges in a shared {@link ConcurrentUnionFind}. Afterwards the
+ * representatives of all vertices are computed, again in parallel, and turned into a compact
+ * labelling with components numbered from zero in the order of their minimum vertex index. If no
+ * pool is given the computation runs in the calling thread.
+ *
+ * <p>
+ * Unlike {@link ConnectivityInspector}, this class does not support incremental inspection. The
+ * full algorithm is executed at the first call of any query method.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class ParallelConnectivityInspector<V, E>
+{
+    private static final int CHUNK_SIZE = 1 << 14;
+
+    private final Graph<V, E> graph;
+    private final ForkJoinPool pool;
+    private CSRGraph<V, E> indexedGraph;
+    private int[] labels;
+    private int numberOfComponents;
+    private List<Set<V>> connectedSets;
+
+    /**
+     * Create a new inspector which runs in the calling thread.
+     *
+     * @param graph the input graph
+     * @throws NullPointerException if the input graph is null
+     */
+    public ParallelConnectivityInspector(Graph<V, E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Create a new inspector.
+     *
+     * @param graph the input graph
+     * @param pool the pool to use for parallel execution, or null for sequential execution
+     * @throws NullPointerException if the input graph is null
+     */
+    public ParallelConnectivityInspector(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.pool = pool;
+    }
+
+    /**
+     * Test if the inspected graph is connected. An empty graph is <i>not</i> considered connected.
+     *
+     * @return {@code true} if and only if inspected graph is connected.
+     */
+    public boolean isGraphConnected()
+    {
+        return getNumberOfComponents() == 1;
+    }
+
+    /**
+     * Get the number of connected components.
+     *
+     * @return the number of connected components
+     */
+    public int getNumberOfComponents()
+    {
+        compute();
+        return numberOfComponents;
+    }
+
+    /**
+     * Get the component labelling of the vertices. Position i of the returned array contains the
+     * component of the vertex with index i in the indexed graph.
+     *
+     * @return the component labels, indexed by vertex index
+     * @see #getIndexedGraph()
+     */
+    public int[] getComponentLabels()
+    {
+        compute();
+        return labels.clone();
+    }
+
+    /**
+     * Get the indexed graph whose vertex indices are used by the component labelling.
+     *
+     * @return the indexed graph
+     */
+    public CSRGraph<V, E> getIndexedGraph()
+    {
+        compute();
+        return indexedGraph;
+    }
+
+    /**
+     * Get the component of a vertex.
+     *
+     * @param vertex the vertex
+     * @return the component of the vertex
+     * @throws IllegalArgumentException if the vertex is not in the graph
+     */
+    public int getComponent(V vertex)
+    {
+        compute();
+        int index = indexedGraph.getVertexIndex(vertex);
+        if (index == -1) {
+            throw new IllegalArgumentException("Vertex not in the graph");
+        }
+        return labels[index];
+    }
+
+    /**
+     * Tests whether two vertices lay respectively in the same connected component (undirected
+     * graph), or in the same weakly connected component (directed graph).
+     *
+     * @param sourceVertex one end of the path.
+     * @param targetVertex another end of the path.
+     *
+     * @return {@code true} if and only if the source and target vertex are in the same connected
+     *         component.
+     */
+    public boolean pathExists(V sourceVertex, V targetVertex)
+    {
+        return getComponent(sourceVertex) == getComponent(targetVertex);
+    }
+
+    /**
+     * Returns a list of {@code Set} s, where each set contains all vertices that are in the same
+     * maximally connected component. The position of a set in the list is the component number.
+     *
+     * @return a list of the connected components
+     */
+    public List<Set<V>> connectedSets()
+    {
+        if (connectedSets == null) {
+            compute();
+            List<Set<V>> sets = new ArrayList<>(numberOfComponents);
+            for (int c = 0; c < numberOfComponents; c++) {
+                sets.add(new HashSet<>());
+            }
+            for (int v = 0; v < labels.length; v++) {
+                sets.get(labels[v]).add(indexedGraph.getVertex(v));
+            }
+            connectedSets = sets;
+        }
+        return connectedSets;
+    }
+
+    /**
+     * Returns a set of all vertices that are in the maximally connected component together with
+     * the specified vertex.
+     *
+     * @param vertex the vertex for which the connected set to be returned.
+     *
+     * @return a set of all vertices that are in the maximally connected component together with
+     *         the specified vertex.
+     */
+    public Set<V> connectedSetOf(V vertex)
+    {
+        return connectedSets().get(getComponent(vertex));
+    }
+
+    private void compute()
+    {
+        if (labels != null) {
+            return;
+        }
+        if (graph instanceof CSRGraph) {
+            indexedGraph = (CSRGraph<V, E>) graph;
+        } else {
+            indexedGraph = new CSRGraph<>(graph, false);
+        }
+        int n = indexedGraph.vertexSet().size();
+        int m = indexedGraph.edgeSet().size();
+
+        // merge the endpoints of all edges
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(n);
+        AtomicInteger nextEdgeChunk = new AtomicInteger();
+        execute(() -> {
+            int start;
+            while ((start = nextEdgeChunk.getAndAdd(CHUNK_SIZE)) < m) {
+                int end = Math.min(m, start + CHUNK_SIZE);
+                for (int e = start; e < end; e++) {
+                    uf.union(
+                        indexedGraph.getEdgeSourceIndex(e), indexedGraph.getEdgeTargetIndex(e));
+                }
+            }
+        });
+
+        // representatives are the minimum vertex index of each component
+        int[] roots = new int[n];
+        AtomicInteger nextVertexChunk = new AtomicInteger();
+        execute(() -> {
+            int start;
+            while ((start = nextVertexChunk.getAndAdd(CHUNK_SIZE)) < n) {
+                int end = Math.min(n, start + CHUNK_SIZE);
+                for (int v = start; v < end; v++) {
+                    roots[v] = uf.find(v);
+                }
+            }
+        });
+
+        // relabel in the order of the representatives, which never exceed their members
+        int count = 0;
+        for (int v = 0; v < n; v++) {
+            int root = roots[v];
+            roots[v] = root == v ? count++ : roots[root];
+        }
+        numberOfComponents = count;
+        labels = roots;
+    }
+
+    private void execute(Runnable worker)
+    {
+        if (pool == null) {
+            worker.run();
+            return;
+        }
+        int workers = pool.getParallelism();
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            tasks.add(pool.submit(worker));
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+    }
+}
+
+// End ParallelConnectivityInspector.java
@@ -0,0 +1,335 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg;
+
+import java.util.*;
+
+import org.jgrapht.*;
+
+/**
+ * Computes the strongly connected components of a directed graph using Pearce's space-efficient
+ * variant of Tarjan's algorithm. The running time is O(|V|+|E|).
+ *
+ * <p>
+ * See:<br>
+ * D. J. Pearce, A space-efficient algorithm for finding strongly connected components, Information
+ * Processing Letters, 116(1):47-52, 2016.
+ *
+ * <p>
+ * Vertices are first mapped to dense indices, following the iteration order of the vertex set, and
+ * the graph is copied into a compact adjacency array. The depth-first search is iterative, using
+ * explicit stacks instead of recursion. Following Pearce, a single {@code int} per vertex holds
+ * both the preorder index of active vertices and the component of completed ones, which becomes
+ * the final labelling. Besides the adjacency array, the search uses a root flag per vertex, three
+ * {@code int} arrays of length n for the search and component stacks, and a hash map from vertices
+ * to their indices which is kept for the query methods. Thus it is suitable for very large or very
+ * deep graphs where recursive implementations run out of stack space.
+ *
+ * <p>
+ * The result is a compact labelling of the vertices by component, see
+ * {@link #getComponentLabels()}. Components are numbered from zero in the order in which they are
+ * completed by the search, which is a reverse topological order of the condensation of the graph.
+ * The sets returned by {@link #stronglyConnectedSets()} are unmodifiable views backed by the
+ * labelling and are only created when accessed. The full algorithm is executed at the first call
+ * of any query method.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class PearceStrongConnectivityInspector<V, E>
+    extends AbstractStrongConnectivityInspector<V, E>
+{
+    private V[] vertices;
+    private Map<V, Integer> vertexIndex;
+    private int[] labels;
+    private int numberOfComponents;
+    private int[] componentStart;
+    private int[] members;
+
+    /**
+     * Constructor
+     *
+     * @param graph the input graph
+     * @throws NullPointerException if the input graph is null
+     */
+    public PearceStrongConnectivityInspector(Graph<V, E> graph)
+    {
+        super(graph);
+    }
+
+    @Override
+    public List<Set<V>> stronglyConnectedSets()
+    {
+        if (stronglyConnectedSets == null) {
+            compute();
+            stronglyConnectedSets = new ComponentList();
+        }
+        return stronglyConnectedSets;
+    }
+
+    /**
+     * Get the number of strongly connected components.
+     *
+     * @return the number of strongly connected components
+     */
+    public int getNumberOfComponents()
+    {
+        compute();
+        return numberOfComponents;
+    }
+
+    /**
+     * Get the component labelling of the vertices. Position i of the returned array contains the
+     * component of the vertex with index i.
+     *
+     * @return the component labels, indexed by vertex index
+     * @see #getVertex(int)
+     */
+    public int[] getComponentLabels()
+    {
+        compute();
+        return labels.clone();
+    }
+
+    /**
+     * Get the component of a vertex.
+     *
+     * @param v the vertex
+     * @return the component of the vertex
+     * @throws IllegalArgumentException if the vertex is not in the graph
+     */
+    public int getComponent(V v)
+    {
+        int index = getVertexIndex(v);
+        return labels[index];
+    }
+
+    /**
+     * Get the index of a vertex. Vertices are indexed from zero in the iteration order of the
+     * vertex set of the graph.
+     *
+     * @param v the vertex
+     * @return the index of the vertex
+     * @throws IllegalArgumentException if the vertex is not in the graph
+     */
+    public int getVertexIndex(V v)
+    {
+        compute();
+        Integer index = vertexIndex.get(v);
+        if (index == null) {
+            throw new IllegalArgumentException("Vertex not in the graph");
+        }
+        return index;
+    }
+
+    /**
+     * Get the vertex with a given index.
+     *
+     * @param index the vertex index
+     * @return the vertex
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public V getVertex(int index)
+    {
+        compute();
+        return vertices[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    private void compute()
+    {
+        if (labels != null) {
+            return;
+        }
+
+        // dense vertex indices and adjacency array
+        int n = graph.vertexSet().size();
+        vertices = (V[]) graph.vertexSet().toArray();
+        vertexIndex = new HashMap<>(n * 4 / 3 + 1);
+        for (int i = 0; i < n; i++) {
+            vertexIndex.put(vertices[i], i);
+        }
+        int[] succStart = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            succStart[i + 1] = succStart[i] + graph.outgoingEdgesOf(vertices[i]).size();
+        }
+        int[] succ = new int[succStart[n]];
+        for (int i = 0, pos = 0; i < n; i++) {
+            V v = vertices[i];
+            for (E e : graph.outgoingEdgesOf(v)) {
+                succ[pos++] = vertexIndex.get(Graphs.getOppositeVertex(graph, e, v));
+            }
+        }
+
+        /*
+         * The search keeps rindex[v] equal to the preorder index of v while it is active and sets
+         * it to the component number, counted downwards from n-1, once its component is
+         * completed. Component numbers are always larger than the indices of active vertices.
+         */
+        int[] rindex = new int[n];
+        boolean[] root = new boolean[n];
+        int[] dfsVertex = new int[n];
+        int[] dfsEdge = new int[n];
+        int[] stack = new int[n];
+        int stackSize = 0;
+        int index = 1;
+        int c = n - 1;
+
+        for (int s = 0; s < n; s++) {
+            if (rindex[s] != 0) {
+                continue;
+            }
+            int top = 0;
+            dfsVertex[0] = s;
+            dfsEdge[0] = succStart[s];
+            rindex[s] = index++;
+            root[s] = true;
+
+            while (top >= 0) {
+                int v = dfsVertex[top];
+                int pos = dfsEdge[top];
+                if (pos < succStart[v + 1]) {
+                    int w = succ[pos];
+                    if (rindex[w] == 0) {
+                        // descend, the edge is examined again after returning
+                        top++;
+                        dfsVertex[top] = w;
+                        dfsEdge[top] = succStart[w];
+                        rindex[w] = index++;
+                        root[w] = true;
+                        continue;
+                    }
+                    if (rindex[w] < rindex[v]) {
+                        rindex[v] = rindex[w];
+                        root[v] = false;
+                    }
+                    dfsEdge[top] = pos + 1;
+                } else {
+                    top--;
+                    if (root[v]) {
+                        index--;
+                        while (stackSize > 0 && rindex[v] <= rindex[stack[stackSize - 1]]) {
+                            int w = stack[--stackSize];
+                            rindex[w] = c;
+                            index--;
+                        }
+                        rindex[v] = c;
+                        c--;
+                    } else {
+                        stack[stackSize++] = v;
+                    }
+                }
+            }
+        }
+
+        // relabel components from zero and group vertices by component
+        numberOfComponents = n - 1 - c;
+        componentStart = new int[numberOfComponents + 1];
+        for (int v = 0; v < n; v++) {
+            rindex[v] = n - 1 - rindex[v];
+            componentStart[rindex[v] + 1]++;
+        }
+        for (int i = 0; i < numberOfComponents; i++) {
+            componentStart[i + 1] += componentStart[i];
+        }
+        members = new int[n];
+        int[] next = Arrays.copyOf(componentStart, numberOfComponents);
+        for (int v = 0; v < n; v++) {
+            members[next[rindex[v]]++] = v;
+        }
+        labels = rindex;
+    }
+
+    /**
+     * List of the components, creating the set views on demand.
+     */
+    private class ComponentList
+        extends AbstractList<Set<V>>
+        implements RandomAccess
+    {
+        @Override
+        public Set<V> get(int index)
+        {
+            if (index < 0 || index >= numberOfComponents) {
+                throw new IndexOutOfBoundsException("Invalid component " + index);
+            }
+            return new ComponentSet(index);
+        }
+
+        @Override
+        public int size()
+        {
+            return numberOfComponents;
+        }
+    }
+
+    /**
+     * Unmodifiable view of the vertices of a component.
+     */
+    private class ComponentSet
+        extends AbstractSet<V>
+    {
+        private final int component;
+
+        ComponentSet(int component)
+        {
+            this.component = component;
+        }
+
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new Iterator<V>()
+            {
+                private int next = componentStart[component];
+
+                @Override
+                public boolean hasNext()
+                {
+                    return next < componentStart[component + 1];
+                }
+
+                @Override
+                public V next()
+                {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return vertices[members[next++]];
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return componentStart[component + 1] - componentStart[component];
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            Integer index = vertexIndex.get(o);
+            return index != null && labels[index] == component;
+        }
+    }
+}
+
+// End PearceStrongConnectivityInspector.java
@@ -0,0 +1,105 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.cycle;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Delivers cycles to a visitor while enforcing a maximum cycle length and recording early
+ * termination. A single buffer is reused for all cycles and the visitor sees it through an
+ * unmodifiable view.
+ *
+ * @param <V> the vertex type
+ *
+ * @author agent
+ */
+class CycleSink<V>
+{
+    private final Predicate<List<V>> visitor;
+    private final int maxLength;
+    private final List<V> buffer;
+    private final List<V> view;
+    private boolean stopped;
+
+    /**
+     * Create a new sink.
+     *
+     * @param visitor the visitor, which returns {@code false} in order to stop the enumeration
+     * @param maxLength the maximum number of vertices of a reported cycle
+     * @throws IllegalArgumentException if the maximum length is not positive
+     */
+    CycleSink(Predicate<List<V>> visitor, int maxLength)
+    {
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("Maximum cycle length must be positive");
+        }
+        this.visitor = Objects.requireNonNull(visitor, "Visitor cannot be null");
+        this.maxLength = maxLength;
+        this.buffer = new ArrayList<>();
+        this.view = Collections.unmodifiableList(buffer);
+        this.stopped = false;
+    }
+
+    /**
+     * Get the maximum number of vertices of a reported cycle.
+     *
+     * @return the maximum cycle length
+     */
+    int getMaxLength()
+    {
+        return maxLength;
+    }
+
+    /**
+     * Whether the visitor has requested to stop the enumeration.
+     *
+     * @return {@code true} if the enumeration should stop, {@code false} otherwise
+     */
+    boolean isStopped()
+    {
+        return stopped;
+    }
+
+    /**
+     * Clear and return the buffer, in order to be filled with the vertices of the next cycle.
+     *
+     * @return the cleared buffer
+     */
+    List<V> newCycle()
+    {
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Report the cycle currently in the buffer. Cycles longer than the maximum length are silently
+     * ignored.
+     *
+     * @return {@code true} if the enumeration should continue, {@code false} otherwise
+     */
+    boolean report()
+    {
+        if (!stopped && buffer.size() <= maxLength && !visitor.test(view)) {
+            stopped = true;
+        }
+        return !stopped;
+    }
+}
+
+// End CycleSink.java
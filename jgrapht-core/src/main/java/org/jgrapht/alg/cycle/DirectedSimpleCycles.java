@@ -18,6 +18,7 @@
 package org.jgrapht.alg.cycle;
 
 import java.util.*;
+import java.util.function.*;
 
 import org.jgrapht.*;
 
@@ -57,6 +58,83 @@ public interface DirectedSimpleCycles<V, E>
      * @throws IllegalArgumentException if the current graph is null.
      */
     List<List<V>> findSimpleCycles();
+
+    /**
+     * Enumerates the simple cycles of the graph, handing them one at a time to a consumer instead
+     * of collecting them in a list.
+     *
+     * <p>
+     * The list passed to the consumer is an unmodifiable view of a buffer which is reused for
+     * every cycle. It is only valid during the call and must be copied if it needs to be retained.
+     *
+     * @param consumer the consumer of the cycles
+     * @throws IllegalArgumentException if the current graph is null.
+     */
+    default void findSimpleCycles(Consumer<List<V>> consumer)
+    {
+        findSimpleCycles(cycle -> {
+            consumer.accept(cycle);
+            return true;
+        }, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Enumerates the simple cycles of the graph with at most {@code maxLength} vertices, handing
+     * them one at a time to a visitor. The enumeration stops as soon as the visitor returns
+     * {@code false}.
+     *
+     * <p>
+     * The list passed to the visitor is an unmodifiable view of a buffer which is reused for every
+     * cycle. It is only valid during the call and must be copied if it needs to be retained.
+     *
+     * <p>
+     * The default implementation materializes all cycles using {@link #findSimpleCycles()}.
+     * Implementations are expected to override it in order to enumerate cycles with bounded
+     * memory and to prune the search using the length limit where the algorithm allows it.
+     *
+     * @param visitor the visitor of the cycles, which returns {@code false} in order to stop the
+     *        enumeration
+     * @param maxLength the maximum number of vertices of a reported cycle
+     * @return {@code true} if all cycles were enumerated, {@code false} if the enumeration was
+     *         stopped by the visitor
+     * @throws IllegalArgumentException if the current graph is null or if the maximum length is
+     *         not positive.
+     */
+    default boolean findSimpleCycles(Predicate<List<V>> visitor, int maxLength)
+    {
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("Maximum cycle length must be positive");
+        }
+        for (List<V> cycle : findSimpleCycles()) {
+            if (cycle.size() <= maxLength && !visitor.test(Collections.unmodifiableList(cycle))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds at most {@code maxCycles} simple cycles of the graph with at most {@code maxLength}
+     * vertices each. The search terminates as soon as enough cycles have been found.
+     *
+     * @param maxLength the maximum number of vertices of a cycle
+     * @param maxCycles the maximum number of cycles to return
+     * @return a list of simple cycles. Possibly empty but never <code>null</code>.
+     * @throws IllegalArgumentException if the current graph is null or if any of the limits is
+     *         not positive.
+     */
+    default List<List<V>> findSimpleCycles(int maxLength, int maxCycles)
+    {
+        if (maxCycles < 1) {
+            throw new IllegalArgumentException("Maximum number of cycles must be positive");
+        }
+        List<List<V>> result = new ArrayList<>();
+        findSimpleCycles(cycle -> {
+            result.add(new ArrayList<>(cycle));
+            return result.size() < maxCycles;
+        }, maxLength);
+        return result;
+    }
 }
 
 // End DirectedSimpleCycles.java
@@ -18,6 +18,7 @@
 package org.jgrapht.alg.cycle;
 
 import java.util.*;
+import java.util.function.*;
 
 import org.jgrapht.*;
 
@@ -53,8 +54,8 @@ public class HawickJamesSimpleCycles<V, E>
     // Number of simple cycles
     private long nCycles = 0;
 
-    // Simple cycles found
-    private List<List<V>> cycles = null;
+    // Receiver of the enumerated simple cycles
+    private CycleSink<V> sink = null;
 
     // The main state of the algorithm
     private Integer start = 0;
@@ -93,9 +94,6 @@ public class HawickJamesSimpleCycles<V, E>
     {
         nCycles = 0;
         nVertices = graph.vertexSet().size();
-        if (o == Operation.ENUMERATE) {
-            cycles = new ArrayList<>();
-        }
         blocked = new boolean[nVertices];
         stack = new ArrayDeque<>(nVertices);
 
@@ -135,6 +133,7 @@ public class HawickJamesSimpleCycles<V, E>
 
     private void clearState()
     {
+        sink = null;
         Ak = null;
         nVertices = 0;
         blocked = null;
@@ -160,14 +159,17 @@ public class HawickJamesSimpleCycles<V, E>
 
             if (w == start) {
                 if (o == Operation.ENUMERATE) {
-                    List<V> cycle = new ArrayList<>(stack.size());
+                    List<V> cycle = sink.newCycle();
 
                     Iterator<Integer> iteratorStack = stack.iterator();
                     while (iteratorStack.hasNext()) {
                         cycle.add(iToV[iteratorStack.next()]);
                     }
 
-                    cycles.add(cycle);
+                    if (!sink.report()) {
+                        // the state is discarded, no need to unwind
+                        return true;
+                    }
                 }
 
                 if (o == Operation.PRINT_ONLY) {
@@ -181,9 +183,17 @@ public class HawickJamesSimpleCycles<V, E>
 
                 f = true;
             } else if (!blocked[w]) {
+                if (sink != null && stack.size() >= sink.getMaxLength()) {
+                    // the search is pruned, thus the vertex cannot be left blocked
+                    f = true;
+                    continue;
+                }
                 if (circuit(w, o)) {
                     f = true;
                 }
+                if (sink != null && sink.isStopped()) {
+                    return true;
+                }
             }
         }
 
@@ -267,11 +277,27 @@ public class HawickJamesSimpleCycles<V, E>
     @Override
     public List<List<V>> findSimpleCycles()
         throws IllegalArgumentException
+    {
+        List<List<V>> result = new ArrayList<>();
+        findSimpleCycles(cycle -> result.add(new ArrayList<>(cycle)), Integer.MAX_VALUE);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Cycles are reported in the order in which they are found and the search is pruned at the
+     * maximum length.
+     */
+    @Override
+    public boolean findSimpleCycles(Predicate<List<V>> visitor, int maxLength)
     {
         if (graph == null) {
             throw new IllegalArgumentException("Null graph.");
         }
 
+        sink = new CycleSink<>(visitor, maxLength);
         initState(Operation.ENUMERATE);
 
         for (int i = 0; i < nVertices; i++) {
@@ -282,11 +308,14 @@ public class HawickJamesSimpleCycles<V, E>
 
             start = vToI.get(iToV[i]);
             circuit(start, Operation.ENUMERATE);
+            if (sink.isStopped()) {
+                break;
+            }
         }
 
-        List<List<V>> result = cycles;
+        boolean completed = !sink.isStopped();
         clearState();
-        return result;
+        return completed;
     }
 
     /**
@@ -0,0 +1,375 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.cycle;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.*;
+
+/**
+ * Parallel version of Johnson's algorithm, where the searches from different start vertices are
+ * distributed over the threads of a {@link ForkJoinPool}.
+ *
+ * <p>
+ * The cycles whose minimum vertex (in the vertex set order) is s are exactly the cycles through s
+ * in the subgraph induced by the vertices greater or equal to s. Thus the searches from different
+ * start vertices are independent. The strongly connected components of the graph are computed
+ * once and the adjacency structure is restricted to edges inside a component, with vertices
+ * represented by their dense indices. Start vertices are handed out to the workers dynamically and
+ * each worker owns its blocked set, kept as a bitset, and its B-lists, and performs the search
+ * iteratively using an explicit stack. Cycles are reported through a shared sink which serializes
+ * the calls to the visitor.
+ *
+ * <p>
+ * As in the sequential version, cycles are sequences of vertices and parallel edges are collapsed
+ * into a single successor, so that each cycle is reported once. The state of a worker is reset
+ * only at the vertices touched by the previous search.
+ *
+ * @param <V> the vertex type
+ * @param <E> the edge type
+ *
+ * @author agent
+ */
+final class JohnsonParallelSearch<V, E>
+{
+    private final V[] iToV;
+    private final int n;
+    private final int[] succStart;
+    private final int[] succ;
+
+    /**
+     * Create a new instance.
+     *
+     * @param graph the directed graph
+     */
+    @SuppressWarnings("unchecked")
+    JohnsonParallelSearch(Graph<V, E> graph)
+    {
+        this.iToV = (V[]) graph.vertexSet().toArray();
+        this.n = iToV.length;
+        Map<V, Integer> vToI = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            vToI.put(iToV[i], i);
+        }
+
+        int[] component = new int[n];
+        int c = 0;
+        for (Set<V> scc : new KosarajuStrongConnectivityInspector<>(graph)
+            .stronglyConnectedSets())
+        {
+            for (V v : scc) {
+                component[vToI.get(v)] = c;
+            }
+            c++;
+        }
+
+        // successors inside the same component, sorted and without parallel edges
+        this.succStart = new int[n + 1];
+        int[] targets = new int[Math.max(16, graph.edgeSet().size())];
+        int m = 0;
+        for (int u = 0; u < n; u++) {
+            succStart[u] = m;
+            for (E e : graph.outgoingEdgesOf(iToV[u])) {
+                int w = vToI.get(graph.getEdgeTarget(e));
+                if (component[w] == component[u]) {
+                    targets[m++] = w;
+                }
+            }
+            Arrays.sort(targets, succStart[u], m);
+            int last = succStart[u];
+            for (int i = succStart[u] + 1; i < m; i++) {
+                if (targets[i] != targets[last]) {
+                    targets[++last] = targets[i];
+                }
+            }
+            if (m > succStart[u]) {
+                m = last + 1;
+            }
+        }
+        succStart[n] = m;
+        this.succ = Arrays.copyOf(targets, m);
+    }
+
+    /**
+     * Enumerate the simple cycles.
+     *
+     * @param visitor the visitor, which returns {@code false} in order to stop the enumeration
+     * @param maxLength the maximum number of vertices of a reported cycle
+     * @param pool the pool to use for parallel execution
+     * @return {@code true} if all cycles were enumerated, {@code false} if the enumeration was
+     *         stopped by the visitor
+     */
+    boolean run(Predicate<List<V>> visitor, int maxLength, ForkJoinPool pool)
+    {
+        SharedSink sink = new SharedSink(visitor, maxLength);
+        AtomicInteger nextStart = new AtomicInteger();
+        Runnable worker = () -> {
+            try {
+                Search search = new Search(sink);
+                int s;
+                while (!sink.stopped && (s = nextStart.getAndIncrement()) < n) {
+                    search.run(s);
+                }
+            } catch (RuntimeException | Error e) {
+                // stop the other workers before the failure reaches the caller
+                sink.stopped = true;
+                throw e;
+            }
+        };
+
+        int workers = pool.getParallelism();
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            tasks.add(pool.submit(worker));
+        }
+
+        // wait for all workers, so that the visitor is not called after a failure is reported
+        RuntimeException failure = null;
+        for (ForkJoinTask<?> task : tasks) {
+            try {
+                task.join();
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return !sink.stopped;
+    }
+
+    /**
+     * Sink shared by all workers. Calls to the visitor are serialized, so it does not need to be
+     * thread-safe.
+     */
+    private class SharedSink
+    {
+        private final Predicate<List<V>> visitor;
+        private final int maxLength;
+        private volatile boolean stopped;
+
+        SharedSink(Predicate<List<V>> visitor, int maxLength)
+        {
+            if (maxLength < 1) {
+                throw new IllegalArgumentException("Maximum cycle length must be positive");
+            }
+            this.visitor = Objects.requireNonNull(visitor, "Visitor cannot be null");
+            this.maxLength = maxLength;
+        }
+
+        synchronized boolean report(List<V> cycle)
+        {
+            if (stopped) {
+                return false;
+            }
+            boolean proceed = false;
+            try {
+                proceed = visitor.test(cycle);
+            } finally {
+                // also stop if the visitor throws
+                if (!proceed) {
+                    stopped = true;
+                }
+            }
+            return proceed;
+        }
+    }
+
+    /**
+     * The search state of a single worker.
+     */
+    private class Search
+    {
+        private final SharedSink sink;
+        private final long[] blocked;
+        private final int[][] bLists;
+        private final int[] bSizes;
+        private final int[] path;
+        private final int[] position;
+        private final boolean[] found;
+        private final int[] unblockStack;
+        private final int[] touched;
+        private final int[] touchedBy;
+        private int touchedCount;
+        private int stamp;
+        private final List<V> buffer;
+        private final List<V> view;
+
+        Search(SharedSink sink)
+        {
+            this.sink = sink;
+            this.blocked = new long[(n + 63) >>> 6];
+            this.bLists = new int[n][];
+            this.bSizes = new int[n];
+            this.path = new int[n];
+            this.position = new int[n];
+            this.found = new boolean[n];
+            this.unblockStack = new int[n];
+            this.touched = new int[n];
+            this.touchedBy = new int[n];
+            this.buffer = new ArrayList<>();
+            this.view = Collections.unmodifiableList(buffer);
+        }
+
+        void run(int s)
+        {
+            if (succStart[s] == succStart[s + 1]) {
+                return;
+            }
+            // reset the state of the vertices touched by the previous search
+            for (int i = 0; i < touchedCount; i++) {
+                int v = touched[i];
+                blocked[v >>> 6] &= ~(1L << v);
+                bSizes[v] = 0;
+            }
+            touchedCount = 0;
+            stamp = s + 1;
+
+            int depth = 0;
+            path[0] = s;
+            position[0] = succStart[s];
+            found[0] = false;
+            block(s);
+
+            while (depth >= 0) {
+                int v = path[depth];
+                if (position[depth] < succStart[v + 1]) {
+                    int w = succ[position[depth]++];
+                    if (w < s) {
+                        continue;
+                    }
+                    if (w == s) {
+                        found[depth] = true;
+                        if (!report(depth)) {
+                            return;
+                        }
+                    } else if (!isBlocked(w)) {
+                        if (depth + 1 >= sink.maxLength) {
+                            // the search is pruned, thus the vertex cannot be left blocked
+                            found[depth] = true;
+                            continue;
+                        }
+                        depth++;
+                        path[depth] = w;
+                        position[depth] = succStart[w];
+                        found[depth] = false;
+                        block(w);
+                    }
+                } else {
+                    if (found[depth]) {
+                        unblock(v);
+                    } else {
+                        for (int i = succStart[v]; i < succStart[v + 1]; i++) {
+                            int w = succ[i];
+                            if (w >= s) {
+                                addToBList(w, v);
+                            }
+                        }
+                    }
+                    depth--;
+                    if (depth >= 0 && found[depth + 1]) {
+                        found[depth] = true;
+                    }
+                }
+            }
+        }
+
+        private boolean report(int depth)
+        {
+            if (sink.stopped) {
+                return false;
+            }
+            buffer.clear();
+            for (int i = 0; i <= depth; i++) {
+                buffer.add(iToV[path[i]]);
+            }
+            return sink.report(view);
+        }
+
+        private boolean isBlocked(int v)
+        {
+            return (blocked[v >>> 6] & (1L << v)) != 0;
+        }
+
+        private void block(int v)
+        {
+            touch(v);
+            blocked[v >>> 6] |= 1L << v;
+        }
+
+        /*
+         * Record a vertex whose state must be reset before the next search. Each start vertex is
+         * searched once, so its index stamps the vertices touched by its search.
+         */
+        private void touch(int v)
+        {
+            if (touchedBy[v] != stamp) {
+                touchedBy[v] = stamp;
+                touched[touchedCount++] = v;
+            }
+        }
+
+        private void unblock(int u)
+        {
+            blocked[u >>> 6] &= ~(1L << u);
+            int top = 0;
+            unblockStack[top++] = u;
+            while (top > 0) {
+                int x = unblockStack[--top];
+                int[] list = bLists[x];
+                for (int i = 0; i < bSizes[x]; i++) {
+                    int w = list[i];
+                    if (isBlocked(w)) {
+                        blocked[w >>> 6] &= ~(1L << w);
+                        unblockStack[top++] = w;
+                    }
+                }
+                bSizes[x] = 0;
+            }
+        }
+
+        private void addToBList(int w, int v)
+        {
+            int[] list = bLists[w];
+            int size = bSizes[w];
+            for (int i = 0; i < size; i++) {
+                if (list[i] == v) {
+                    return;
+                }
+            }
+            if (list == null) {
+                list = new int[4];
+                bLists[w] = list;
+            } else if (size == list.length) {
+                list = Arrays.copyOf(list, 2 * size);
+                bLists[w] = list;
+            }
+            touch(w);
+            list[size] = v;
+            bSizes[w] = size + 1;
+        }
+    }
+}
+
+// End JohnsonParallelSearch.java
@@ -18,6 +18,8 @@
 package org.jgrapht.alg.cycle;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
 
 import org.jgrapht.*;
 import org.jgrapht.graph.*;
@@ -30,6 +32,17 @@ import org.jgrapht.graph.*;
  * D.B.Johnson, Finding all the elementary circuits of a directed graph, SIAM J. Comput., 4 (1975),
  * pp. 77-84.
  *
+ * <p>
+ * When a {@link ForkJoinPool} is provided, the searches from the different start vertices are
+ * distributed over the threads of the pool. Each thread keeps its own blocked set and B-lists over
+ * dense vertex indices and the cycles are delivered to the consumer or visitor from the worker
+ * threads, one at a time, in no particular order. In this mode cycles are reported following the
+ * direction of their edges, starting from their minimum vertex in the vertex set order.
+ *
+ * <p>
+ * Cycles are sequences of vertices. In both modes, cycles which differ only in the choice among
+ * parallel edges are reported once.
+ *
  * @param <V> the vertex type.
  * @param <E> the edge type.
  *
@@ -41,8 +54,11 @@ public class JohnsonSimpleCycles<V, E>
     // The graph.
     private Graph<V, E> graph;
 
+    // The pool for parallel execution, or null for sequential execution.
+    private final ForkJoinPool pool;
+
     // The main state of the algorithm.
-    private List<List<V>> cycles = null;
+    private CycleSink<V> sink = null;
     private V[] iToV = null;
     private Map<V, Integer> vToI = null;
     private Set<V> blocked = null;
@@ -62,6 +78,7 @@ public class JohnsonSimpleCycles<V, E>
      */
     public JohnsonSimpleCycles()
     {
+        this.pool = null;
     }
 
     /**
@@ -73,8 +90,24 @@ public class JohnsonSimpleCycles<V, E>
      * null</code>.
      */
     public JohnsonSimpleCycles(Graph<V, E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Create a simple cycle finder for the specified graph, which runs in parallel if a pool is
+     * given.
+     *
+     * @param graph - the DirectedGraph in which to find cycles.
+     * @param pool the pool to use for parallel execution, or null for sequential execution
+     *
+     * @throws IllegalArgumentException if the graph argument is <code>
+     * null</code>.
+     */
+    public JohnsonSimpleCycles(Graph<V, E> graph, ForkJoinPool pool)
     {
         this.graph = GraphTests.requireDirected(graph, "Graph must be directed");
+        this.pool = pool;
     }
 
     /**
@@ -99,13 +132,31 @@ public class JohnsonSimpleCycles<V, E>
      * {@inheritDoc}
      */
     @Override
-    @SuppressWarnings("unchecked")
     public List<List<V>> findSimpleCycles()
+    {
+        List<List<V>> result = new ArrayList<>();
+        findSimpleCycles(cycle -> result.add(new ArrayList<>(cycle)), Integer.MAX_VALUE);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Cycles are reported in the order in which they are found and the search is pruned at the
+     * maximum length.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean findSimpleCycles(Predicate<List<V>> visitor, int maxLength)
     {
         if (graph == null) {
             throw new IllegalArgumentException("Null graph.");
         }
-        initState();
+        if (pool != null) {
+            return new JohnsonParallelSearch<>(graph).run(visitor, maxLength, pool);
+        }
+        initState(visitor, maxLength);
 
         int startIndex = 0;
         int size = graph.vertexSet().size();
@@ -121,15 +172,18 @@ public class JohnsonSimpleCycles<V, E>
                     getBSet(v).clear();
                 }
                 findCyclesInSCG(startIndex, startIndex, scg);
+                if (sink.isStopped()) {
+                    break;
+                }
                 startIndex++;
             } else {
                 break;
             }
         }
 
-        List<List<V>> result = cycles;
+        boolean completed = !sink.isStopped();
         clearState();
-        return result;
+        return completed;
     }
 
     @SuppressWarnings("unchecked")
@@ -269,12 +323,22 @@ public class JohnsonSimpleCycles<V, E>
             V successor = scg.getEdgeTarget(e);
             int successorIndex = toI(successor);
             if (successorIndex == startIndex) {
-                List<V> cycle = new ArrayList<>();
-                cycle.addAll(stack);
-                cycles.add(cycle);
+                sink.newCycle().addAll(stack);
                 foundCycle = true;
+                if (!sink.report()) {
+                    // the state is discarded, no need to unwind
+                    return true;
+                }
             } else if (!blocked.contains(successor)) {
+                if (stack.size() >= sink.getMaxLength()) {
+                    // the search is pruned, thus the vertex cannot be left blocked
+                    foundCycle = true;
+                    continue;
+                }
                 boolean gotCycle = findCyclesInSCG(startIndex, successorIndex, scg);
+                if (sink.isStopped()) {
+                    return true;
+                }
                 foundCycle = foundCycle || gotCycle;
             }
         }
@@ -305,9 +369,9 @@ public class JohnsonSimpleCycles<V, E>
     }
 
     @SuppressWarnings("unchecked")
-    private void initState()
+    private void initState(Predicate<List<V>> visitor, int maxLength)
     {
-        cycles = new LinkedList<>();
+        sink = new CycleSink<>(visitor, maxLength);
         iToV = (V[]) graph.vertexSet().toArray();
         vToI = new HashMap<>();
         blocked = new HashSet<>();
@@ -321,7 +385,7 @@ public class JohnsonSimpleCycles<V, E>
 
     private void clearState()
     {
-        cycles = null;
+        sink = null;
         iToV = null;
         vToI = null;
         blocked = null;
@@ -18,6 +18,7 @@
 package org.jgrapht.alg.cycle;
 
 import java.util.*;
+import java.util.function.*;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.*;
@@ -43,7 +44,7 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
     private Graph<V, E> graph;
 
     // The state of the algorithm.
-    private List<List<V>> cycles = null;
+    private CycleSink<V> sink = null;
     private V[] iToV = null;
     private Map<V, Integer> vToI = null;
     private Map<V, Set<V>> bSets = null;
@@ -97,13 +98,29 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
      */
     @Override
     public List<List<V>> findSimpleCycles()
+    {
+        List<List<V>> result = new ArrayList<>();
+        findSimpleCycles(cycle -> result.add(new ArrayList<>(cycle)), Integer.MAX_VALUE);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Cycles are reported in the order in which they are found. Since cycles may close at any
+     * vertex of the current path, cycles longer than the maximum length are skipped when reported
+     * rather than pruned from the search.
+     */
+    @Override
+    public boolean findSimpleCycles(Predicate<List<V>> visitor, int maxLength)
     {
         // Just a straightforward implementation of
         // the algorithm.
         if (graph == null) {
             throw new IllegalArgumentException("Null graph.");
         }
-        initState();
+        initState(visitor, maxLength);
         KosarajuStrongConnectivityInspector<V, E> inspector =
             new KosarajuStrongConnectivityInspector<>(graph);
         List<Set<V>> sccs = inspector.stronglyConnectedSets();
@@ -122,11 +139,14 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
 
         for (V vertex : startVertices) {
             cycle(toI(vertex), 0);
+            if (sink.isStopped()) {
+                break;
+            }
         }
 
-        List<List<V>> result = cycles;
+        boolean completed = !sink.isStopped();
         clearState();
-        return result;
+        return completed;
     }
 
     private boolean cycle(int v, int q)
@@ -150,6 +170,9 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
             int w = toI(wV);
             if (!marked.contains(wV)) {
                 boolean gotCycle = cycle(w, q);
+                if (sink.isStopped()) {
+                    return true;
+                }
                 if (gotCycle) {
                     foundCycle = true;
                 } else {
@@ -157,7 +180,7 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
                 }
             } else if (position[w] <= q) {
                 foundCycle = true;
-                List<V> cycle = new ArrayList<>();
+                List<V> cycle = sink.newCycle();
                 Iterator<V> it = stack.descendingIterator();
                 V current;
                 while (it.hasNext()) {
@@ -174,7 +197,10 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
                         break;
                     }
                 }
-                cycles.add(cycle);
+                if (!sink.report()) {
+                    // the state is discarded, no need to unwind
+                    return true;
+                }
             } else {
                 noCycle(v, w);
             }
@@ -216,9 +242,9 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
     }
 
     @SuppressWarnings("unchecked")
-    private void initState()
+    private void initState(Predicate<List<V>> visitor, int maxLength)
     {
-        cycles = new ArrayList<>();
+        sink = new CycleSink<>(visitor, maxLength);
         iToV = (V[]) graph.vertexSet().toArray();
         vToI = new HashMap<>();
         bSets = new HashMap<>();
@@ -237,7 +263,7 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
 
     private void clearState()
     {
-        cycles = null;
+        sink = null;
         iToV = null;
         vToI = null;
         bSets = null;
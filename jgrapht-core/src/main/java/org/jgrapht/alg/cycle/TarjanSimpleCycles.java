@@ -18,6 +18,7 @@
 package org.jgrapht.alg.cycle;
 
 import java.util.*;
+import java.util.function.*;
 
 import org.jgrapht.*;
 
@@ -39,7 +40,7 @@ public class TarjanSimpleCycles<V, E>
 {
     private Graph<V, E> graph;
 
-    private List<List<V>> cycles;
+    private CycleSink<V> sink;
     private Set<V> marked;
     private ArrayDeque<V> markedStack;
     private ArrayDeque<V> pointStack;
@@ -89,22 +90,40 @@ public class TarjanSimpleCycles<V, E>
      */
     @Override
     public List<List<V>> findSimpleCycles()
+    {
+        List<List<V>> result = new ArrayList<>();
+        findSimpleCycles(cycle -> result.add(new ArrayList<>(cycle)), Integer.MAX_VALUE);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Cycles are reported in the order in which they are found and the search is pruned at the
+     * maximum length.
+     */
+    @Override
+    public boolean findSimpleCycles(Predicate<List<V>> visitor, int maxLength)
     {
         if (graph == null) {
             throw new IllegalArgumentException("Null graph.");
         }
-        initState();
+        initState(visitor, maxLength);
 
         for (V start : graph.vertexSet()) {
             backtrack(start, start);
+            if (sink.isStopped()) {
+                break;
+            }
             while (!markedStack.isEmpty()) {
                 marked.remove(markedStack.pop());
             }
         }
 
-        List<List<V>> result = cycles;
+        boolean completed = !sink.isStopped();
         clearState();
-        return result;
+        return completed;
     }
 
     private boolean backtrack(V start, V vertex)
@@ -124,7 +143,7 @@ public class TarjanSimpleCycles<V, E>
                 getRemoved(vertex).add(currentVertex);
             } else if (comparison == 0) {
                 foundCycle = true;
-                List<V> cycle = new ArrayList<>();
+                List<V> cycle = sink.newCycle();
                 Iterator<V> it = pointStack.descendingIterator();
                 V v;
                 while (it.hasNext()) {
@@ -137,9 +156,20 @@ public class TarjanSimpleCycles<V, E>
                 while (it.hasNext()) {
                     cycle.add(it.next());
                 }
-                cycles.add(cycle);
+                if (!sink.report()) {
+                    // the state is discarded, no need to unwind
+                    return true;
+                }
             } else if (!marked.contains(currentVertex)) {
+                if (pointStack.size() >= sink.getMaxLength()) {
+                    // the search is pruned, thus the vertex cannot be left marked
+                    foundCycle = true;
+                    continue;
+                }
                 boolean gotCycle = backtrack(start, currentVertex);
+                if (sink.isStopped()) {
+                    return true;
+                }
                 foundCycle = foundCycle || gotCycle;
             }
         }
@@ -155,9 +185,9 @@ public class TarjanSimpleCycles<V, E>
         return foundCycle;
     }
 
-    private void initState()
+    private void initState(Predicate<List<V>> visitor, int maxLength)
     {
-        cycles = new ArrayList<>();
+        sink = new CycleSink<>(visitor, maxLength);
         marked = new HashSet<>();
         markedStack = new ArrayDeque<>();
         pointStack = new ArrayDeque<>();
@@ -171,7 +201,7 @@ public class TarjanSimpleCycles<V, E>
 
     private void clearState()
     {
-        cycles = null;
+        sink = null;
         marked = null;
         markedStack = null;
         pointStack = null;
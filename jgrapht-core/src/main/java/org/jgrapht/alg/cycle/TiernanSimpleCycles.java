@@ -18,6 +18,7 @@
 package org.jgrapht.alg.cycle;
 
 import java.util.*;
+import java.util.function.*;
 
 import org.jgrapht.*;
 
@@ -82,15 +83,30 @@ public class TiernanSimpleCycles<V, E>
      */
     @Override
     public List<List<V>> findSimpleCycles()
+    {
+        List<List<V>> result = new ArrayList<>();
+        findSimpleCycles(cycle -> result.add(new ArrayList<>(cycle)), Integer.MAX_VALUE);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Cycles are reported in the order in which they are found and paths are never extended
+     * beyond the maximum length.
+     */
+    @Override
+    public boolean findSimpleCycles(Predicate<List<V>> visitor, int maxLength)
     {
         if (graph == null) {
             throw new IllegalArgumentException("Null graph.");
         }
+        CycleSink<V> sink = new CycleSink<>(visitor, maxLength);
         Map<V, Integer> indices = new HashMap<>();
         List<V> path = new ArrayList<>();
         Set<V> pathSet = new HashSet<>();
         Map<V, Set<V>> blocked = new HashMap<>();
-        List<List<V>> cycles = new LinkedList<>();
 
         int index = 0;
         for (V v : graph.vertexSet()) {
@@ -100,7 +116,7 @@ public class TiernanSimpleCycles<V, E>
 
         Iterator<V> vertexIterator = graph.vertexSet().iterator();
         if (!vertexIterator.hasNext()) {
-            return cycles;
+            return true;
         }
 
         V startOfPath;
@@ -121,6 +137,9 @@ public class TiernanSimpleCycles<V, E>
             // path extension
             do {
                 extensionFound = false;
+                if (path.size() >= maxLength) {
+                    break;
+                }
                 for (E e : graph.outgoingEdgesOf(endOfPath)) {
                     V n = graph.getEdgeTarget(e);
                     int cmp = indices.get(n).compareTo(indices.get(path.get(0)));
@@ -137,9 +156,10 @@ public class TiernanSimpleCycles<V, E>
             // circuit confirmation
             startOfPath = path.get(0);
             if (graph.containsEdge(endOfPath, startOfPath)) {
-                List<V> cycle = new ArrayList<>();
-                cycle.addAll(path);
-                cycles.add(cycle);
+                sink.newCycle().addAll(path);
+                if (!sink.report()) {
+                    return false;
+                }
             }
 
             // vertex closure
@@ -172,7 +192,7 @@ public class TiernanSimpleCycles<V, E>
             break;
         }
 
-        return cycles;
+        return true;
     }
 }
 
@@ -0,0 +1,411 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.scoring;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jgrapht.Graph;
+import org.jgrapht.alg.interfaces.VertexScoringAlgorithm;
+import org.jgrapht.graph.CSRGraph;
+import org.jgrapht.util.DaryIndexedHeap;
+
+/**
+ * Betweenness centrality.
+ *
+ * <p>
+ * The betweenness centrality of a vertex v is defined as B(v)=\sum_{s \neq v \neq t}
+ * \sigma_{st}(v) / \sigma_{st}, where \sigma_{st} is the number of shortest paths from s to t and
+ * \sigma_{st}(v) is the number of those paths which pass through v. For undirected graphs each
+ * unordered pair of vertices is counted once. When normalization is used, the score is divided by
+ * (n-1)(n-2) for directed graphs and by (n-1)(n-2)/2 for undirected graphs, where n is the number
+ * of vertices of the graph. For more details see
+ * <a href="https://en.wikipedia.org/wiki/Betweenness_centrality">wikipedia</a>.
+ *
+ * <p>
+ * The implementation uses the algorithm described in the paper: Ulrik Brandes. A faster algorithm
+ * for betweenness centrality. Journal of Mathematical Sociology, 25(2):163--177, 2001. A
+ * single-source shortest path computation, breadth first search for unweighted graphs and
+ * Dijkstra's algorithm for weighted graphs, is performed from each vertex and the dependencies are
+ * accumulated in reverse order of distance. The running time is O(nm) for unweighted graphs and O(n
+ * (m + n logn)) for weighted graphs. Edge weights must be non-negative.
+ *
+ * <p>
+ * The graph is converted into a compressed sparse row representation and all computations work on
+ * primitive arrays. Instead of storing the predecessors of each vertex, the accumulation phase
+ * scans the incoming edges of each vertex and checks whether they lie on a shortest path. When a
+ * {@link ForkJoinPool} is provided, the sources are distributed over the threads of the pool and
+ * each thread accumulates the dependencies into its own array, which are summed at the end.
+ *
+ * <p>
+ * For graphs which are too large for the exact computation, an approximation can be requested by
+ * providing a number of sources. The single-source computations are then performed only from a
+ * uniform random sample of k sources and the scores are scaled by n/k, which results in an unbiased
+ * estimate of the betweenness centrality, see D. A. Bader, S. Kintali, K. Madduri and M. Mihail.
+ * Approximating betweenness centrality. In Proceedings of the 5th Workshop on Algorithms and Models
+ * for the Web-Graph, 124--137, 2007.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public final class BetweennessCentrality<V, E>
+    implements VertexScoringAlgorithm<V, Double>
+{
+    private final Graph<V, E> graph;
+    private final boolean normalize;
+    private final ForkJoinPool pool;
+    private final int samples;
+    private final Random rng;
+    private Map<V, Double> scores;
+
+    /**
+     * Construct a new instance. By default the centrality is not normalized.
+     *
+     * @param graph the input graph
+     */
+    public BetweennessCentrality(Graph<V, E> graph)
+    {
+        this(graph, false);
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param graph the input graph
+     * @param normalize whether to normalize by the number of pairs of vertices not including the
+     *        vertex itself
+     */
+    public BetweennessCentrality(Graph<V, E> graph, boolean normalize)
+    {
+        this(graph, normalize, null);
+    }
+
+    /**
+     * Construct a new instance. If a pool is given, the computation is executed in parallel using
+     * the pool.
+     *
+     * @param graph the input graph
+     * @param normalize whether to normalize by the number of pairs of vertices not including the
+     *        vertex itself
+     * @param pool the pool to use for parallel execution, or null for sequential execution
+     */
+    public BetweennessCentrality(Graph<V, E> graph, boolean normalize, ForkJoinPool pool)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.normalize = normalize;
+        this.pool = pool;
+        this.samples = 0;
+        this.rng = null;
+    }
+
+    /**
+     * Construct a new instance which approximates the centrality using a random sample of sources.
+     *
+     * @param graph the input graph
+     * @param normalize whether to normalize by the number of pairs of vertices not including the
+     *        vertex itself
+     * @param samples the number of sources, if at least the number of vertices the result is exact
+     * @param rng the random number generator used to sample the sources
+     * @param pool the pool to use for parallel execution, or null for sequential execution
+     */
+    public BetweennessCentrality(
+        Graph<V, E> graph, boolean normalize, int samples, Random rng, ForkJoinPool pool)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        if (samples <= 0) {
+            throw new IllegalArgumentException("Number of samples must be positive");
+        }
+        this.normalize = normalize;
+        this.pool = pool;
+        this.samples = samples;
+        this.rng = Objects.requireNonNull(rng, "Random number generator cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<V, Double> getScores()
+    {
+        if (scores == null) {
+            compute();
+        }
+        return Collections.unmodifiableMap(scores);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Double getVertexScore(V v)
+    {
+        if (!graph.containsVertex(v)) {
+            throw new IllegalArgumentException("Cannot return score of unknown vertex");
+        }
+        if (scores == null) {
+            compute();
+        }
+        return scores.get(v);
+    }
+
+    /**
+     * Compute the centrality index
+     */
+    private void compute()
+    {
+        boolean weighted = graph.getType().isWeighted();
+        if (weighted) {
+            for (E e : graph.edgeSet()) {
+                if (graph.getEdgeWeight(e) < 0.0) {
+                    throw new IllegalArgumentException("Negative edge weights not allowed");
+                }
+            }
+        }
+        CSRGraph<V, E> indexedGraph = new CSRGraph<>(graph, weighted);
+        int n = indexedGraph.vertexSet().size();
+
+        // select sources
+        int k = n;
+        int[] sources = new int[n];
+        for (int i = 0; i < n; i++) {
+            sources[i] = i;
+        }
+        if (samples > 0 && samples < n) {
+            k = samples;
+            for (int i = 0; i < k; i++) {
+                int j = i + rng.nextInt(n - i);
+                int tmp = sources[i];
+                sources[i] = sources[j];
+                sources[j] = tmp;
+            }
+        }
+        int numberOfSources = k;
+
+        // accumulate dependencies
+        List<double[]> partialScores = new ArrayList<>();
+        AtomicInteger nextSource = new AtomicInteger();
+        Runnable worker = () -> {
+            Search search = new Search(indexedGraph, weighted);
+            int i;
+            while ((i = nextSource.getAndIncrement()) < numberOfSources) {
+                search.accumulate(sources[i]);
+            }
+            synchronized (partialScores) {
+                partialScores.add(search.betweenness);
+            }
+        };
+        if (pool == null) {
+            worker.run();
+        } else {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            for (int i = 0; i < pool.getParallelism(); i++) {
+                tasks.add(pool.submit(worker));
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        }
+
+        // combine, scale and normalize
+        double factor = (double) n / k;
+        if (!graph.getType().isDirected()) {
+            factor /= 2d;
+        }
+        if (normalize && n > 2) {
+            factor /= (n - 1d) * (n - 2d);
+            if (!graph.getType().isDirected()) {
+                factor *= 2d;
+            }
+        }
+        this.scores = new HashMap<>();
+        for (int v = 0; v < n; v++) {
+            double sum = 0d;
+            for (double[] partial : partialScores) {
+                sum += partial[v];
+            }
+            scores.put(indexedGraph.getVertex(v), sum * factor);
+        }
+    }
+
+    /**
+     * Reusable single-source shortest path search and dependency accumulation.
+     */
+    private static class Search
+    {
+        private final CSRGraph<?, ?> graph;
+        private final boolean directed;
+        private final boolean weighted;
+        private final double[] distance;
+        private final double[] sigma;
+        private final double[] delta;
+        private final int[] position;
+        private final int[] stamp;
+        private final int[] settled;
+        private final DaryIndexedHeap heap;
+        private final double[] betweenness;
+        private int settledCount;
+        private int generation;
+
+        Search(CSRGraph<?, ?> graph, boolean weighted)
+        {
+            int n = graph.vertexSet().size();
+            this.graph = graph;
+            this.directed = graph.getType().isDirected();
+            this.weighted = weighted;
+            this.distance = new double[n];
+            this.sigma = new double[n];
+            this.delta = new double[n];
+            this.position = new int[n];
+            this.stamp = new int[n];
+            this.settled = new int[n];
+            this.heap = weighted ? new DaryIndexedHeap(n) : null;
+            this.betweenness = new double[n];
+        }
+
+        void accumulate(int source)
+        {
+            search(source);
+
+            // accumulate dependencies in reverse order of distance
+            for (int i = settledCount - 1; i >= 0; i--) {
+                int w = settled[i];
+                double coefficient = (1d + delta[w]) / sigma[w];
+                if (!directed) {
+                    for (int e = graph.getOutgoingEdgesStart(w),
+                        end = graph.getOutgoingEdgesEnd(w); e < end; e++)
+                    {
+                        dependency(graph.getEdgeTargetIndex(e), w, e, coefficient);
+                    }
+                }
+                for (int j = graph.getIncomingEdgesStart(w), end = graph.getIncomingEdgesEnd(w);
+                    j < end; j++)
+                {
+                    int e = graph.getIncomingEdge(j);
+                    dependency(graph.getEdgeSourceIndex(e), w, e, coefficient);
+                }
+                if (w != source) {
+                    betweenness[w] += delta[w];
+                }
+            }
+        }
+
+        private void dependency(int v, int w, int e, double coefficient)
+        {
+            if (stamp[v] == generation && position[v] < position[w]
+                && distance[v] + weight(e) == distance[w])
+            {
+                delta[v] += sigma[v] * coefficient;
+            }
+        }
+
+        private void search(int source)
+        {
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(stamp, 0);
+                generation = 1;
+            }
+            settledCount = 0;
+            reach(source, 0d, 1d);
+
+            if (weighted) {
+                heap.insert(source, 0d);
+                while (!heap.isEmpty()) {
+                    int v = heap.deleteMin();
+                    settle(v);
+                    relax(v);
+                }
+            } else {
+                settle(source);
+                for (int head = 0; head < settledCount; head++) {
+                    relax(settled[head]);
+                }
+            }
+        }
+
+        private void relax(int v)
+        {
+            for (int e = graph.getOutgoingEdgesStart(v), end = graph.getOutgoingEdgesEnd(v);
+                e < end; e++)
+            {
+                label(v, graph.getEdgeTargetIndex(e), e);
+            }
+            if (!directed) {
+                for (int j = graph.getIncomingEdgesStart(v),
+                    end = graph.getIncomingEdgesEnd(v); j < end; j++)
+                {
+                    int e = graph.getIncomingEdge(j);
+                    label(v, graph.getEdgeSourceIndex(e), e);
+                }
+            }
+        }
+
+        private void label(int v, int u, int e)
+        {
+            double d = distance[v] + weight(e);
+            if (stamp[u] != generation) {
+                reach(u, d, sigma[v]);
+                if (weighted) {
+                    heap.insert(u, d);
+                } else {
+                    settle(u);
+                }
+            } else if (weighted && heap.contains(u)) {
+                if (d < distance[u]) {
+                    distance[u] = d;
+                    sigma[u] = sigma[v];
+                    heap.decreaseKey(u, d);
+                } else if (d == distance[u]) {
+                    sigma[u] += sigma[v];
+                }
+            } else if (!weighted && d == distance[u] && position[v] < position[u]) {
+                sigma[u] += sigma[v];
+            }
+        }
+
+        private void reach(int v, double d, double paths)
+        {
+            stamp[v] = generation;
+            distance[v] = d;
+            sigma[v] = paths;
+            delta[v] = 0d;
+            position[v] = Integer.MAX_VALUE;
+        }
+
+        private void settle(int v)
+        {
+            position[v] = settledCount;
+            settled[settledCount++] = v;
+        }
+
+        private double weight(int e)
+        {
+            return weighted ? graph.getEdgeWeightByIndex(e) : 1d;
+        }
+    }
+}
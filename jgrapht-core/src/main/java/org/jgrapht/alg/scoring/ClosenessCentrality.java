@@ -21,6 +21,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import org.jgrapht.Graph;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
@@ -59,6 +61,18 @@ import org.jgrapht.graph.EdgeReversedGraph;
  * n logn)) or O(n^3) respectively, where n is the number of vertices and m the number of edges of
  * the graph.
  * 
+ * <p>
+ * When a {@link ForkJoinPool} is provided and the graph has no negative edge weights, the
+ * single-source computations are distributed over the threads of the pool. The graph is first
+ * converted into a compressed sparse row representation and each thread reuses its own breadth
+ * first search or Dijkstra buffers for all the sources it processes. For graphs which are too large
+ * for the exact computation, an approximation can be requested by providing a number of pivots.
+ * Then, only one single-source computation per pivot is performed and the centrality of each
+ * vertex is estimated from its distances to the pivots, following D. Eppstein and J. Wang. Fast
+ * approximation of centrality. Journal of Graph Algorithms and Applications, 8(1):39--45, 2004.
+ * Using O(log n / epsilon^2) pivots, the estimated average distance of each vertex of an undirected
+ * graph is with high probability within an additive error of epsilon times the diameter.
+ * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * 
@@ -84,6 +98,18 @@ public class ClosenessCentrality<V, E>
      * The actual scores
      */
     protected Map<V, Double> scores;
+    /**
+     * The pool for parallel execution, or null for sequential execution
+     */
+    private final ForkJoinPool pool;
+    /**
+     * The number of pivots, or zero for the exact computation
+     */
+    private final int pivots;
+    /**
+     * The random number generator used to sample the pivots
+     */
+    private final Random rng;
 
     /**
      * Construct a new instance. By default the centrality is normalized and computed using outgoing
@@ -105,11 +131,58 @@ public class ClosenessCentrality<V, E>
      *        number of vertices of the graph
      */
     public ClosenessCentrality(Graph<V, E> graph, boolean incoming, boolean normalize)
+    {
+        this(graph, incoming, normalize, null);
+    }
+
+    /**
+     * Construct a new instance. If a pool is given and the graph has no negative edge weights, the
+     * computation is executed in parallel using the pool.
+     * 
+     * @param graph the input graph
+     * @param incoming if true incoming paths are used, otherwise outgoing paths
+     * @param normalize whether to normalize by multiplying the closeness by n-1, where n is the
+     *        number of vertices of the graph
+     * @param pool the pool to use for parallel execution, or null for sequential execution
+     */
+    public ClosenessCentrality(
+        Graph<V, E> graph, boolean incoming, boolean normalize, ForkJoinPool pool)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.incoming = incoming;
+        this.normalize = normalize;
+        this.scores = null;
+        this.pool = pool;
+        this.pivots = 0;
+        this.rng = null;
+    }
+
+    /**
+     * Construct a new instance which approximates the centrality using a random sample of pivots.
+     * The graph must not have negative edge weights.
+     * 
+     * @param graph the input graph
+     * @param incoming if true incoming paths are used, otherwise outgoing paths
+     * @param normalize whether to normalize by multiplying the closeness by n-1, where n is the
+     *        number of vertices of the graph
+     * @param pivots the number of pivots, if at least the number of vertices the result is exact
+     * @param rng the random number generator used to sample the pivots
+     * @param pool the pool to use for parallel execution, or null for sequential execution
+     */
+    public ClosenessCentrality(
+        Graph<V, E> graph, boolean incoming, boolean normalize, int pivots, Random rng,
+        ForkJoinPool pool)
     {
         this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
         this.incoming = incoming;
         this.normalize = normalize;
         this.scores = null;
+        if (pivots <= 0) {
+            throw new IllegalArgumentException("Number of pivots must be positive");
+        }
+        this.pool = pool;
+        this.pivots = pivots;
+        this.rng = Objects.requireNonNull(rng, "Random number generator cannot be null");
     }
 
     /**
@@ -154,19 +227,9 @@ public class ClosenessCentrality<V, E>
             g = graph;
         }
 
-        // test if we can use Dijkstra
-        boolean noNegativeWeights = true;
-        for (E e : g.edgeSet()) {
-            double w = g.getEdgeWeight(e);
-            if (w < 0.0) {
-                noNegativeWeights = false;
-                break;
-            }
-        }
-
         // initialize shortest path algorithm
         ShortestPathAlgorithm<V, E> alg;
-        if (noNegativeWeights) {
+        if (!hasNegativeWeights()) {
             alg = new DijkstraShortestPath<>(g);
         } else {
             alg = new FloydWarshallShortestPaths<>(g);
@@ -179,6 +242,10 @@ public class ClosenessCentrality<V, E>
      */
     protected void compute()
     {
+        if (computeIndexed()) {
+            return;
+        }
+
         // create result container
         this.scores = new HashMap<>();
 
@@ -197,12 +264,74 @@ public class ClosenessCentrality<V, E>
                 }
             }
 
-            if (normalize) {
-                this.scores.put(v, (n - 1) / sum);
-            } else {
-                this.scores.put(v, 1 / sum);
+            this.scores.put(v, computeScore(sum, 0d, n));
+        }
+    }
+
+    /**
+     * Compute the score of a vertex given the sum of its distances and the sum of its reciprocal
+     * distances to all other vertices.
+     * 
+     * @param distanceSum the sum of distances
+     * @param inverseDistanceSum the sum of reciprocal distances
+     * @param n the number of vertices of the graph
+     * @return the score of the vertex
+     */
+    double computeScore(double distanceSum, double inverseDistanceSum, int n)
+    {
+        if (normalize) {
+            return (n - 1) / distanceSum;
+        } else {
+            return 1 / distanceSum;
+        }
+    }
+
+    /**
+     * Compute the centrality index using the indexed parallel or sampling execution mode, if
+     * requested.
+     * 
+     * @return true if the indexed execution mode was used, false otherwise
+     */
+    boolean computeIndexed()
+    {
+        if (pool == null && pivots == 0) {
+            return false;
+        }
+        if (hasNegativeWeights()) {
+            if (pivots > 0) {
+                throw new IllegalArgumentException(
+                    "Approximation not supported for graphs with negative edge weights");
+            }
+            return false;
+        }
+
+        ShortestPathDistanceSums<V, E> sums = new ShortestPathDistanceSums<>(graph, incoming);
+        if (pivots > 0) {
+            sums.computeSampled(pivots, rng, pool);
+        } else {
+            sums.computeExact(pool);
+        }
+
+        this.scores = new HashMap<>();
+        double[] distanceSums = sums.getDistanceSums();
+        double[] inverseDistanceSums = sums.getInverseDistanceSums();
+        int n = distanceSums.length;
+        for (int v = 0; v < n; v++) {
+            this.scores.put(
+                sums.getIndexedGraph().getVertex(v),
+                computeScore(distanceSums[v], inverseDistanceSums[v], n));
+        }
+        return true;
+    }
+
+    private boolean hasNegativeWeights()
+    {
+        for (E e : graph.edgeSet()) {
+            if (graph.getEdgeWeight(e) < 0.0) {
+                return true;
             }
         }
+        return false;
     }
 
 }
@@ -18,6 +18,8 @@
 package org.jgrapht.alg.scoring;
 
 import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import org.jgrapht.Graph;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
@@ -51,6 +53,9 @@ import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.SingleSourcePaths;
  * n logn)) or O(n^3) respectively, where n is the number of vertices and m the number of edges of
  * the graph.
  * 
+ * <p>
+ * A parallel and an approximate execution mode are available, see {@link ClosenessCentrality}.
+ * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * 
@@ -84,9 +89,48 @@ public final class HarmonicCentrality<V, E>
         super(graph, incoming, normalize);
     }
 
+    /**
+     * Construct a new instance. If a pool is given and the graph has no negative edge weights, the
+     * computation is executed in parallel using the pool.
+     * 
+     * @param graph the input graph
+     * @param incoming if true incoming paths are used, otherwise outgoing paths
+     * @param normalize whether to normalize by dividing the closeness by n-1, where n is the number
+     *        of vertices of the graph
+     * @param pool the pool to use for parallel execution, or null for sequential execution
+     */
+    public HarmonicCentrality(
+        Graph<V, E> graph, boolean incoming, boolean normalize, ForkJoinPool pool)
+    {
+        super(graph, incoming, normalize, pool);
+    }
+
+    /**
+     * Construct a new instance which approximates the centrality using a random sample of pivots.
+     * The graph must not have negative edge weights.
+     * 
+     * @param graph the input graph
+     * @param incoming if true incoming paths are used, otherwise outgoing paths
+     * @param normalize whether to normalize by dividing the closeness by n-1, where n is the number
+     *        of vertices of the graph
+     * @param pivots the number of pivots, if at least the number of vertices the result is exact
+     * @param rng the random number generator used to sample the pivots
+     * @param pool the pool to use for parallel execution, or null for sequential execution
+     */
+    public HarmonicCentrality(
+        Graph<V, E> graph, boolean incoming, boolean normalize, int pivots, Random rng,
+        ForkJoinPool pool)
+    {
+        super(graph, incoming, normalize, pivots, rng, pool);
+    }
+
     @Override
     protected void compute()
     {
+        if (computeIndexed()) {
+            return;
+        }
+
         // create result container
         this.scores = new HashMap<>();
 
@@ -105,11 +149,17 @@ public final class HarmonicCentrality<V, E>
                 }
             }
 
-            if (normalize && n > 1) {
-                this.scores.put(v, sum / (n - 1));
-            } else {
-                this.scores.put(v, sum);
-            }
+            this.scores.put(v, computeScore(0d, sum, n));
+        }
+    }
+
+    @Override
+    double computeScore(double distanceSum, double inverseDistanceSum, int n)
+    {
+        if (normalize && n > 1) {
+            return inverseDistanceSum / (n - 1);
+        } else {
+            return inverseDistanceSum;
         }
     }
 
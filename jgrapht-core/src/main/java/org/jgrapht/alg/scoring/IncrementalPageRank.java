@@ -0,0 +1,477 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.scoring;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.event.*;
+
+/**
+ * PageRank which is maintained incrementally while the graph changes.
+ *
+ * <p>
+ * The algorithm computes the same scores as {@link PageRank}, but instead of power iterations it
+ * uses push operations on residuals. For each vertex v the residual is the difference between the
+ * right-hand side of the PageRank equation for v and the current score of v. A push operation on v
+ * adds the residual of v to its score and distributes it, multiplied by the damping factor, to the
+ * residuals of the out-neighbors of v. If v has no outgoing edges the damped residual is
+ * distributed uniformly to all vertices, which is represented by a single shared value instead of
+ * touching each vertex. Pushes are performed until the absolute residual of every vertex is at most
+ * the tolerance divided by the number of vertices.
+ * </p>
+ *
+ * <p>
+ * The algorithm is a {@link GraphListener} and registers itself with the given
+ * {@link ListenableGraph}. Modifications of the graph are recorded and the scores are updated
+ * lazily when queried. When an edge is added or removed, only the residuals which depend on the
+ * outgoing edges of its source are corrected, and the pushes which follow touch only the part of
+ * the graph where the scores actually change. This is typically much faster than recomputing
+ * PageRank from scratch when a few modifications are applied to a large graph. Vertex additions
+ * and removals change the number of vertices and thus the teleport probability of every vertex,
+ * which is again represented by the shared value.
+ * </p>
+ *
+ * <p>
+ * Changes of edge weights do not produce any graph event and are therefore not detected. In order
+ * to change the weight of an edge, remove the edge and add it again with the new weight.
+ * </p>
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ * @see PageRank
+ */
+public final class IncrementalPageRank<V, E>
+    implements VertexScoringAlgorithm<V, Double>, GraphListener<V, E>
+{
+    /**
+     * Default value for the tolerance. The computation stops when the absolute residual of every
+     * vertex is at most the tolerance divided by the number of vertices.
+     */
+    public static final double TOLERANCE_DEFAULT = 1e-6;
+
+    private static final int[] NO_TARGETS = new int[0];
+    private static final double[] NO_PROBABILITIES = new double[0];
+
+    private final ListenableGraph<V, E> g;
+    private final double dampingFactor;
+    private final double tolerance;
+
+    // recorded modifications
+    private final Set<V> added;
+    private final Set<V> removed;
+    private final Set<V> dirty;
+
+    // indexed state
+    private final Map<V, Integer> index;
+    private final List<V> vertices;
+    private boolean[] alive;
+    private double[] scores;
+    private double[] localResidual;
+    private int[][] rowTargets;
+    private double[][] rowProbabilities;
+    private boolean[] dangling;
+    private double uniformResidual;
+    private double danglingMass;
+    private int n;
+
+    // indices of removed vertices which can be reused
+    private int[] freeIndices;
+    private int freeCount;
+
+    // push queue
+    private final Deque<Integer> queue;
+    private boolean[] queued;
+    private int pushCount;
+
+    /**
+     * Create an instance of incremental PageRank and register it as a listener of the graph.
+     *
+     * @param g the input graph
+     */
+    public IncrementalPageRank(ListenableGraph<V, E> g)
+    {
+        this(g, PageRank.DAMPING_FACTOR_DEFAULT, TOLERANCE_DEFAULT);
+    }
+
+    /**
+     * Create an instance of incremental PageRank and register it as a listener of the graph.
+     *
+     * @param g the input graph
+     * @param dampingFactor the damping factor, must be in [0, 1) since otherwise there is no
+     *        teleport probability and the scores do not converge
+     * @param tolerance the computation stops when the absolute residual of every vertex is at most
+     *        the tolerance divided by the number of vertices
+     */
+    public IncrementalPageRank(ListenableGraph<V, E> g, double dampingFactor, double tolerance)
+    {
+        this.g = Objects.requireNonNull(g, "Graph cannot be null");
+
+        if (dampingFactor < 0.0 || dampingFactor >= 1.0) {
+            throw new IllegalArgumentException("Damping factor not valid, must be in [0, 1)");
+        }
+
+        if (tolerance <= 0.0) {
+            throw new IllegalArgumentException("Tolerance not valid, must be positive");
+        }
+
+        this.dampingFactor = dampingFactor;
+        this.tolerance = tolerance;
+        this.added = new LinkedHashSet<>(g.vertexSet());
+        this.removed = new HashSet<>();
+        this.dirty = new HashSet<>();
+        this.index = new HashMap<>();
+        this.vertices = new ArrayList<>();
+        this.queue = new ArrayDeque<>();
+        this.freeIndices = new int[16];
+        ensureCapacity(added.size());
+
+        g.addGraphListener(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<V, Double> getScores()
+    {
+        update();
+        Map<V, Double> result = new HashMap<>();
+        for (int v = 0; v < vertices.size(); v++) {
+            if (alive[v]) {
+                result.put(vertices.get(v), scores[v]);
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Double getVertexScore(V v)
+    {
+        if (!g.containsVertex(v)) {
+            throw new IllegalArgumentException("Cannot return score of unknown vertex");
+        }
+        update();
+        return scores[index.get(v)];
+    }
+
+    /**
+     * Get the number of push operations performed by the last update of the scores.
+     *
+     * @return the number of push operations performed by the last update
+     */
+    public int getPushCount()
+    {
+        return pushCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void edgeAdded(GraphEdgeChangeEvent<V, E> e)
+    {
+        edgeChanged(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void edgeRemoved(GraphEdgeChangeEvent<V, E> e)
+    {
+        edgeChanged(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void vertexAdded(GraphVertexChangeEvent<V> e)
+    {
+        V v = e.getVertex();
+        if (removed.remove(v)) {
+            dirty.add(v);
+        } else {
+            added.add(v);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void vertexRemoved(GraphVertexChangeEvent<V> e)
+    {
+        V v = e.getVertex();
+        if (!added.remove(v)) {
+            removed.add(v);
+        }
+    }
+
+    private void edgeChanged(GraphEdgeChangeEvent<V, E> e)
+    {
+        dirty.add(e.getEdgeSource());
+        if (!g.getType().isDirected()) {
+            dirty.add(e.getEdgeTarget());
+        }
+    }
+
+    /**
+     * Apply the recorded modifications and push until the residuals are small enough.
+     */
+    private void update()
+    {
+        if (added.isEmpty() && removed.isEmpty() && dirty.isEmpty()) {
+            return;
+        }
+        pushCount = 0;
+        int oldN = n;
+
+        /*
+         * Index new vertices with a zero score and no outgoing edges, reusing the indices of
+         * vertices removed by previous updates. Indices freed by this update are still referenced
+         * by the rows which are replaced below and are reused only by the next update.
+         */
+        int[] newIndices = new int[added.size()];
+        int newCount = 0;
+        ensureCapacity(vertices.size() + Math.max(0, added.size() - freeCount));
+        for (V v : added) {
+            int i;
+            if (freeCount > 0) {
+                i = freeIndices[--freeCount];
+                vertices.set(i, v);
+            } else {
+                i = vertices.size();
+                vertices.add(v);
+                resetIndex(i);
+            }
+            index.put(v, i);
+            alive[i] = true;
+            newIndices[newCount++] = i;
+            dirty.add(v);
+        }
+        added.clear();
+
+        // remove the contribution of removed vertices
+        int[] released = new int[removed.size()];
+        int releasedCount = 0;
+        for (V v : removed) {
+            int i = index.remove(v);
+            removeRow(i, oldN);
+            alive[i] = false;
+            released[releasedCount++] = i;
+            n--;
+        }
+        removed.clear();
+
+        // replace the rows of vertices whose outgoing edges changed
+        for (V v : dirty) {
+            Integer i = index.get(v);
+            if (i == null || !alive[i] || !g.containsVertex(v)) {
+                continue;
+            }
+            removeRow(i, oldN);
+            addRow(i, oldN);
+            enqueue(i);
+        }
+        dirty.clear();
+
+        // release the indices of removed vertices
+        for (int k = 0; k < releasedCount; k++) {
+            int i = released[k];
+            vertices.set(i, null);
+            resetIndex(i);
+            if (freeCount == freeIndices.length) {
+                freeIndices = Arrays.copyOf(freeIndices, 2 * freeCount);
+            }
+            freeIndices[freeCount++] = i;
+        }
+
+        // account for the new number of vertices in the teleport probabilities
+        n += newCount;
+        if (n == 0) {
+            uniformResidual = 0d;
+            danglingMass = 0d;
+            while (!queue.isEmpty()) {
+                queued[queue.poll()] = false;
+            }
+            return;
+        }
+        double teleport = (1d - dampingFactor) + dampingFactor * danglingMass;
+        if (oldN > 0) {
+            uniformResidual += teleport * (1d / n - 1d / oldN);
+        }
+        for (int k = 0; k < newCount; k++) {
+            int i = newIndices[k];
+            if (alive[i]) {
+                localResidual[i] += teleport / n - uniformResidual;
+                enqueue(i);
+            }
+        }
+
+        push();
+    }
+
+    private void push()
+    {
+        double threshold = tolerance / (2 * n);
+        foldUniformResidual(threshold);
+
+        while (!queue.isEmpty()) {
+            int v = queue.poll();
+            queued[v] = false;
+            if (!alive[v] || Math.abs(localResidual[v]) <= threshold) {
+                continue;
+            }
+
+            pushCount++;
+            double delta = localResidual[v] + uniformResidual;
+            scores[v] += delta;
+            localResidual[v] -= delta;
+
+            if (dangling[v]) {
+                danglingMass += delta;
+                uniformResidual += dampingFactor * delta / n;
+                foldUniformResidual(threshold);
+            } else {
+                int[] targets = rowTargets[v];
+                double[] probabilities = rowProbabilities[v];
+                for (int k = 0; k < targets.length; k++) {
+                    int u = targets[k];
+                    localResidual[u] += dampingFactor * delta * probabilities[k];
+                    if (!queued[u] && Math.abs(localResidual[u]) > threshold) {
+                        enqueue(u);
+                    }
+                }
+            }
+            if (Math.abs(localResidual[v]) > threshold) {
+                enqueue(v);
+            }
+        }
+    }
+
+    private void foldUniformResidual(double threshold)
+    {
+        if (Math.abs(uniformResidual) <= threshold) {
+            return;
+        }
+        for (int v = 0; v < vertices.size(); v++) {
+            if (alive[v]) {
+                localResidual[v] += uniformResidual;
+                if (Math.abs(localResidual[v]) > threshold) {
+                    enqueue(v);
+                }
+            }
+        }
+        uniformResidual = 0d;
+    }
+
+    private void removeRow(int v, int currentN)
+    {
+        double mass = dampingFactor * scores[v];
+        if (dangling[v]) {
+            danglingMass -= scores[v];
+            if (currentN > 0) {
+                uniformResidual -= mass / currentN;
+            }
+        } else {
+            int[] targets = rowTargets[v];
+            double[] probabilities = rowProbabilities[v];
+            for (int k = 0; k < targets.length; k++) {
+                localResidual[targets[k]] -= mass * probabilities[k];
+                enqueue(targets[k]);
+            }
+        }
+    }
+
+    private void addRow(int v, int currentN)
+    {
+        V vertex = vertices.get(v);
+        Set<E> edges = g.outgoingEdgesOf(vertex);
+        boolean weighted = g.getType().isWeighted();
+        int[] targets = new int[edges.size()];
+        double[] probabilities = new double[edges.size()];
+        double outWeight = 0d;
+        int k = 0;
+        for (E e : edges) {
+            targets[k] = index.get(Graphs.getOppositeVertex(g, e, vertex));
+            probabilities[k] = weighted ? g.getEdgeWeight(e) : 1d;
+            outWeight += probabilities[k];
+            k++;
+        }
+        rowTargets[v] = targets;
+        rowProbabilities[v] = probabilities;
+        dangling[v] = targets.length == 0;
+
+        double mass = dampingFactor * scores[v];
+        if (dangling[v]) {
+            danglingMass += scores[v];
+            if (currentN > 0) {
+                uniformResidual += mass / currentN;
+            }
+        } else {
+            for (k = 0; k < targets.length; k++) {
+                probabilities[k] /= outWeight;
+                localResidual[targets[k]] += mass * probabilities[k];
+                enqueue(targets[k]);
+            }
+        }
+    }
+
+    private void resetIndex(int i)
+    {
+        scores[i] = 0d;
+        localResidual[i] = 0d;
+        rowTargets[i] = NO_TARGETS;
+        rowProbabilities[i] = NO_PROBABILITIES;
+        dangling[i] = false;
+    }
+
+    private void enqueue(int v)
+    {
+        if (!queued[v]) {
+            queued[v] = true;
+            queue.add(v);
+        }
+    }
+
+    private void ensureCapacity(int capacity)
+    {
+        if (alive != null && alive.length >= capacity) {
+            return;
+        }
+        int length = Math.max(capacity, (alive == null) ? 16 : 2 * alive.length);
+        alive = (alive == null) ? new boolean[length] : Arrays.copyOf(alive, length);
+        scores = (scores == null) ? new double[length] : Arrays.copyOf(scores, length);
+        localResidual = (localResidual == null) ? new double[length]
+            : Arrays.copyOf(localResidual, length);
+        rowTargets =
+            (rowTargets == null) ? new int[length][] : Arrays.copyOf(rowTargets, length);
+        rowProbabilities = (rowProbabilities == null) ? new double[length][]
+            : Arrays.copyOf(rowProbabilities, length);
+        dangling = (dangling == null) ? new boolean[length] : Arrays.copyOf(dangling, length);
+        queued = (queued == null) ? new boolean[length] : Arrays.copyOf(queued, length);
+    }
+}
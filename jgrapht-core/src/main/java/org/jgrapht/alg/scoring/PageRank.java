@@ -18,6 +18,7 @@
 package org.jgrapht.alg.scoring;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
@@ -52,6 +53,28 @@ import org.jgrapht.alg.interfaces.*;
  * of v.
  * </p>
  * 
+ * <p>
+ * A parallel execution mode is available by providing a {@link ForkJoinPool}. In this mode the
+ * vertices are indexed once and the graph is converted into a transposed compressed sparse row
+ * representation where each vertex stores its incoming neighbors together with the probability of
+ * following the corresponding edge. The iterations then work on primitive arrays and the vertices
+ * are split into chunks of roughly equal work which are processed by the pool.
+ * </p>
+ * 
+ * <p>
+ * Personalized PageRank is supported by providing a personalization vector. The random surfer then
+ * teleports, and leaves vertices without outgoing edges, according to this vector instead of
+ * uniformly at random. For a fast approximation of personalized PageRank from a few seed vertices
+ * see {@link ApproximatePersonalizedPageRank} and for graphs which change over time see
+ * {@link IncrementalPageRank}.
+ * </p>
+ * 
+ * <p>
+ * In both modes the number of iterations performed and the residual of each iteration, the
+ * maximum change of a PageRank value, are available after the execution in order to monitor the
+ * convergence.
+ * </p>
+ * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * 
@@ -79,6 +102,8 @@ public final class PageRank<V, E>
 
     private final Graph<V, E> g;
     private Map<V, Double> scores;
+    private final List<Double> residuals;
+    private final Map<V, Double> personalization;
 
     /**
      * Create and execute an instance of PageRank.
@@ -123,9 +148,54 @@ public final class PageRank<V, E>
      *        iterations change less than this value
      */
     public PageRank(Graph<V, E> g, double dampingFactor, int maxIterations, double tolerance)
+    {
+        this(g, dampingFactor, maxIterations, tolerance, null);
+    }
+
+    /**
+     * Create and execute an instance of PageRank. If a pool is given, the computation is executed
+     * in parallel using the pool.
+     * 
+     * @param g the input graph
+     * @param dampingFactor the damping factor
+     * @param maxIterations the maximum number of iterations to perform
+     * @param tolerance the calculation will stop if the difference of PageRank values between
+     *        iterations change less than this value
+     * @param pool the pool to use for parallel execution, or null for sequential execution
+     */
+    public PageRank(
+        Graph<V, E> g, double dampingFactor, int maxIterations, double tolerance,
+        ForkJoinPool pool)
+    {
+        this(g, null, dampingFactor, maxIterations, tolerance, pool);
+    }
+
+    /**
+     * Create and execute an instance of personalized PageRank. Instead of teleporting to a
+     * uniformly random vertex, the random surfer teleports to a vertex chosen according to the
+     * personalization vector. The same holds when the surfer reaches a vertex without outgoing
+     * edges. The personalization vector is given as non-negative weights for a set of seed
+     * vertices, which are normalized to sum up to one. All other vertices have zero weight. If a
+     * pool is given, the computation is executed in parallel using the pool.
+     * 
+     * @param g the input graph
+     * @param personalization the personalization weights of the seed vertices, or null for the
+     *        uniform teleport vector of standard PageRank
+     * @param dampingFactor the damping factor
+     * @param maxIterations the maximum number of iterations to perform
+     * @param tolerance the calculation will stop if the difference of PageRank values between
+     *        iterations change less than this value
+     * @param pool the pool to use for parallel execution, or null for sequential execution
+     */
+    public PageRank(
+        Graph<V, E> g, Map<V, Double> personalization, double dampingFactor, int maxIterations,
+        double tolerance, ForkJoinPool pool)
     {
         this.g = g;
         this.scores = new HashMap<>();
+        this.residuals = new ArrayList<>();
+        this.personalization =
+            (personalization == null) ? null : normalizePersonalization(g, personalization);
 
         if (maxIterations <= 0) {
             throw new IllegalArgumentException("Maximum iterations must be positive");
@@ -139,7 +209,11 @@ public final class PageRank<V, E>
             throw new IllegalArgumentException("Tolerance not valid, must be positive");
         }
 
-        run(dampingFactor, maxIterations, tolerance);
+        if (pool == null) {
+            run(dampingFactor, maxIterations, tolerance);
+        } else {
+            runParallel(dampingFactor, maxIterations, tolerance, pool);
+        }
     }
 
     /**
@@ -163,6 +237,27 @@ public final class PageRank<V, E>
         return scores.get(v);
     }
 
+    /**
+     * Get the number of iterations performed.
+     * 
+     * @return the number of iterations performed
+     */
+    public int getIterations()
+    {
+        return residuals.size();
+    }
+
+    /**
+     * Get the residual of each iteration performed, that is the maximum absolute change of a
+     * PageRank value during the iteration.
+     * 
+     * @return the residual of each iteration
+     */
+    public List<Double> getResiduals()
+    {
+        return Collections.unmodifiableList(residuals);
+    }
+
     private void run(double dampingFactor, int maxIterations, double tolerance)
     {
         // initialization
@@ -221,11 +316,19 @@ public final class PageRank<V, E>
                 }
 
                 double vOldValue = scores.get(v);
-                double vNewValue = r + contribution;
+                double vNewValue;
+                if (personalization == null) {
+                    vNewValue = r + contribution;
+                } else {
+                    vNewValue =
+                        r * totalVertices * personalization.getOrDefault(v, 0d) + contribution;
+                }
                 maxChange = Math.max(maxChange, Math.abs(vNewValue - vOldValue));
                 nextScores.put(v, vNewValue);
             }
 
+            residuals.add(maxChange);
+
             // swap scores
             Map<V, Double> tmp = scores;
             scores = nextScores;
@@ -237,4 +340,167 @@ public final class PageRank<V, E>
 
     }
 
+    private void runParallel(
+        double dampingFactor, int maxIterations, double tolerance, ForkJoinPool pool)
+    {
+        // index vertices
+        int n = g.vertexSet().size();
+        if (n == 0) {
+            return;
+        }
+        List<V> vertices = new ArrayList<>(g.vertexSet());
+        Map<V, Integer> index = new HashMap<>(2 * n);
+        for (int i = 0; i < n; i++) {
+            index.put(vertices.get(i), i);
+        }
+
+        // build transposed CSR representation
+        boolean weighted = g.getType().isWeighted();
+        boolean directed = g.getType().isDirected();
+        int[] outDegree = new int[n];
+        double[] outWeight = new double[n];
+        int[] inOffsets = new int[n + 1];
+        for (E e : g.edgeSet()) {
+            int s = index.get(g.getEdgeSource(e));
+            int t = index.get(g.getEdgeTarget(e));
+            double w = weighted ? g.getEdgeWeight(e) : 1d;
+            outDegree[s]++;
+            outWeight[s] += w;
+            inOffsets[t + 1]++;
+            if (!directed && s != t) {
+                outDegree[t]++;
+                outWeight[t] += w;
+                inOffsets[s + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            inOffsets[v + 1] += inOffsets[v];
+        }
+        int[] inSources = new int[inOffsets[n]];
+        double[] inProbabilities = new double[inOffsets[n]];
+        int[] position = Arrays.copyOf(inOffsets, n);
+        for (E e : g.edgeSet()) {
+            int s = index.get(g.getEdgeSource(e));
+            int t = index.get(g.getEdgeTarget(e));
+            double w = weighted ? g.getEdgeWeight(e) : 1d;
+            int p = position[t]++;
+            inSources[p] = s;
+            inProbabilities[p] = w / outWeight[s];
+            if (!directed && s != t) {
+                p = position[s]++;
+                inSources[p] = t;
+                inProbabilities[p] = w / outWeight[t];
+            }
+        }
+        double[] teleportShare = (personalization == null) ? null : new double[n];
+        if (teleportShare != null) {
+            for (Map.Entry<V, Double> entry : personalization.entrySet()) {
+                teleportShare[index.get(entry.getKey())] = n * entry.getValue();
+            }
+        }
+        index = null;
+
+        // split vertices into chunks of roughly equal work
+        int chunks = Math.max(1, Math.min(n, 4 * pool.getParallelism()));
+        int[] chunkStart = new int[chunks + 1];
+        long totalWork = (long) n + inOffsets[n];
+        for (int c = 1, v = 0; c < chunks; c++) {
+            long work = totalWork * c / chunks;
+            while (v < n && (long) v + inOffsets[v] < work) {
+                v++;
+            }
+            chunkStart[c] = v;
+        }
+        chunkStart[chunks] = n;
+
+        // initialization
+        double[] curScores = new double[n];
+        double[] nextScores = new double[n];
+        Arrays.fill(curScores, 1.0d / n);
+        double r = 0d;
+        for (int v = 0; v < n; v++) {
+            r += (outDegree[v] > 0) ? (1d - dampingFactor) * curScores[v] : curScores[v];
+        }
+        r /= n;
+
+        // run PageRank
+        double[] chunkMaxChange = new double[chunks];
+        double[] chunkTeleport = new double[chunks];
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+        double maxChange = tolerance;
+
+        while (maxIterations > 0 && maxChange >= tolerance) {
+            double[] cur = curScores;
+            double[] next = nextScores;
+            double base = r;
+            tasks.clear();
+            for (int c = 0; c < chunks; c++) {
+                int chunk = c;
+                tasks.add(pool.submit(() -> {
+                    double chunkChange = 0d;
+                    double teleport = 0d;
+                    for (int v = chunkStart[chunk]; v < chunkStart[chunk + 1]; v++) {
+                        double contribution = 0d;
+                        for (int i = inOffsets[v]; i < inOffsets[v + 1]; i++) {
+                            contribution += cur[inSources[i]] * inProbabilities[i];
+                        }
+                        double vNewValue = (teleportShare == null) ? base
+                            : base * teleportShare[v];
+                        vNewValue += dampingFactor * contribution;
+                        chunkChange = Math.max(chunkChange, Math.abs(vNewValue - cur[v]));
+                        next[v] = vNewValue;
+                        teleport += (outDegree[v] > 0) ? (1d - dampingFactor) * vNewValue
+                            : vNewValue;
+                    }
+                    chunkMaxChange[chunk] = chunkChange;
+                    chunkTeleport[chunk] = teleport;
+                }));
+            }
+
+            maxChange = 0d;
+            r = 0d;
+            for (int c = 0; c < chunks; c++) {
+                tasks.get(c).join();
+                maxChange = Math.max(maxChange, chunkMaxChange[c]);
+                r += chunkTeleport[c];
+            }
+            r /= n;
+            residuals.add(maxChange);
+
+            // swap scores
+            curScores = next;
+            nextScores = cur;
+
+            // progress
+            maxIterations--;
+        }
+
+        for (int v = 0; v < n; v++) {
+            scores.put(vertices.get(v), curScores[v]);
+        }
+    }
+
+    private static <V> Map<V, Double> normalizePersonalization(
+        Graph<V, ?> g, Map<V, Double> personalization)
+    {
+        double sum = 0d;
+        for (Map.Entry<V, Double> entry : personalization.entrySet()) {
+            if (!g.containsVertex(entry.getKey())) {
+                throw new IllegalArgumentException("no such vertex in graph: " + entry.getKey());
+            }
+            if (entry.getValue() < 0d) {
+                throw new IllegalArgumentException("Personalization weights must be non-negative");
+            }
+            sum += entry.getValue();
+        }
+        if (sum <= 0d) {
+            throw new IllegalArgumentException("Personalization weights must have a positive sum");
+        }
+        Map<V, Double> result = new HashMap<>();
+        for (Map.Entry<V, Double> entry : personalization.entrySet()) {
+            result.put(entry.getKey(), entry.getValue() / sum);
+        }
+        return result;
+    }
+
 }
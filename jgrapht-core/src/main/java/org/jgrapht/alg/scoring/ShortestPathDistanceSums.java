@@ -0,0 +1,327 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.scoring;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jgrapht.Graph;
+import org.jgrapht.graph.CSRGraph;
+import org.jgrapht.util.DaryIndexedHeap;
+
+/**
+ * Computes for each vertex x the sum of the shortest path distances d(x,y) and the sum of their
+ * reciprocals 1/d(x,y) over all other vertices y, either exactly or approximately.
+ *
+ * <p>
+ * The graph is converted into a {@link CSRGraph} and each single-source computation is a breadth
+ * first search for unweighted graphs or Dijkstra's algorithm with a {@link DaryIndexedHeap} for
+ * weighted graphs. Each worker owns its search buffers, which are reused across sources using a
+ * generation stamp per vertex, and sources are handed out to the workers dynamically. Edge weights
+ * must be non-negative.
+ *
+ * <p>
+ * The approximation follows the paper: D. Eppstein and J. Wang. Fast approximation of centrality.
+ * Journal of Graph Algorithms and Applications, 8(1):39--45, 2004. A set of k pivots is sampled
+ * uniformly at random, a single-source computation is performed from each pivot in the opposite
+ * direction, and the sums of each vertex are estimated by scaling the sums over the pivots by
+ * (n-1)/k. Using k = O(log n / epsilon^2) pivots, the estimated average distance of each vertex of
+ * an undirected graph is with high probability within an additive error of epsilon times the
+ * diameter of the graph.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+final class ShortestPathDistanceSums<V, E>
+{
+    private final CSRGraph<V, E> graph;
+    private final boolean incoming;
+    private final boolean weighted;
+    private final int n;
+
+    private double[] distanceSums;
+    private double[] inverseDistanceSums;
+
+    /**
+     * Create a new instance.
+     *
+     * @param graph the input graph, without negative edge weights
+     * @param incoming if true incoming paths are used, otherwise outgoing paths
+     */
+    ShortestPathDistanceSums(Graph<V, E> graph, boolean incoming)
+    {
+        this.weighted = graph.getType().isWeighted();
+        this.graph = new CSRGraph<>(graph, weighted);
+        this.incoming = incoming && graph.getType().isDirected();
+        this.n = this.graph.vertexSet().size();
+    }
+
+    /**
+     * Get the indexed graph. Results are indexed by the vertex indices of this graph.
+     *
+     * @return the indexed graph
+     */
+    CSRGraph<V, E> getIndexedGraph()
+    {
+        return graph;
+    }
+
+    /**
+     * Get the sum of the distances from (or to) each vertex to (or from) all other vertices.
+     *
+     * @return the distance sums, positive infinity if some vertex is unreachable
+     */
+    double[] getDistanceSums()
+    {
+        return distanceSums;
+    }
+
+    /**
+     * Get the sum of the reciprocal distances from (or to) each vertex to (or from) all other
+     * vertices.
+     *
+     * @return the reciprocal distance sums
+     */
+    double[] getInverseDistanceSums()
+    {
+        return inverseDistanceSums;
+    }
+
+    /**
+     * Compute the exact sums by performing a single-source computation from each vertex.
+     *
+     * @param pool the pool to use for parallel execution, or null for sequential execution
+     */
+    void computeExact(ForkJoinPool pool)
+    {
+        distanceSums = new double[n];
+        inverseDistanceSums = new double[n];
+        AtomicInteger nextSource = new AtomicInteger();
+        execute(pool, () -> {
+            Search search = new Search(incoming);
+            int s;
+            while ((s = nextSource.getAndIncrement()) < n) {
+                search.run(s);
+                double distanceSum = 0d;
+                double inverseDistanceSum = 0d;
+                for (int i = 0; i < search.settledCount; i++) {
+                    int u = search.settled[i];
+                    if (u != s) {
+                        distanceSum += search.distance[u];
+                        inverseDistanceSum += 1d / search.distance[u];
+                    }
+                }
+                if (search.settledCount < n) {
+                    distanceSum = Double.POSITIVE_INFINITY;
+                }
+                distanceSums[s] = distanceSum;
+                inverseDistanceSums[s] = inverseDistanceSum;
+            }
+        });
+    }
+
+    /**
+     * Estimate the sums by performing a single-source computation from a random sample of pivots.
+     *
+     * @param pivots the number of pivots, if at least the number of vertices the result is exact
+     * @param rng the random number generator used to sample the pivots
+     * @param pool the pool to use for parallel execution, or null for sequential execution
+     */
+    void computeSampled(int pivots, Random rng, ForkJoinPool pool)
+    {
+        int k = Math.min(pivots, n);
+
+        // sample pivots using a partial Fisher-Yates shuffle
+        int[] sample = new int[n];
+        for (int i = 0; i < n; i++) {
+            sample[i] = i;
+        }
+        for (int i = 0; i < k; i++) {
+            int j = i + rng.nextInt(n - i);
+            int tmp = sample[i];
+            sample[i] = sample[j];
+            sample[j] = tmp;
+        }
+        boolean[] isPivot = new boolean[n];
+        for (int i = 0; i < k; i++) {
+            isPivot[sample[i]] = true;
+        }
+
+        // distances from the pivots in the opposite direction are distances to the pivots
+        List<double[]> partialSums = new ArrayList<>();
+        AtomicInteger nextPivot = new AtomicInteger();
+        execute(pool, () -> {
+            Search search = new Search(!incoming);
+            double[] distanceSum = new double[n];
+            double[] inverseDistanceSum = new double[n];
+            int i;
+            while ((i = nextPivot.getAndIncrement()) < k) {
+                int p = sample[i];
+                search.run(p);
+                for (int v = 0; v < n; v++) {
+                    if (v != p) {
+                        double d = search.isReached(v) ? search.distance[v]
+                            : Double.POSITIVE_INFINITY;
+                        distanceSum[v] += d;
+                        inverseDistanceSum[v] += 1d / d;
+                    }
+                }
+            }
+            synchronized (partialSums) {
+                partialSums.add(distanceSum);
+                partialSums.add(inverseDistanceSum);
+            }
+        });
+
+        // combine and scale
+        distanceSums = new double[n];
+        inverseDistanceSums = new double[n];
+        for (int j = 0; j < partialSums.size(); j += 2) {
+            double[] distanceSum = partialSums.get(j);
+            double[] inverseDistanceSum = partialSums.get(j + 1);
+            for (int v = 0; v < n; v++) {
+                distanceSums[v] += distanceSum[v];
+                inverseDistanceSums[v] += inverseDistanceSum[v];
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            int samples = isPivot[v] ? k - 1 : k;
+            if (samples > 0) {
+                double scale = (n - 1) / (double) samples;
+                distanceSums[v] *= scale;
+                inverseDistanceSums[v] *= scale;
+            }
+        }
+    }
+
+    private void execute(ForkJoinPool pool, Runnable worker)
+    {
+        if (pool == null) {
+            worker.run();
+            return;
+        }
+        int workers = pool.getParallelism();
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            tasks.add(pool.submit(worker));
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+    }
+
+    /**
+     * Reusable single-source shortest path search.
+     */
+    private class Search
+    {
+        private final boolean reversed;
+        private final boolean directed;
+        private final double[] distance;
+        private final int[] stamp;
+        private final int[] settled;
+        private final DaryIndexedHeap heap;
+        private int settledCount;
+        private int generation;
+
+        Search(boolean reversed)
+        {
+            this.reversed = reversed;
+            this.directed = graph.getType().isDirected();
+            this.distance = new double[n];
+            this.stamp = new int[n];
+            this.settled = new int[n];
+            this.heap = weighted ? new DaryIndexedHeap(n) : null;
+        }
+
+        boolean isReached(int v)
+        {
+            return stamp[v] == generation;
+        }
+
+        void run(int source)
+        {
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(stamp, 0);
+                generation = 1;
+            }
+            settledCount = 0;
+            stamp[source] = generation;
+            distance[source] = 0d;
+
+            if (weighted) {
+                heap.insert(source, 0d);
+                while (!heap.isEmpty()) {
+                    int v = heap.deleteMin();
+                    settled[settledCount++] = v;
+                    relax(v);
+                }
+            } else {
+                settled[settledCount++] = source;
+                for (int head = 0; head < settledCount; head++) {
+                    relax(settled[head]);
+                }
+            }
+        }
+
+        private void relax(int v)
+        {
+            if (!reversed || !directed) {
+                for (int e = graph.getOutgoingEdgesStart(v),
+                    end = graph.getOutgoingEdgesEnd(v); e < end; e++)
+                {
+                    label(v, graph.getEdgeTargetIndex(e), e);
+                }
+            }
+            if (reversed || !directed) {
+                for (int i = graph.getIncomingEdgesStart(v),
+                    end = graph.getIncomingEdgesEnd(v); i < end; i++)
+                {
+                    int e = graph.getIncomingEdge(i);
+                    label(v, graph.getEdgeSourceIndex(e), e);
+                }
+            }
+        }
+
+        private void label(int v, int u, int e)
+        {
+            if (weighted) {
+                double d = distance[v] + graph.getEdgeWeightByIndex(e);
+                if (stamp[u] != generation) {
+                    stamp[u] = generation;
+                    distance[u] = d;
+                    heap.insert(u, d);
+                } else if (d < distance[u] && heap.contains(u)) {
+                    distance[u] = d;
+                    heap.decreaseKey(u, d);
+                }
+            } else if (stamp[u] != generation) {
+                stamp[u] = generation;
+                distance[u] = distance[v] + 1d;
+                settled[settledCount++] = u;
+            }
+        }
+    }
+}
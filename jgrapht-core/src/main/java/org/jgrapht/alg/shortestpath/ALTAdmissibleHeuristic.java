@@ -17,11 +17,13 @@
  */
 package org.jgrapht.alg.shortestpath;
 
+import java.io.*;
+import java.nio.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
-import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
 import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
 
@@ -59,7 +61,18 @@ import org.jgrapht.graph.*;
  * <p>
  * In general more landmarks will speed up A* but will need more space. Given an A* query with
  * vertices source and target, a good landmark appears "before" source or "after" target where
- * before and after are relative to the "direction" from source to target.
+ * before and after are relative to the "direction" from source to target. Instead of providing
+ * the landmarks explicitly, they can also be selected automatically using one of the strategies of
+ * {@link LandmarkSelectionStrategy}.
+ *
+ * <p>
+ * The distances are stored in one primitive array per landmark and direction, indexed by the
+ * vertex index of a {@link CSRGraph} snapshot of the graph. In compact mode the distances are
+ * stored as floats, rounded so that the heuristic remains admissible, which halves the space
+ * requirements at the cost of slightly weaker estimates. The shortest path computations of the
+ * pre-processing phase are executed in parallel using a {@link ForkJoinPool}. The precomputed
+ * tables can be written to a stream using {@link #writeTables(OutputStream)} and loaded again
+ * using {@link #readTables(Graph, InputStream)}, which avoids the pre-processing phase.
  * 
  * @author Dimitrios Michail
  *
@@ -69,14 +82,47 @@ import org.jgrapht.graph.*;
 public class ALTAdmissibleHeuristic<V, E>
     implements AStarAdmissibleHeuristic<V>
 {
+    private static final int TABLES_MAGIC = 0x414c5400;
+    private static final int TABLES_VERSION = 2;
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+
     private final Graph<V, E> graph;
-    private final Comparator<Double> comparator;
-    private final Map<V, Map<V, Double>> fromLandmark;
-    private final Map<V, Map<V, Double>> toLandmark;
+    private final CSRGraph<V, E> indexedGraph;
     private final boolean directed;
+    private final boolean compact;
+    private final int[] landmarks;
+    private final int[] landmarkColumn;
+    private final double[][] fromLandmark;
+    private final double[][] toLandmark;
+    private final float[][] compactFromLandmark;
+    private final float[][] compactToLandmark;
 
     /**
-     * Constructs a new {@link AStarAdmissibleHeuristic} using a set of landmarks.
+     * Strategies for the automatic selection of landmarks.
+     */
+    public enum LandmarkSelectionStrategy
+    {
+        /**
+         * Select the landmarks uniformly at random.
+         */
+        RANDOM,
+        /**
+         * Select the first landmark as the vertex farthest away from a random vertex and each
+         * subsequent landmark as the vertex whose distance to the closest already selected landmark
+         * is maximum.
+         */
+        FARTHEST,
+        /**
+         * The avoid strategy of Goldberg and Harrelson. Each subsequent landmark is selected as a
+         * leaf of the shortest path tree of a random vertex, inside a subtree whose vertices have
+         * poor lower bounds using the already selected landmarks and which contains no landmark.
+         */
+        AVOID
+    }
+
+    /**
+     * Constructs a new {@link AStarAdmissibleHeuristic} using a set of landmarks. The
+     * pre-processing uses the common {@link ForkJoinPool}.
      * 
      * @param graph the graph
      * @param landmarks a set of vertices of the graph which will be used as landmarks
@@ -85,32 +131,137 @@ public class ALTAdmissibleHeuristic<V, E>
      * @throws IllegalArgumentException if the graph contains edges with negative weights
      */
     public ALTAdmissibleHeuristic(Graph<V, E> graph, Set<V> landmarks)
+    {
+        this(graph, landmarks, false, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new {@link AStarAdmissibleHeuristic} using a set of landmarks.
+     * 
+     * @param graph the graph
+     * @param landmarks a set of vertices of the graph which will be used as landmarks
+     * @param compact whether to store the distances as floats instead of doubles
+     * @param pool the pool used to execute the pre-processing
+     * 
+     * @throws IllegalArgumentException if no landmarks are provided
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public ALTAdmissibleHeuristic(
+        Graph<V, E> graph, Set<V> landmarks, boolean compact, ForkJoinPool pool)
+    {
+        this(graph, validateLandmarks(landmarks), compact);
+        Objects.requireNonNull(pool, "Pool cannot be null");
+
+        int i = 0;
+        for (V l : landmarks) {
+            int index = indexedGraph.getVertexIndex(l);
+            if (index == -1) {
+                throw new IllegalArgumentException("no such vertex in graph: " + l);
+            }
+            setLandmark(i++, index);
+        }
+
+        // precomputation of all columns in parallel
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        for (int j = 0; j < this.landmarks.length; j++) {
+            tasks.addAll(submitPrecomputation(pool, j));
+        }
+        joinAll(tasks);
+    }
+
+    /**
+     * Constructs a new {@link AStarAdmissibleHeuristic} selecting the landmarks automatically.
+     * 
+     * @param graph the graph
+     * @param numberOfLandmarks the number of landmarks to select
+     * @param strategy the landmark selection strategy
+     * @param rng the random number generator used by the selection strategy
+     * @param compact whether to store the distances as floats instead of doubles
+     * @param pool the pool used to execute the pre-processing
+     * 
+     * @throws IllegalArgumentException if the number of landmarks is not positive or larger than
+     *         the number of vertices
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public ALTAdmissibleHeuristic(
+        Graph<V, E> graph, int numberOfLandmarks, LandmarkSelectionStrategy strategy, Random rng,
+        boolean compact, ForkJoinPool pool)
+    {
+        this(graph, numberOfLandmarks, compact);
+        Objects.requireNonNull(strategy, "Strategy cannot be null");
+        Objects.requireNonNull(rng, "Random number generator cannot be null");
+        Objects.requireNonNull(pool, "Pool cannot be null");
+        int n = indexedGraph.vertexSet().size();
+        if (numberOfLandmarks > n) {
+            throw new IllegalArgumentException(
+                "Number of landmarks cannot be larger than the number of vertices");
+        }
+
+        switch (strategy) {
+        case RANDOM:
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            for (int i = 0; i < numberOfLandmarks; i++) {
+                int l;
+                do {
+                    l = rng.nextInt(n);
+                } while (landmarkColumn[l] != -1);
+                setLandmark(i, l);
+                tasks.addAll(submitPrecomputation(pool, i));
+            }
+            joinAll(tasks);
+            break;
+        case FARTHEST:
+        case AVOID:
+            for (int i = 0; i < numberOfLandmarks; i++) {
+                int l;
+                if (i == 0) {
+                    l = selectFarthest(rng.nextInt(n));
+                } else if (strategy == LandmarkSelectionStrategy.FARTHEST) {
+                    l = selectFarthest(-1);
+                } else {
+                    l = selectAvoid(rng);
+                }
+                setLandmark(i, l);
+                joinAll(submitPrecomputation(pool, i));
+            }
+            break;
+        }
+    }
+
+    /**
+     * Allocates the tables.
+     */
+    private ALTAdmissibleHeuristic(Graph<V, E> graph, int numberOfLandmarks, boolean compact)
     {
         this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
-        Objects.requireNonNull(landmarks, "Landmarks cannot be null");
-        if (landmarks.isEmpty()) {
+        if (numberOfLandmarks < 1) {
             throw new IllegalArgumentException("At least one landmark must be provided");
         }
-        this.fromLandmark = new HashMap<>();
         if (graph.getType().isDirected()) {
             this.directed = true;
-            this.toLandmark = new HashMap<>();
         } else if (graph.getType().isUndirected()) {
             this.directed = false;
-            this.toLandmark = this.fromLandmark;
         } else {
             throw new IllegalArgumentException("Graph must be directed or undirected");
         }
-        this.comparator = new ToleranceDoubleComparator();
+        this.indexedGraph = ShortestPathQueryContext.indexedSnapshot(graph);
+        this.compact = compact;
 
-        // precomputation and validation
-        for (V v : landmarks) {
-            for (E e : graph.edgesOf(v)) {
-                if (comparator.compare(graph.getEdgeWeight(e), 0d) < 0) {
-                    throw new IllegalArgumentException("Graph edge weights cannot be negative");
-                }
-            }
-            precomputeToFromLandmark(v);
+        int n = indexedGraph.vertexSet().size();
+        this.landmarks = new int[numberOfLandmarks];
+        this.landmarkColumn = new int[n];
+        Arrays.fill(landmarkColumn, -1);
+        if (compact) {
+            this.fromLandmark = null;
+            this.toLandmark = null;
+            this.compactFromLandmark = new float[numberOfLandmarks][];
+            this.compactToLandmark =
+                directed ? new float[numberOfLandmarks][] : compactFromLandmark;
+        } else {
+            this.fromLandmark = new double[numberOfLandmarks][];
+            this.toLandmark = directed ? new double[numberOfLandmarks][] : fromLandmark;
+            this.compactFromLandmark = null;
+            this.compactToLandmark = null;
         }
     }
 
@@ -126,40 +277,184 @@ public class ALTAdmissibleHeuristic<V, E>
     @Override
     public double getCostEstimate(V u, V t)
     {
-        double maxEstimate = 0d;
-
         /*
          * Special case, source equals target
          */
         if (u.equals(t)) {
-            return maxEstimate;
+            return 0d;
+        }
+
+        int uIndex = indexedGraph.getVertexIndex(u);
+        if (uIndex == -1) {
+            throw new IllegalArgumentException("no such vertex in graph: " + u);
+        }
+        int tIndex = indexedGraph.getVertexIndex(t);
+        if (tIndex == -1) {
+            throw new IllegalArgumentException("no such vertex in graph: " + t);
+        }
+        return estimate(uIndex, tIndex);
+    }
+
+    /**
+     * Get the landmarks used by this heuristic.
+     * 
+     * @return the landmarks
+     */
+    public Set<V> getLandmarks()
+    {
+        Set<V> result = new LinkedHashSet<>();
+        for (int l : landmarks) {
+            result.add(indexedGraph.getVertex(l));
+        }
+        return result;
+    }
+
+    /**
+     * Write the precomputed tables to a stream. The tables can be loaded again using
+     * {@link #readTables(Graph, InputStream)}. The stream is not closed.
+     * 
+     * @param out the output stream
+     * @throws IOException in case an I/O error occurs
+     */
+    public void writeTables(OutputStream out)
+        throws IOException
+    {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        int n = indexedGraph.vertexSet().size();
+        data.writeInt(TABLES_MAGIC);
+        data.writeInt(TABLES_VERSION);
+        data.writeBoolean(directed);
+        data.writeBoolean(compact);
+        data.writeInt(n);
+        data.writeInt(indexedGraph.edgeSet().size());
+        data.writeInt(structureChecksum(indexedGraph));
+        data.writeInt(landmarks.length);
+        for (int i = 0; i < landmarks.length; i++) {
+            data.writeInt(landmarks[i]);
+            for (int j = 0; j < (directed ? 2 : 1); j++) {
+                if (compact) {
+                    float[] column = (j == 0) ? compactFromLandmark[i] : compactToLandmark[i];
+                    for (int v = 0; v < n; v++) {
+                        data.writeFloat(column[v]);
+                    }
+                } else {
+                    double[] column = (j == 0) ? fromLandmark[i] : toLandmark[i];
+                    for (int v = 0; v < n; v++) {
+                        data.writeDouble(column[v]);
+                    }
+                }
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Create a heuristic from tables previously written using {@link #writeTables(OutputStream)}.
+     * The graph must be the same as the one used when computing the tables, with the same vertex
+     * and edge iteration order. Only the bytes of the tables are read from the stream, which is
+     * not closed and can be used to read any data written after the tables.
+     * 
+     * @param graph the graph
+     * @param in the input stream
+     * @return the heuristic
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @throws IOException in case an I/O error occurs or the stream does not contain valid tables
+     * @throws IllegalArgumentException if the tables have been computed for a different graph
+     */
+    public static <V, E> ALTAdmissibleHeuristic<V, E> readTables(Graph<V, E> graph, InputStream in)
+        throws IOException
+    {
+        // no buffering, in order not to read past the end of the tables
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != TABLES_MAGIC) {
+            throw new IOException("Not a landmark tables stream");
+        }
+        int version = data.readInt();
+        if (version != TABLES_VERSION) {
+            throw new IOException("Unsupported landmark tables version: " + version);
         }
+        boolean directed = data.readBoolean();
+        boolean compact = data.readBoolean();
+        int n = data.readInt();
+        int m = data.readInt();
+        int checksum = data.readInt();
+        int k = data.readInt();
 
+        ALTAdmissibleHeuristic<V, E> h = new ALTAdmissibleHeuristic<>(graph, k, compact);
+        if (h.directed != directed || h.indexedGraph.vertexSet().size() != n
+            || h.indexedGraph.edgeSet().size() != m
+            || structureChecksum(h.indexedGraph) != checksum)
+        {
+            throw new IllegalArgumentException("Landmark tables computed for a different graph");
+        }
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        ByteBuffer bytes = ByteBuffer.wrap(buffer);
+        for (int i = 0; i < k; i++) {
+            int l = data.readInt();
+            if (l < 0 || l >= n) {
+                throw new IOException("Invalid landmark: " + l);
+            }
+            h.setLandmark(i, l);
+            for (int j = 0; j < (directed ? 2 : 1); j++) {
+                if (compact) {
+                    float[] column = new float[n];
+                    for (int v = 0; v < n;) {
+                        int count = Math.min(n - v, READ_BUFFER_SIZE / Float.BYTES);
+                        data.readFully(buffer, 0, count * Float.BYTES);
+                        bytes.asFloatBuffer().get(column, v, count);
+                        v += count;
+                    }
+                    h.setColumn(i, j == 0, column);
+                } else {
+                    double[] column = new double[n];
+                    for (int v = 0; v < n;) {
+                        int count = Math.min(n - v, READ_BUFFER_SIZE / Double.BYTES);
+                        data.readFully(buffer, 0, count * Double.BYTES);
+                        bytes.asDoubleBuffer().get(column, v, count);
+                        v += count;
+                    }
+                    h.setColumn(i, j == 0, column);
+                }
+            }
+        }
+        return h;
+    }
+
+    /**
+     * Compute the estimate between two different vertex indices.
+     */
+    private double estimate(int u, int t)
+    {
         /*
          * Special case, source is landmark
          */
-        if (fromLandmark.containsKey(u)) {
-            return fromLandmark.get(u).get(t);
+        int column = landmarkColumn[u];
+        if (column != -1 && isComputed(column)) {
+            return lower(column, true, t);
         }
 
         /*
          * Special case, target is landmark
          */
-        if (toLandmark.containsKey(t)) {
-            return toLandmark.get(t).get(u);
+        column = landmarkColumn[t];
+        if (column != -1 && isComputed(column)) {
+            return lower(column, false, u);
         }
 
         /*
          * Compute from landmarks
          */
-        for (V l : fromLandmark.keySet()) {
+        double maxEstimate = 0d;
+        for (int i = 0; i < landmarks.length && isComputed(i); i++) {
             double estimate;
-            Map<V, Double> from = fromLandmark.get(l);
             if (directed) {
-                Map<V, Double> to = toLandmark.get(l);
-                estimate = Math.max(to.get(u) - to.get(t), from.get(t) - from.get(u));
+                estimate = Math.max(
+                    lower(i, false, u) - upper(i, false, t),
+                    lower(i, true, t) - upper(i, true, u));
             } else {
-                estimate = Math.abs(from.get(u) - from.get(t));
+                estimate = Math.max(
+                    lower(i, true, u) - upper(i, true, t), lower(i, true, t) - upper(i, true, u));
             }
 
             // max over all landmarks
@@ -171,32 +466,267 @@ public class ALTAdmissibleHeuristic<V, E>
         return maxEstimate;
     }
 
+    private boolean isComputed(int column)
+    {
+        return compact ? compactToLandmark[column] != null : toLandmark[column] != null;
+    }
+
     /**
-     * Compute all distances to and from a landmark
-     * 
-     * @param landmark the landmark
+     * Lower bound on the distance from (or to) a landmark.
+     */
+    private double lower(int column, boolean from, int v)
+    {
+        if (compact) {
+            return (from ? compactFromLandmark : compactToLandmark)[column][v];
+        }
+        return (from ? fromLandmark : toLandmark)[column][v];
+    }
+
+    /**
+     * Upper bound on the distance from (or to) a landmark.
      */
-    private void precomputeToFromLandmark(V landmark)
+    private double upper(int column, boolean from, int v)
+    {
+        if (compact) {
+            float d = (from ? compactFromLandmark : compactToLandmark)[column][v];
+            return Math.nextUp(d);
+        }
+        return (from ? fromLandmark : toLandmark)[column][v];
+    }
+
+    private void setLandmark(int column, int v)
+    {
+        if (landmarkColumn[v] != -1) {
+            throw new IllegalArgumentException("Duplicate landmark");
+        }
+        landmarks[column] = v;
+        landmarkColumn[v] = column;
+    }
+
+    private void setColumn(int column, boolean from, double[] distances)
+    {
+        if (from) {
+            fromLandmark[column] = distances;
+        } else {
+            toLandmark[column] = distances;
+        }
+    }
+
+    private void setColumn(int column, boolean from, float[] distances)
     {
-        // compute distances from landmark
-        SingleSourcePaths<V, E> fromLandmarkPaths =
-            new DijkstraShortestPath<>(graph).getPaths(landmark);
-        Map<V, Double> fromLandMarkDistances = new HashMap<>();
-        for (V v : graph.vertexSet()) {
-            fromLandMarkDistances.put(v, fromLandmarkPaths.getWeight(v));
+        if (from) {
+            compactFromLandmark[column] = distances;
+        } else {
+            compactToLandmark[column] = distances;
         }
-        fromLandmark.put(landmark, fromLandMarkDistances);
+    }
 
-        // compute distances to landmark (using reverse graph)
+    /**
+     * Submit the computation of the distances to and from a landmark.
+     */
+    private List<ForkJoinTask<?>> submitPrecomputation(ForkJoinPool pool, int column)
+    {
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(2);
+        tasks.add(pool.submit(() -> computeColumn(column, true)));
         if (directed) {
-            Graph<V, E> reverseGraph = new EdgeReversedGraph<>(graph);
-            SingleSourcePaths<V, E> toLandmarkPaths =
-                new DijkstraShortestPath<>(reverseGraph).getPaths(landmark);
-            Map<V, Double> toLandMarkDistances = new HashMap<>();
-            for (V v : graph.vertexSet()) {
-                toLandMarkDistances.put(v, toLandmarkPaths.getWeight(v));
-            }
-            toLandmark.put(landmark, toLandMarkDistances);
+            tasks.add(pool.submit(() -> computeColumn(column, false)));
+        }
+        return tasks;
+    }
+
+    /**
+     * Compute the distances from (or to) a landmark.
+     */
+    private void computeColumn(int column, boolean from)
+    {
+        double[] distances = computeDistances(landmarks[column], !from).getDistances();
+        if (compact) {
+            float[] compactDistances = new float[distances.length];
+            for (int v = 0; v < distances.length; v++) {
+                float d = (float) distances[v];
+                // round down in order to remain a lower bound
+                compactDistances[v] = (d > distances[v]) ? Math.nextDown(d) : d;
+            }
+            setColumn(column, from, compactDistances);
+        } else {
+            setColumn(column, from, distances);
+        }
+    }
+
+    private IndexedDijkstraClosestFirstIterator<V, E> computeDistances(int source, boolean reversed)
+    {
+        IndexedDijkstraClosestFirstIterator<V, E> it = new IndexedDijkstraClosestFirstIterator<>(
+            graph, indexedGraph, source, Double.POSITIVE_INFINITY, reversed);
+        try {
+            while (it.hasNext()) {
+                it.next();
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Graph edge weights cannot be negative", e);
+        }
+        return it;
+    }
+
+    /**
+     * Select the vertex which maximizes the distance to the closest landmark. If no landmark has
+     * been selected yet, the distance from a start vertex is used instead.
+     */
+    private int selectFarthest(int start)
+    {
+        double[] startDistances =
+            (start != -1) ? computeDistances(start, false).getDistances() : null;
+        int n = landmarkColumn.length;
+        int best = -1;
+        double bestDistance = Double.NEGATIVE_INFINITY;
+        for (int v = 0; v < n; v++) {
+            if (landmarkColumn[v] != -1 || v == start) {
+                continue;
+            }
+            double d;
+            if (startDistances != null) {
+                d = startDistances[v];
+            } else {
+                d = Double.POSITIVE_INFINITY;
+                for (int i = 0; i < landmarks.length && isComputed(i); i++) {
+                    double dl = lower(i, true, v);
+                    if (directed) {
+                        dl += lower(i, false, v);
+                    }
+                    d = Math.min(d, dl);
+                }
+            }
+            if (d > bestDistance) {
+                best = v;
+                bestDistance = d;
+            }
+        }
+        return (best == -1) ? start : best;
+    }
+
+    /**
+     * Select a landmark using the avoid strategy of Goldberg and Harrelson.
+     */
+    private int selectAvoid(Random rng)
+    {
+        int n = landmarkColumn.length;
+        int root;
+        do {
+            root = rng.nextInt(n);
+        } while (landmarkColumn[root] != -1);
+
+        // shortest path tree from the root, vertices in settle order
+        IndexedDijkstraClosestFirstIterator<V, E> it = new IndexedDijkstraClosestFirstIterator<>(
+            graph, indexedGraph, root, Double.POSITIVE_INFINITY, false);
+        int[] order = new int[n];
+        int size = 0;
+        while (it.hasNext()) {
+            order[size++] = it.next();
+        }
+        double[] distance = it.getDistances();
+        int[] predecessor = it.getPredecessors();
+        int[] parent = new int[n];
+        for (int i = 0; i < size; i++) {
+            int v = order[i];
+            int e = predecessor[v];
+            if (e == -1) {
+                parent[v] = -1;
+            } else {
+                int s = indexedGraph.getEdgeSourceIndex(e);
+                parent[v] = (s != v) ? s : indexedGraph.getEdgeTargetIndex(e);
+            }
+        }
+
+        // subtree sizes, zero for subtrees containing a landmark
+        double[] weight = new double[n];
+        boolean[] hasLandmark = new boolean[n];
+        for (int i = size - 1; i >= 0; i--) {
+            int v = order[i];
+            if (landmarkColumn[v] != -1) {
+                hasLandmark[v] = true;
+            }
+            if (!hasLandmark[v]) {
+                weight[v] += distance[v] - estimate(root, v);
+            } else {
+                weight[v] = 0d;
+            }
+            int p = parent[v];
+            if (p != -1) {
+                hasLandmark[p] |= hasLandmark[v];
+                weight[p] += weight[v];
+            }
+        }
+
+        // start at the vertex with maximum size and walk down to a leaf
+        int current = -1;
+        double currentWeight = 0d;
+        for (int i = 0; i < size; i++) {
+            int v = order[i];
+            if (!hasLandmark[v] && weight[v] > currentWeight) {
+                current = v;
+                currentWeight = weight[v];
+            }
+        }
+        if (current == -1) {
+            return selectFarthest(-1);
+        }
+        int[] childOffsets = new int[n + 1];
+        for (int i = 0; i < size; i++) {
+            int p = parent[order[i]];
+            if (p != -1) {
+                childOffsets[p + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            childOffsets[v + 1] += childOffsets[v];
+        }
+        int[] children = new int[childOffsets[n]];
+        int[] childPos = Arrays.copyOf(childOffsets, n);
+        for (int i = 0; i < size; i++) {
+            int v = order[i];
+            if (parent[v] != -1) {
+                children[childPos[parent[v]]++] = v;
+            }
+        }
+        while (childOffsets[current] < childOffsets[current + 1]) {
+            int next = children[childOffsets[current]];
+            for (int i = childOffsets[current] + 1; i < childOffsets[current + 1]; i++) {
+                if (weight[children[i]] > weight[next]) {
+                    next = children[i];
+                }
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    /*
+     * Checksum of the indexed structure, independent of the hash codes of the vertices which are
+     * not necessarily stable across runs.
+     */
+    private static <V, E> int structureChecksum(CSRGraph<V, E> indexedGraph)
+    {
+        int checksum = 1;
+        for (int e = 0; e < indexedGraph.edgeSet().size(); e++) {
+            checksum = 31 * checksum + indexedGraph.getEdgeSourceIndex(e);
+            checksum = 31 * checksum + indexedGraph.getEdgeTargetIndex(e);
+            checksum = 31 * checksum + Double.hashCode(indexedGraph.getEdgeWeightByIndex(e));
+        }
+        return checksum;
+    }
+
+    private static <V> int validateLandmarks(Set<V> landmarks)
+    {
+        Objects.requireNonNull(landmarks, "Landmarks cannot be null");
+        if (landmarks.isEmpty()) {
+            throw new IllegalArgumentException("At least one landmark must be provided");
+        }
+        return landmarks.size();
+    }
+
+    private static void joinAll(List<ForkJoinTask<?>> tasks)
+    {
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
         }
     }
 
@@ -169,6 +169,20 @@ public class AStarShortestPath<V, E>
         return numberOfExpandedNodes;
     }
 
+    /**
+     * Create a reusable context for repeated point-to-point queries using the heuristic of this
+     * instance. The context works on an indexed snapshot of the graph taken at the time of this
+     * call.
+     *
+     * @return a new query context
+     * @see ShortestPathQueryContext
+     */
+    public ShortestPathQueryContext<V, E> createQueryContext()
+    {
+        return new ShortestPathQueryContext.AStarQueryContext<>(
+            graph, ShortestPathQueryContext.indexedSnapshot(graph), admissibleHeuristic);
+    }
+
     /**
      * Returns true if the provided heuristic is a <i>consistent</i> or <i>monotone</i> heuristic
      * wrt the graph provided at construction time. A heuristic is monotonic if its estimate is
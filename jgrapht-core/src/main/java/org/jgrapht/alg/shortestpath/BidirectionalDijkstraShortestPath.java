@@ -154,6 +154,20 @@ public final class BidirectionalDijkstraShortestPath<V, E>
         }
     }
 
+    /**
+     * Create a reusable context for repeated point-to-point queries. The context works on an
+     * indexed snapshot of the graph taken at the time of this call and respects the radius of this
+     * instance.
+     *
+     * @return a new query context
+     * @see ShortestPathQueryContext
+     */
+    public ShortestPathQueryContext<V, E> createQueryContext()
+    {
+        return new ShortestPathQueryContext.BidirectionalDijkstraQueryContext<>(
+            graph, ShortestPathQueryContext.indexedSnapshot(graph), radius);
+    }
+
     /**
      * Find a path between two vertices. For a more advanced search (e.g. limited by radius), use
      * the constructor instead.
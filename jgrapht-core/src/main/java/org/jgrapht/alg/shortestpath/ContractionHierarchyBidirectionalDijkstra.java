@@ -0,0 +1,204 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+import org.jgrapht.graph.*;
+
+/**
+ * Shortest path queries using contraction hierarchies.
+ *
+ * <p>
+ * The query is a bidirectional Dijkstra search on a {@link ContractionHierarchy}, where the forward
+ * search from the source only follows arcs leading to vertices of higher rank and the backward
+ * search from the sink only follows reversed arcs leading to vertices of higher rank. Both
+ * searches meet at the vertex of highest rank of a shortest path. Since the searches only explore
+ * the upward part of the hierarchy, a query settles only a tiny fraction of the vertices of a
+ * typical road network. The shortcuts of the resulting path are finally unpacked into the original
+ * edges of the graph.
+ *
+ * <p>
+ * The hierarchy is computed by {@link ContractionHierarchyPrecomputation} and reflects the graph at
+ * the time of the precomputation. The hierarchy is immutable and can be shared by multiple
+ * instances of this class. An instance keeps reusable search state in order to avoid allocations
+ * during queries and thus <b>is not thread-safe</b>. Each thread should use its own instance.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ * @see ContractionHierarchyPrecomputation
+ */
+public class ContractionHierarchyBidirectionalDijkstra<V, E>
+    extends BaseShortestPathAlgorithm<V, E>
+{
+    private final ContractionHierarchy<V, E> hierarchy;
+    private final CSRGraph<V, E> indexedGraph;
+    private final ShortestPathQueryContext.SearchSpace forward;
+    private final ShortestPathQueryContext.SearchSpace backward;
+    private int commonVertex;
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph. The contraction hierarchy is
+     * computed using a single thread.
+     *
+     * @param graph the graph
+     */
+    public ContractionHierarchyBidirectionalDijkstra(Graph<V, E> graph)
+    {
+        this(new ContractionHierarchyPrecomputation<>(graph).computeContractionHierarchy());
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given contraction hierarchy.
+     *
+     * @param hierarchy the contraction hierarchy
+     */
+    public ContractionHierarchyBidirectionalDijkstra(ContractionHierarchy<V, E> hierarchy)
+    {
+        super(Objects.requireNonNull(hierarchy, "Hierarchy is null").getGraph());
+        this.hierarchy = hierarchy;
+        this.indexedGraph = hierarchy.indexedGraph;
+        int n = indexedGraph.vertexSet().size();
+        this.forward = new ShortestPathQueryContext.SearchSpace(n);
+        this.backward = new ShortestPathQueryContext.SearchSpace(n);
+    }
+
+    /**
+     * Get the contraction hierarchy used by this algorithm.
+     *
+     * @return the contraction hierarchy
+     */
+    public ContractionHierarchy<V, E> getContractionHierarchy()
+    {
+        return hierarchy;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        int s = ShortestPathQueryContext.sourceIndex(indexedGraph, source);
+        int t = ShortestPathQueryContext.sinkIndex(indexedGraph, sink);
+        if (s == t) {
+            return createEmptyPath(source, sink);
+        }
+        double weight = search(s, t);
+        if (weight == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+
+        List<E> edgeList = new ArrayList<>();
+        int[] arcs = new int[16];
+        int size = 0;
+        int v = commonVertex;
+        int a;
+        while ((a = forward.predecessor[v]) != -1) {
+            if (size == arcs.length) {
+                arcs = Arrays.copyOf(arcs, 2 * size);
+            }
+            arcs[size++] = a;
+            v = hierarchy.arcSource[a];
+        }
+        while (size > 0) {
+            hierarchy.unpack(arcs[--size], edgeList);
+        }
+        v = commonVertex;
+        while ((a = backward.predecessor[v]) != -1) {
+            hierarchy.unpack(a, edgeList);
+            v = hierarchy.arcTarget[a];
+        }
+
+        return new GraphWalk<>(graph, source, sink, null, edgeList, weight);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This method does not allocate any memory.
+     */
+    @Override
+    public double getPathWeight(V source, V sink)
+    {
+        int s = ShortestPathQueryContext.sourceIndex(indexedGraph, source);
+        int t = ShortestPathQueryContext.sinkIndex(indexedGraph, sink);
+        if (s == t) {
+            return 0d;
+        }
+        return search(s, t);
+    }
+
+    private double search(int source, int sink)
+    {
+        forward.reset();
+        backward.reset();
+        forward.label(source, -1, 0d, 0d);
+        backward.label(sink, -1, 0d, 0d);
+
+        double bestPath = Double.POSITIVE_INFINITY;
+        commonVertex = -1;
+        boolean forwardTurn = true;
+
+        while (true) {
+            boolean forwardActive =
+                !forward.heap.isEmpty() && forward.heap.findMinKey() < bestPath;
+            boolean backwardActive =
+                !backward.heap.isEmpty() && backward.heap.findMinKey() < bestPath;
+            if (!forwardActive && !backwardActive) {
+                break;
+            }
+            boolean isForward = forwardActive && (forwardTurn || !backwardActive);
+            forwardTurn = !forwardTurn;
+
+            ShortestPathQueryContext.SearchSpace frontier = isForward ? forward : backward;
+            ShortestPathQueryContext.SearchSpace otherFrontier = isForward ? backward : forward;
+
+            int v = frontier.heap.deleteMin();
+            double vDistance = frontier.distance[v];
+
+            // check whether the searches meet at v
+            double pathDistance = vDistance + otherFrontier.getDistance(v);
+            if (pathDistance < bestPath) {
+                bestPath = pathDistance;
+                commonVertex = v;
+            }
+
+            // relax upward arcs
+            int[] offsets = isForward ? hierarchy.upOffsets : hierarchy.downOffsets;
+            int[] arcs = isForward ? hierarchy.upArcs : hierarchy.downArcs;
+            int[] opposite = isForward ? hierarchy.arcTarget : hierarchy.arcSource;
+            for (int i = offsets[v], end = offsets[v + 1]; i < end; i++) {
+                int a = arcs[i];
+                int u = opposite[a];
+                double uDistance = vDistance + hierarchy.arcWeight[a];
+                if (!frontier.isReached(u)
+                    || (uDistance < frontier.distance[u] && frontier.heap.contains(u)))
+                {
+                    frontier.label(u, a, uDistance, uDistance);
+                }
+            }
+        }
+
+        return bestPath;
+    }
+}
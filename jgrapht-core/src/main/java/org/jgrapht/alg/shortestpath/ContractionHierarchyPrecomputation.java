@@ -0,0 +1,714 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+/**
+ * Preprocessing phase of the contraction hierarchies speedup technique for shortest paths.
+ *
+ * <p>
+ * The vertices of the graph are contracted one after the other in order of importance. Contracting
+ * a vertex v means removing it from the graph and adding a shortcut arc (u,w) for each pair of
+ * arcs (u,v) and (v,w) for which no path from u to w of at most the same weight exists which
+ * avoids v. Such paths are found using a local Dijkstra search called a witness search. The order
+ * of the vertices (their rank) together with the original arcs and the shortcuts form a
+ * {@link ContractionHierarchy}, which can be queried with
+ * {@link ContractionHierarchyBidirectionalDijkstra}. For details see the following paper:
+ * <ul>
+ * <li>Geisberger, R., Sanders, P., Schultes, D., Delling, D. Contraction Hierarchies: Faster and
+ * Simpler Hierarchical Routing in Road Networks. In Proceedings of the 7th International Workshop
+ * on Experimental Algorithms (WEA 2008), 319-333, 2008.</li>
+ * </ul>
+ *
+ * <p>
+ * The importance of a vertex is estimated by its edge difference, the number of shortcuts its
+ * contraction would add minus the number of arcs it would remove, plus the number of its already
+ * contracted neighbors. The contraction proceeds in rounds. Each round selects an independent set
+ * of vertices whose importance is smaller than the importance of all their neighbors, computes the
+ * shortcuts for all of them in parallel and then contracts them. During a round, witness searches
+ * avoid all selected vertices, which may add a few superfluous shortcuts but keeps the hierarchy
+ * correct independently of the number of threads used. The witness searches are bounded in the
+ * number of settled vertices, which again can only add superfluous shortcuts.
+ *
+ * <p>
+ * The algorithm works for directed and undirected graphs with non-negative edge weights.
+ * Self-loops are ignored and from a set of parallel edges only one with minimum weight is used.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ * @see ContractionHierarchyBidirectionalDijkstra
+ */
+public class ContractionHierarchyPrecomputation<V, E>
+{
+    /**
+     * Default limit on the number of vertices settled by a witness search.
+     */
+    public static final int DEFAULT_WITNESS_SEARCH_SETTLED_LIMIT = 500;
+
+    private final Graph<V, E> graph;
+    private final ForkJoinPool pool;
+    private final int witnessSearchSettledLimit;
+
+    // working graph
+    private int n;
+    private int arcCount;
+    private int[] arcSource;
+    private int[] arcTarget;
+    private double[] arcWeight;
+    private int[] arcEdge;
+    private int[] arcFirstChild;
+    private int[] arcSecondChild;
+    private int[][] outArcs;
+    private int[] outSize;
+    private int[][] inArcs;
+    private int[] inSize;
+
+    // contraction state
+    private boolean[] contracted;
+    private boolean[] selected;
+    private int[] priority;
+    private int[] contractedNeighbors;
+
+    /**
+     * Constructs a new instance of the algorithm which runs sequentially.
+     *
+     * @param graph the graph
+     */
+    public ContractionHierarchyPrecomputation(Graph<V, E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm.
+     *
+     * @param graph the graph
+     * @param pool the pool to use for parallel execution, or null for sequential execution
+     */
+    public ContractionHierarchyPrecomputation(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this(graph, pool, DEFAULT_WITNESS_SEARCH_SETTLED_LIMIT);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm.
+     *
+     * @param graph the graph
+     * @param pool the pool to use for parallel execution, or null for sequential execution
+     * @param witnessSearchSettledLimit limit on the number of vertices settled by each witness
+     *        search
+     */
+    public ContractionHierarchyPrecomputation(
+        Graph<V, E> graph, ForkJoinPool pool, int witnessSearchSettledLimit)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph is null");
+        if (graph.getType().isMixed()) {
+            throw new IllegalArgumentException("Mixed graphs are not supported");
+        }
+        if (witnessSearchSettledLimit < 1) {
+            throw new IllegalArgumentException("Witness search limit must be positive");
+        }
+        this.pool = pool;
+        this.witnessSearchSettledLimit = witnessSearchSettledLimit;
+    }
+
+    /**
+     * Compute the contraction hierarchy.
+     *
+     * @return the contraction hierarchy
+     * @throws IllegalArgumentException if the graph contains a negative edge weight
+     */
+    public ContractionHierarchy<V, E> computeContractionHierarchy()
+    {
+        CSRGraph<V, E> indexedGraph = ShortestPathQueryContext.indexedSnapshot(graph);
+        initialize(indexedGraph);
+
+        int workers = (pool == null) ? 1 : pool.getParallelism();
+        ShortestPathQueryContext.SearchSpace[] spaces =
+            new ShortestPathQueryContext.SearchSpace[workers];
+        for (int i = 0; i < workers; i++) {
+            spaces[i] = new ShortestPathQueryContext.SearchSpace(n);
+        }
+
+        int[] rank = new int[n];
+        int nextRank = 0;
+
+        // initial priorities
+        int[] remaining = new int[n];
+        for (int v = 0; v < n; v++) {
+            remaining[v] = v;
+        }
+        int remainingSize = n;
+        computePriorities(remaining, remainingSize, spaces);
+
+        int[] roundMark = new int[n];
+        int[] neighborMark = new int[n];
+        int vertexMark = 0;
+        int round = 0;
+        int[] selection = new int[n];
+        while (remainingSize > 0) {
+            round++;
+
+            // select independent set
+            int selectionSize = 0;
+            for (int i = 0; i < remainingSize; i++) {
+                int v = remaining[i];
+                if (isLocalMinimum(v)) {
+                    selection[selectionSize++] = v;
+                    selected[v] = true;
+                }
+            }
+
+            // compute shortcuts of the independent set in parallel
+            Shortcuts[] shortcuts = computeShortcuts(selection, selectionSize, spaces);
+
+            // contract
+            int[] neighbors = new int[0];
+            int neighborsSize = 0;
+            for (int i = 0; i < selectionSize; i++) {
+                int v = selection[i];
+                rank[v] = nextRank++;
+                contracted[v] = true;
+                selected[v] = false;
+                Shortcuts s = shortcuts[i];
+                for (int j = 0; j < s.size; j++) {
+                    int a = s.first[j];
+                    int b = s.second[j];
+                    addArc(arcSource[a], arcTarget[b], s.weight[j], -1, a, b);
+                }
+            }
+            for (int i = 0; i < selectionSize; i++) {
+                int v = selection[i];
+                vertexMark++;
+                for (int k = 0; k < 2; k++) {
+                    int[] arcs = (k == 0) ? outArcs[v] : inArcs[v];
+                    int size = (k == 0) ? outSize[v] : inSize[v];
+                    for (int j = 0; j < size; j++) {
+                        int a = arcs[j];
+                        int u = (k == 0) ? arcTarget[a] : arcSource[a];
+                        if (contracted[u] || neighborMark[u] == vertexMark) {
+                            continue;
+                        }
+                        neighborMark[u] = vertexMark;
+                        contractedNeighbors[u]++;
+                        if (roundMark[u] != round) {
+                            roundMark[u] = round;
+                            if (neighborsSize == neighbors.length) {
+                                neighbors = Arrays.copyOf(
+                                    neighbors, Math.max(16, 2 * neighborsSize));
+                            }
+                            neighbors[neighborsSize++] = u;
+                        }
+                    }
+                }
+            }
+
+            // update neighbors
+            for (int i = 0; i < neighborsSize; i++) {
+                compact(neighbors[i]);
+            }
+            computePriorities(neighbors, neighborsSize, spaces);
+
+            int newRemainingSize = 0;
+            for (int i = 0; i < remainingSize; i++) {
+                if (!contracted[remaining[i]]) {
+                    remaining[newRemainingSize++] = remaining[i];
+                }
+            }
+            remainingSize = newRemainingSize;
+        }
+
+        return createHierarchy(indexedGraph, rank);
+    }
+
+    private void initialize(CSRGraph<V, E> indexedGraph)
+    {
+        n = indexedGraph.vertexSet().size();
+        int m = indexedGraph.edgeSet().size();
+        boolean directed = indexedGraph.getType().isDirected();
+
+        int capacity = Math.max(16, directed ? m : 2 * m);
+        arcCount = 0;
+        arcSource = new int[capacity];
+        arcTarget = new int[capacity];
+        arcWeight = new double[capacity];
+        arcEdge = new int[capacity];
+        arcFirstChild = new int[capacity];
+        arcSecondChild = new int[capacity];
+        outArcs = new int[n][];
+        outSize = new int[n];
+        inArcs = new int[n][];
+        inSize = new int[n];
+        for (int v = 0; v < n; v++) {
+            outArcs[v] = new int[4];
+            inArcs[v] = new int[4];
+        }
+
+        contracted = new boolean[n];
+        selected = new boolean[n];
+        priority = new int[n];
+        contractedNeighbors = new int[n];
+
+        for (int e = 0; e < m; e++) {
+            int s = indexedGraph.getEdgeSourceIndex(e);
+            int t = indexedGraph.getEdgeTargetIndex(e);
+            double weight = indexedGraph.getEdgeWeightByIndex(e);
+            if (weight < 0.0) {
+                throw new IllegalArgumentException("Negative edge weight not allowed");
+            }
+            if (s == t) {
+                continue;
+            }
+            addArc(s, t, weight, e, -1, -1);
+            if (!directed) {
+                addArc(t, s, weight, e, -1, -1);
+            }
+        }
+    }
+
+    /**
+     * Add an arc to the working graph. If an arc between the same vertices already exists, it is
+     * replaced if the new arc is lighter. Both endpoints must not be contracted, thus the replaced
+     * arc cannot be part of any shortcut.
+     */
+    private void addArc(int s, int t, double weight, int edge, int firstChild, int secondChild)
+    {
+        int[] arcs = outArcs[s];
+        for (int i = 0; i < outSize[s]; i++) {
+            int a = arcs[i];
+            if (arcTarget[a] == t) {
+                if (weight < arcWeight[a]) {
+                    arcWeight[a] = weight;
+                    arcEdge[a] = edge;
+                    arcFirstChild[a] = firstChild;
+                    arcSecondChild[a] = secondChild;
+                }
+                return;
+            }
+        }
+
+        if (arcCount == arcSource.length) {
+            int capacity = 2 * arcCount;
+            arcSource = Arrays.copyOf(arcSource, capacity);
+            arcTarget = Arrays.copyOf(arcTarget, capacity);
+            arcWeight = Arrays.copyOf(arcWeight, capacity);
+            arcEdge = Arrays.copyOf(arcEdge, capacity);
+            arcFirstChild = Arrays.copyOf(arcFirstChild, capacity);
+            arcSecondChild = Arrays.copyOf(arcSecondChild, capacity);
+        }
+        int a = arcCount++;
+        arcSource[a] = s;
+        arcTarget[a] = t;
+        arcWeight[a] = weight;
+        arcEdge[a] = edge;
+        arcFirstChild[a] = firstChild;
+        arcSecondChild[a] = secondChild;
+
+        if (outSize[s] == outArcs[s].length) {
+            outArcs[s] = Arrays.copyOf(outArcs[s], 2 * outSize[s]);
+        }
+        outArcs[s][outSize[s]++] = a;
+        if (inSize[t] == inArcs[t].length) {
+            inArcs[t] = Arrays.copyOf(inArcs[t], 2 * inSize[t]);
+        }
+        inArcs[t][inSize[t]++] = a;
+    }
+
+    /**
+     * Remove the arcs of a vertex which lead to or come from contracted vertices.
+     */
+    private void compact(int v)
+    {
+        int size = 0;
+        for (int i = 0; i < outSize[v]; i++) {
+            int a = outArcs[v][i];
+            if (!contracted[arcTarget[a]]) {
+                outArcs[v][size++] = a;
+            }
+        }
+        outSize[v] = size;
+        size = 0;
+        for (int i = 0; i < inSize[v]; i++) {
+            int a = inArcs[v][i];
+            if (!contracted[arcSource[a]]) {
+                inArcs[v][size++] = a;
+            }
+        }
+        inSize[v] = size;
+    }
+
+    private boolean isLocalMinimum(int v)
+    {
+        for (int i = 0; i < outSize[v]; i++) {
+            if (!precedes(v, arcTarget[outArcs[v][i]])) {
+                return false;
+            }
+        }
+        for (int i = 0; i < inSize[v]; i++) {
+            if (!precedes(v, arcSource[inArcs[v][i]])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean precedes(int v, int u)
+    {
+        if (contracted[u]) {
+            return true;
+        }
+        return priority[v] < priority[u] || (priority[v] == priority[u] && v < u);
+    }
+
+    /**
+     * Compute the priorities of some vertices, possibly in parallel.
+     */
+    private void computePriorities(
+        int[] vertices, int size, ShortestPathQueryContext.SearchSpace[] spaces)
+    {
+        forEachInParallel(size, spaces, (i, space) -> {
+            int v = vertices[i];
+            Shortcuts s = computeShortcuts(v, space);
+            priority[v] = s.size - s.degree + contractedNeighbors[v];
+        });
+    }
+
+    /**
+     * Compute the shortcuts of some vertices, possibly in parallel.
+     */
+    private Shortcuts[] computeShortcuts(
+        int[] vertices, int size, ShortestPathQueryContext.SearchSpace[] spaces)
+    {
+        Shortcuts[] result = new Shortcuts[size];
+        forEachInParallel(
+            size, spaces, (i, space) -> result[i] = computeShortcuts(vertices[i], space));
+        return result;
+    }
+
+    /**
+     * Compute the shortcuts needed when contracting a vertex.
+     */
+    private Shortcuts computeShortcuts(int v, ShortestPathQueryContext.SearchSpace space)
+    {
+        Shortcuts shortcuts = new Shortcuts();
+        for (int i = 0; i < outSize[v]; i++) {
+            if (!contracted[arcTarget[outArcs[v][i]]]) {
+                shortcuts.degree++;
+            }
+        }
+        for (int i = 0; i < inSize[v]; i++) {
+            int a = inArcs[v][i];
+            int u = arcSource[a];
+            if (contracted[u]) {
+                continue;
+            }
+            shortcuts.degree++;
+
+            double maxDistance = Double.NEGATIVE_INFINITY;
+            for (int j = 0; j < outSize[v]; j++) {
+                int b = outArcs[v][j];
+                int w = arcTarget[b];
+                if (!contracted[w] && w != u) {
+                    maxDistance = Math.max(maxDistance, arcWeight[a] + arcWeight[b]);
+                }
+            }
+            if (maxDistance == Double.NEGATIVE_INFINITY) {
+                continue;
+            }
+
+            witnessSearch(space, u, v, maxDistance);
+
+            for (int j = 0; j < outSize[v]; j++) {
+                int b = outArcs[v][j];
+                int w = arcTarget[b];
+                if (contracted[w] || w == u) {
+                    continue;
+                }
+                double viaDistance = arcWeight[a] + arcWeight[b];
+                if (space.getDistance(w) > viaDistance) {
+                    shortcuts.add(a, b, viaDistance);
+                }
+            }
+        }
+        return shortcuts;
+    }
+
+    /**
+     * Bounded Dijkstra search from a vertex which avoids the contracted vertices, the vertex being
+     * contracted and the vertices selected in the current round.
+     */
+    private void witnessSearch(
+        ShortestPathQueryContext.SearchSpace space, int source, int avoid, double maxDistance)
+    {
+        space.reset();
+        space.label(source, -1, 0d, 0d);
+        int settled = 0;
+        while (!space.heap.isEmpty() && space.heap.findMinKey() <= maxDistance
+            && settled < witnessSearchSettledLimit)
+        {
+            int x = space.heap.deleteMin();
+            settled++;
+            double xDistance = space.distance[x];
+            for (int i = 0; i < outSize[x]; i++) {
+                int a = outArcs[x][i];
+                int y = arcTarget[a];
+                if (y == avoid || contracted[y] || selected[y]) {
+                    continue;
+                }
+                double yDistance = xDistance + arcWeight[a];
+                if (!space.isReached(y)
+                    || (yDistance < space.distance[y] && space.heap.contains(y)))
+                {
+                    space.label(y, a, yDistance, yDistance);
+                }
+            }
+        }
+    }
+
+    /**
+     * Execute a task for all indices in [0, size), partitioning the indices among the threads.
+     */
+    private void forEachInParallel(
+        int size, ShortestPathQueryContext.SearchSpace[] spaces, IndexTask task)
+    {
+        int workers = spaces.length;
+        if (pool == null || size < 2 * workers) {
+            for (int i = 0; i < size; i++) {
+                task.run(i, spaces[0]);
+            }
+            return;
+        }
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+        int chunk = (size + workers - 1) / workers;
+        for (int t = 0; t < workers; t++) {
+            int from = t * chunk;
+            int to = Math.min(size, from + chunk);
+            ShortestPathQueryContext.SearchSpace space = spaces[t];
+            tasks.add(pool.submit(() -> {
+                for (int i = from; i < to; i++) {
+                    task.run(i, space);
+                }
+            }));
+        }
+        for (ForkJoinTask<?> t : tasks) {
+            t.join();
+        }
+    }
+
+    private ContractionHierarchy<V, E> createHierarchy(CSRGraph<V, E> indexedGraph, int[] rank)
+    {
+        // split arcs into upward arcs stored at their source and downward arcs stored at their
+        // target, both leading to a vertex of higher rank
+        int[] upOffsets = new int[n + 1];
+        int[] downOffsets = new int[n + 1];
+        for (int a = 0; a < arcCount; a++) {
+            if (rank[arcSource[a]] < rank[arcTarget[a]]) {
+                upOffsets[arcSource[a] + 1]++;
+            } else {
+                downOffsets[arcTarget[a] + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            upOffsets[v + 1] += upOffsets[v];
+            downOffsets[v + 1] += downOffsets[v];
+        }
+        int[] upArcs = new int[upOffsets[n]];
+        int[] downArcs = new int[downOffsets[n]];
+        int[] upPos = Arrays.copyOf(upOffsets, n);
+        int[] downPos = Arrays.copyOf(downOffsets, n);
+        for (int a = 0; a < arcCount; a++) {
+            if (rank[arcSource[a]] < rank[arcTarget[a]]) {
+                upArcs[upPos[arcSource[a]]++] = a;
+            } else {
+                downArcs[downPos[arcTarget[a]]++] = a;
+            }
+        }
+
+        return new ContractionHierarchy<>(
+            graph, indexedGraph, rank, Arrays.copyOf(arcSource, arcCount),
+            Arrays.copyOf(arcTarget, arcCount), Arrays.copyOf(arcWeight, arcCount),
+            Arrays.copyOf(arcEdge, arcCount), Arrays.copyOf(arcFirstChild, arcCount),
+            Arrays.copyOf(arcSecondChild, arcCount), upOffsets, upArcs, downOffsets, downArcs);
+    }
+
+    /**
+     * A task executed for an index using a search space.
+     */
+    private interface IndexTask
+    {
+        void run(int index, ShortestPathQueryContext.SearchSpace space);
+    }
+
+    /**
+     * The shortcuts needed when contracting a vertex, together with its degree.
+     */
+    private static class Shortcuts
+    {
+        int size;
+        int degree;
+        int[] first = new int[4];
+        int[] second = new int[4];
+        double[] weight = new double[4];
+
+        void add(int a, int b, double w)
+        {
+            if (size == first.length) {
+                first = Arrays.copyOf(first, 2 * size);
+                second = Arrays.copyOf(second, 2 * size);
+                weight = Arrays.copyOf(weight, 2 * size);
+            }
+            first[size] = a;
+            second[size] = b;
+            weight[size] = w;
+            size++;
+        }
+    }
+
+    /**
+     * A contraction hierarchy. It consists of the rank of each vertex and of the overlay graph
+     * containing all original arcs and shortcuts. Each arc is either an original edge or a shortcut
+     * composed of two other arcs. The overlay is immutable and can be shared by multiple query
+     * algorithms.
+     *
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    public static class ContractionHierarchy<V, E>
+    {
+        final Graph<V, E> graph;
+        final CSRGraph<V, E> indexedGraph;
+        final int[] rank;
+        final int[] arcSource;
+        final int[] arcTarget;
+        final double[] arcWeight;
+        final int[] arcEdge;
+        final int[] arcFirstChild;
+        final int[] arcSecondChild;
+        final int[] upOffsets;
+        final int[] upArcs;
+        final int[] downOffsets;
+        final int[] downArcs;
+
+        ContractionHierarchy(
+            Graph<V, E> graph, CSRGraph<V, E> indexedGraph, int[] rank, int[] arcSource,
+            int[] arcTarget, double[] arcWeight, int[] arcEdge, int[] arcFirstChild,
+            int[] arcSecondChild, int[] upOffsets, int[] upArcs, int[] downOffsets,
+            int[] downArcs)
+        {
+            this.graph = graph;
+            this.indexedGraph = indexedGraph;
+            this.rank = rank;
+            this.arcSource = arcSource;
+            this.arcTarget = arcTarget;
+            this.arcWeight = arcWeight;
+            this.arcEdge = arcEdge;
+            this.arcFirstChild = arcFirstChild;
+            this.arcSecondChild = arcSecondChild;
+            this.upOffsets = upOffsets;
+            this.upArcs = upArcs;
+            this.downOffsets = downOffsets;
+            this.downArcs = downArcs;
+        }
+
+        /**
+         * Get the graph of the hierarchy.
+         *
+         * @return the graph of the hierarchy
+         */
+        public Graph<V, E> getGraph()
+        {
+            return graph;
+        }
+
+        /**
+         * Get the rank of a vertex in the hierarchy. Vertices with a smaller rank have been
+         * contracted earlier.
+         *
+         * @param v the vertex
+         * @return the rank of the vertex
+         * @throws IllegalArgumentException if the vertex is not in the graph
+         */
+        public int getRank(V v)
+        {
+            int index = indexedGraph.getVertexIndex(v);
+            if (index == -1) {
+                throw new IllegalArgumentException("no such vertex in graph: " + v);
+            }
+            return rank[index];
+        }
+
+        /**
+         * Get the number of arcs of the overlay graph, including shortcuts.
+         *
+         * @return the number of arcs of the overlay graph
+         */
+        public int getNumberOfArcs()
+        {
+            return arcSource.length;
+        }
+
+        /**
+         * Get the number of shortcuts of the overlay graph.
+         *
+         * @return the number of shortcuts
+         */
+        public int getNumberOfShortcuts()
+        {
+            int count = 0;
+            for (int e : arcEdge) {
+                if (e == -1) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Append the original edges of an arc to a list, unpacking shortcuts recursively.
+         *
+         * @param arc the arc
+         * @param edges the list to append to
+         */
+        void unpack(int arc, List<E> edges)
+        {
+            int[] stack = new int[16];
+            int size = 0;
+            stack[size++] = arc;
+            while (size > 0) {
+                int a = stack[--size];
+                if (arcEdge[a] != -1) {
+                    edges.add(indexedGraph.getEdge(arcEdge[a]));
+                    continue;
+                }
+                if (size + 2 > stack.length) {
+                    stack = Arrays.copyOf(stack, 2 * stack.length);
+                }
+                stack[size++] = arcSecondChild[a];
+                stack[size++] = arcFirstChild[a];
+            }
+        }
+    }
+}
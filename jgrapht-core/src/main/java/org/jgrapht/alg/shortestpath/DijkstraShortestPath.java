@@ -18,11 +18,23 @@
 package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
+import org.jgrapht.graph.*;
 
 /**
  * An implementation of <a href="http://mathworld.wolfram.com/DijkstrasAlgorithm.html">Dijkstra's
  * shortest path algorithm</a> using a Fibonacci heap.
  *
+ * <p>
+ * The algorithm can optionally execute in indexed mode. In this mode the graph is copied once,
+ * during construction, into a {@link CSRGraph} which maps vertices and edges to dense integer
+ * indices (if the graph is already a {@link CSRGraph} it is used directly). Each query then runs
+ * over primitive arrays using an indexed d-ary heap with decrease-key instead of a Fibonacci heap
+ * and hash maps. The indexed mode has a preprocessing cost linear in the size of the graph, but
+ * each query is considerably faster and produces much less garbage. It is thus the preferred mode
+ * when executing many queries on the same graph. Note that in indexed mode the algorithm operates
+ * on a snapshot of the graph; modifications of the graph after the construction of the algorithm
+ * are not reflected in the results.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -32,6 +44,7 @@ public final class DijkstraShortestPath<V, E>
     extends BaseShortestPathAlgorithm<V, E>
 {
     private final double radius;
+    private final CSRGraph<V, E> indexedGraph;
 
     /**
      * Constructs a new instance of the algorithm for a given graph.
@@ -50,12 +63,25 @@ public final class DijkstraShortestPath<V, E>
      * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
      */
     public DijkstraShortestPath(Graph<V, E> graph, double radius)
+    {
+        this(graph, radius, false);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @param indexed whether to execute in indexed mode
+     */
+    public DijkstraShortestPath(Graph<V, E> graph, double radius, boolean indexed)
     {
         super(graph);
         if (radius < 0.0) {
             throw new IllegalArgumentException("Radius must be non-negative");
         }
         this.radius = radius;
+        this.indexedGraph = indexed ? ShortestPathQueryContext.indexedSnapshot(graph) : null;
     }
 
     /**
@@ -74,6 +100,19 @@ public final class DijkstraShortestPath<V, E>
             return createEmptyPath(source, sink);
         }
 
+        if (indexedGraph != null) {
+            IndexedDijkstraClosestFirstIterator<V, E> it =
+                new IndexedDijkstraClosestFirstIterator<>(
+                    graph, indexedGraph, indexedGraph.getVertexIndex(source), radius);
+            int sinkIndex = indexedGraph.getVertexIndex(sink);
+            while (it.hasNext()) {
+                if (it.next() == sinkIndex) {
+                    break;
+                }
+            }
+            return it.getPaths().getPath(sink);
+        }
+
         DijkstraClosestFirstIterator<V, E> it =
             new DijkstraClosestFirstIterator<>(graph, source, radius);
 
@@ -101,6 +140,16 @@ public final class DijkstraShortestPath<V, E>
             throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
         }
 
+        if (indexedGraph != null) {
+            IndexedDijkstraClosestFirstIterator<V, E> it =
+                new IndexedDijkstraClosestFirstIterator<>(
+                    graph, indexedGraph, indexedGraph.getVertexIndex(source), radius);
+            while (it.hasNext()) {
+                it.next();
+            }
+            return it.getPaths();
+        }
+
         DijkstraClosestFirstIterator<V, E> it =
             new DijkstraClosestFirstIterator<>(graph, source, radius);
 
@@ -111,6 +160,21 @@ public final class DijkstraShortestPath<V, E>
         return it.getPaths();
     }
 
+    /**
+     * Create a reusable context for repeated point-to-point queries. The context works on an
+     * indexed snapshot of the graph, which in indexed mode is shared with this instance, and
+     * respects the radius of this instance.
+     *
+     * @return a new query context
+     * @see ShortestPathQueryContext
+     */
+    public ShortestPathQueryContext<V, E> createQueryContext()
+    {
+        CSRGraph<V, E> g =
+            (indexedGraph != null) ? indexedGraph : ShortestPathQueryContext.indexedSnapshot(graph);
+        return new ShortestPathQueryContext.DijkstraQueryContext<>(graph, g, radius);
+    }
+
     /**
      * Find a path between two vertices. For a more advanced search (e.g. limited by radius), use
      * the constructor instead.
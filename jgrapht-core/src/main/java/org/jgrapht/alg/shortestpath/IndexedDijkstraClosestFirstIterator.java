@@ -0,0 +1,310 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+/**
+ * A closest-first iterator which works on the dense vertex indices of a {@link CSRGraph}.
+ *
+ * <p>
+ * This is the array-based counterpart of {@link DijkstraClosestFirstIterator}. Distances and
+ * predecessor edges are kept in primitive arrays indexed by vertex, and the priority queue is a
+ * {@link DaryIndexedHeap}, thus no objects are allocated per visited vertex. The iterator returns
+ * vertex indices instead of vertices.
+ *
+ * <p>
+ * NOTE: This is an internal iterator for use in shortest paths algorithms.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+class IndexedDijkstraClosestFirstIterator<V, E>
+{
+    private static final byte UNREACHED = 0;
+    private static final byte IN_HEAP = 1;
+    private static final byte SETTLED = 2;
+
+    private final Graph<V, E> graph;
+    private final CSRGraph<V, E> indexedGraph;
+    private final boolean directed;
+    private final boolean reversed;
+    private final int source;
+    private final double radius;
+    private final DaryIndexedHeap heap;
+    private final double[] distance;
+    private final int[] predecessor;
+    private final byte[] state;
+
+    /**
+     * Creates a new radius-bounded iterator.
+     *
+     * @param graph the original graph, used when constructing paths
+     * @param indexedGraph the indexed snapshot of the graph
+     * @param source the source vertex index
+     * @param radius limit on weighted path length, or Double.POSITIVE_INFINITY for unbounded search
+     */
+    public IndexedDijkstraClosestFirstIterator(
+        Graph<V, E> graph, CSRGraph<V, E> indexedGraph, int source, double radius)
+    {
+        this(graph, indexedGraph, source, radius, false);
+    }
+
+    /**
+     * Creates a new radius-bounded iterator, optionally traversing the edges of a directed graph
+     * in reverse direction.
+     *
+     * @param graph the original graph, used when constructing paths
+     * @param indexedGraph the indexed snapshot of the graph
+     * @param source the source vertex index
+     * @param radius limit on weighted path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @param reversed whether to traverse the edges in reverse direction, thus computing distances
+     *        to the source instead of from the source
+     */
+    public IndexedDijkstraClosestFirstIterator(
+        Graph<V, E> graph, CSRGraph<V, E> indexedGraph, int source, double radius,
+        boolean reversed)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.indexedGraph = Objects.requireNonNull(indexedGraph, "Graph cannot be null");
+        this.directed = indexedGraph.getType().isDirected();
+        this.reversed = reversed;
+        if (radius < 0.0) {
+            throw new IllegalArgumentException("Radius must be non-negative");
+        }
+        this.source = source;
+        this.radius = radius;
+
+        int n = indexedGraph.vertexSet().size();
+        this.heap = new DaryIndexedHeap(n);
+        this.distance = new double[n];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        this.predecessor = new int[n];
+        Arrays.fill(predecessor, -1);
+        this.state = new byte[n];
+
+        // initialize with source vertex
+        distance[source] = 0d;
+        heap.insert(source, 0d);
+        state[source] = IN_HEAP;
+    }
+
+    /**
+     * Returns true if the iteration has more vertices.
+     *
+     * @return true if the iteration has more vertices
+     */
+    public boolean hasNext()
+    {
+        if (heap.isEmpty()) {
+            return false;
+        }
+        if (radius < heap.findMinKey()) {
+            heap.clear();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Settle and return the index of the next closest vertex.
+     *
+     * @return the index of the next closest vertex
+     */
+    public int next()
+    {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        // settle next node
+        int v = heap.deleteMin();
+        state[v] = SETTLED;
+        double vDistance = distance[v];
+
+        // relax edges
+        if (!directed || !reversed) {
+            for (int e = indexedGraph.getOutgoingEdgesStart(v),
+                end = indexedGraph.getOutgoingEdgesEnd(v); e < end; e++)
+            {
+                relax(indexedGraph.getEdgeTargetIndex(e), e, vDistance);
+            }
+        }
+        if (!directed || reversed) {
+            for (int i = indexedGraph.getIncomingEdgesStart(v),
+                end = indexedGraph.getIncomingEdgesEnd(v); i < end; i++)
+            {
+                int e = indexedGraph.getIncomingEdge(i);
+                relax(indexedGraph.getEdgeSourceIndex(e), e, vDistance);
+            }
+        }
+
+        return v;
+    }
+
+    /**
+     * Return the paths computed by this iterator. Only the paths to vertices which are already
+     * returned by the iterator will be shortest paths. Additional paths to vertices which are not
+     * yet returned (settled) by the iterator might be included with the following properties: the
+     * distance will be an upper bound on the actual shortest path and the distance will be inside
+     * the radius of the search.
+     *
+     * @return the single source paths
+     */
+    public SingleSourcePaths<V, E> getPaths()
+    {
+        return new IndexedSingleSourcePaths<>(
+            graph, indexedGraph, source, radius, distance, predecessor);
+    }
+
+    /**
+     * Get the distance of each vertex index. The distances of settled vertices are exact, of
+     * reached but not yet settled vertices are upper bounds and of all other vertices are
+     * Double.POSITIVE_INFINITY. The returned array is the internal state of the iterator.
+     *
+     * @return the distance of each vertex index
+     */
+    double[] getDistances()
+    {
+        return distance;
+    }
+
+    /**
+     * Get the predecessor edge index of each vertex index, or -1 for the source and unreached
+     * vertices. The returned array is the internal state of the iterator.
+     *
+     * @return the predecessor edge index of each vertex index
+     */
+    int[] getPredecessors()
+    {
+        return predecessor;
+    }
+
+    private void relax(int u, int e, double vDistance)
+    {
+        double eWeight = indexedGraph.getEdgeWeightByIndex(e);
+        if (eWeight < 0.0) {
+            throw new IllegalArgumentException("Negative edge weight not allowed");
+        }
+        double uDistance = vDistance + eWeight;
+        if (state[u] == UNREACHED) {
+            distance[u] = uDistance;
+            predecessor[u] = e;
+            heap.insert(u, uDistance);
+            state[u] = IN_HEAP;
+        } else if (state[u] == IN_HEAP && uDistance < distance[u]) {
+            distance[u] = uDistance;
+            predecessor[u] = e;
+            heap.decreaseKey(u, uDistance);
+        }
+    }
+
+    /**
+     * Single source paths backed by the distance and predecessor arrays of the search.
+     */
+    static class IndexedSingleSourcePaths<V, E>
+        implements SingleSourcePaths<V, E>
+    {
+        private final Graph<V, E> graph;
+        private final CSRGraph<V, E> indexedGraph;
+        private final int source;
+        private final double radius;
+        private final double[] distance;
+        private final int[] predecessor;
+
+        IndexedSingleSourcePaths(
+            Graph<V, E> graph, CSRGraph<V, E> indexedGraph, int source, double radius,
+            double[] distance, int[] predecessor)
+        {
+            this.graph = graph;
+            this.indexedGraph = indexedGraph;
+            this.source = source;
+            this.radius = radius;
+            this.distance = distance;
+            this.predecessor = predecessor;
+        }
+
+        @Override
+        public Graph<V, E> getGraph()
+        {
+            return graph;
+        }
+
+        @Override
+        public V getSourceVertex()
+        {
+            return indexedGraph.getVertex(source);
+        }
+
+        @Override
+        public double getWeight(V targetVertex)
+        {
+            int t = indexedGraph.getVertexIndex(targetVertex);
+            if (t == -1 || radius < distance[t]) {
+                return Double.POSITIVE_INFINITY;
+            }
+            return distance[t];
+        }
+
+        @Override
+        public GraphPath<V, E> getPath(V targetVertex)
+        {
+            int t = indexedGraph.getVertexIndex(targetVertex);
+            if (t == -1 || distance[t] == Double.POSITIVE_INFINITY || radius < distance[t]) {
+                return null;
+            }
+            return createPath(graph, indexedGraph, source, t, distance[t], predecessor);
+        }
+    }
+
+    /**
+     * Create a path by following predecessor edges from a target vertex back to the source vertex.
+     *
+     * @param graph the original graph
+     * @param indexedGraph the indexed graph
+     * @param source the source vertex index
+     * @param target the target vertex index
+     * @param weight the weight of the path
+     * @param predecessor the predecessor edge index of each vertex, or -1
+     * @return the path
+     */
+    static <V, E> GraphPath<V, E> createPath(
+        Graph<V, E> graph, CSRGraph<V, E> indexedGraph, int source, int target, double weight,
+        int[] predecessor)
+    {
+        List<E> edgeList = new ArrayList<>();
+        int cur = target;
+        while (cur != source) {
+            int e = predecessor[cur];
+            edgeList.add(indexedGraph.getEdge(e));
+            int s = indexedGraph.getEdgeSourceIndex(e);
+            cur = (s != cur) ? s : indexedGraph.getEdgeTargetIndex(e);
+        }
+        Collections.reverse(edgeList);
+        return new GraphWalk<>(
+            graph, indexedGraph.getVertex(source), indexedGraph.getVertex(target), null,
+            edgeList, weight);
+    }
+}
@@ -0,0 +1,544 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+/**
+ * A reusable context for answering repeated point-to-point shortest path queries on a static graph.
+ *
+ * <p>
+ * A query context is obtained from one of {@link DijkstraShortestPath#createQueryContext()},
+ * {@link BidirectionalDijkstraShortestPath#createQueryContext()} or
+ * {@link AStarShortestPath#createQueryContext()} and executes the corresponding search. It works on
+ * a {@link CSRGraph} snapshot of the graph taken when the context is created and keeps
+ * preallocated distance and predecessor arrays indexed by vertex. Instead of clearing these arrays
+ * before each query, every entry is stamped with the generation of the query which last wrote it
+ * and entries with an older stamp are considered unset. Thus starting a new query takes constant
+ * time, the cost of a query is proportional only to the number of vertices touched by the search
+ * and, apart from the returned path, queries do not allocate any memory. Method
+ * {@link #getPathWeight(Object, Object)} allocates nothing at all.
+ *
+ * <p>
+ * Modifications of the graph after the context has been created are not reflected in the results.
+ * If the graph is already a {@link CSRGraph} it is used directly and not copied, so many contexts
+ * can share the same snapshot.
+ *
+ * <p>
+ * <b>Note that a query context is not thread-safe.</b> Each thread should use its own context.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public abstract class ShortestPathQueryContext<V, E>
+    extends BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * The indexed snapshot of the graph.
+     */
+    protected final CSRGraph<V, E> indexedGraph;
+
+    private ShortestPathQueryContext(Graph<V, E> graph, CSRGraph<V, E> indexedGraph)
+    {
+        super(graph);
+        this.indexedGraph = Objects.requireNonNull(indexedGraph, "Graph is null");
+    }
+
+    /**
+     * Get the indexed snapshot of the graph used by this context.
+     *
+     * @return the indexed snapshot of the graph
+     */
+    public CSRGraph<V, E> getIndexedGraph()
+    {
+        return indexedGraph;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        int s = sourceIndex(source);
+        int t = sinkIndex(sink);
+        if (s == t) {
+            return createEmptyPath(source, sink);
+        }
+        double weight = search(s, t);
+        if (weight == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+        return createPath(s, t, weight);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This method does not allocate any memory.
+     */
+    @Override
+    public double getPathWeight(V source, V sink)
+    {
+        int s = sourceIndex(source);
+        int t = sinkIndex(sink);
+        if (s == t) {
+            return 0d;
+        }
+        return search(s, t);
+    }
+
+    /**
+     * Execute a search between two different vertices.
+     *
+     * @param source the source vertex index
+     * @param sink the sink vertex index
+     * @return the weight of the shortest path or Double.POSITIVE_INFINITY if no path exists
+     */
+    abstract double search(int source, int sink);
+
+    /**
+     * Create the path found by the last successful call to {@link #search(int, int)}.
+     *
+     * @param source the source vertex index
+     * @param sink the sink vertex index
+     * @param weight the weight of the path
+     * @return the path
+     */
+    abstract GraphPath<V, E> createPath(int source, int sink, double weight);
+
+    private int sourceIndex(V source)
+    {
+        return sourceIndex(indexedGraph, source);
+    }
+
+    private int sinkIndex(V sink)
+    {
+        return sinkIndex(indexedGraph, sink);
+    }
+
+    /**
+     * Get the index of a source vertex in an indexed graph.
+     *
+     * @param indexedGraph the indexed graph
+     * @param source the source vertex
+     * @return the index of the source vertex
+     * @throws IllegalArgumentException if the vertex is not in the graph
+     */
+    static <V> int sourceIndex(CSRGraph<V, ?> indexedGraph, V source)
+    {
+        int s = indexedGraph.getVertexIndex(source);
+        if (s == -1) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        return s;
+    }
+
+    /**
+     * Get the index of a sink vertex in an indexed graph.
+     *
+     * @param indexedGraph the indexed graph
+     * @param sink the sink vertex
+     * @return the index of the sink vertex
+     * @throws IllegalArgumentException if the vertex is not in the graph
+     */
+    static <V> int sinkIndex(CSRGraph<V, ?> indexedGraph, V sink)
+    {
+        int t = indexedGraph.getVertexIndex(sink);
+        if (t == -1) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        return t;
+    }
+
+    /**
+     * Get an indexed snapshot of a graph, reusing the graph itself if it is already indexed.
+     *
+     * @param graph the graph
+     * @return an indexed snapshot of the graph
+     */
+    static <V, E> CSRGraph<V, E> indexedSnapshot(Graph<V, E> graph)
+    {
+        if (graph instanceof CSRGraph) {
+            return TypeUtil.uncheckedCast(graph, null);
+        }
+        return new CSRGraph<>(graph, true);
+    }
+
+    /**
+     * The reusable state of a single search. An entry of the distance and predecessor arrays is
+     * valid only if its stamp equals the current generation.
+     */
+    static class SearchSpace
+    {
+        final double[] distance;
+        final int[] predecessor;
+        final int[] stamp;
+        final DaryIndexedHeap heap;
+        int generation;
+
+        SearchSpace(int n)
+        {
+            this.distance = new double[n];
+            this.predecessor = new int[n];
+            this.stamp = new int[n];
+            this.heap = new DaryIndexedHeap(n);
+            this.generation = 0;
+        }
+
+        /**
+         * Invalidate all entries. Runs in time linear to the size of the heap, except once every
+         * 2^31 calls where the stamps need to be cleared.
+         */
+        void reset()
+        {
+            heap.clear();
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(stamp, 0);
+                generation = 1;
+            }
+        }
+
+        boolean isReached(int v)
+        {
+            return stamp[v] == generation;
+        }
+
+        double getDistance(int v)
+        {
+            return stamp[v] == generation ? distance[v] : Double.POSITIVE_INFINITY;
+        }
+
+        /**
+         * Reach a vertex for the first time or improve its distance, and (re-)insert it into the
+         * heap with the given key.
+         */
+        void label(int v, int e, double d, double key)
+        {
+            stamp[v] = generation;
+            distance[v] = d;
+            predecessor[v] = e;
+            if (heap.contains(v)) {
+                heap.decreaseKey(v, key);
+            } else {
+                heap.insert(v, key);
+            }
+        }
+
+        /**
+         * Walk the predecessor edges from a vertex back to the root of the search, appending the
+         * edges to a list.
+         */
+        <V, E> void appendTreeEdges(CSRGraph<V, E> indexedGraph, int v, List<E> edges)
+        {
+            int e;
+            while ((e = predecessor[v]) != -1) {
+                edges.add(indexedGraph.getEdge(e));
+                int s = indexedGraph.getEdgeSourceIndex(e);
+                v = (s != v) ? s : indexedGraph.getEdgeTargetIndex(e);
+            }
+        }
+    }
+
+    /**
+     * Query context executing Dijkstra's algorithm.
+     */
+    static class DijkstraQueryContext<V, E>
+        extends ShortestPathQueryContext<V, E>
+    {
+        private final double radius;
+        private final boolean directed;
+        private final SearchSpace forward;
+
+        DijkstraQueryContext(Graph<V, E> graph, CSRGraph<V, E> indexedGraph, double radius)
+        {
+            super(graph, indexedGraph);
+            this.radius = radius;
+            this.directed = indexedGraph.getType().isDirected();
+            this.forward = new SearchSpace(indexedGraph.vertexSet().size());
+        }
+
+        @Override
+        double search(int source, int sink)
+        {
+            SearchSpace f = forward;
+            f.reset();
+            f.label(source, -1, 0d, 0d);
+
+            while (!f.heap.isEmpty()) {
+                if (radius < f.heap.findMinKey()) {
+                    return Double.POSITIVE_INFINITY;
+                }
+                int v = f.heap.deleteMin();
+                double vDistance = f.distance[v];
+                if (v == sink) {
+                    return vDistance;
+                }
+                for (int e = indexedGraph.getOutgoingEdgesStart(v),
+                    end = indexedGraph.getOutgoingEdgesEnd(v); e < end; e++)
+                {
+                    relax(indexedGraph.getEdgeTargetIndex(e), e, vDistance);
+                }
+                if (!directed) {
+                    for (int i = indexedGraph.getIncomingEdgesStart(v),
+                        end = indexedGraph.getIncomingEdgesEnd(v); i < end; i++)
+                    {
+                        int e = indexedGraph.getIncomingEdge(i);
+                        relax(indexedGraph.getEdgeSourceIndex(e), e, vDistance);
+                    }
+                }
+            }
+            return Double.POSITIVE_INFINITY;
+        }
+
+        private void relax(int u, int e, double vDistance)
+        {
+            double eWeight = indexedGraph.getEdgeWeightByIndex(e);
+            if (eWeight < 0.0) {
+                throw new IllegalArgumentException("Negative edge weight not allowed");
+            }
+            double uDistance = vDistance + eWeight;
+            if (!forward.isReached(u)
+                || (uDistance < forward.distance[u] && forward.heap.contains(u)))
+            {
+                forward.label(u, e, uDistance, uDistance);
+            }
+        }
+
+        @Override
+        GraphPath<V, E> createPath(int source, int sink, double weight)
+        {
+            List<E> edgeList = new ArrayList<>();
+            forward.appendTreeEdges(indexedGraph, sink, edgeList);
+            Collections.reverse(edgeList);
+            return new GraphWalk<>(
+                graph, indexedGraph.getVertex(source), indexedGraph.getVertex(sink), null,
+                edgeList, weight);
+        }
+    }
+
+    /**
+     * Query context executing a bidirectional Dijkstra search.
+     */
+    static class BidirectionalDijkstraQueryContext<V, E>
+        extends ShortestPathQueryContext<V, E>
+    {
+        private final double radius;
+        private final boolean directed;
+        private final SearchSpace forward;
+        private final SearchSpace backward;
+        private int commonVertex;
+
+        BidirectionalDijkstraQueryContext(
+            Graph<V, E> graph, CSRGraph<V, E> indexedGraph, double radius)
+        {
+            super(graph, indexedGraph);
+            this.radius = radius;
+            this.directed = indexedGraph.getType().isDirected();
+            int n = indexedGraph.vertexSet().size();
+            this.forward = new SearchSpace(n);
+            this.backward = new SearchSpace(n);
+        }
+
+        @Override
+        double search(int source, int sink)
+        {
+            forward.reset();
+            backward.reset();
+            forward.label(source, -1, 0d, 0d);
+            backward.label(sink, -1, 0d, 0d);
+
+            double bestPath = Double.POSITIVE_INFINITY;
+            commonVertex = -1;
+
+            SearchSpace frontier = forward;
+            SearchSpace otherFrontier = backward;
+
+            while (true) {
+                // stopping condition
+                if (frontier.heap.isEmpty() || otherFrontier.heap.isEmpty()
+                    || frontier.heap.findMinKey() + otherFrontier.heap.findMinKey() >= bestPath)
+                {
+                    break;
+                }
+
+                // frontier scan
+                int v = frontier.heap.deleteMin();
+                double vDistance = frontier.distance[v];
+                boolean isForward = frontier == forward;
+
+                if (directed && !isForward) {
+                    for (int i = indexedGraph.getIncomingEdgesStart(v),
+                        end = indexedGraph.getIncomingEdgesEnd(v); i < end; i++)
+                    {
+                        int e = indexedGraph.getIncomingEdge(i);
+                        bestPath = scan(
+                            frontier, otherFrontier, indexedGraph.getEdgeSourceIndex(e), e,
+                            vDistance, bestPath);
+                    }
+                } else {
+                    for (int e = indexedGraph.getOutgoingEdgesStart(v),
+                        end = indexedGraph.getOutgoingEdgesEnd(v); e < end; e++)
+                    {
+                        bestPath = scan(
+                            frontier, otherFrontier, indexedGraph.getEdgeTargetIndex(e), e,
+                            vDistance, bestPath);
+                    }
+                    if (!directed) {
+                        for (int i = indexedGraph.getIncomingEdgesStart(v),
+                            end = indexedGraph.getIncomingEdgesEnd(v); i < end; i++)
+                        {
+                            int e = indexedGraph.getIncomingEdge(i);
+                            bestPath = scan(
+                                frontier, otherFrontier, indexedGraph.getEdgeSourceIndex(e), e,
+                                vDistance, bestPath);
+                        }
+                    }
+                }
+
+                // swap frontiers
+                SearchSpace tmpFrontier = frontier;
+                frontier = otherFrontier;
+                otherFrontier = tmpFrontier;
+            }
+
+            if (Double.isFinite(bestPath) && bestPath <= radius) {
+                return bestPath;
+            }
+            return Double.POSITIVE_INFINITY;
+        }
+
+        private double scan(
+            SearchSpace frontier, SearchSpace otherFrontier, int u, int e, double vDistance,
+            double bestPath)
+        {
+            double uDistance = vDistance + indexedGraph.getEdgeWeightByIndex(e);
+            if (!frontier.isReached(u)
+                || (uDistance < frontier.distance[u] && frontier.heap.contains(u)))
+            {
+                frontier.label(u, e, uDistance, uDistance);
+            }
+
+            // check path with u's distance from the other frontier
+            double pathDistance = uDistance + otherFrontier.getDistance(u);
+            if (pathDistance < bestPath) {
+                commonVertex = u;
+                return pathDistance;
+            }
+            return bestPath;
+        }
+
+        @Override
+        GraphPath<V, E> createPath(int source, int sink, double weight)
+        {
+            List<E> edgeList = new ArrayList<>();
+            forward.appendTreeEdges(indexedGraph, commonVertex, edgeList);
+            Collections.reverse(edgeList);
+            backward.appendTreeEdges(indexedGraph, commonVertex, edgeList);
+            return new GraphWalk<>(
+                graph, indexedGraph.getVertex(source), indexedGraph.getVertex(sink), null,
+                edgeList, weight);
+        }
+    }
+
+    /**
+     * Query context executing the A* algorithm.
+     */
+    static class AStarQueryContext<V, E>
+        extends ShortestPathQueryContext<V, E>
+    {
+        private final AStarAdmissibleHeuristic<V> admissibleHeuristic;
+        private final boolean directed;
+        private final SearchSpace forward;
+
+        AStarQueryContext(
+            Graph<V, E> graph, CSRGraph<V, E> indexedGraph,
+            AStarAdmissibleHeuristic<V> admissibleHeuristic)
+        {
+            super(graph, indexedGraph);
+            this.admissibleHeuristic = admissibleHeuristic;
+            this.directed = indexedGraph.getType().isDirected();
+            this.forward = new SearchSpace(indexedGraph.vertexSet().size());
+        }
+
+        @Override
+        double search(int source, int sink)
+        {
+            SearchSpace f = forward;
+            f.reset();
+            f.label(source, -1, 0d, 0d);
+            V sinkVertex = indexedGraph.getVertex(sink);
+
+            while (!f.heap.isEmpty()) {
+                int v = f.heap.deleteMin();
+                double vDistance = f.distance[v];
+                if (v == sink) {
+                    return vDistance;
+                }
+                for (int e = indexedGraph.getOutgoingEdgesStart(v),
+                    end = indexedGraph.getOutgoingEdgesEnd(v); e < end; e++)
+                {
+                    relax(v, indexedGraph.getEdgeTargetIndex(e), e, vDistance, sinkVertex);
+                }
+                if (!directed) {
+                    for (int i = indexedGraph.getIncomingEdgesStart(v),
+                        end = indexedGraph.getIncomingEdgesEnd(v); i < end; i++)
+                    {
+                        int e = indexedGraph.getIncomingEdge(i);
+                        relax(v, indexedGraph.getEdgeSourceIndex(e), e, vDistance, sinkVertex);
+                    }
+                }
+            }
+            return Double.POSITIVE_INFINITY;
+        }
+
+        private void relax(int v, int u, int e, double vDistance, V sinkVertex)
+        {
+            if (u == v) { // ignore self-loop
+                return;
+            }
+            double tentativeGScore = vDistance + indexedGraph.getEdgeWeightByIndex(e);
+            if (forward.isReached(u) && tentativeGScore >= forward.distance[u]) {
+                // ignore path since it is non-improving
+                return;
+            }
+            // new vertex, improvement of an open vertex or reopening of a closed vertex
+            double fScore = tentativeGScore
+                + admissibleHeuristic.getCostEstimate(indexedGraph.getVertex(u), sinkVertex);
+            forward.label(u, e, tentativeGScore, fScore);
+        }
+
+        @Override
+        GraphPath<V, E> createPath(int source, int sink, double weight)
+        {
+            List<E> edgeList = new ArrayList<>();
+            forward.appendTreeEdges(indexedGraph, sink, edgeList);
+            Collections.reverse(edgeList);
+            return new GraphWalk<>(
+                graph, indexedGraph.getVertex(source), indexedGraph.getVertex(sink), null,
+                edgeList, weight);
+        }
+    }
+}
@@ -34,7 +34,9 @@ import org.jgrapht.alg.util.*;
  * <p>
  * This implementation uses a union-find data structure (with union by rank and path compression
  * heuristic) in order to track components. In graphs where edges have identical weights, edges with
- * equal weights are ordered lexicographically. The running time is O((E+V) logV) under the
+ * equal weights are ordered lexicographically. Vertices are mapped to indices once and the edge
+ * endpoints and weights are kept in arrays, so that the rounds of the algorithm operate on an
+ * {@link IntUnionFind} without any hashing. The running time is O((E+V) logV) under the
  * assumption that the union-find uses path-compression.
  * 
  * @param <V> the graph vertex type
@@ -70,74 +72,76 @@ public class BoruvkaMinimumSpanningTree<V, E>
         Set<E> mstEdges = new LinkedHashSet<>();
         double mstWeight = 0d;
 
+        // initialize forest
+        IndexedUnionFind<V> vertices = new IndexedUnionFind<>(graph.vertexSet());
+        IntUnionFind forest = vertices.getIntUnionFind();
+
         // fix edge order for unique comparison of edge weights
-        Map<E, Integer> edgeOrder = new HashMap<>();
-        int i = 0;
+        int m = graph.edgeSet().size();
+        List<E> edges = new ArrayList<>(m);
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        double[] weights = new double[m];
         for (E e : graph.edgeSet()) {
-            edgeOrder.put(e, i++);
+            int i = edges.size();
+            edges.add(e);
+            sources[i] = vertices.getIndex(graph.getEdgeSource(e));
+            targets[i] = vertices.getIndex(graph.getEdgeTarget(e));
+            weights[i] = graph.getEdgeWeight(e);
         }
 
-        // initialize forest
-        UnionFind<V> forest = new UnionFind<>(graph.vertexSet());
-        Map<V, E> bestEdge = new LinkedHashMap<>();
+        // best edge of each tree, indexed by its root, and the trees in order of discovery
+        int[] bestEdge = new int[forest.size()];
+        Arrays.fill(bestEdge, -1);
+        int[] trees = new int[forest.size()];
+        int treeCount;
 
         do {
             // find safe edges
-            bestEdge.clear();
-            for (E e : graph.edgeSet()) {
-                V sTree = forest.find(graph.getEdgeSource(e));
-                V tTree = forest.find(graph.getEdgeTarget(e));
+            treeCount = 0;
+            for (int e = 0; e < m; e++) {
+                int sTree = forest.find(sources[e]);
+                int tTree = forest.find(targets[e]);
 
-                if (sTree.equals(tTree)) {
+                if (sTree == tTree) {
                     // same tree, skip
                     continue;
                 }
 
-                double eWeight = graph.getEdgeWeight(e);
-
-                // check if better edge
-                E sTreeEdge = bestEdge.get(sTree);
-                if (sTreeEdge == null) {
-                    bestEdge.put(sTree, e);
-                } else {
-                    double sTreeEdgeWeight = graph.getEdgeWeight(sTreeEdge);
-                    int c = comparator.compare(eWeight, sTreeEdgeWeight);
-                    if (c < 0 || (c == 0 && edgeOrder.get(e) < edgeOrder.get(sTreeEdge))) {
-                        bestEdge.put(sTree, e);
-                    }
+                // check if better edge, edges are scanned in order thus ties keep the first
+                int sTreeEdge = bestEdge[sTree];
+                if (sTreeEdge == -1) {
+                    bestEdge[sTree] = e;
+                    trees[treeCount++] = sTree;
+                } else if (comparator.compare(weights[e], weights[sTreeEdge]) < 0) {
+                    bestEdge[sTree] = e;
                 }
 
                 // check if better edge
-                E tTreeEdge = bestEdge.get(tTree);
-                if (tTreeEdge == null) {
-                    bestEdge.put(tTree, e);
-                } else {
-                    double tTreeEdgeWeight = graph.getEdgeWeight(tTreeEdge);
-                    int c = comparator.compare(eWeight, tTreeEdgeWeight);
-                    if (c < 0 || (c == 0 && edgeOrder.get(e) < edgeOrder.get(tTreeEdge))) {
-                        bestEdge.put(tTree, e);
-                    }
+                int tTreeEdge = bestEdge[tTree];
+                if (tTreeEdge == -1) {
+                    bestEdge[tTree] = e;
+                    trees[treeCount++] = tTree;
+                } else if (comparator.compare(weights[e], weights[tTreeEdge]) < 0) {
+                    bestEdge[tTree] = e;
                 }
             }
 
             // add safe edges to forest
-            for (V v : bestEdge.keySet()) {
-                E e = bestEdge.get(v);
-
-                V sTree = forest.find(graph.getEdgeSource(e));
-                V tTree = forest.find(graph.getEdgeTarget(e));
+            for (int j = 0; j < treeCount; j++) {
+                int tree = trees[j];
+                int e = bestEdge[tree];
+                bestEdge[tree] = -1;
 
-                if (sTree.equals(tTree)) {
+                if (!forest.union(sources[e], targets[e])) {
                     // same tree, skip
                     continue;
                 }
 
-                mstEdges.add(e);
-                mstWeight += graph.getEdgeWeight(e);
-
-                forest.union(sTree, tTree);
+                mstEdges.add(edges.get(e));
+                mstWeight += weights[e];
             }
-        } while (!bestEdge.isEmpty());
+        } while (treeCount > 0);
 
         // return mst
         return new SpanningTreeImpl<>(mstEdges, mstWeight);
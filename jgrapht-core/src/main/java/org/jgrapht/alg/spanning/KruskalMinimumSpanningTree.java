@@ -27,7 +27,8 @@ import org.jgrapht.alg.util.*;
  * An implementation of <a href="http://en.wikipedia.org/wiki/Kruskal's_algorithm">Kruskal's minimum
  * spanning tree algorithm</a>. If the given graph is connected it computes the minimum spanning
  * tree, otherwise it computes the minimum spanning forest. The algorithm runs in time O(E log E).
- * This implementation uses the hashCode and equals method of the vertices.
+ * This implementation uses the hashCode and equals method of the vertices, in order to map them to
+ * the indices of an {@link IntUnionFind}.
  *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -56,23 +57,27 @@ public class KruskalMinimumSpanningTree<V, E>
     @Override
     public SpanningTree<E> getSpanningTree()
     {
-        UnionFind<V> forest = new UnionFind<>(graph.vertexSet());
+        IndexedUnionFind<V> vertices = new IndexedUnionFind<>(graph.vertexSet());
+        IntUnionFind forest = vertices.getIntUnionFind();
         ArrayList<E> allEdges = new ArrayList<>(graph.edgeSet());
         Collections.sort(
             allEdges, (edge1, edge2) -> Double
-                .valueOf(graph.getEdgeWeight(edge1)).compareTo(graph.getEdgeWeight(edge2)));
+                .compare(graph.getEdgeWeight(edge1), graph.getEdgeWeight(edge2)));
 
         double spanningTreeCost = 0;
         Set<E> edgeList = new HashSet<>();
 
         for (E edge : allEdges) {
-            V source = graph.getEdgeSource(edge);
-            V target = graph.getEdgeTarget(edge);
-            if (forest.find(source).equals(forest.find(target))) {
+            if (forest.numberOfSets() <= 1) {
+                // the spanning tree is complete
+                break;
+            }
+            int source = vertices.getIndex(graph.getEdgeSource(edge));
+            int target = vertices.getIndex(graph.getEdgeTarget(edge));
+            if (!forest.union(source, target)) {
                 continue;
             }
 
-            forest.union(source, target);
             edgeList.add(edge);
             spanningTreeCost += graph.getEdgeWeight(edge);
         }
@@ -0,0 +1,138 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import java.util.concurrent.atomic.*;
+
+/**
+ * A lock-free union-find data structure over the integers {@code 0} to {@code n-1}, which can be
+ * used concurrently by multiple threads.
+ *
+ * <p>
+ * The parents are kept in an {@link AtomicIntegerArray}. Union always links the root with the
+ * larger index below the root with the smaller index using a compare-and-set, retrying if one of
+ * the roots has been linked by another thread in the meantime. Find uses path halving, also by
+ * compare-and-set. Since the parent of an element never has a larger index than the element
+ * itself, the structure stays acyclic under any interleaving and the representative of a set, once
+ * all unions have completed, is its minimum element. The approach follows Rem's algorithm, see
+ * M. M. A. Patwary, J. Blair, and F. Manne. Experiments on union-find algorithms for the
+ * disjoint-set data structure. In International Symposium on Experimental Algorithms, pages
+ * 411-423. Springer, 2010.
+ *
+ * @author agent
+ */
+public class ConcurrentUnionFind
+{
+    private final AtomicIntegerArray parent;
+
+    /**
+     * Creates a new instance with all the elements in separate sets.
+     *
+     * @param n the number of elements
+     * @throws IllegalArgumentException if the number of elements is negative
+     */
+    public ConcurrentUnionFind(int n)
+    {
+        if (n < 0) {
+            throw new IllegalArgumentException("Number of elements must be non-negative");
+        }
+        this.parent = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) {
+            parent.lazySet(i, i);
+        }
+    }
+
+    /**
+     * Get the number of elements.
+     *
+     * @return the number of elements
+     */
+    public int size()
+    {
+        return parent.length();
+    }
+
+    /**
+     * Returns the representative element of the set that an element is in. While unions are in
+     * progress in other threads the representative may change.
+     *
+     * @param element the element
+     * @return the representative of the set of the element
+     */
+    public int find(int element)
+    {
+        int x = element;
+        while (true) {
+            int p = parent.get(x);
+            if (p == x) {
+                return x;
+            }
+            int gp = parent.get(p);
+            if (gp != p) {
+                // path halving, losing the race is harmless
+                parent.compareAndSet(x, p, gp);
+            }
+            x = gp;
+        }
+    }
+
+    /**
+     * Merges the sets which contain two elements.
+     *
+     * @param element1 the first element
+     * @param element2 the second element
+     * @return {@code true} if the two sets were merged by this call, {@code false} if the elements
+     *         were already in the same set
+     */
+    public boolean union(int element1, int element2)
+    {
+        int a = element1;
+        int b = element2;
+        while (true) {
+            a = find(a);
+            b = find(b);
+            if (a == b) {
+                return false;
+            }
+            if (a < b) {
+                int tmp = a;
+                a = b;
+                b = tmp;
+            }
+            // a is the root with the larger index
+            if (parent.compareAndSet(a, a, b)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Tests whether two elements are in the same set. The result is exact only if no unions are in
+     * progress.
+     *
+     * @param element1 the first element
+     * @param element2 the second element
+     * @return {@code true} if the elements are in the same set, {@code false} otherwise
+     */
+    public boolean inSameSet(int element1, int element2)
+    {
+        return find(element1) == find(element2);
+    }
+}
+
+// End ConcurrentUnionFind.java
@@ -0,0 +1,170 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import java.util.*;
+
+/**
+ * A union-find data structure over arbitrary elements, which maps the elements to dense indices
+ * once and delegates to an {@link IntUnionFind}. Unlike {@link UnionFind}, only the element to
+ * index mapping uses hashing, and algorithms which perform many operations can look up the indices
+ * of the elements once and then operate directly on the {@link IntUnionFind} returned by
+ * {@link #getIntUnionFind()}. Elements are indexed from zero in the iteration order of the initial
+ * set. The implementation uses the hashCode and equals method of the elements.
+ *
+ * @param <T> element type
+ *
+ * @author agent
+ */
+public class IndexedUnionFind<T>
+{
+    private final Map<T, Integer> indices;
+    private final List<T> elements;
+    private final IntUnionFind uf;
+
+    /**
+     * Creates a new instance with all the elements in separate sets, which does not track the
+     * sizes of the sets.
+     *
+     * @param elements the elements, each in a singleton set
+     */
+    public IndexedUnionFind(Set<T> elements)
+    {
+        this(elements, false);
+    }
+
+    /**
+     * Creates a new instance with all the elements in separate sets.
+     *
+     * @param elements the elements, each in a singleton set
+     * @param trackSizes whether to track the size of each set
+     */
+    public IndexedUnionFind(Set<T> elements, boolean trackSizes)
+    {
+        int n = elements.size();
+        this.indices = new HashMap<>(n * 4 / 3 + 1);
+        this.elements = new ArrayList<>(n);
+        for (T element : elements) {
+            indices.put(element, this.elements.size());
+            this.elements.add(element);
+        }
+        this.uf = new IntUnionFind(this.elements.size(), trackSizes);
+    }
+
+    /**
+     * Get the index of an element.
+     *
+     * @param element the element
+     * @return the index of the element
+     * @throws IllegalArgumentException if the element is not contained
+     */
+    public int getIndex(T element)
+    {
+        Integer index = indices.get(element);
+        if (index == null) {
+            throw new IllegalArgumentException("elements must be contained in given set");
+        }
+        return index;
+    }
+
+    /**
+     * Get the element with a given index.
+     *
+     * @param index the index
+     * @return the element
+     * @throws IndexOutOfBoundsException if the index is not valid
+     */
+    public T getElement(int index)
+    {
+        return elements.get(index);
+    }
+
+    /**
+     * Get the underlying union-find structure over the element indices.
+     *
+     * @return the underlying union-find structure
+     */
+    public IntUnionFind getIntUnionFind()
+    {
+        return uf;
+    }
+
+    /**
+     * Get the number of disjoint sets.
+     *
+     * @return the number of sets
+     */
+    public int numberOfSets()
+    {
+        return uf.numberOfSets();
+    }
+
+    /**
+     * Returns the representative element of the set that an element is in.
+     *
+     * @param element the element
+     * @return the element representing the set the element is in
+     * @throws IllegalArgumentException if the element is not contained
+     */
+    public T find(T element)
+    {
+        return elements.get(uf.find(getIndex(element)));
+    }
+
+    /**
+     * Merges the sets which contain two elements.
+     *
+     * @param element1 the first element
+     * @param element2 the second element
+     * @return {@code true} if the two sets were merged, {@code false} if the elements were already
+     *         in the same set
+     * @throws IllegalArgumentException if an element is not contained
+     */
+    public boolean union(T element1, T element2)
+    {
+        return uf.union(getIndex(element1), getIndex(element2));
+    }
+
+    /**
+     * Tests whether two elements are in the same set.
+     *
+     * @param element1 the first element
+     * @param element2 the second element
+     * @return {@code true} if the elements are in the same set, {@code false} otherwise
+     * @throws IllegalArgumentException if an element is not contained
+     */
+    public boolean inSameSet(T element1, T element2)
+    {
+        return uf.inSameSet(getIndex(element1), getIndex(element2));
+    }
+
+    /**
+     * Get the size of the set that an element is in.
+     *
+     * @param element the element
+     * @return the size of the set of the element
+     * @throws IllegalStateException if the sizes of the sets are not tracked
+     * @throws IllegalArgumentException if the element is not contained
+     */
+    public int getSetSize(T element)
+    {
+        return uf.getSetSize(getIndex(element));
+    }
+}
+
+// End IndexedUnionFind.java
@@ -0,0 +1,224 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import java.util.*;
+
+/**
+ * A union-find data structure over the integers {@code 0} to {@code n-1}. Parents and ranks are
+ * kept in {@code int} arrays and the implementation uses union by rank and path compression to
+ * achieve an amortized cost of O(a(n)) per operation where a is the inverse Ackermann function.
+ * Compared to {@link UnionFind} no hashing or boxing takes place.
+ *
+ * <p>
+ * Optionally the size of each set can be tracked, at the cost of one additional {@code int} per
+ * element. The number of sets is always maintained.
+ *
+ * @see IndexedUnionFind
+ *
+ * @author agent
+ */
+public class IntUnionFind
+{
+    private final int[] parent;
+    private final int[] rank;
+    private final int[] sizes;
+    private int numberOfSets;
+
+    /**
+     * Creates a new instance with all the elements in separate sets, which does not track the
+     * sizes of the sets.
+     *
+     * @param n the number of elements
+     * @throws IllegalArgumentException if the number of elements is negative
+     */
+    public IntUnionFind(int n)
+    {
+        this(n, false);
+    }
+
+    /**
+     * Creates a new instance with all the elements in separate sets.
+     *
+     * @param n the number of elements
+     * @param trackSizes whether to track the size of each set
+     * @throws IllegalArgumentException if the number of elements is negative
+     */
+    public IntUnionFind(int n, boolean trackSizes)
+    {
+        if (n < 0) {
+            throw new IllegalArgumentException("Number of elements must be non-negative");
+        }
+        this.parent = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+        }
+        this.rank = new int[n];
+        if (trackSizes) {
+            this.sizes = new int[n];
+            Arrays.fill(sizes, 1);
+        } else {
+            this.sizes = null;
+        }
+        this.numberOfSets = n;
+    }
+
+    /**
+     * Get the number of elements.
+     *
+     * @return the number of elements
+     */
+    public int size()
+    {
+        return parent.length;
+    }
+
+    /**
+     * Get the number of disjoint sets.
+     *
+     * @return the number of sets
+     */
+    public int numberOfSets()
+    {
+        return numberOfSets;
+    }
+
+    /**
+     * Returns the representative element of the set that an element is in.
+     *
+     * @param element the element
+     * @return the representative of the set of the element
+     * @throws IndexOutOfBoundsException if the element is not valid
+     */
+    public int find(int element)
+    {
+        int root = element;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        // path compression
+        int x = element;
+        while (x != root) {
+            int next = parent[x];
+            parent[x] = root;
+            x = next;
+        }
+        return root;
+    }
+
+    /**
+     * Merges the sets which contain two elements.
+     *
+     * @param element1 the first element
+     * @param element2 the second element
+     * @return {@code true} if the two sets were merged, {@code false} if the elements were already
+     *         in the same set
+     * @throws IndexOutOfBoundsException if an element is not valid
+     */
+    public boolean union(int element1, int element2)
+    {
+        int root1 = find(element1);
+        int root2 = find(element2);
+        if (root1 == root2) {
+            return false;
+        }
+        if (rank[root1] < rank[root2]) {
+            int tmp = root1;
+            root1 = root2;
+            root2 = tmp;
+        } else if (rank[root1] == rank[root2]) {
+            rank[root1]++;
+        }
+        parent[root2] = root1;
+        if (sizes != null) {
+            sizes[root1] += sizes[root2];
+        }
+        numberOfSets--;
+        return true;
+    }
+
+    /**
+     * Tests whether two elements are in the same set.
+     *
+     * @param element1 the first element
+     * @param element2 the second element
+     * @return {@code true} if the elements are in the same set, {@code false} otherwise
+     * @throws IndexOutOfBoundsException if an element is not valid
+     */
+    public boolean inSameSet(int element1, int element2)
+    {
+        return find(element1) == find(element2);
+    }
+
+    /**
+     * Get the size of the set that an element is in.
+     *
+     * @param element the element
+     * @return the size of the set of the element
+     * @throws IllegalStateException if the sizes of the sets are not tracked
+     * @throws IndexOutOfBoundsException if the element is not valid
+     */
+    public int getSetSize(int element)
+    {
+        if (sizes == null) {
+            throw new IllegalStateException("Set sizes are not tracked");
+        }
+        return sizes[find(element)];
+    }
+
+    /**
+     * Merges, for every position i, the sets which contain {@code elements1[i]} and
+     * {@code elements2[i]}.
+     *
+     * @param elements1 the first elements
+     * @param elements2 the second elements
+     * @return the number of merges performed
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws IndexOutOfBoundsException if an element is not valid
+     */
+    public int unionAll(int[] elements1, int[] elements2)
+    {
+        if (elements1.length != elements2.length) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+        int merges = 0;
+        for (int i = 0; i < elements1.length; i++) {
+            if (union(elements1[i], elements2[i])) {
+                merges++;
+            }
+        }
+        return merges;
+    }
+
+    /**
+     * Returns the representatives of all elements. Position i of the returned array contains the
+     * representative of element i.
+     *
+     * @return the representatives of all elements
+     */
+    public int[] findAll()
+    {
+        int[] result = new int[parent.length];
+        for (int i = 0; i < parent.length; i++) {
+            result[i] = find(i);
+        }
+        return result;
+    }
+}
+
+// End IntUnionFind.java
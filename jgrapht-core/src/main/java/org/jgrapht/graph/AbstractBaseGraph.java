@@ -61,6 +61,7 @@ public abstract class AbstractBaseGraph<V, E>
     private boolean weighted;
     private boolean allowingMultipleEdges;
     private boolean allowingLoops;
+    private boolean columnEdges;
 
     /**
      * Construct a new graph. The graph can either be directed or undirected, depending on the
@@ -114,6 +115,35 @@ public abstract class AbstractBaseGraph<V, E>
     protected AbstractBaseGraph(
         EdgeFactory<V, E> ef, boolean directed, boolean allowMultipleEdges, boolean allowLoops,
         boolean weighted)
+    {
+        this(ef, directed, allowMultipleEdges, allowLoops, weighted, false);
+    }
+
+    /**
+     * Construct a new graph, choosing how the edges are stored. The graph can either be directed
+     * or undirected, depending on the specified edge factory.
+     *
+     * <p>
+     * By default each edge is mapped to an object holding its source, target and weight. When
+     * column storage is enabled, each edge is instead assigned a dense index and its source,
+     * target and weight are stored at that index in arrays, which avoids any per-edge object
+     * besides the edge itself. Lookups by edge still use a hash table. When an edge is removed,
+     * the last edge takes its index, thus the edge set is iterated in insertion order only as long
+     * as no edge is removed.
+     *
+     * @param ef the edge factory of the new graph.
+     * @param directed if true the graph will be directed, otherwise undirected
+     * @param allowMultipleEdges whether to allow multiple edges or not.
+     * @param allowLoops whether to allow edges that are self-loops or not.
+     * @param weighted whether the graph is weighted, i.e. the edges support a weight attribute
+     * @param columnEdges whether to store the source, target and weight of the edges in columns
+     *
+     * @throws NullPointerException if the specified edge factory is <code>
+     * null</code>.
+     */
+    protected AbstractBaseGraph(
+        EdgeFactory<V, E> ef, boolean directed, boolean allowMultipleEdges, boolean allowLoops,
+        boolean weighted, boolean columnEdges)
     {
         Objects.requireNonNull(ef);
 
@@ -124,6 +154,7 @@ public abstract class AbstractBaseGraph<V, E>
         this.specifics =
             Objects.requireNonNull(createSpecifics(directed), GRAPH_SPECIFICS_MUST_NOT_BE_NULL);
         this.weighted = weighted;
+        this.columnEdges = columnEdges;
         this.intrusiveEdgesSpecifics = Objects.requireNonNull(
             createIntrusiveEdgesSpecifics(weighted), GRAPH_SPECIFICS_MUST_NOT_BE_NULL);
     }
@@ -541,7 +572,10 @@ public abstract class AbstractBaseGraph<V, E>
 
     /**
      * Create the specifics for this graph. Subclasses can override this method in order to adjust
-     * the specifics and thus the space-time tradeoffs of the graph implementation.
+     * the specifics and thus the space-time tradeoffs of the graph implementation. For example,
+     * {@link CompactLookupDirectedSpecifics} and {@link CompactLookupUndirectedSpecifics} provide
+     * fast edge retrieval between two vertices with considerably less memory than the default
+     * specifics.
      * 
      * @param directed if true the specifics should adjust the behavior to a directed graph
      *        otherwise undirected
@@ -572,7 +606,9 @@ public abstract class AbstractBaseGraph<V, E>
      */
     protected IntrusiveEdgesSpecifics<V, E> createIntrusiveEdgesSpecifics(boolean weighted)
     {
-        if (weighted) {
+        if (columnEdges) {
+            return new ColumnIntrusiveEdgesSpecifics<>(weighted);
+        } else if (weighted) {
             return new WeightedIntrusiveEdgesSpecifics<V, E>();
         } else {
             return new UniformIntrusiveEdgesSpecifics<V, E>();
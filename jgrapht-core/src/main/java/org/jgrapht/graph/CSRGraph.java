@@ -0,0 +1,1169 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph;
+
+import java.io.*;
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+/**
+ * An immutable graph which stores its adjacency structure in compressed sparse row (CSR) format.
+ *
+ * <p>
+ * Vertices and edges are assigned dense indices when the graph is constructed. The edges are kept
+ * in a single array sorted by source and target vertex, and the edges leaving a vertex are
+ * described by a range in that array given by an {@code int[]} offsets array. For the incoming
+ * direction a second offsets array with a permutation of the edge indices is maintained. Edge
+ * weights, if requested, are kept in a {@code double[]} column. Vertex and edge lookups use
+ * open-addressing tables of {@code int} indices, thus the graph does not allocate any object per
+ * vertex or per edge besides the vertex and edge objects themselves.
+ *
+ * <p>
+ * All the sets returned by the graph are unmodifiable views backed by the arrays, and iterating
+ * over them simply scans a range of an array. The graph can be constructed from any other graph
+ * using {@link #CSRGraph(Graph)} or incrementally using a {@link Builder}. Directed and undirected
+ * graphs are supported, with self-loops and multiple edges. Mixed graphs are not supported. The
+ * iteration order of the edge set follows the internal (source, target) sorted order and not the
+ * order in which the edges were added.
+ *
+ * <p>
+ * Any attempt to modify the graph, including changing an edge weight, results in an
+ * {@link UnsupportedOperationException}. Since the graph is immutable it can be safely shared
+ * between threads.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class CSRGraph<V, E>
+    extends AbstractGraph<V, E>
+    implements Serializable
+{
+    private static final long serialVersionUID = -3146287591934571128L;
+
+    private static final String UNMODIFIABLE = "this graph is unmodifiable";
+    private static final String MIXED_NOT_SUPPORTED = "Mixed graphs are not supported";
+    private static final int[] EMPTY_TABLE = new int[1];
+    private static final int MAX_TABLE_CAPACITY = 1 << 30;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private final EdgeFactory<V, E> edgeFactory;
+    private final boolean directed;
+    private final GraphType type;
+
+    private final Object[] vertices;
+    private final int[] vertexTable;
+
+    private final Object[] edges;
+    private final int[] edgeTable;
+    private final int[] edgeSources;
+    private final int[] edgeTargets;
+    private final double[] edgeWeights;
+
+    private final int[] outOffsets;
+    private final int[] inOffsets;
+    private final int[] inEdges;
+
+    private transient Set<V> vertexSetView;
+    private transient Set<E> edgeSetView;
+
+    /**
+     * Create a new graph which is a copy of the given graph. Whether the new graph is directed or
+     * undirected and whether edge weights are stored follows the type of the given graph.
+     *
+     * @param graph the graph to copy
+     * @throws IllegalArgumentException if the graph is mixed
+     */
+    public CSRGraph(Graph<V, E> graph)
+    {
+        this(graph, graph.getType().isWeighted());
+    }
+
+    /**
+     * Create a new graph which is a copy of the given graph.
+     *
+     * @param graph the graph to copy
+     * @param storeWeights whether to store the edge weights of the graph. If false all edges have
+     *        weight {@link Graph#DEFAULT_EDGE_WEIGHT}.
+     * @throws IllegalArgumentException if the graph is mixed
+     */
+    public CSRGraph(Graph<V, E> graph, boolean storeWeights)
+    {
+        GraphType type = graph.getType();
+        if (type.isMixed()) {
+            throw new IllegalArgumentException(MIXED_NOT_SUPPORTED);
+        }
+        this.edgeFactory = graph.getEdgeFactory();
+        this.directed = type.isDirected();
+
+        this.vertices = graph.vertexSet().toArray();
+        this.vertexTable = createTable(vertices, vertices.length);
+        if (vertices.length != graph.vertexSet().size()) {
+            throw new ConcurrentModificationException();
+        }
+
+        int m = graph.edgeSet().size();
+        Object[] edgeArray = new Object[m];
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        double[] weights = storeWeights ? new double[m] : null;
+        int i = 0;
+        for (E e : graph.edgeSet()) {
+            edgeArray[i] = e;
+            sources[i] = lookup(vertexTable, vertices, graph.getEdgeSource(e));
+            targets[i] = lookup(vertexTable, vertices, graph.getEdgeTarget(e));
+            if (weights != null) {
+                weights[i] = graph.getEdgeWeight(e);
+            }
+            i++;
+        }
+
+        int n = vertices.length;
+        int[] order = sortBySourceAndTarget(n, sources, targets);
+        this.edges = permute(edgeArray, order);
+        this.edgeSources = permute(sources, order);
+        this.edgeTargets = permute(targets, order);
+        this.edgeWeights = weights == null ? null : permute(weights, order);
+        this.edgeTable = createTable(edges, m);
+        this.outOffsets = computeOffsets(n, edgeSources);
+        this.inOffsets = computeOffsets(n, edgeTargets);
+        this.inEdges = computeInEdges(inOffsets, edgeTargets);
+        this.type = createType(directed, edgeWeights != null);
+    }
+
+    /**
+     * Construct a graph from the collected contents of a builder.
+     */
+    private CSRGraph(
+        EdgeFactory<V, E> edgeFactory, boolean directed, Object[] vertices, int[] vertexTable,
+        Object[] edgeArray, int[] sources, int[] targets, double[] weights)
+    {
+        this.edgeFactory = edgeFactory;
+        this.directed = directed;
+        this.vertices = vertices;
+        this.vertexTable = vertexTable;
+
+        int n = vertices.length;
+        int[] order = sortBySourceAndTarget(n, sources, targets);
+        this.edges = permute(edgeArray, order);
+        this.edgeSources = permute(sources, order);
+        this.edgeTargets = permute(targets, order);
+        this.edgeWeights = weights == null ? null : permute(weights, order);
+        this.edgeTable = createTable(edges, edges.length);
+        this.outOffsets = computeOffsets(n, edgeSources);
+        this.inOffsets = computeOffsets(n, edgeTargets);
+        this.inEdges = computeInEdges(inOffsets, edgeTargets);
+        this.type = createType(directed, edgeWeights != null);
+    }
+
+    /**
+     * Get the index of a vertex. Vertex indices are consecutive integers starting from zero.
+     *
+     * @param v the vertex
+     * @return the index of the vertex or -1 if the vertex is not contained in the graph
+     */
+    public int getVertexIndex(V v)
+    {
+        return lookup(vertexTable, vertices, v);
+    }
+
+    /**
+     * Get the vertex with a particular index.
+     *
+     * @param index the vertex index
+     * @return the vertex
+     * @throws IndexOutOfBoundsException if the index is not valid
+     */
+    public V getVertex(int index)
+    {
+        return TypeUtil.uncheckedCast(vertices[index], null);
+    }
+
+    /**
+     * Get the index of an edge. Edge indices are consecutive integers starting from zero and
+     * follow the iteration order of the edge set.
+     *
+     * @param e the edge
+     * @return the index of the edge or -1 if the edge is not contained in the graph
+     */
+    public int getEdgeIndex(E e)
+    {
+        return lookup(edgeTable, edges, e);
+    }
+
+    /**
+     * Get the edge with a particular index.
+     *
+     * @param index the edge index
+     * @return the edge
+     * @throws IndexOutOfBoundsException if the index is not valid
+     */
+    public E getEdge(int index)
+    {
+        return TypeUtil.uncheckedCast(edges[index], null);
+    }
+
+    /**
+     * Get the index of the source vertex of an edge.
+     *
+     * @param edgeIndex the edge index
+     * @return the index of the source vertex
+     * @throws IndexOutOfBoundsException if the index is not valid
+     */
+    public int getEdgeSourceIndex(int edgeIndex)
+    {
+        return edgeSources[edgeIndex];
+    }
+
+    /**
+     * Get the index of the target vertex of an edge.
+     *
+     * @param edgeIndex the edge index
+     * @return the index of the target vertex
+     * @throws IndexOutOfBoundsException if the index is not valid
+     */
+    public int getEdgeTargetIndex(int edgeIndex)
+    {
+        return edgeTargets[edgeIndex];
+    }
+
+    /**
+     * Get the weight of an edge given its index.
+     *
+     * @param edgeIndex the edge index
+     * @return the edge weight
+     * @throws IndexOutOfBoundsException if the index is not valid
+     */
+    public double getEdgeWeightByIndex(int edgeIndex)
+    {
+        if (edgeWeights == null) {
+            if (edgeIndex < 0 || edgeIndex >= edges.length) {
+                throw new IndexOutOfBoundsException();
+            }
+            return Graph.DEFAULT_EDGE_WEIGHT;
+        }
+        return edgeWeights[edgeIndex];
+    }
+
+    /**
+     * Get the start of the range of edge indices whose source is a particular vertex. The edges
+     * with source the vertex with index {@code v} are exactly the edges with indices in
+     * {@code [getOutgoingEdgesStart(v), getOutgoingEdgesEnd(v))}. For undirected graphs the range
+     * contains the edges whose source, as returned by {@link #getEdgeSource(Object)}, is the
+     * vertex.
+     *
+     * @param vertexIndex the vertex index
+     * @return the first edge index of the range (inclusive)
+     */
+    public int getOutgoingEdgesStart(int vertexIndex)
+    {
+        return outOffsets[vertexIndex];
+    }
+
+    /**
+     * Get the end of the range of edge indices whose source is a particular vertex.
+     *
+     * @param vertexIndex the vertex index
+     * @return the last edge index of the range (exclusive)
+     * @see #getOutgoingEdgesStart(int)
+     */
+    public int getOutgoingEdgesEnd(int vertexIndex)
+    {
+        return outOffsets[vertexIndex + 1];
+    }
+
+    /**
+     * Get the start of the range of positions of the incoming edges of a vertex. The edges with
+     * target the vertex with index {@code v} are {@code getIncomingEdge(i)} for all {@code i} in
+     * {@code [getIncomingEdgesStart(v), getIncomingEdgesEnd(v))}. For undirected graphs the range
+     * contains the edges whose target, as returned by {@link #getEdgeTarget(Object)}, is the
+     * vertex.
+     *
+     * @param vertexIndex the vertex index
+     * @return the first position of the range (inclusive)
+     */
+    public int getIncomingEdgesStart(int vertexIndex)
+    {
+        return inOffsets[vertexIndex];
+    }
+
+    /**
+     * Get the end of the range of positions of the incoming edges of a vertex.
+     *
+     * @param vertexIndex the vertex index
+     * @return the last position of the range (exclusive)
+     * @see #getIncomingEdgesStart(int)
+     */
+    public int getIncomingEdgesEnd(int vertexIndex)
+    {
+        return inOffsets[vertexIndex + 1];
+    }
+
+    /**
+     * Get the index of the edge at a particular position of the incoming edges permutation.
+     *
+     * @param position the position
+     * @return the edge index
+     * @see #getIncomingEdgesStart(int)
+     */
+    public int getIncomingEdge(int position)
+    {
+        return inEdges[position];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        int s = getVertexIndex(sourceVertex);
+        int t = getVertexIndex(targetVertex);
+        if (s == -1 || t == -1) {
+            return null;
+        }
+        ArrayUnenforcedSet<E> result = new ArrayUnenforcedSet<>();
+        for (int i = findFirstOutEdge(s, t); i < outOffsets[s + 1] && edgeTargets[i] == t; i++) {
+            result.add(getEdge(i));
+        }
+        if (!directed && s != t) {
+            for (int i = findFirstOutEdge(t, s); i < outOffsets[t + 1] && edgeTargets[i] == s;
+                i++)
+            {
+                result.add(getEdge(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E getEdge(V sourceVertex, V targetVertex)
+    {
+        int s = getVertexIndex(sourceVertex);
+        int t = getVertexIndex(targetVertex);
+        if (s == -1 || t == -1) {
+            return null;
+        }
+        int i = findFirstOutEdge(s, t);
+        if (i < outOffsets[s + 1] && edgeTargets[i] == t) {
+            return getEdge(i);
+        }
+        if (!directed) {
+            i = findFirstOutEdge(t, s);
+            if (i < outOffsets[t + 1] && edgeTargets[i] == s) {
+                return getEdge(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EdgeFactory<V, E> getEdgeFactory()
+    {
+        return edgeFactory;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E addEdge(V sourceVertex, V targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addEdge(V sourceVertex, V targetVertex, E e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addVertex(V v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsEdge(E e)
+    {
+        return getEdgeIndex(e) != -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsVertex(V v)
+    {
+        return getVertexIndex(v) != -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> edgeSet()
+    {
+        if (edgeSetView == null) {
+            edgeSetView = new EdgeSet();
+        }
+        return edgeSetView;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int degreeOf(V vertex)
+    {
+        int v = assertVertexIndex(vertex);
+        return (outOffsets[v + 1] - outOffsets[v]) + (inOffsets[v + 1] - inOffsets[v]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> edgesOf(V vertex)
+    {
+        return new VertexEdgeSet(assertVertexIndex(vertex), true, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int inDegreeOf(V vertex)
+    {
+        if (!directed) {
+            return degreeOf(vertex);
+        }
+        int v = assertVertexIndex(vertex);
+        return inOffsets[v + 1] - inOffsets[v];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> incomingEdgesOf(V vertex)
+    {
+        int v = assertVertexIndex(vertex);
+        return directed ? new VertexEdgeSet(v, false, true) : new VertexEdgeSet(v, true, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int outDegreeOf(V vertex)
+    {
+        if (!directed) {
+            return degreeOf(vertex);
+        }
+        int v = assertVertexIndex(vertex);
+        return outOffsets[v + 1] - outOffsets[v];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> outgoingEdgesOf(V vertex)
+    {
+        int v = assertVertexIndex(vertex);
+        return directed ? new VertexEdgeSet(v, true, false) : new VertexEdgeSet(v, true, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeAllEdges(Collection<? extends E> edges)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> removeAllEdges(V sourceVertex, V targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeAllVertices(Collection<? extends V> vertices)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E removeEdge(V sourceVertex, V targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeEdge(E e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeVertex(V v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<V> vertexSet()
+    {
+        if (vertexSetView == null) {
+            vertexSetView = new VertexSet();
+        }
+        return vertexSetView;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getEdgeSource(E e)
+    {
+        return getVertex(edgeSources[assertEdgeIndex(e)]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getEdgeTarget(E e)
+    {
+        return getVertex(edgeTargets[assertEdgeIndex(e)]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphType getType()
+    {
+        return type;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getEdgeWeight(E e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        int index = assertEdgeIndex(e);
+        return edgeWeights == null ? Graph.DEFAULT_EDGE_WEIGHT : edgeWeights[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setEdgeWeight(E e, double weight)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    private int assertVertexIndex(V v)
+    {
+        if (v == null) {
+            throw new NullPointerException();
+        }
+        int index = getVertexIndex(v);
+        if (index == -1) {
+            throw new IllegalArgumentException("no such vertex in graph: " + v.toString());
+        }
+        return index;
+    }
+
+    private int assertEdgeIndex(E e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        int index = getEdgeIndex(e);
+        if (index == -1) {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+        return index;
+    }
+
+    /**
+     * Binary search inside the sorted outgoing range of a vertex.
+     *
+     * @return the position of the first edge from s to t, or the position where such an edge
+     *         would be inserted
+     */
+    private int findFirstOutEdge(int s, int t)
+    {
+        int low = outOffsets[s];
+        int high = outOffsets[s + 1];
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (edgeTargets[mid] < t) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /*
+     * Open-addressing index tables. Each slot contains the element index plus one, or zero if the
+     * slot is empty. The table capacity is a power of two of at least twice the number of
+     * elements, thus linear probing always terminates.
+     */
+
+    private static int slot(Object o, int mask)
+    {
+        int h = o.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static GraphType createType(boolean directed, boolean weighted)
+    {
+        DefaultGraphType.Builder builder = new DefaultGraphType.Builder();
+        if (directed) {
+            builder.directed();
+        } else {
+            builder.undirected();
+        }
+        return builder
+            .weighted(weighted).allowMultipleEdges(true).allowSelfLoops(true).modifiable(false)
+            .build();
+    }
+
+    /*
+     * The table is at most a quarter full, or at most half full for very large sizes where the
+     * capacity is clamped to the largest power of two array length.
+     */
+    private static int[] createTable(Object[] elements, int size)
+    {
+        if (size == 0) {
+            return EMPTY_TABLE;
+        }
+        if (size > MAX_TABLE_CAPACITY / 2) {
+            throw new IllegalArgumentException("Too many elements: " + size);
+        }
+        long capacity = Long.highestOneBit(Math.max(size, 2) - 1L) << 2;
+        int mask = (int) Math.min(capacity, MAX_TABLE_CAPACITY) - 1;
+        int[] table = new int[mask + 1];
+        for (int i = 0; i < size; i++) {
+            Object o = elements[i];
+            int pos = slot(o, mask);
+            while (table[pos] != 0) {
+                if (elements[table[pos] - 1].equals(o)) {
+                    throw new IllegalArgumentException("duplicate element: " + o);
+                }
+                pos = (pos + 1) & mask;
+            }
+            table[pos] = i + 1;
+        }
+        return table;
+    }
+
+    private static int lookup(int[] table, Object[] elements, Object o)
+    {
+        if (o == null) {
+            return -1;
+        }
+        int mask = table.length - 1;
+        int pos = slot(o, mask);
+        int index;
+        while ((index = table[pos]) != 0) {
+            if (elements[index - 1].equals(o)) {
+                return index - 1;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return -1;
+    }
+
+    /*
+     * CSR construction helpers.
+     */
+
+    private static int[] sortBySourceAndTarget(int n, int[] sources, int[] targets)
+    {
+        int m = sources.length;
+        int[] byTarget = countingSort(n, targets, identity(m));
+        return countingSort(n, sources, byTarget);
+    }
+
+    private static int[] identity(int m)
+    {
+        int[] result = new int[m];
+        for (int i = 0; i < m; i++) {
+            result[i] = i;
+        }
+        return result;
+    }
+
+    /**
+     * Stable counting sort of the given order of positions using a key column.
+     */
+    private static int[] countingSort(int n, int[] keys, int[] order)
+    {
+        int[] start = new int[n + 1];
+        for (int key : keys) {
+            start[key + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            start[v + 1] += start[v];
+        }
+        int[] result = new int[order.length];
+        for (int pos : order) {
+            result[start[keys[pos]]++] = pos;
+        }
+        return result;
+    }
+
+    private static int[] computeOffsets(int n, int[] keys)
+    {
+        int[] offsets = new int[n + 1];
+        for (int key : keys) {
+            offsets[key + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        return offsets;
+    }
+
+    private static int[] computeInEdges(int[] inOffsets, int[] targets)
+    {
+        int[] next = Arrays.copyOf(inOffsets, inOffsets.length - 1);
+        int[] result = new int[targets.length];
+        for (int e = 0; e < targets.length; e++) {
+            result[next[targets[e]]++] = e;
+        }
+        return result;
+    }
+
+    private static Object[] permute(Object[] a, int[] order)
+    {
+        Object[] result = new Object[order.length];
+        for (int i = 0; i < order.length; i++) {
+            result[i] = a[order[i]];
+        }
+        return result;
+    }
+
+    private static int[] permute(int[] a, int[] order)
+    {
+        int[] result = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            result[i] = a[order[i]];
+        }
+        return result;
+    }
+
+    private static double[] permute(double[] a, int[] order)
+    {
+        double[] result = new double[order.length];
+        for (int i = 0; i < order.length; i++) {
+            result[i] = a[order[i]];
+        }
+        return result;
+    }
+
+    /**
+     * The vertex set view.
+     */
+    private class VertexSet
+        extends AbstractSet<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ArrayRangeIterator<>(vertices, 0, vertices.length);
+        }
+
+        @Override
+        public int size()
+        {
+            return vertices.length;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return lookup(vertexTable, vertices, o) != -1;
+        }
+    }
+
+    /**
+     * The edge set view.
+     */
+    private class EdgeSet
+        extends AbstractSet<E>
+    {
+        @Override
+        public Iterator<E> iterator()
+        {
+            return new ArrayRangeIterator<>(edges, 0, edges.length);
+        }
+
+        @Override
+        public int size()
+        {
+            return edges.length;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return lookup(edgeTable, edges, o) != -1;
+        }
+    }
+
+    /**
+     * A view of the edges touching a vertex. The outgoing edges are a range of the edge array,
+     * while the incoming edges are a range of the incoming edge permutation. When both directions
+     * are included self-loops are reported only once.
+     */
+    private class VertexEdgeSet
+        extends AbstractSet<E>
+    {
+        private final int vertex;
+        private final boolean out;
+        private final boolean in;
+
+        VertexEdgeSet(int vertex, boolean out, boolean in)
+        {
+            this.vertex = vertex;
+            this.out = out;
+            this.in = in;
+        }
+
+        @Override
+        public Iterator<E> iterator()
+        {
+            if (!in) {
+                return new ArrayRangeIterator<>(edges, outOffsets[vertex], outOffsets[vertex + 1]);
+            }
+            return new VertexEdgeIterator(vertex, out);
+        }
+
+        @Override
+        public int size()
+        {
+            int size = 0;
+            if (out) {
+                size += outOffsets[vertex + 1] - outOffsets[vertex];
+            }
+            if (in) {
+                for (int i = inOffsets[vertex]; i < inOffsets[vertex + 1]; i++) {
+                    if (!out || edgeSources[inEdges[i]] != vertex) {
+                        size++;
+                    }
+                }
+            }
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            int e = lookup(edgeTable, edges, o);
+            if (e == -1) {
+                return false;
+            }
+            return (out && edgeSources[e] == vertex) || (in && edgeTargets[e] == vertex);
+        }
+    }
+
+    /**
+     * Iterator over the incoming edges of a vertex, optionally preceded by its outgoing edges.
+     */
+    private class VertexEdgeIterator
+        implements Iterator<E>
+    {
+        private final int vertex;
+        private final boolean skipLoops;
+        private int outPos;
+        private final int outEnd;
+        private int inPos;
+        private final int inEnd;
+
+        VertexEdgeIterator(int vertex, boolean out)
+        {
+            this.vertex = vertex;
+            this.skipLoops = out;
+            this.outPos = out ? outOffsets[vertex] : 0;
+            this.outEnd = out ? outOffsets[vertex + 1] : 0;
+            this.inPos = inOffsets[vertex];
+            this.inEnd = inOffsets[vertex + 1];
+            advance();
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return outPos < outEnd || inPos < inEnd;
+        }
+
+        @Override
+        public E next()
+        {
+            if (outPos < outEnd) {
+                return getEdge(outPos++);
+            }
+            if (inPos < inEnd) {
+                E e = getEdge(inEdges[inPos++]);
+                advance();
+                return e;
+            }
+            throw new NoSuchElementException();
+        }
+
+        private void advance()
+        {
+            if (skipLoops) {
+                while (inPos < inEnd && edgeSources[inEdges[inPos]] == vertex) {
+                    inPos++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Iterator over a range of an array.
+     */
+    private static class ArrayRangeIterator<T>
+        implements Iterator<T>
+    {
+        private final Object[] array;
+        private int pos;
+        private final int end;
+
+        ArrayRangeIterator(Object[] array, int start, int end)
+        {
+            this.array = array;
+            this.pos = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return pos < end;
+        }
+
+        @Override
+        public T next()
+        {
+            if (pos >= end) {
+                throw new NoSuchElementException();
+            }
+            return TypeUtil.uncheckedCast(array[pos++], null);
+        }
+    }
+
+    /**
+     * A builder for {@link CSRGraph}. Vertices and edges are collected in growable arrays and the
+     * compressed representation is computed once when {@link #build()} is called.
+     *
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    public static class Builder<V, E>
+    {
+        private final EdgeFactory<V, E> edgeFactory;
+        private final boolean directed;
+        private final boolean weighted;
+
+        private final Map<V, Integer> vertexIndex;
+        private final List<V> vertexList;
+        private final List<E> edgeList;
+        private int[] sources;
+        private int[] targets;
+        private double[] weights;
+
+        /**
+         * Create a new builder.
+         *
+         * @param edgeFactory the edge factory of the graph, also used by
+         *        {@link #addEdge(Object, Object)}
+         * @param directed whether the graph is directed or undirected
+         * @param weighted whether the graph stores edge weights
+         */
+        public Builder(EdgeFactory<V, E> edgeFactory, boolean directed, boolean weighted)
+        {
+            this.edgeFactory = Objects.requireNonNull(edgeFactory, "Edge factory cannot be null");
+            this.directed = directed;
+            this.weighted = weighted;
+            this.vertexIndex = new HashMap<>();
+            this.vertexList = new ArrayList<>();
+            this.edgeList = new ArrayList<>();
+            this.sources = new int[16];
+            this.targets = new int[16];
+            this.weights = weighted ? new double[16] : null;
+        }
+
+        /**
+         * Add a vertex. Adding a vertex which has already been added has no effect.
+         *
+         * @param v the vertex
+         * @return this builder object
+         */
+        public Builder<V, E> addVertex(V v)
+        {
+            indexOf(v);
+            return this;
+        }
+
+        /**
+         * Add an edge using the edge factory of the builder. Missing vertices are added
+         * automatically.
+         *
+         * @param source the source vertex
+         * @param target the target vertex
+         * @return this builder object
+         */
+        public Builder<V, E> addEdge(V source, V target)
+        {
+            return addEdge(source, target, edgeFactory.createEdge(source, target));
+        }
+
+        /**
+         * Add an edge. Missing vertices are added automatically.
+         *
+         * @param source the source vertex
+         * @param target the target vertex
+         * @param e the edge
+         * @return this builder object
+         */
+        public Builder<V, E> addEdge(V source, V target, E e)
+        {
+            return addEdge(source, target, e, Graph.DEFAULT_EDGE_WEIGHT);
+        }
+
+        /**
+         * Add an edge with a weight. Missing vertices are added automatically. The weight is
+         * ignored if the builder is unweighted.
+         *
+         * @param source the source vertex
+         * @param target the target vertex
+         * @param e the edge
+         * @param weight the edge weight
+         * @return this builder object
+         */
+        public Builder<V, E> addEdge(V source, V target, E e, double weight)
+        {
+            Objects.requireNonNull(e);
+            int s = indexOf(source);
+            int t = indexOf(target);
+            int m = edgeList.size();
+            if (m == sources.length) {
+                int capacity = (int) Math.min(2L * m, MAX_ARRAY_SIZE);
+                if (capacity == m) {
+                    throw new IllegalArgumentException("Too many edges: " + m);
+                }
+                sources = Arrays.copyOf(sources, capacity);
+                targets = Arrays.copyOf(targets, capacity);
+                if (weighted) {
+                    weights = Arrays.copyOf(weights, capacity);
+                }
+            }
+            sources[m] = s;
+            targets[m] = t;
+            if (weighted) {
+                weights[m] = weight;
+            }
+            edgeList.add(e);
+            return this;
+        }
+
+        /**
+         * Build the graph.
+         *
+         * @return the graph
+         * @throws IllegalArgumentException if the same edge was added more than once
+         */
+        public CSRGraph<V, E> build()
+        {
+            Object[] vertexArray = vertexList.toArray();
+            int m = edgeList.size();
+            return new CSRGraph<>(
+                edgeFactory, directed, vertexArray, createTable(vertexArray, vertexArray.length),
+                edgeList.toArray(), Arrays.copyOf(sources, m), Arrays.copyOf(targets, m),
+                weighted ? Arrays.copyOf(weights, m) : null);
+        }
+
+        private int indexOf(V v)
+        {
+            Objects.requireNonNull(v);
+            Integer index = vertexIndex.get(v);
+            if (index == null) {
+                index = vertexList.size();
+                vertexIndex.put(v, index);
+                vertexList.add(v);
+            }
+            return index;
+        }
+    }
+}
+
+// End CSRGraph.java
@@ -0,0 +1,426 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph;
+
+import java.io.*;
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+/**
+ * Intrusive edges specifics which store the edges of a graph in columns.
+ *
+ * <p>
+ * Each edge is assigned a dense index in the range {@code [0, m)}, where {@code m} is the number
+ * of edges, and its source, target and weight are stored at that index in separate arrays. Edges
+ * are mapped to their index using an open-addressing hash table, without allocating any object
+ * per edge. Compared to the default specifics, which keep a linked hash map from each edge to an
+ * intrusive edge object, this avoids the per-edge map entry and, for edge types other than
+ * {@link DefaultEdge} and {@link DefaultWeightedEdge}, the additional intrusive edge object.
+ * Lookups by edge, including {@link #getEdgeWeight(Object)}, still probe the hash table. Only once
+ * the index of an edge is known, see {@link #getEdgeIndex(Object)}, are its source, target and
+ * weight simple array reads.
+ *
+ * <p>
+ * When an edge is removed, the last edge is moved into its index. Thus the edge set is iterated in
+ * insertion order only as long as no edge is removed, although the order remains deterministic.
+ * Edges which extend {@link DefaultEdge} or {@link DefaultWeightedEdge} are still updated with
+ * their source, target and weight, so that they behave as with the default specifics.
+ *
+ * <p>
+ * The specifics are used by graphs constructed with column edge storage, see the constructors of
+ * {@link AbstractBaseGraph} and of the pseudograph classes.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+class ColumnIntrusiveEdgesSpecifics<V, E>
+    implements IntrusiveEdgesSpecifics<V, E>
+{
+    private static final long serialVersionUID = 2817403592631823094L;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final boolean weighted;
+
+    // columns
+    private Object[] edges;
+    private Object[] sources;
+    private Object[] targets;
+    private double[] weights;
+    private int size;
+
+    // open-addressing index from edges to their position, rebuilt after deserialization
+    private transient Object[] keys;
+    private transient int[] positions;
+    private transient int mask;
+
+    private transient int modCount;
+    private transient Set<E> edgeSet;
+
+    /**
+     * Create new specifics.
+     *
+     * @param weighted whether the edges support a weight
+     */
+    public ColumnIntrusiveEdgesSpecifics(boolean weighted)
+    {
+        this.weighted = weighted;
+        this.edges = new Object[DEFAULT_CAPACITY];
+        this.sources = new Object[DEFAULT_CAPACITY];
+        this.targets = new Object[DEFAULT_CAPACITY];
+        this.weights = weighted ? new double[DEFAULT_CAPACITY] : null;
+        this.size = 0;
+        createIndex(DEFAULT_CAPACITY);
+    }
+
+    @Override
+    public V getEdgeSource(E e)
+    {
+        return getEdgeSource(indexOrFail(e));
+    }
+
+    @Override
+    public V getEdgeTarget(E e)
+    {
+        return getEdgeTarget(indexOrFail(e));
+    }
+
+    @Override
+    public void add(E e, V sourceVertex, V targetVertex)
+    {
+        if (e instanceof IntrusiveEdge) {
+            IntrusiveEdge ie = (IntrusiveEdge) e;
+            ie.source = sourceVertex;
+            ie.target = targetVertex;
+        }
+
+        int index = indexOf(e);
+        if (index == -1) {
+            ensureCapacity(size + 1);
+            index = size++;
+            edges[index] = e;
+            insertIndex(e, index);
+            if (weighted) {
+                weights[index] = (e instanceof IntrusiveWeightedEdge)
+                    ? ((IntrusiveWeightedEdge) e).weight : Graph.DEFAULT_EDGE_WEIGHT;
+            }
+            modCount++;
+        }
+        sources[index] = sourceVertex;
+        targets[index] = targetVertex;
+    }
+
+    @Override
+    public boolean containsEdge(E e)
+    {
+        return indexOf(e) != -1;
+    }
+
+    @Override
+    public Set<E> getEdgeSet()
+    {
+        if (edgeSet == null) {
+            edgeSet = new EdgeSet();
+        }
+        return edgeSet;
+    }
+
+    @Override
+    public void remove(E e)
+    {
+        int slot = slotOf(e);
+        if (slot == -1) {
+            return;
+        }
+        int index = positions[slot];
+        removeSlot(slot);
+
+        // move the last edge into the free index
+        int last = --size;
+        if (index != last) {
+            edges[index] = edges[last];
+            sources[index] = sources[last];
+            targets[index] = targets[last];
+            if (weighted) {
+                weights[index] = weights[last];
+            }
+            positions[slotOf(edges[index])] = index;
+        }
+        edges[last] = null;
+        sources[last] = null;
+        targets[last] = null;
+        modCount++;
+    }
+
+    @Override
+    public double getEdgeWeight(E e)
+    {
+        int index = indexOrFail(e);
+        return weighted ? weights[index] : Graph.DEFAULT_EDGE_WEIGHT;
+    }
+
+    @Override
+    public void setEdgeWeight(E e, double weight)
+    {
+        if (!weighted) {
+            throw new UnsupportedOperationException();
+        }
+        weights[indexOrFail(e)] = weight;
+        if (e instanceof IntrusiveWeightedEdge) {
+            ((IntrusiveWeightedEdge) e).weight = weight;
+        }
+    }
+
+    /**
+     * Get the number of edges.
+     *
+     * @return the number of edges
+     */
+    public int getEdgeCount()
+    {
+        return size;
+    }
+
+    /**
+     * Get the index of an edge. The index of an edge remains the same until an edge is removed.
+     *
+     * @param e the edge
+     * @return the index of the edge in the range {@code [0, m)} or -1 if the edge does not exist
+     */
+    public int getEdgeIndex(E e)
+    {
+        return indexOf(e);
+    }
+
+    /**
+     * Get the edge with a given index.
+     *
+     * @param index the edge index
+     * @return the edge
+     * @throws IndexOutOfBoundsException if the index is not valid
+     */
+    public E getEdge(int index)
+    {
+        return TypeUtil.uncheckedCast(edges[checkIndex(index)], null);
+    }
+
+    /**
+     * Get the source vertex of the edge with a given index.
+     *
+     * @param index the edge index
+     * @return the source vertex
+     * @throws IndexOutOfBoundsException if the index is not valid
+     */
+    public V getEdgeSource(int index)
+    {
+        return TypeUtil.uncheckedCast(sources[checkIndex(index)], null);
+    }
+
+    /**
+     * Get the target vertex of the edge with a given index.
+     *
+     * @param index the edge index
+     * @return the target vertex
+     * @throws IndexOutOfBoundsException if the index is not valid
+     */
+    public V getEdgeTarget(int index)
+    {
+        return TypeUtil.uncheckedCast(targets[checkIndex(index)], null);
+    }
+
+    /**
+     * Get the weight of the edge with a given index.
+     *
+     * @param index the edge index
+     * @return the edge weight
+     * @throws IndexOutOfBoundsException if the index is not valid
+     */
+    public double getEdgeWeight(int index)
+    {
+        checkIndex(index);
+        return weighted ? weights[index] : Graph.DEFAULT_EDGE_WEIGHT;
+    }
+
+    private int checkIndex(int index)
+    {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid edge index " + index);
+        }
+        return index;
+    }
+
+    private int indexOrFail(E e)
+    {
+        int index = indexOf(e);
+        if (index == -1) {
+            throw new IllegalArgumentException("no such edge in graph: " + e);
+        }
+        return index;
+    }
+
+    private void ensureCapacity(int capacity)
+    {
+        if (capacity <= edges.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, 2 * edges.length);
+        edges = Arrays.copyOf(edges, newCapacity);
+        sources = Arrays.copyOf(sources, newCapacity);
+        targets = Arrays.copyOf(targets, newCapacity);
+        if (weighted) {
+            weights = Arrays.copyOf(weights, newCapacity);
+        }
+        createIndex(newCapacity);
+        for (int i = 0; i < size; i++) {
+            insertIndex(edges[i], i);
+        }
+    }
+
+    /*
+     * The hash table uses linear probing and is kept at most half full.
+     */
+    private void createIndex(int capacity)
+    {
+        int tableSize = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 2;
+        keys = new Object[tableSize];
+        positions = new int[tableSize];
+        mask = tableSize - 1;
+    }
+
+    private static int hash(Object e)
+    {
+        int h = e.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private int indexOf(Object e)
+    {
+        int slot = slotOf(e);
+        return slot == -1 ? -1 : positions[slot];
+    }
+
+    private int slotOf(Object e)
+    {
+        if (e == null) {
+            return -1;
+        }
+        int slot = hash(e) & mask;
+        Object key;
+        while ((key = keys[slot]) != null) {
+            if (key == e || key.equals(e)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insertIndex(Object e, int index)
+    {
+        int slot = hash(e) & mask;
+        while (keys[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = e;
+        positions[slot] = index;
+    }
+
+    /*
+     * Remove a slot by shifting back the following entries of its cluster.
+     */
+    private void removeSlot(int slot)
+    {
+        int free = slot;
+        int next = (free + 1) & mask;
+        Object key;
+        while ((key = keys[next]) != null) {
+            int home = hash(key) & mask;
+            // move the entry if its home slot is not cyclically in (free, next]
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                keys[free] = key;
+                positions[free] = positions[next];
+                free = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[free] = null;
+    }
+
+    private void readObject(ObjectInputStream in)
+        throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+        createIndex(edges.length);
+        for (int i = 0; i < size; i++) {
+            insertIndex(edges[i], i);
+        }
+    }
+
+    /*
+     * Unmodifiable view of the edges in index order.
+     */
+    private class EdgeSet
+        extends AbstractSet<E>
+    {
+        @Override
+        public Iterator<E> iterator()
+        {
+            return new Iterator<E>()
+            {
+                private final int expectedModCount = modCount;
+                private int next = 0;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return next < size;
+                }
+
+                @Override
+                public E next()
+                {
+                    if (modCount != expectedModCount) {
+                        throw new ConcurrentModificationException();
+                    }
+                    if (next >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    return TypeUtil.uncheckedCast(edges[next++], null);
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return indexOf(o) != -1;
+        }
+    }
+}
+
+// End ColumnIntrusiveEdgesSpecifics.java
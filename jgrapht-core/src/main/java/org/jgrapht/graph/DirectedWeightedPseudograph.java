@@ -51,7 +51,19 @@ public class DirectedWeightedPseudograph<V, E>
      */
     public DirectedWeightedPseudograph(EdgeFactory<V, E> ef)
     {
-        super(ef, true);
+        this(ef, false);
+    }
+
+    /**
+     * Creates a new directed weighted pseudograph with the specified edge factory, optionally
+     * storing the source, target and weight of the edges in columns indexed by a dense edge index.
+     *
+     * @param ef the edge factory of the new graph.
+     * @param columnEdges if true the edges are stored in columns
+     */
+    public DirectedWeightedPseudograph(EdgeFactory<V, E> ef, boolean columnEdges)
+    {
+        super(ef, true, columnEdges);
     }
 
     /**
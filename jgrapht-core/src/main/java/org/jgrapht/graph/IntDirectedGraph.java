@@ -0,0 +1,854 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.*;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+/**
+ * A directed graph specialized for integer vertices and edges.
+ *
+ * <p>
+ * The vertices of the graph are the integers 0, 1, ..., n-1 and the edges are the integers 0, 1,
+ * ..., m-1, both assigned by the graph in the order of their creation. The endpoints and the
+ * weights of the edges are stored in primitive arrays and each vertex keeps its incoming and
+ * outgoing edges in growable {@code int[]} arrays. The graph provides primitive accessors such as
+ * {@link #outDegreeOf(int)} and {@link #forEachSuccessor(int, IntConsumer)} which neither box
+ * integers nor allocate iterators, and can therefore be used in the inner loops of algorithms.
+ *
+ * <p>
+ * At the same time the class implements the {@link Graph} interface using {@link Integer} vertices
+ * and edges, thus all traversals and algorithms of the library can be executed on it. The sets
+ * returned by the generic methods are unmodifiable views backed by the primitive arrays.
+ *
+ * <p>
+ * The graph allows multiple edges and self-loops. Vertices and edges can only be added; any
+ * attempt to remove a vertex or an edge results in an {@link UnsupportedOperationException}.
+ * Vertices must be added consecutively, either using {@link #addVertex()} or by calling
+ * {@link #addVertex(Integer)} with the next available vertex. Edges are created by the graph, thus
+ * {@link #getEdgeFactory()} returns a factory which cannot be used outside the graph.
+ *
+ * @author agent
+ */
+public class IntDirectedGraph
+    extends AbstractGraph<Integer, Integer>
+    implements Serializable
+{
+    private static final long serialVersionUID = 5281645398201748563L;
+
+    private static final String REMOVAL_NOT_SUPPORTED = "this graph does not support removals";
+    private static final int[] EMPTY = new int[0];
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final boolean weighted;
+
+    private int vertexCount;
+    private int[][] outEdges;
+    private int[] outDegree;
+    private int[][] inEdges;
+    private int[] inDegree;
+
+    private int edgeCount;
+    private int[] edgeSource;
+    private int[] edgeTarget;
+    private double[] edgeWeight;
+
+    private transient Set<Integer> vertexSetView;
+    private transient Set<Integer> edgeSetView;
+
+    /**
+     * Create a new unweighted graph without any vertices.
+     */
+    public IntDirectedGraph()
+    {
+        this(0, false);
+    }
+
+    /**
+     * Create a new graph.
+     *
+     * @param vertexCount the number of initial vertices
+     * @param weighted whether the graph supports edge weights
+     */
+    public IntDirectedGraph(int vertexCount, boolean weighted)
+    {
+        if (vertexCount < 0) {
+            throw new IllegalArgumentException("Number of vertices must be non-negative");
+        }
+        this.weighted = weighted;
+        int capacity = Math.max(vertexCount, DEFAULT_CAPACITY);
+        this.outEdges = new int[capacity][];
+        this.outDegree = new int[capacity];
+        this.inEdges = new int[capacity][];
+        this.inDegree = new int[capacity];
+        Arrays.fill(outEdges, EMPTY);
+        Arrays.fill(inEdges, EMPTY);
+        this.vertexCount = vertexCount;
+
+        this.edgeSource = new int[DEFAULT_CAPACITY];
+        this.edgeTarget = new int[DEFAULT_CAPACITY];
+        this.edgeWeight = weighted ? new double[DEFAULT_CAPACITY] : null;
+    }
+
+    /**
+     * Get the number of vertices of the graph.
+     *
+     * @return the number of vertices
+     */
+    public int vertexCount()
+    {
+        return vertexCount;
+    }
+
+    /**
+     * Get the number of edges of the graph.
+     *
+     * @return the number of edges
+     */
+    public int edgeCount()
+    {
+        return edgeCount;
+    }
+
+    /**
+     * Add a new vertex.
+     *
+     * @return the new vertex
+     */
+    public int addVertex()
+    {
+        if (vertexCount == outDegree.length) {
+            int capacity = 2 * vertexCount;
+            outEdges = Arrays.copyOf(outEdges, capacity);
+            outDegree = Arrays.copyOf(outDegree, capacity);
+            inEdges = Arrays.copyOf(inEdges, capacity);
+            inDegree = Arrays.copyOf(inDegree, capacity);
+            Arrays.fill(outEdges, vertexCount, capacity, EMPTY);
+            Arrays.fill(inEdges, vertexCount, capacity, EMPTY);
+        }
+        return vertexCount++;
+    }
+
+    /**
+     * Add a new edge.
+     *
+     * @param source the source vertex
+     * @param target the target vertex
+     * @return the new edge
+     * @throws IllegalArgumentException if the source or the target vertex do not exist
+     */
+    public int addEdge(int source, int target)
+    {
+        assertVertexExist(source);
+        assertVertexExist(target);
+
+        if (edgeCount == edgeSource.length) {
+            int capacity = 2 * edgeCount;
+            edgeSource = Arrays.copyOf(edgeSource, capacity);
+            edgeTarget = Arrays.copyOf(edgeTarget, capacity);
+            if (weighted) {
+                edgeWeight = Arrays.copyOf(edgeWeight, capacity);
+            }
+        }
+        int e = edgeCount++;
+        edgeSource[e] = source;
+        edgeTarget[e] = target;
+        if (weighted) {
+            edgeWeight[e] = Graph.DEFAULT_EDGE_WEIGHT;
+        }
+
+        outEdges[source] = append(outEdges[source], outDegree[source]++, e);
+        inEdges[target] = append(inEdges[target], inDegree[target]++, e);
+        return e;
+    }
+
+    /**
+     * Get the out-degree of a vertex.
+     *
+     * @param vertex the vertex
+     * @return the out-degree of the vertex
+     */
+    public int outDegreeOf(int vertex)
+    {
+        assertVertexExist(vertex);
+        return outDegree[vertex];
+    }
+
+    /**
+     * Get the in-degree of a vertex.
+     *
+     * @param vertex the vertex
+     * @return the in-degree of the vertex
+     */
+    public int inDegreeOf(int vertex)
+    {
+        assertVertexExist(vertex);
+        return inDegree[vertex];
+    }
+
+    /**
+     * Get the degree of a vertex, that is the sum of its in-degree and out-degree.
+     *
+     * @param vertex the vertex
+     * @return the degree of the vertex
+     */
+    public int degreeOf(int vertex)
+    {
+        assertVertexExist(vertex);
+        return inDegree[vertex] + outDegree[vertex];
+    }
+
+    /**
+     * Get the source of an edge.
+     *
+     * @param e the edge
+     * @return the source vertex of the edge
+     */
+    public int getEdgeSource(int e)
+    {
+        assertEdgeExist(e);
+        return edgeSource[e];
+    }
+
+    /**
+     * Get the target of an edge.
+     *
+     * @param e the edge
+     * @return the target vertex of the edge
+     */
+    public int getEdgeTarget(int e)
+    {
+        assertEdgeExist(e);
+        return edgeTarget[e];
+    }
+
+    /**
+     * Get the weight of an edge.
+     *
+     * @param e the edge
+     * @return the weight of the edge
+     */
+    public double getEdgeWeight(int e)
+    {
+        assertEdgeExist(e);
+        return weighted ? edgeWeight[e] : Graph.DEFAULT_EDGE_WEIGHT;
+    }
+
+    /**
+     * Set the weight of an edge.
+     *
+     * @param e the edge
+     * @param weight the weight
+     * @throws UnsupportedOperationException if the graph is not weighted
+     */
+    public void setEdgeWeight(int e, double weight)
+    {
+        if (!weighted) {
+            throw new UnsupportedOperationException();
+        }
+        assertEdgeExist(e);
+        edgeWeight[e] = weight;
+    }
+
+    /**
+     * Perform an action on the target of each outgoing edge of a vertex. A target is reported
+     * once per edge, thus more than once in the presence of multiple edges.
+     *
+     * @param vertex the vertex
+     * @param action the action to perform
+     */
+    public void forEachSuccessor(int vertex, IntConsumer action)
+    {
+        assertVertexExist(vertex);
+        int[] edges = outEdges[vertex];
+        for (int i = 0, degree = outDegree[vertex]; i < degree; i++) {
+            action.accept(edgeTarget[edges[i]]);
+        }
+    }
+
+    /**
+     * Perform an action on the source of each incoming edge of a vertex. A source is reported
+     * once per edge, thus more than once in the presence of multiple edges.
+     *
+     * @param vertex the vertex
+     * @param action the action to perform
+     */
+    public void forEachPredecessor(int vertex, IntConsumer action)
+    {
+        assertVertexExist(vertex);
+        int[] edges = inEdges[vertex];
+        for (int i = 0, degree = inDegree[vertex]; i < degree; i++) {
+            action.accept(edgeSource[edges[i]]);
+        }
+    }
+
+    /**
+     * Perform an action on each outgoing edge of a vertex.
+     *
+     * @param vertex the vertex
+     * @param action the action to perform
+     */
+    public void forEachOutgoingEdge(int vertex, IntConsumer action)
+    {
+        assertVertexExist(vertex);
+        int[] edges = outEdges[vertex];
+        for (int i = 0, degree = outDegree[vertex]; i < degree; i++) {
+            action.accept(edges[i]);
+        }
+    }
+
+    /**
+     * Perform an action on each incoming edge of a vertex.
+     *
+     * @param vertex the vertex
+     * @param action the action to perform
+     */
+    public void forEachIncomingEdge(int vertex, IntConsumer action)
+    {
+        assertVertexExist(vertex);
+        int[] edges = inEdges[vertex];
+        for (int i = 0, degree = inDegree[vertex]; i < degree; i++) {
+            action.accept(edges[i]);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Integer> getAllEdges(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        int s = sourceVertex;
+        int t = targetVertex;
+        ArrayUnenforcedSet<Integer> result = new ArrayUnenforcedSet<>();
+        int[] edges = outEdges[s];
+        for (int i = 0; i < outDegree[s]; i++) {
+            if (edgeTarget[edges[i]] == t) {
+                result.add(edges[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        int s = sourceVertex;
+        int t = targetVertex;
+        int[] edges = outEdges[s];
+        for (int i = 0; i < outDegree[s]; i++) {
+            if (edgeTarget[edges[i]] == t) {
+                return edges[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EdgeFactory<Integer, Integer> getEdgeFactory()
+    {
+        return (s, t) -> {
+            throw new UnsupportedOperationException("edges are created by the graph");
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer addEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        assertVertexExist(sourceVertex);
+        assertVertexExist(targetVertex);
+        return addEdge(sourceVertex.intValue(), targetVertex.intValue());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Since edges are created by the graph, the only edge which can be added using this method is
+     * the edge {@link #edgeCount()}.
+     *
+     * @throws IllegalArgumentException if the edge is not contained in the graph and is not equal
+     *         to {@link #edgeCount()}
+     */
+    @Override
+    public boolean addEdge(Integer sourceVertex, Integer targetVertex, Integer e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        } else if (containsEdge(e)) {
+            return false;
+        }
+        assertVertexExist(sourceVertex);
+        assertVertexExist(targetVertex);
+        if (e != edgeCount) {
+            throw new IllegalArgumentException("edges must be consecutive integers");
+        }
+        addEdge(sourceVertex.intValue(), targetVertex.intValue());
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Since vertices must be consecutive integers, the only vertex which can be added using this
+     * method is the vertex {@link #vertexCount()}.
+     *
+     * @throws IllegalArgumentException if the vertex is not contained in the graph and is not
+     *         equal to {@link #vertexCount()}
+     */
+    @Override
+    public boolean addVertex(Integer v)
+    {
+        if (v == null) {
+            throw new NullPointerException();
+        } else if (containsVertex(v)) {
+            return false;
+        } else if (v != vertexCount) {
+            throw new IllegalArgumentException("vertices must be consecutive integers");
+        }
+        addVertex();
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsEdge(Integer e)
+    {
+        return e != null && e >= 0 && e < edgeCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsVertex(Integer v)
+    {
+        return v != null && v >= 0 && v < vertexCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Integer> edgeSet()
+    {
+        if (edgeSetView == null) {
+            edgeSetView = new EdgeSet();
+        }
+        return edgeSetView;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int degreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return degreeOf(vertex.intValue());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Integer> edgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return new VertexEdgeSet(vertex, true, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int inDegreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return inDegreeOf(vertex.intValue());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Integer> incomingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return new VertexEdgeSet(vertex, false, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int outDegreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return outDegreeOf(vertex.intValue());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Integer> outgoingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return new VertexEdgeSet(vertex, true, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeAllEdges(Collection<? extends Integer> edges)
+    {
+        throw new UnsupportedOperationException(REMOVAL_NOT_SUPPORTED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Integer> removeAllEdges(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(REMOVAL_NOT_SUPPORTED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeAllVertices(Collection<? extends Integer> vertices)
+    {
+        throw new UnsupportedOperationException(REMOVAL_NOT_SUPPORTED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer removeEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(REMOVAL_NOT_SUPPORTED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeEdge(Integer e)
+    {
+        throw new UnsupportedOperationException(REMOVAL_NOT_SUPPORTED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(REMOVAL_NOT_SUPPORTED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Integer> vertexSet()
+    {
+        if (vertexSetView == null) {
+            vertexSetView = new VertexSet();
+        }
+        return vertexSetView;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getEdgeSource(Integer e)
+    {
+        assertEdgeExist(e);
+        return edgeSource[e];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getEdgeTarget(Integer e)
+    {
+        assertEdgeExist(e);
+        return edgeTarget[e];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphType getType()
+    {
+        return new DefaultGraphType.Builder()
+            .directed().weighted(weighted).allowMultipleEdges(true).allowSelfLoops(true)
+            .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getEdgeWeight(Integer e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        return getEdgeWeight(e.intValue());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setEdgeWeight(Integer e, double weight)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        setEdgeWeight(e.intValue(), weight);
+    }
+
+    private void assertVertexExist(int v)
+    {
+        if (v < 0 || v >= vertexCount) {
+            throw new IllegalArgumentException("no such vertex in graph: " + v);
+        }
+    }
+
+    private void assertEdgeExist(Integer e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        assertEdgeExist(e.intValue());
+    }
+
+    private void assertEdgeExist(int e)
+    {
+        if (e < 0 || e >= edgeCount) {
+            throw new IllegalArgumentException("no such edge in graph: " + e);
+        }
+    }
+
+    private static int[] append(int[] a, int size, int value)
+    {
+        if (size == a.length) {
+            a = Arrays.copyOf(a, Math.max(2, 2 * size));
+        }
+        a[size] = value;
+        return a;
+    }
+
+    /**
+     * The vertex set view.
+     */
+    private class VertexSet
+        extends AbstractSet<Integer>
+    {
+        @Override
+        public Iterator<Integer> iterator()
+        {
+            return new IntRangeIterator(vertexCount);
+        }
+
+        @Override
+        public int size()
+        {
+            return vertexCount;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return o instanceof Integer && containsVertex((Integer) o);
+        }
+    }
+
+    /**
+     * The edge set view.
+     */
+    private class EdgeSet
+        extends AbstractSet<Integer>
+    {
+        @Override
+        public Iterator<Integer> iterator()
+        {
+            return new IntRangeIterator(edgeCount);
+        }
+
+        @Override
+        public int size()
+        {
+            return edgeCount;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return o instanceof Integer && containsEdge((Integer) o);
+        }
+    }
+
+    /**
+     * A view of the edges touching a vertex. When both directions are included self-loops are
+     * reported only once.
+     */
+    private class VertexEdgeSet
+        extends AbstractSet<Integer>
+    {
+        private final int vertex;
+        private final boolean out;
+        private final boolean in;
+
+        VertexEdgeSet(int vertex, boolean out, boolean in)
+        {
+            this.vertex = vertex;
+            this.out = out;
+            this.in = in;
+        }
+
+        @Override
+        public Iterator<Integer> iterator()
+        {
+            return new Iterator<Integer>()
+            {
+                private int outPos = out ? 0 : outDegree[vertex];
+                private int inPos = in ? skipLoops(0) : inDegree[vertex];
+
+                @Override
+                public boolean hasNext()
+                {
+                    return outPos < outDegree[vertex] || inPos < inDegree[vertex];
+                }
+
+                @Override
+                public Integer next()
+                {
+                    if (outPos < outDegree[vertex]) {
+                        return outEdges[vertex][outPos++];
+                    }
+                    if (inPos < inDegree[vertex]) {
+                        int e = inEdges[vertex][inPos];
+                        inPos = skipLoops(inPos + 1);
+                        return e;
+                    }
+                    throw new NoSuchElementException();
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            int size = out ? outDegree[vertex] : 0;
+            if (in) {
+                for (int i = 0; i < inDegree[vertex]; i++) {
+                    if (!out || edgeSource[inEdges[vertex][i]] != vertex) {
+                        size++;
+                    }
+                }
+            }
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Integer) || !containsEdge((Integer) o)) {
+                return false;
+            }
+            int e = (Integer) o;
+            return (out && edgeSource[e] == vertex) || (in && edgeTarget[e] == vertex);
+        }
+
+        private int skipLoops(int pos)
+        {
+            if (out) {
+                while (pos < inDegree[vertex] && edgeSource[inEdges[vertex][pos]] == vertex) {
+                    pos++;
+                }
+            }
+            return pos;
+        }
+    }
+
+    /**
+     * Iterator over the integers of a range starting from zero.
+     */
+    private static class IntRangeIterator
+        implements Iterator<Integer>
+    {
+        private final int end;
+        private int next;
+
+        IntRangeIterator(int end)
+        {
+            this.end = end;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return next < end;
+        }
+
+        @Override
+        public Integer next()
+        {
+            if (next >= end) {
+                throw new NoSuchElementException();
+            }
+            return next++;
+        }
+    }
+}
+
+// End IntDirectedGraph.java
@@ -55,6 +55,8 @@ interface IntrusiveEdgesSpecifics<V, E>
      * Add a new edge.
      * 
      * @param e the edge to add
+     * @param sourceVertex the source vertex of the edge
+     * @param targetVertex the target vertex of the edge
      */
     void add(E e, V sourceVertex, V targetVertex);
 
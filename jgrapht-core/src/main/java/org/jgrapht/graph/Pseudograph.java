@@ -63,7 +63,20 @@ public class Pseudograph<V, E>
      */
     public Pseudograph(EdgeFactory<V, E> ef, boolean weighted)
     {
-        super(ef, false, true, true, weighted);
+        this(ef, weighted, false);
+    }
+
+    /**
+     * Creates a new pseudograph with the specified edge factory, optionally storing the source,
+     * target and weight of the edges in columns indexed by a dense edge index.
+     *
+     * @param ef the edge factory of the new graph.
+     * @param weighted if true the graph supports edge weights
+     * @param columnEdges if true the edges are stored in columns
+     */
+    public Pseudograph(EdgeFactory<V, E> ef, boolean weighted, boolean columnEdges)
+    {
+        super(ef, false, true, true, weighted, columnEdges);
     }
 
     /**
@@ -0,0 +1,132 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.specifics;
+
+import java.util.*;
+
+import org.jgrapht.graph.*;
+
+/**
+ * Compact fast lookup implementation of DirectedSpecifics. Like {@link FastLookupDirectedSpecifics}
+ * this class maintains an index from pairs of vertices to edges in order to improve the
+ * performance of methods such as getEdge(V u, V v), containsEdge(V u, V v) and addEdge(V u, V v),
+ * but it does not allocate any object per pair of vertices. Vertices are assigned integer
+ * identifiers and each ordered pair of identifiers is packed into a {@code long} key of an
+ * open-addressing hash table, whose value is the edge itself or, only for multiple edges, a list
+ * of edges. This considerably reduces the memory consumption of the index on dense graphs.
+ *
+ * <p>
+ * The specifics can be used by a graph by overriding
+ * {@link AbstractBaseGraph#createSpecifics(boolean)}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class CompactLookupDirectedSpecifics<V, E>
+    extends DirectedSpecifics<V, E>
+{
+    private static final long serialVersionUID = -3571530846513458462L;
+
+    private VertexPairEdgeIndex<V, E> edgeIndex;
+
+    /**
+     * Construct a new compact fast lookup directed specifics.
+     * 
+     * @param abstractBaseGraph the graph for which these specifics are for
+     */
+    public CompactLookupDirectedSpecifics(AbstractBaseGraph<V, E> abstractBaseGraph)
+    {
+        this(abstractBaseGraph, new LinkedHashMap<>(), new ArrayUnenforcedSetEdgeSetFactory<>());
+    }
+
+    /**
+     * Construct a new compact fast lookup directed specifics.
+     * 
+     * @param abstractBaseGraph the graph for which these specifics are for
+     * @param vertexMap map for the storage of vertex edge sets
+     */
+    public CompactLookupDirectedSpecifics(
+        AbstractBaseGraph<V, E> abstractBaseGraph, Map<V, DirectedEdgeContainer<V, E>> vertexMap)
+    {
+        this(abstractBaseGraph, vertexMap, new ArrayUnenforcedSetEdgeSetFactory<>());
+    }
+
+    /**
+     * Construct a new compact fast lookup directed specifics.
+     * 
+     * @param abstractBaseGraph the graph for which these specifics are for
+     * @param vertexMap map for the storage of vertex edge sets
+     * @param edgeSetFactory factory for the creation of vertex edge sets
+     */
+    public CompactLookupDirectedSpecifics(
+        AbstractBaseGraph<V, E> abstractBaseGraph, Map<V, DirectedEdgeContainer<V, E>> vertexMap,
+        EdgeSetFactory<V, E> edgeSetFactory)
+    {
+        super(abstractBaseGraph, vertexMap, edgeSetFactory);
+        this.edgeIndex = new VertexPairEdgeIndex<>(true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        if (abstractBaseGraph.containsVertex(sourceVertex)
+            && abstractBaseGraph.containsVertex(targetVertex))
+        {
+            return edgeIndex.getAllEdges(sourceVertex, targetVertex);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E getEdge(V sourceVertex, V targetVertex)
+    {
+        return edgeIndex.getEdge(sourceVertex, targetVertex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addEdgeToTouchingVertices(E e)
+    {
+        super.addEdgeToTouchingVertices(e);
+        edgeIndex.add(abstractBaseGraph.getEdgeSource(e), abstractBaseGraph.getEdgeTarget(e), e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeEdgeFromTouchingVertices(E e)
+    {
+        super.removeEdgeFromTouchingVertices(e);
+        edgeIndex.remove(
+            abstractBaseGraph.getEdgeSource(e), abstractBaseGraph.getEdgeTarget(e), e);
+    }
+}
+
+// End CompactLookupDirectedSpecifics.java
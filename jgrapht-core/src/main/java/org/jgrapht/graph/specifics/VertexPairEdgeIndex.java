@@ -0,0 +1,472 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.specifics;
+
+import java.io.*;
+import java.util.*;
+
+import org.jgrapht.util.*;
+
+/**
+ * An index from pairs of vertices to the edges connecting them, without any object per pair or
+ * per vertex.
+ *
+ * <p>
+ * Vertices which are endpoints of at least one edge are assigned a dense integer identifier, kept
+ * in an open-addressing hash table of vertices with a parallel array of identifiers. Each pair of
+ * identifiers is packed into a {@code long} key of a second open-addressing hash table. Both
+ * tables use linear probing. The value of a key is the edge itself, or a list of edges only if the
+ * pair is connected by multiple edges. Identifiers of vertices which are no longer endpoints of
+ * any edge are reused.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+class VertexPairEdgeIndex<V, E>
+    implements Serializable
+{
+    private static final long serialVersionUID = -2468027425410766254L;
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final long EMPTY = -1L;
+
+    private final boolean directed;
+
+    /*
+     * The slots of the tables depend on the hash codes of the vertices, which are not necessarily
+     * stable across serialization. Thus the tables are transient and rebuilt from the serialized
+     * pairs of vertices and their edges.
+     */
+
+    // vertex table, mapping vertices to identifiers
+    private transient Object[] vertices;
+    private transient int[] vertexIds;
+    private transient int vertexCount;
+    private transient int vertexMask;
+
+    // number of pairs per identifier
+    private transient int[] pairs;
+    private transient int[] freeIds;
+    private transient int freeIdCount;
+    private transient int nextId;
+
+    // hash table
+    private transient long[] keys;
+    private transient Object[] values;
+    private transient int size;
+    private transient int mask;
+
+    /**
+     * Create a new index.
+     *
+     * @param directed whether the pairs of vertices are ordered
+     */
+    VertexPairEdgeIndex(boolean directed)
+    {
+        this.directed = directed;
+        initialize();
+    }
+
+    private void initialize()
+    {
+        createVertexTable(2 * DEFAULT_CAPACITY);
+        this.pairs = new int[DEFAULT_CAPACITY];
+        this.freeIds = new int[DEFAULT_CAPACITY];
+        this.freeIdCount = 0;
+        this.nextId = 0;
+        createTable(2 * DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Get an edge connecting two vertices.
+     *
+     * @param u the first vertex
+     * @param v the second vertex
+     * @return an edge connecting the vertices or null if there is none
+     */
+    E getEdge(V u, V v)
+    {
+        int slot = slotOf(u, v);
+        if (slot == -1) {
+            return null;
+        }
+        Object value = values[slot];
+        if (value instanceof MultipleEdges) {
+            value = ((MultipleEdges) value).get(0);
+        }
+        return TypeUtil.uncheckedCast(value, null);
+    }
+
+    /**
+     * Get all edges connecting two vertices.
+     *
+     * @param u the first vertex
+     * @param v the second vertex
+     * @return a new set with the edges connecting the vertices
+     */
+    Set<E> getAllEdges(V u, V v)
+    {
+        int slot = slotOf(u, v);
+        if (slot == -1) {
+            return Collections.emptySet();
+        }
+        Object value = values[slot];
+        if (value instanceof MultipleEdges) {
+            return TypeUtil.uncheckedCast(new ArrayUnenforcedSet<>((MultipleEdges) value), null);
+        }
+        ArrayUnenforcedSet<E> edges = new ArrayUnenforcedSet<>();
+        edges.add(TypeUtil.uncheckedCast(value, null));
+        return edges;
+    }
+
+    /**
+     * Add an edge connecting two vertices.
+     *
+     * @param u the first vertex
+     * @param v the second vertex
+     * @param e the edge
+     */
+    void add(V u, V v, E e)
+    {
+        int uId = acquireId(u);
+        int vId = acquireId(v);
+        long key = key(uId, vId);
+
+        int slot = hash(key) & mask;
+        long k;
+        while ((k = keys[slot]) != EMPTY) {
+            if (k == key) {
+                Object value = values[slot];
+                if (value instanceof MultipleEdges) {
+                    ((MultipleEdges) value).add(e);
+                } else {
+                    MultipleEdges edges = new MultipleEdges();
+                    edges.add(value);
+                    edges.add(e);
+                    values[slot] = edges;
+                }
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = e;
+        pairs[uId]++;
+        if (uId != vId) {
+            pairs[vId]++;
+        }
+        if (2 * ++size > keys.length) {
+            rehash(2 * keys.length);
+        }
+    }
+
+    /**
+     * Remove an edge connecting two vertices.
+     *
+     * @param u the first vertex
+     * @param v the second vertex
+     * @param e the edge
+     */
+    void remove(V u, V v, E e)
+    {
+        int slot = slotOf(u, v);
+        if (slot == -1) {
+            return;
+        }
+        Object value = values[slot];
+        if (value instanceof MultipleEdges) {
+            MultipleEdges edges = (MultipleEdges) value;
+            edges.remove(e);
+            if (edges.size() == 1) {
+                values[slot] = edges.get(0);
+            }
+            return;
+        }
+        if (!value.equals(e)) {
+            return;
+        }
+
+        removeSlot(slot);
+        size--;
+        releaseId(u);
+        if (!u.equals(v)) {
+            releaseId(v);
+        }
+    }
+
+    private int slotOf(V u, V v)
+    {
+        int uId = idOf(u);
+        if (uId == -1) {
+            return -1;
+        }
+        int vId = idOf(v);
+        if (vId == -1) {
+            return -1;
+        }
+        long key = key(uId, vId);
+        int slot = hash(key) & mask;
+        long k;
+        while ((k = keys[slot]) != EMPTY) {
+            if (k == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private long key(int uId, int vId)
+    {
+        if (!directed && uId > vId) {
+            return ((long) vId << 32) | uId;
+        }
+        return ((long) uId << 32) | vId;
+    }
+
+    private static int hash(long key)
+    {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int hash(Object v)
+    {
+        int h = v.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private int vertexSlotOf(Object v)
+    {
+        int slot = hash(v) & vertexMask;
+        Object w;
+        while ((w = vertices[slot]) != null) {
+            if (w.equals(v)) {
+                return slot;
+            }
+            slot = (slot + 1) & vertexMask;
+        }
+        return -1;
+    }
+
+    private int idOf(Object v)
+    {
+        int slot = vertexSlotOf(v);
+        return slot == -1 ? -1 : vertexIds[slot];
+    }
+
+    private int acquireId(V v)
+    {
+        int slot = hash(v) & vertexMask;
+        Object w;
+        while ((w = vertices[slot]) != null) {
+            if (w.equals(v)) {
+                return vertexIds[slot];
+            }
+            slot = (slot + 1) & vertexMask;
+        }
+
+        int newId;
+        if (freeIdCount > 0) {
+            newId = freeIds[--freeIdCount];
+        } else {
+            newId = nextId++;
+            if (newId == pairs.length) {
+                pairs = Arrays.copyOf(pairs, 2 * pairs.length);
+            }
+        }
+        vertices[slot] = v;
+        vertexIds[slot] = newId;
+        if (2 * ++vertexCount > vertices.length) {
+            rehashVertices(2 * vertices.length);
+        }
+        return newId;
+    }
+
+    private void releaseId(V v)
+    {
+        int slot = vertexSlotOf(v);
+        int id = vertexIds[slot];
+        if (--pairs[id] == 0) {
+            removeVertexSlot(slot);
+            vertexCount--;
+            if (freeIdCount == freeIds.length) {
+                freeIds = Arrays.copyOf(freeIds, 2 * freeIds.length);
+            }
+            freeIds[freeIdCount++] = id;
+        }
+    }
+
+    private void createTable(int capacity)
+    {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    private void rehash(int capacity)
+    {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        createTable(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != EMPTY) {
+                int slot = hash(key) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /*
+     * Remove a slot by shifting back the following entries of its cluster.
+     */
+    private void removeSlot(int slot)
+    {
+        int free = slot;
+        int next = (free + 1) & mask;
+        long key;
+        while ((key = keys[next]) != EMPTY) {
+            int home = hash(key) & mask;
+            // move the entry if its home slot is not cyclically in (free, next]
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                keys[free] = key;
+                values[free] = values[next];
+                free = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[free] = EMPTY;
+        values[free] = null;
+    }
+
+    private void createVertexTable(int capacity)
+    {
+        vertices = new Object[capacity];
+        vertexIds = new int[capacity];
+        vertexMask = capacity - 1;
+    }
+
+    private void rehashVertices(int capacity)
+    {
+        Object[] oldVertices = vertices;
+        int[] oldIds = vertexIds;
+        createVertexTable(capacity);
+        for (int i = 0; i < oldVertices.length; i++) {
+            Object v = oldVertices[i];
+            if (v != null) {
+                int slot = hash(v) & vertexMask;
+                while (vertices[slot] != null) {
+                    slot = (slot + 1) & vertexMask;
+                }
+                vertices[slot] = v;
+                vertexIds[slot] = oldIds[i];
+            }
+        }
+    }
+
+    /*
+     * Remove a slot of the vertex table by shifting back the following entries of its cluster.
+     */
+    private void removeVertexSlot(int slot)
+    {
+        int free = slot;
+        int next = (free + 1) & vertexMask;
+        Object v;
+        while ((v = vertices[next]) != null) {
+            int home = hash(v) & vertexMask;
+            if (((next - home) & vertexMask) >= ((next - free) & vertexMask)) {
+                vertices[free] = v;
+                vertexIds[free] = vertexIds[next];
+                free = next;
+            }
+            next = (next + 1) & vertexMask;
+        }
+        vertices[free] = null;
+    }
+
+    private void writeObject(ObjectOutputStream out)
+        throws IOException
+    {
+        out.defaultWriteObject();
+
+        Object[] vertexOf = new Object[nextId];
+        for (int i = 0; i < vertices.length; i++) {
+            if (vertices[i] != null) {
+                vertexOf[vertexIds[i]] = vertices[i];
+            }
+        }
+
+        out.writeInt(size);
+        for (int slot = 0; slot < keys.length; slot++) {
+            long key = keys[slot];
+            if (key == EMPTY) {
+                continue;
+            }
+            out.writeObject(vertexOf[(int) (key >>> 32)]);
+            out.writeObject(vertexOf[(int) key]);
+            Object value = values[slot];
+            if (value instanceof MultipleEdges) {
+                MultipleEdges edges = (MultipleEdges) value;
+                out.writeInt(edges.size());
+                for (Object e : edges) {
+                    out.writeObject(e);
+                }
+            } else {
+                out.writeInt(1);
+                out.writeObject(value);
+            }
+        }
+    }
+
+    private void readObject(ObjectInputStream in)
+        throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+        initialize();
+
+        int pairCount = in.readInt();
+        for (int i = 0; i < pairCount; i++) {
+            V u = TypeUtil.uncheckedCast(in.readObject(), null);
+            V v = TypeUtil.uncheckedCast(in.readObject(), null);
+            int edgeCount = in.readInt();
+            for (int j = 0; j < edgeCount; j++) {
+                add(u, v, TypeUtil.uncheckedCast(in.readObject(), null));
+            }
+        }
+    }
+
+    /*
+     * The edges of a pair connected by more than one edge.
+     */
+    private static class MultipleEdges
+        extends ArrayList<Object>
+    {
+        private static final long serialVersionUID = 6401858216383734935L;
+    }
+}
+
+// End VertexPairEdgeIndex.java
@@ -0,0 +1,128 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.jgrapht.Graph;
+import org.jgrapht.generate.GnmRandomGraphGenerator;
+import org.jgrapht.graph.CSRGraph;
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.DirectedPseudograph;
+import org.jgrapht.graph.IntegerVertexFactory;
+import org.jgrapht.graph.Pseudograph;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ParallelConnectivityInspector}.
+ *
+ * @author agent
+ */
+public class ParallelConnectivityInspectorTest
+{
+    @Test
+    public void testSmallGraph()
+    {
+        Graph<String, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        g.addVertex("a");
+        g.addVertex("b");
+        g.addVertex("c");
+        g.addVertex("d");
+        g.addEdge("a", "b");
+        g.addEdge("c", "c");
+
+        ParallelConnectivityInspector<String, DefaultEdge> inspector =
+            new ParallelConnectivityInspector<>(g);
+        assertFalse(inspector.isGraphConnected());
+        assertEquals(3, inspector.getNumberOfComponents());
+        assertTrue(inspector.pathExists("a", "b"));
+        assertFalse(inspector.pathExists("a", "c"));
+        assertEquals(new HashSet<>(Arrays.asList("a", "b")), inspector.connectedSetOf("b"));
+        assertEquals(0, inspector.getComponent("a"));
+
+        g.addEdge("b", "c");
+        g.addEdge("d", "c");
+        assertTrue(new ParallelConnectivityInspector<>(g).isGraphConnected());
+        assertFalse(
+            new ParallelConnectivityInspector<>(new Pseudograph<>(DefaultEdge.class))
+                .isGraphConnected());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingVertex()
+    {
+        Graph<String, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        g.addVertex("a");
+        new ParallelConnectivityInspector<>(g).getComponent("b");
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Random rng = new Random(11);
+            for (int i = 0; i < 10; i++) {
+                Graph<Integer, DefaultEdge> g = i % 2 == 0
+                    ? new Pseudograph<>(DefaultEdge.class)
+                    : new DirectedPseudograph<>(DefaultEdge.class);
+                new GnmRandomGraphGenerator<Integer, DefaultEdge>(20000, 9000 + 1000 * i, rng,
+                    true, true).generateGraph(g, new IntegerVertexFactory(), null);
+
+                Set<Set<Integer>> expected =
+                    new HashSet<>(new ConnectivityInspector<>(g).connectedSets());
+                assertComponents(expected, new ParallelConnectivityInspector<>(g));
+                assertComponents(expected, new ParallelConnectivityInspector<>(g, pool));
+                assertComponents(
+                    expected, new ParallelConnectivityInspector<>(new CSRGraph<>(g), pool));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void assertComponents(
+        Set<Set<Integer>> expected, ParallelConnectivityInspector<Integer, DefaultEdge> inspector)
+    {
+        assertEquals(expected.size(), inspector.getNumberOfComponents());
+        assertEquals(expected, new HashSet<>(inspector.connectedSets()));
+
+        // components are numbered in the order of their minimum vertex index
+        int[] labels = inspector.getComponentLabels();
+        int next = 0;
+        for (int v = 0; v < labels.length; v++) {
+            assertTrue(labels[v] <= next);
+            if (labels[v] == next) {
+                next++;
+            }
+            assertTrue(
+                inspector.connectedSets().get(labels[v]).contains(
+                    inspector.getIndexedGraph().getVertex(v)));
+        }
+    }
+}
+
+// End ParallelConnectivityInspectorTest.java
@@ -50,7 +50,8 @@ public class StrongConnectivityAlgorithmTest
     public void testStrongConnectivityClasses()
     {
         Class<?>[] strongConnectivityAlgorithmClasses =
-            { GabowStrongConnectivityInspector.class, KosarajuStrongConnectivityInspector.class };
+            { GabowStrongConnectivityInspector.class, KosarajuStrongConnectivityInspector.class,
+                PearceStrongConnectivityInspector.class };
         for (Class<?> strongConnectivityAlgorithm : strongConnectivityAlgorithmClasses) {
             this.testStronglyConnected1(strongConnectivityAlgorithm);
             this.testStronglyConnected2(strongConnectivityAlgorithm);
@@ -286,6 +287,61 @@ public class StrongConnectivityAlgorithmTest
             condensation.toString());
     }
 
+    public void testPearceRandomGraphs()
+    {
+        Random rng = new Random(5);
+        for (int i = 0; i < 20; i++) {
+            Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(100, 50 + 10 * i, rng, true, true)
+                .generateGraph(g, new IntegerVertexFactory(), null);
+
+            PearceStrongConnectivityInspector<Integer, DefaultEdge> inspector =
+                new PearceStrongConnectivityInspector<>(g);
+            Set<Set<Integer>> expected = new HashSet<>(
+                new KosarajuStrongConnectivityInspector<>(g).stronglyConnectedSets());
+            assertEquals(expected, new HashSet<>(inspector.stronglyConnectedSets()));
+            assertEquals(expected.size(), inspector.getNumberOfComponents());
+
+            // labels are consistent with the sets and form a reverse topological order
+            int[] labels = inspector.getComponentLabels();
+            List<Set<Integer>> sets = inspector.stronglyConnectedSets();
+            for (Integer v : g.vertexSet()) {
+                int c = inspector.getComponent(v);
+                assertEquals(c, labels[inspector.getVertexIndex(v)]);
+                assertEquals(v, inspector.getVertex(inspector.getVertexIndex(v)));
+                assertTrue(sets.get(c).contains(v));
+            }
+            for (DefaultEdge e : g.edgeSet()) {
+                assertTrue(
+                    inspector.getComponent(g.getEdgeSource(e)) >= inspector
+                        .getComponent(g.getEdgeTarget(e)));
+            }
+        }
+    }
+
+    public void testPearceDeepGraph()
+    {
+        final int n = 200000;
+        Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(DefaultEdge.class);
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 1; i < n; i++) {
+            g.addEdge(i - 1, i);
+        }
+
+        PearceStrongConnectivityInspector<Integer, DefaultEdge> inspector =
+            new PearceStrongConnectivityInspector<>(g);
+        assertEquals(n, inspector.getNumberOfComponents());
+        assertEquals(0, inspector.getComponent(n - 1));
+        assertEquals(n - 1, inspector.getComponent(0));
+
+        g.addEdge(n - 1, 0);
+        inspector = new PearceStrongConnectivityInspector<>(g);
+        assertTrue(inspector.isStronglyConnected());
+        assertEquals(n, inspector.stronglyConnectedSets().get(0).size());
+    }
+
     private <V, E> StrongConnectivityAlgorithm<V, E> getStrongConnectivityInspector(
         Graph<V, E> graph, Class<?> strongConnectivityAlgorithm)
     {
@@ -293,6 +349,8 @@ public class StrongConnectivityAlgorithmTest
             return new GabowStrongConnectivityInspector<>(graph);
         else if (strongConnectivityAlgorithm == KosarajuStrongConnectivityInspector.class)
             return new KosarajuStrongConnectivityInspector<>(graph);
+        else if (strongConnectivityAlgorithm == PearceStrongConnectivityInspector.class)
+            return new PearceStrongConnectivityInspector<>(graph);
         else
             throw new IllegalArgumentException("Unknown strongConnectivityInspectorClass");
     }
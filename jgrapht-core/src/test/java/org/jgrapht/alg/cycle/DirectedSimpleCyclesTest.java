@@ -19,7 +19,15 @@
 
 package org.jgrapht.alg.cycle;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
 
 import org.jgrapht.*;
 import org.jgrapht.graph.*;
@@ -48,6 +56,239 @@ public class DirectedSimpleCyclesTest
         testAlgorithm(hawickJamesFinder);
     }
 
+    @Test
+    public void testStreaming()
+    {
+        List<Supplier<DirectedSimpleCycles<Integer, DefaultEdge>>> finders = finders();
+        Random rng = new Random(17);
+        for (int n = 1; n <= 8; n++) {
+            Graph<Integer, DefaultEdge> graph =
+                new DefaultDirectedGraph<>(new ClassBasedEdgeFactory<>(DefaultEdge.class));
+            for (int i = 0; i < n; i++) {
+                graph.addVertex(i);
+            }
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    if (rng.nextDouble() < 0.4) {
+                        graph.addEdge(i, j);
+                    }
+                }
+            }
+
+            for (Supplier<DirectedSimpleCycles<Integer, DefaultEdge>> supplier : finders) {
+                DirectedSimpleCycles<Integer, DefaultEdge> finder = supplier.get();
+                finder.setGraph(graph);
+                Set<List<Integer>> all = canonical(finder.findSimpleCycles());
+                for (int maxLength = 1; maxLength <= n; maxLength++) {
+                    Set<List<Integer>> expected = new HashSet<>();
+                    for (List<Integer> cycle : all) {
+                        if (cycle.size() <= maxLength) {
+                            expected.add(cycle);
+                        }
+                    }
+                    List<List<Integer>> found = new ArrayList<>();
+                    assertTrue(finder.findSimpleCycles(cycle -> {
+                        found.add(new ArrayList<>(cycle));
+                        return true;
+                    }, maxLength));
+                    assertEquals(expected.size(), found.size());
+                    assertEquals(expected, canonical(found));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testEarlyTermination()
+    {
+        Graph<Integer, DefaultEdge> graph =
+            new DefaultDirectedGraph<>(new ClassBasedEdgeFactory<>(DefaultEdge.class));
+        for (int i = 0; i < 8; i++) {
+            graph.addVertex(i);
+        }
+        for (int i = 0; i < 8; i++) {
+            for (int j = 0; j < 8; j++) {
+                graph.addEdge(i, j);
+            }
+        }
+
+        for (Supplier<DirectedSimpleCycles<Integer, DefaultEdge>> supplier : finders()) {
+            DirectedSimpleCycles<Integer, DefaultEdge> finder = supplier.get();
+            finder.setGraph(graph);
+
+            long[] count = new long[1];
+            finder.findSimpleCycles(cycle -> count[0]++);
+            assertEquals(RESULTS[8], count[0]);
+
+            List<List<Integer>> cycles = finder.findSimpleCycles(3, 10);
+            assertEquals(10, cycles.size());
+            for (List<Integer> cycle : cycles) {
+                assertTrue(cycle.size() <= 3);
+            }
+
+            count[0] = 0;
+            assertFalse(finder.findSimpleCycles(cycle -> ++count[0] < 5, Integer.MAX_VALUE));
+            assertEquals(5, count[0]);
+
+            finder.findSimpleCycles(cycle -> {
+                try {
+                    cycle.clear();
+                    fail("Reported cycles must be read-only");
+                } catch (UnsupportedOperationException e) {
+                    // expected
+                }
+                return false;
+            }, Integer.MAX_VALUE);
+        }
+    }
+
+    @Test
+    public void testParallelJohnson()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Random rng = new Random(7);
+            for (int n = 1; n <= 9; n++) {
+                Graph<Integer, DefaultEdge> graph = new DirectedPseudograph<>(DefaultEdge.class);
+                for (int i = 0; i < n; i++) {
+                    graph.addVertex(i);
+                }
+                for (int i = 0; i < n; i++) {
+                    for (int j = 0; j < n; j++) {
+                        if (rng.nextDouble() < 0.35) {
+                            graph.addEdge(i, j);
+                            if (rng.nextDouble() < 0.2) {
+                                graph.addEdge(i, j);
+                            }
+                        }
+                    }
+                }
+
+                List<List<Integer>> expected =
+                    new TiernanSimpleCycles<>(graph).findSimpleCycles();
+                List<List<Integer>> actual =
+                    new JohnsonSimpleCycles<>(graph, pool).findSimpleCycles();
+                assertEquals(expected.size(), actual.size());
+                assertEquals(canonical(expected), canonical(actual));
+
+                for (int maxLength = 1; maxLength <= n; maxLength++) {
+                    List<List<Integer>> bounded = new JohnsonSimpleCycles<>(graph, pool)
+                        .findSimpleCycles(maxLength, Integer.MAX_VALUE);
+                    int count = 0;
+                    for (List<Integer> cycle : expected) {
+                        if (cycle.size() <= maxLength) {
+                            count++;
+                        }
+                    }
+                    assertEquals(count, bounded.size());
+                }
+            }
+
+            Graph<Integer, DefaultEdge> complete =
+                new DefaultDirectedGraph<>(new ClassBasedEdgeFactory<>(DefaultEdge.class));
+            for (int i = 0; i < MAX_SIZE; i++) {
+                complete.addVertex(i);
+            }
+            for (int i = 0; i < MAX_SIZE; i++) {
+                for (int j = 0; j < MAX_SIZE; j++) {
+                    complete.addEdge(i, j);
+                }
+            }
+            JohnsonSimpleCycles<Integer, DefaultEdge> finder =
+                new JohnsonSimpleCycles<>(complete, pool);
+            assertEquals(RESULTS[MAX_SIZE], finder.findSimpleCycles().size());
+            assertEquals(100, finder.findSimpleCycles(MAX_SIZE, 100).size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelJohnsonPseudograph()
+    {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Graph<Integer, DefaultEdge> graph = new DirectedPseudograph<>(DefaultEdge.class);
+            for (int i = 0; i < 4; i++) {
+                graph.addVertex(i);
+            }
+            graph.addEdge(0, 1);
+            graph.addEdge(0, 1);
+            graph.addEdge(1, 0);
+            graph.addEdge(1, 2);
+            graph.addEdge(2, 0);
+            graph.addEdge(2, 0);
+            graph.addEdge(2, 2);
+            graph.addEdge(2, 2);
+            graph.addEdge(2, 3);
+            graph.addEdge(3, 2);
+
+            List<List<Integer>> sequential = new JohnsonSimpleCycles<>(graph).findSimpleCycles();
+            List<List<Integer>> parallel =
+                new JohnsonSimpleCycles<>(graph, pool).findSimpleCycles();
+            assertEquals(4, sequential.size());
+            assertEquals(sequential.size(), parallel.size());
+            assertEquals(
+                canonical(new TiernanSimpleCycles<>(graph).findSimpleCycles()),
+                canonical(parallel));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelJohnsonThrowingVisitor()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Graph<Integer, DefaultEdge> complete =
+                new DefaultDirectedGraph<>(new ClassBasedEdgeFactory<>(DefaultEdge.class));
+            for (int i = 0; i < MAX_SIZE; i++) {
+                complete.addVertex(i);
+            }
+            for (int i = 0; i < MAX_SIZE; i++) {
+                for (int j = 0; j < MAX_SIZE; j++) {
+                    complete.addEdge(i, j);
+                }
+            }
+
+            AtomicInteger calls = new AtomicInteger();
+            try {
+                new JohnsonSimpleCycles<>(complete, pool).findSimpleCycles(cycle -> {
+                    calls.incrementAndGet();
+                    throw new IllegalStateException("visitor failure");
+                }, Integer.MAX_VALUE);
+                fail("The visitor failure must be propagated");
+            } catch (IllegalStateException e) {
+                assertTrue(e.getMessage().contains("visitor failure"));
+            }
+            assertEquals(1, calls.get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static List<Supplier<DirectedSimpleCycles<Integer, DefaultEdge>>> finders()
+    {
+        return Arrays.asList(
+            TiernanSimpleCycles::new, TarjanSimpleCycles::new, JohnsonSimpleCycles::new,
+            SzwarcfiterLauerSimpleCycles::new, HawickJamesSimpleCycles::new);
+    }
+
+    /**
+     * Rotate each cycle so that it starts from its minimum vertex.
+     */
+    private static Set<List<Integer>> canonical(List<List<Integer>> cycles)
+    {
+        Set<List<Integer>> result = new HashSet<>();
+        for (List<Integer> cycle : cycles) {
+            List<Integer> rotated = new ArrayList<>(cycle);
+            Collections.rotate(rotated, -rotated.indexOf(Collections.min(rotated)));
+            result.add(rotated);
+        }
+        return result;
+    }
+
     private void testAlgorithm(DirectedSimpleCycles<Integer, DefaultEdge> finder)
     {
         Graph<Integer, DefaultEdge> graph =
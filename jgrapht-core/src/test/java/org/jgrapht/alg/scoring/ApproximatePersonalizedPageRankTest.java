@@ -0,0 +1,129 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.scoring;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+
+import junit.framework.*;
+
+/**
+ * Unit tests for ApproximatePersonalizedPageRank
+ * 
+ * @author agent
+ */
+public class ApproximatePersonalizedPageRankTest
+    extends TestCase
+{
+
+    public void testAgainstPowerIteration()
+    {
+        Random rng = new Random(3);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = directed
+                ? new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class)
+                : new WeightedPseudograph<>(DefaultWeightedEdge.class);
+            new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(60, 0.05, rng, true)
+                .generateGraph(g, new IntegerVertexFactory(), null);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, 1d + rng.nextInt(5));
+            }
+
+            Map<Integer, Double> seeds = new HashMap<>();
+            seeds.put(0, 2d);
+            seeds.put(7, 1d);
+            PageRank<Integer, DefaultWeightedEdge> exact =
+                new PageRank<>(g, seeds, 0.85, 1000, 1e-12, null);
+            ApproximatePersonalizedPageRank<Integer, DefaultWeightedEdge> approx =
+                new ApproximatePersonalizedPageRank<>(g, seeds, 0.85, 1e-9);
+
+            Map<Integer, Double> scores = approx.getScores();
+            assertEquals(g.vertexSet().size(), scores.size());
+            for (Integer v : g.vertexSet()) {
+                assertEquals(exact.getVertexScore(v), approx.getVertexScore(v), 1e-6);
+                assertTrue(approx.getVertexScore(v) <= exact.getVertexScore(v) + 1e-9);
+            }
+            assertTrue(approx.getPushCount() > 0);
+        }
+    }
+
+    public void testLocality()
+    {
+        Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        for (int i = 0; i < 1000; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i < 999; i++) {
+            g.addEdge(i, i + 1);
+        }
+
+        ApproximatePersonalizedPageRank<Integer, DefaultEdge> approx =
+            new ApproximatePersonalizedPageRank<>(g, 500);
+        assertTrue(approx.getNonZeroScores().size() < 100);
+        assertEquals(0d, approx.getVertexScore(0), 0d);
+        assertEquals(0.15, approx.getVertexScore(500), 0.01);
+    }
+
+    public void testBadParameters()
+    {
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        g.addVertex("1");
+
+        try {
+            new ApproximatePersonalizedPageRank<>(g, "2");
+            fail("No!");
+        } catch (IllegalArgumentException e) {
+        }
+
+        try {
+            new ApproximatePersonalizedPageRank<>(g, Collections.singletonMap("1", 1d), 0.85, 0d);
+            fail("No!");
+        } catch (IllegalArgumentException e) {
+        }
+
+        try {
+            new ApproximatePersonalizedPageRank<>(g, Collections.singletonMap("1", 1d), 1.5, 0.1);
+            fail("No!");
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testDampingFactorOneOnCycle()
+    {
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        g.addVertex("1");
+        g.addVertex("2");
+        g.addVertex("3");
+        g.addEdge("1", "2");
+        g.addEdge("2", "3");
+        g.addEdge("3", "1");
+        g.addEdge("1", "1");
+
+        try {
+            new ApproximatePersonalizedPageRank<>(g, Collections.singletonMap("1", 1d), 1.0, 0.1);
+            fail("No!");
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+}
+
+// End ApproximatePersonalizedPageRankTest.java
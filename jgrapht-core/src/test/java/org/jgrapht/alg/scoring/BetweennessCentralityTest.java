@@ -0,0 +1,183 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.scoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.jgrapht.Graph;
+import org.jgrapht.Graphs;
+import org.jgrapht.alg.interfaces.VertexScoringAlgorithm;
+import org.jgrapht.generate.GnpRandomGraphGenerator;
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jgrapht.graph.DirectedPseudograph;
+import org.jgrapht.graph.DirectedWeightedPseudograph;
+import org.jgrapht.graph.IntegerVertexFactory;
+import org.jgrapht.graph.Pseudograph;
+import org.jgrapht.graph.SimpleWeightedGraph;
+import org.jgrapht.graph.WeightedPseudograph;
+import org.junit.Test;
+
+/**
+ * Unit tests for betweenness centrality.
+ * 
+ * @author agent
+ */
+public class BetweennessCentralityTest
+{
+
+    @Test
+    public void testDirectedPath()
+    {
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d"));
+        g.addEdge("a", "b");
+        g.addEdge("b", "c");
+        g.addEdge("c", "d");
+
+        VertexScoringAlgorithm<String, Double> bc = new BetweennessCentrality<>(g);
+        assertEquals(0d, bc.getVertexScore("a"), 1e-9);
+        assertEquals(2d, bc.getVertexScore("b"), 1e-9);
+        assertEquals(2d, bc.getVertexScore("c"), 1e-9);
+        assertEquals(0d, bc.getVertexScore("d"), 1e-9);
+
+        bc = new BetweennessCentrality<>(g, true);
+        assertEquals(2d / 6, bc.getVertexScore("b"), 1e-9);
+    }
+
+    @Test
+    public void testUndirectedCycle()
+    {
+        Graph<String, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d"));
+        g.addEdge("a", "b");
+        g.addEdge("b", "c");
+        g.addEdge("c", "d");
+        g.addEdge("d", "a");
+        g.addEdge("a", "a");
+
+        VertexScoringAlgorithm<String, Double> bc = new BetweennessCentrality<>(g);
+        for (String v : g.vertexSet()) {
+            assertEquals(0.5, bc.getVertexScore(v), 1e-9);
+        }
+
+        bc = new BetweennessCentrality<>(g, true);
+        for (String v : g.vertexSet()) {
+            assertEquals(0.5 / 3, bc.getVertexScore(v), 1e-9);
+        }
+    }
+
+    @Test
+    public void testWeighted()
+    {
+        Graph<String, DefaultWeightedEdge> g = new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d"));
+        Graphs.addEdge(g, "a", "b", 1d);
+        Graphs.addEdge(g, "b", "c", 1d);
+        Graphs.addEdge(g, "a", "c", 3d);
+        Graphs.addEdge(g, "c", "d", 0.5);
+        Graphs.addEdge(g, "a", "d", 2.5);
+
+        VertexScoringAlgorithm<String, Double> bc = new BetweennessCentrality<>(g);
+        // a-c through b, a-d through b and c or directly, b-d through c
+        assertEquals(0d, bc.getVertexScore("a"), 1e-9);
+        assertEquals(1.5, bc.getVertexScore("b"), 1e-9);
+        assertEquals(1.5, bc.getVertexScore("c"), 1e-9);
+        assertEquals(0d, bc.getVertexScore("d"), 1e-9);
+    }
+
+    @Test
+    public void testParallel()
+    {
+        Random rng = new Random(19);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (boolean directed : new boolean[] { true, false }) {
+                for (boolean weighted : new boolean[] { true, false }) {
+                    Graph<Integer, DefaultWeightedEdge> g = createRandomGraph(directed, rng);
+                    if (weighted) {
+                        for (DefaultWeightedEdge e : g.edgeSet()) {
+                            g.setEdgeWeight(e, 1d + rng.nextInt(3));
+                        }
+                    } else {
+                        Graph<Integer, DefaultWeightedEdge> unweighted = directed
+                            ? new DirectedPseudograph<>(DefaultWeightedEdge.class)
+                            : new Pseudograph<>(DefaultWeightedEdge.class);
+                        Graphs.addGraph(unweighted, g);
+                        g = unweighted;
+                    }
+
+                    Map<Integer, Double> expected = new BetweennessCentrality<>(g).getScores();
+                    Map<Integer, Double> parallel =
+                        new BetweennessCentrality<>(g, false, pool).getScores();
+                    Map<Integer, Double> sampled = new BetweennessCentrality<>(
+                        g, false, g.vertexSet().size(), rng, pool).getScores();
+                    for (Integer v : g.vertexSet()) {
+                        assertEquals(expected.get(v), parallel.get(v), 1e-6);
+                        assertEquals(expected.get(v), sampled.get(v), 1e-6);
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testApproximation()
+    {
+        Random rng = new Random(23);
+        Graph<Integer, DefaultWeightedEdge> g = createRandomGraph(false, rng);
+        Map<Integer, Double> expected = new BetweennessCentrality<>(g, true).getScores();
+        Map<Integer, Double> approx =
+            new BetweennessCentrality<>(g, true, 40, rng, null).getScores();
+        double error = 0d;
+        double total = 0d;
+        for (Integer v : g.vertexSet()) {
+            error += Math.abs(expected.get(v) - approx.get(v));
+            total += expected.get(v);
+        }
+        assertTrue(error / total < 0.25);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeights()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, "a", "b", -1d);
+        new BetweennessCentrality<>(g).getScores();
+    }
+
+    private Graph<Integer, DefaultWeightedEdge> createRandomGraph(boolean directed, Random rng)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = directed
+            ? new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class)
+            : new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(80, 0.06, rng, true)
+            .generateGraph(g, new IntegerVertexFactory(), null);
+        return g;
+    }
+
+}
@@ -18,14 +18,24 @@
 package org.jgrapht.alg.scoring;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import org.jgrapht.Graph;
+import org.jgrapht.Graphs;
 import org.jgrapht.alg.interfaces.VertexScoringAlgorithm;
+import org.jgrapht.generate.GnpRandomGraphGenerator;
 import org.jgrapht.graph.AsUndirectedGraph;
 import org.jgrapht.graph.DefaultEdge;
 import org.jgrapht.graph.DefaultWeightedEdge;
 import org.jgrapht.graph.DirectedPseudograph;
 import org.jgrapht.graph.DirectedWeightedPseudograph;
+import org.jgrapht.graph.IntegerVertexFactory;
+import org.jgrapht.graph.Pseudograph;
+import org.jgrapht.graph.WeightedPseudograph;
 import org.junit.Test;
 
 /**
@@ -162,6 +172,72 @@ public class HarmonicCentralityTest
         assertEquals(0d, pr.getVertexScore("1"), 1e-9);
     }
 
+    @Test
+    public void testParallel()
+    {
+        Random rng = new Random(13);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (boolean directed : new boolean[] { true, false }) {
+                for (boolean weighted : new boolean[] { true, false }) {
+                    Graph<Integer, DefaultWeightedEdge> g = createRandomGraph(directed, rng);
+                    if (weighted) {
+                        for (DefaultWeightedEdge e : g.edgeSet()) {
+                            g.setEdgeWeight(e, 1d + rng.nextInt(10));
+                        }
+                    } else {
+                        Graph<Integer, DefaultWeightedEdge> unweighted = directed
+                            ? new DirectedPseudograph<>(DefaultWeightedEdge.class)
+                            : new Pseudograph<>(DefaultWeightedEdge.class);
+                        Graphs.addGraph(unweighted, g);
+                        g = unweighted;
+                    }
+                    for (boolean incoming : new boolean[] { true, false }) {
+                        Map<Integer, Double> expected =
+                            new HarmonicCentrality<>(g, incoming, true).getScores();
+                        Map<Integer, Double> parallel =
+                            new HarmonicCentrality<>(g, incoming, true, pool).getScores();
+                        int n = g.vertexSet().size();
+                        Map<Integer, Double> sequential =
+                            new HarmonicCentrality<>(g, incoming, true, n, rng, null).getScores();
+                        for (Integer v : g.vertexSet()) {
+                            assertEquals(expected.get(v), parallel.get(v), 1e-9);
+                            assertEquals(expected.get(v), sequential.get(v), 1e-9);
+                        }
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testApproximation()
+    {
+        Random rng = new Random(17);
+        Graph<Integer, DefaultWeightedEdge> g = createRandomGraph(false, rng);
+        Map<Integer, Double> expected = new HarmonicCentrality<>(g).getScores();
+        Map<Integer, Double> approx = new HarmonicCentrality<>(
+            g, false, true, 50, rng, ForkJoinPool.commonPool()).getScores();
+        double error = 0d;
+        for (Integer v : g.vertexSet()) {
+            assertTrue(approx.get(v) > 0d);
+            error += Math.abs(expected.get(v) - approx.get(v)) / expected.get(v);
+        }
+        assertTrue(error / g.vertexSet().size() < 0.1);
+    }
+
+    private Graph<Integer, DefaultWeightedEdge> createRandomGraph(boolean directed, Random rng)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = directed
+            ? new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class)
+            : new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(100, 0.08, rng, true)
+            .generateGraph(g, new IntegerVertexFactory(), null);
+        return g;
+    }
+
     private Graph<String, DefaultEdge> createInstance1()
     {
         DirectedPseudograph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
@@ -0,0 +1,179 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.scoring;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+
+import junit.framework.*;
+
+/**
+ * Unit tests for IncrementalPageRank
+ * 
+ * @author agent
+ */
+public class IncrementalPageRankTest
+    extends TestCase
+{
+
+    private <V, E> void assertScores(ListenableGraph<V, E> g, IncrementalPageRank<V, E> pr)
+    {
+        PageRank<V, E> expected = new PageRank<>(g, 0.85, 1000, 1e-12);
+        Map<V, Double> scores = pr.getScores();
+        assertEquals(g.vertexSet().size(), scores.size());
+        for (V v : g.vertexSet()) {
+            assertEquals(expected.getVertexScore(v), scores.get(v), 1e-6);
+            assertEquals(scores.get(v), pr.getVertexScore(v));
+        }
+    }
+
+    public void testModifications()
+    {
+        Random rng = new Random(11);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> base = directed
+                ? new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class)
+                : new WeightedPseudograph<>(DefaultWeightedEdge.class);
+            ListenableGraph<Integer, DefaultWeightedEdge> g = new DefaultListenableGraph<>(base);
+            new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(200, 0.02, rng, true)
+                .generateGraph(g, new IntegerVertexFactory(), null);
+
+            IncrementalPageRank<Integer, DefaultWeightedEdge> pr =
+                new IncrementalPageRank<>(g, 0.85, 1e-8);
+            assertScores(g, pr);
+            int initialPushes = pr.getPushCount();
+
+            // single edge
+            Graphs.addEdge(g, 3, 5, 2.0);
+            assertScores(g, pr);
+            assertTrue(pr.getPushCount() < initialPushes);
+
+            // a batch of edge insertions and removals
+            List<DefaultWeightedEdge> edges = new ArrayList<>(g.edgeSet());
+            for (int i = 0; i < 10; i++) {
+                g.removeEdge(edges.get(rng.nextInt(edges.size())));
+                Graphs.addEdge(g, rng.nextInt(200), rng.nextInt(200), 1d + rng.nextInt(3));
+            }
+            assertScores(g, pr);
+
+            // vertex insertions and removals
+            g.removeVertex(10);
+            g.removeVertex(20);
+            g.addVertex(200);
+            g.addVertex(201);
+            Graphs.addEdge(g, 200, 7, 1.0);
+            Graphs.addEdge(g, 8, 201, 1.0);
+            g.addVertex(202);
+            g.removeVertex(202);
+            g.removeVertex(30);
+            g.addVertex(30);
+            assertScores(g, pr);
+
+            // remove all outgoing edges of a vertex
+            g.removeAllEdges(new ArrayList<>(g.outgoingEdgesOf(40)));
+            assertScores(g, pr);
+        }
+    }
+
+    public void testVertexChurn()
+    {
+        Random rng = new Random(13);
+        ListenableGraph<Integer, DefaultEdge> g =
+            new DefaultListenableGraph<>(new DirectedPseudograph<>(DefaultEdge.class));
+        for (int v = 0; v < 50; v++) {
+            g.addVertex(v);
+        }
+        for (int i = 0; i < 150; i++) {
+            g.addEdge(rng.nextInt(50), rng.nextInt(50));
+        }
+        IncrementalPageRank<Integer, DefaultEdge> pr = new IncrementalPageRank<>(g, 0.85, 1e-8);
+        assertScores(g, pr);
+
+        // replace vertices in successive updates, so that indices of removed vertices are reused
+        int next = 50;
+        for (int round = 0; round < 20; round++) {
+            List<Integer> current = new ArrayList<>(g.vertexSet());
+            for (int i = 0; i < 5; i++) {
+                g.removeVertex(current.get(rng.nextInt(current.size())));
+            }
+            current = new ArrayList<>(g.vertexSet());
+            for (int i = 0; i < 5; i++) {
+                int v = next++;
+                g.addVertex(v);
+                g.addEdge(v, current.get(rng.nextInt(current.size())));
+                g.addEdge(current.get(rng.nextInt(current.size())), v);
+            }
+            assertScores(g, pr);
+        }
+    }
+
+    public void testEmptyGraph()
+    {
+        ListenableGraph<String, DefaultEdge> g =
+            new DefaultListenableGraph<>(new DirectedPseudograph<>(DefaultEdge.class));
+        IncrementalPageRank<String, DefaultEdge> pr = new IncrementalPageRank<>(g, 0.85, 1e-8);
+        assertTrue(pr.getScores().isEmpty());
+
+        g.addVertex("1");
+        assertEquals(1d, pr.getVertexScore("1"), 1e-6);
+        g.addVertex("2");
+        g.addEdge("1", "2");
+        assertScores(g, pr);
+        g.removeVertex("1");
+        g.removeVertex("2");
+        assertTrue(pr.getScores().isEmpty());
+        g.addVertex("3");
+        assertEquals(1d, pr.getVertexScore("3"), 1e-6);
+    }
+
+    public void testBadParameters()
+    {
+        ListenableGraph<String, DefaultEdge> g =
+            new DefaultListenableGraph<>(new DirectedPseudograph<>(DefaultEdge.class));
+
+        try {
+            new IncrementalPageRank<>(g, 1.1, 0.0001);
+            fail("No!");
+        } catch (IllegalArgumentException e) {
+        }
+
+        try {
+            new IncrementalPageRank<>(g, 1.0, 0.0001);
+            fail("No!");
+        } catch (IllegalArgumentException e) {
+        }
+
+        try {
+            new IncrementalPageRank<>(g, 0.85, 0d);
+            fail("No!");
+        } catch (IllegalArgumentException e) {
+        }
+
+        try {
+            new IncrementalPageRank<>(g).getVertexScore("1");
+            fail("No!");
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+}
+
+// End IncrementalPageRankTest.java
@@ -17,7 +17,12 @@
  */
 package org.jgrapht.alg.scoring;
 
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
 
 import junit.framework.*;
@@ -267,6 +272,146 @@ public class PageRankTest
         }
     }
 
+    public void testParallel()
+    {
+        Random rng = new Random(17);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Graph<Integer, DefaultWeightedEdge>> graphs = new ArrayList<>();
+            graphs.add(new DirectedPseudograph<>(DefaultWeightedEdge.class));
+            graphs.add(new Pseudograph<>(DefaultWeightedEdge.class));
+            graphs.add(new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class));
+            graphs.add(new WeightedPseudograph<>(DefaultWeightedEdge.class));
+            for (Graph<Integer, DefaultWeightedEdge> g : graphs) {
+                new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(200, 0.02, rng, true)
+                    .generateGraph(g, new IntegerVertexFactory(), null);
+                if (g.getType().isWeighted()) {
+                    for (DefaultWeightedEdge e : g.edgeSet()) {
+                        g.setEdgeWeight(e, 1d + rng.nextInt(5));
+                    }
+                }
+
+                PageRank<Integer, DefaultWeightedEdge> pr1 = new PageRank<>(g, 0.85, 100, 1e-8);
+                PageRank<Integer, DefaultWeightedEdge> pr2 =
+                    new PageRank<>(g, 0.85, 100, 1e-8, pool);
+
+                assertEquals(pr1.getIterations(), pr2.getIterations());
+                assertEquals(pr1.getIterations(), pr1.getResiduals().size());
+                for (int i = 0; i < pr1.getIterations(); i++) {
+                    assertEquals(pr1.getResiduals().get(i), pr2.getResiduals().get(i), 1e-9);
+                }
+                double sum = 0d;
+                for (Integer v : g.vertexSet()) {
+                    assertEquals(pr1.getVertexScore(v), pr2.getVertexScore(v), 1e-9);
+                    sum += pr2.getVertexScore(v);
+                }
+                assertEquals(1d, sum, 1e-6);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public void testConvergenceMetrics()
+    {
+        DirectedPseudograph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        g.addVertex("1");
+        g.addVertex("2");
+        g.addVertex("3");
+        g.addEdge("1", "2");
+        g.addEdge("2", "3");
+        g.addEdge("3", "1");
+        g.addEdge("3", "2");
+
+        PageRank<String, DefaultEdge> pr =
+            new PageRank<>(g, 0.85, 5, 1e-12, ForkJoinPool.commonPool());
+        assertEquals(5, pr.getIterations());
+        assertEquals(5, pr.getResiduals().size());
+
+        pr = new PageRank<>(g, 0.85, 1000, 0.001);
+        List<Double> residuals = pr.getResiduals();
+        assertTrue(pr.getIterations() < 1000);
+        assertTrue(residuals.get(residuals.size() - 1) < 0.001);
+        for (int i = 0; i < residuals.size() - 1; i++) {
+            assertTrue(residuals.get(i) >= 0.001);
+        }
+    }
+
+    public void testPersonalized()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(50, 0.1, new Random(17), true)
+            .generateGraph(g, new IntegerVertexFactory(), null);
+
+        // uniform personalization is standard PageRank
+        Map<Integer, Double> uniform = new HashMap<>();
+        for (Integer v : g.vertexSet()) {
+            uniform.put(v, 3d);
+        }
+        PageRank<Integer, DefaultWeightedEdge> pr = new PageRank<>(g, 0.85, 100, 1e-10);
+        PageRank<Integer, DefaultWeightedEdge> ppr =
+            new PageRank<>(g, uniform, 0.85, 100, 1e-10, null);
+        for (Integer v : g.vertexSet()) {
+            assertEquals(pr.getVertexScore(v), ppr.getVertexScore(v), 1e-9);
+        }
+
+        // seeded personalization, sequential and parallel
+        Map<Integer, Double> seeds = new HashMap<>();
+        seeds.put(0, 1d);
+        seeds.put(1, 3d);
+        ppr = new PageRank<>(g, seeds, 0.85, 100, 1e-10, null);
+        PageRank<Integer, DefaultWeightedEdge> parallel =
+            new PageRank<>(g, seeds, 0.85, 100, 1e-10, ForkJoinPool.commonPool());
+        double sum = 0d;
+        for (Integer v : g.vertexSet()) {
+            assertEquals(ppr.getVertexScore(v), parallel.getVertexScore(v), 1e-9);
+            sum += ppr.getVertexScore(v);
+        }
+        assertEquals(1d, sum, 1e-6);
+        assertTrue(ppr.getVertexScore(1) > pr.getVertexScore(1));
+    }
+
+    public void testPersonalizedSink()
+    {
+        DirectedPseudograph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        g.addVertex("1");
+        g.addVertex("2");
+        g.addVertex("3");
+        g.addEdge("1", "2");
+
+        // the sink teleports back to the seed, vertex 3 is never reached
+        PageRank<String, DefaultEdge> pr = new PageRank<>(
+            g, Collections.singletonMap("1", 1d), 0.85, 100, 1e-10, null);
+        assertEquals(1d / 1.85, pr.getVertexScore("1"), 1e-6);
+        assertEquals(0.85 / 1.85, pr.getVertexScore("2"), 1e-6);
+        assertEquals(0d, pr.getVertexScore("3"), 1e-9);
+    }
+
+    public void testBadPersonalization()
+    {
+        DirectedPseudograph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        g.addVertex("1");
+
+        try {
+            new PageRank<>(g, Collections.singletonMap("2", 1d), 0.85, 100, 0.0001, null);
+            fail("No!");
+        } catch (IllegalArgumentException e) {
+        }
+
+        try {
+            new PageRank<>(g, Collections.singletonMap("1", -1d), 0.85, 100, 0.0001, null);
+            fail("No!");
+        } catch (IllegalArgumentException e) {
+        }
+
+        try {
+            new PageRank<>(g, Collections.singletonMap("1", 0d), 0.85, 100, 0.0001, null);
+            fail("No!");
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
     public void testBadParameters()
     {
         DirectedPseudograph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
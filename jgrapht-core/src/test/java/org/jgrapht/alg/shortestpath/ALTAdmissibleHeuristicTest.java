@@ -20,12 +20,15 @@ package org.jgrapht.alg.shortestpath;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.shortestpath.ALTAdmissibleHeuristic.*;
 import org.jgrapht.alg.util.*;
 import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
@@ -137,4 +140,164 @@ public class ALTAdmissibleHeuristicTest
 
     }
 
+    private Graph<Integer, DefaultWeightedEdge> createRandomGraph(boolean directed, Random rng)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = directed
+            ? new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class)
+            : new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(40, 0.1, rng, true)
+            .generateGraph(g, new IntegerVertexFactory(), null);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, rng.nextDouble() * 10);
+        }
+        return g;
+    }
+
+    private void assertAdmissibleAndExact(
+        Graph<Integer, DefaultWeightedEdge> g, ALTAdmissibleHeuristic<Integer, ?> h)
+    {
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> dijkstra =
+            new DijkstraShortestPath<>(g);
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> astar = new AStarShortestPath<>(g, h);
+        for (Integer v : g.vertexSet()) {
+            SingleSourcePaths<Integer, DefaultWeightedEdge> paths = dijkstra.getPaths(v);
+            for (Integer u : g.vertexSet()) {
+                double d = paths.getWeight(u);
+                assertTrue(h.getCostEstimate(v, u) <= d + 1e-9);
+                assertEquals(d, astar.getPathWeight(v, u), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void testCompactAndCustomPool()
+    {
+        Random rng = new Random(11);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (boolean directed : new boolean[] { true, false }) {
+                Graph<Integer, DefaultWeightedEdge> g = createRandomGraph(directed, rng);
+                Set<Integer> landmarks = new HashSet<>(Arrays.asList(0, 7, 13));
+                ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> h1 =
+                    new ALTAdmissibleHeuristic<>(g, landmarks, false, pool);
+                ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> h2 =
+                    new ALTAdmissibleHeuristic<>(g, landmarks, true, pool);
+                assertEquals(landmarks, h2.getLandmarks());
+                assertAdmissibleAndExact(g, h1);
+                assertAdmissibleAndExact(g, h2);
+                for (Integer v : g.vertexSet()) {
+                    for (Integer u : g.vertexSet()) {
+                        assertTrue(h2.getCostEstimate(v, u) <= h1.getCostEstimate(v, u));
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testSelectionStrategies()
+    {
+        Random rng = new Random(19);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = createRandomGraph(directed, rng);
+            for (LandmarkSelectionStrategy strategy : LandmarkSelectionStrategy.values()) {
+                ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> h =
+                    new ALTAdmissibleHeuristic<>(
+                        g, 4, strategy, rng, false, ForkJoinPool.commonPool());
+                assertEquals(4, h.getLandmarks().size());
+                assertTrue(g.vertexSet().containsAll(h.getLandmarks()));
+                assertAdmissibleAndExact(g, h);
+            }
+        }
+    }
+
+    @Test
+    public void testWriteReadTables()
+        throws IOException
+    {
+        Random rng = new Random(23);
+        for (boolean compact : new boolean[] { false, true }) {
+            Graph<Integer, DefaultWeightedEdge> g = createRandomGraph(true, rng);
+            ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> h =
+                new ALTAdmissibleHeuristic<>(
+                    g, 3, LandmarkSelectionStrategy.FARTHEST, rng, compact,
+                    ForkJoinPool.commonPool());
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            h.writeTables(out);
+            ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> loaded =
+                ALTAdmissibleHeuristic.readTables(g, new ByteArrayInputStream(out.toByteArray()));
+
+            assertEquals(h.getLandmarks(), loaded.getLandmarks());
+            for (Integer v : g.vertexSet()) {
+                for (Integer u : g.vertexSet()) {
+                    assertEquals(h.getCostEstimate(v, u), loaded.getCostEstimate(v, u), 0d);
+                }
+            }
+
+            // a different graph must be rejected
+            g.addVertex(1000);
+            try {
+                ALTAdmissibleHeuristic.readTables(g, new ByteArrayInputStream(out.toByteArray()));
+                Assert.fail("No!");
+            } catch (IllegalArgumentException e) {
+            }
+        }
+    }
+
+    @Test
+    public void testReadTablesLeavesStreamUsable()
+        throws IOException
+    {
+        Random rng = new Random(29);
+        Graph<Integer, DefaultWeightedEdge> g = createRandomGraph(false, rng);
+        ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> h = new ALTAdmissibleHeuristic<>(
+            g, 2, LandmarkSelectionStrategy.FARTHEST, rng, false, ForkJoinPool.commonPool());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        h.writeTables(out);
+        new DataOutputStream(out).writeInt(42);
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+        ALTAdmissibleHeuristic.readTables(g, in);
+        assertEquals(42, in.readInt());
+    }
+
+    @Test
+    public void testTablesIndependentOfVertexHashCodes()
+        throws IOException
+    {
+        Graph<Object, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Object[] vertices = { new Object(), new Object(), new Object() };
+        Graphs.addEdgeWithVertices(g, vertices[0], vertices[1], 1.0);
+        Graphs.addEdgeWithVertices(g, vertices[1], vertices[2], 2.0);
+        ALTAdmissibleHeuristic<Object, DefaultWeightedEdge> h =
+            new ALTAdmissibleHeuristic<>(g, Collections.singleton(vertices[0]));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        h.writeTables(out);
+
+        // same structure, vertices with different identity hash codes
+        Graph<Object, DefaultWeightedEdge> other =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Object[] others = { new Object(), new Object(), new Object() };
+        Graphs.addEdgeWithVertices(other, others[0], others[1], 1.0);
+        Graphs.addEdgeWithVertices(other, others[1], others[2], 2.0);
+        ALTAdmissibleHeuristic<Object, DefaultWeightedEdge> loaded =
+            ALTAdmissibleHeuristic.readTables(other, new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(3.0, loaded.getCostEstimate(others[0], others[2]), 0d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeights()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, 0, 1, 1.0);
+        Graphs.addEdgeWithVertices(g, 1, 2, -1.0);
+        new ALTAdmissibleHeuristic<>(g, Collections.singleton(0));
+    }
+
 }
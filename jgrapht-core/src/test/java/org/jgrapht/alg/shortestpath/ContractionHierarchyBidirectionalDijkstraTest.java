@@ -0,0 +1,144 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link ContractionHierarchyBidirectionalDijkstra} and
+ * {@link ContractionHierarchyPrecomputation}.
+ *
+ * @author agent
+ */
+public class ContractionHierarchyBidirectionalDijkstraTest
+{
+
+    @Test
+    public void testSimpleDirected()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d", "e"));
+        DefaultWeightedEdge ab = Graphs.addEdge(g, "a", "b", 1.0);
+        DefaultWeightedEdge bc = Graphs.addEdge(g, "b", "c", 1.0);
+        DefaultWeightedEdge cd = Graphs.addEdge(g, "c", "d", 1.0);
+        Graphs.addEdge(g, "a", "d", 5.0);
+        Graphs.addEdge(g, "d", "e", 1.0);
+        Graphs.addEdge(g, "e", "a", 1.0);
+        Graphs.addEdge(g, "c", "c", 0.5);
+
+        ContractionHierarchyBidirectionalDijkstra<String, DefaultWeightedEdge> ch =
+            new ContractionHierarchyBidirectionalDijkstra<>(g);
+
+        GraphPath<String, DefaultWeightedEdge> path = ch.getPath("a", "d");
+        assertEquals(Arrays.asList(ab, bc, cd), path.getEdgeList());
+        assertEquals(Arrays.asList("a", "b", "c", "d"), path.getVertexList());
+        assertEquals(3.0, path.getWeight(), 1e-9);
+        assertEquals(4.0, ch.getPathWeight("b", "a"), 1e-9);
+        assertEquals(0.0, ch.getPathWeight("c", "c"), 1e-9);
+        assertEquals(Collections.singletonList("c"), ch.getPath("c", "c").getVertexList());
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rng = new Random(5);
+        ForkJoinPool parallelPool = new ForkJoinPool(4);
+        try {
+            for (boolean directed : new boolean[] { true, false }) {
+                for (ForkJoinPool pool : new ForkJoinPool[] { null, parallelPool }) {
+                    Graph<Integer, DefaultWeightedEdge> g = directed
+                        ? new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class)
+                        : new WeightedPseudograph<>(DefaultWeightedEdge.class);
+                    new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(80, 0.05, rng, true)
+                        .generateGraph(g, new IntegerVertexFactory(), null);
+                    for (DefaultWeightedEdge e : g.edgeSet()) {
+                        g.setEdgeWeight(e, rng.nextInt(10));
+                    }
+
+                    ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+                        new ContractionHierarchyPrecomputation<>(g, pool)
+                            .computeContractionHierarchy();
+                    ContractionHierarchyBidirectionalDijkstra<Integer, DefaultWeightedEdge> ch =
+                        new ContractionHierarchyBidirectionalDijkstra<>(hierarchy);
+                    DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+                        new DijkstraShortestPath<>(g);
+
+                    Set<Integer> ranks = new HashSet<>();
+                    for (Integer v : g.vertexSet()) {
+                        ranks.add(hierarchy.getRank(v));
+                    }
+                    assertEquals(g.vertexSet().size(), ranks.size());
+
+                    for (Integer v : g.vertexSet()) {
+                        for (Integer u : g.vertexSet()) {
+                            double expected = dijkstra.getPathWeight(v, u);
+                            assertEquals(expected, ch.getPathWeight(v, u), 1e-9);
+                            GraphPath<Integer, DefaultWeightedEdge> path = ch.getPath(v, u);
+                            if (expected == Double.POSITIVE_INFINITY) {
+                                assertNull(path);
+                                continue;
+                            }
+                            assertEquals(expected, path.getWeight(), 1e-9);
+                            double weight = 0d;
+                            Integer cur = v;
+                            for (DefaultWeightedEdge e : path.getEdgeList()) {
+                                if (directed) {
+                                    assertEquals(cur, g.getEdgeSource(e));
+                                }
+                                cur = Graphs.getOppositeVertex(g, e, cur);
+                                weight += g.getEdgeWeight(e);
+                            }
+                            assertEquals(u, cur);
+                            assertEquals(expected, weight, 1e-9);
+                        }
+                    }
+                }
+            }
+        } finally {
+            parallelPool.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, "a", "b", -1.0);
+        new ContractionHierarchyPrecomputation<>(g).computeContractionHierarchy();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingVertex()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, "a", "b", 1.0);
+        new ContractionHierarchyBidirectionalDijkstra<>(g).getPath("a", "c");
+    }
+}
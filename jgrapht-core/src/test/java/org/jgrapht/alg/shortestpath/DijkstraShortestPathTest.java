@@ -21,6 +21,7 @@ import java.util.*;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
 
 /**
@@ -162,6 +163,149 @@ public class DijkstraShortestPathTest
         }
     }
 
+    public void testIndexedConstructor()
+    {
+        GraphPath<String, DefaultWeightedEdge> path;
+        Graph<String, DefaultWeightedEdge> g = create();
+
+        path = new DijkstraShortestPath<>(g, Double.POSITIVE_INFINITY, true).getPath(V3, V4);
+        assertEquals(Arrays.asList(e13, e12, e24), path.getEdgeList());
+        assertEquals(10.0, path.getWeight(), 0);
+        assertEquals(g, path.getGraph());
+
+        path = new DijkstraShortestPath<>(g, 7.0, true).getPath(V3, V4);
+        assertNull(path);
+    }
+
+    public void testIndexedShortestPathTree()
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(V1, V2, V3, V4, V5));
+
+        DefaultWeightedEdge we12 = g.addEdge(V1, V2);
+        DefaultWeightedEdge we24 = g.addEdge(V2, V4);
+        DefaultWeightedEdge we13 = g.addEdge(V1, V3);
+        DefaultWeightedEdge we32 = g.addEdge(V3, V2);
+        DefaultWeightedEdge we34 = g.addEdge(V3, V4);
+
+        g.setEdgeWeight(we12, 3.0);
+        g.setEdgeWeight(we24, 1.0);
+        g.setEdgeWeight(we13, 1.0);
+        g.setEdgeWeight(we32, 1.0);
+        g.setEdgeWeight(we34, 3.0);
+
+        SingleSourcePaths<String, DefaultWeightedEdge> pathsTree =
+            new DijkstraShortestPath<>(g, Double.POSITIVE_INFINITY, true).getPaths(V1);
+        assertEquals(g, pathsTree.getGraph());
+        assertEquals(V1, pathsTree.getSourceVertex());
+        assertEquals(0d, pathsTree.getWeight(V1), 1e-9);
+        assertEquals(2d, pathsTree.getWeight(V2), 1e-9);
+        assertEquals(1d, pathsTree.getWeight(V3), 1e-9);
+        assertEquals(3d, pathsTree.getWeight(V4), 1e-9);
+        assertEquals(Double.POSITIVE_INFINITY, pathsTree.getWeight(V5), 1e-9);
+
+        assertTrue(pathsTree.getPath(V1).getEdgeList().isEmpty());
+        assertEquals(Arrays.asList(we13, we32), pathsTree.getPath(V2).getEdgeList());
+        assertEquals(Arrays.asList(we13), pathsTree.getPath(V3).getEdgeList());
+        assertEquals(Arrays.asList(we13, we32, we24), pathsTree.getPath(V4).getEdgeList());
+        assertNull(pathsTree.getPath(V5));
+    }
+
+    public void testIndexedRandomGraphs()
+    {
+        Random rng = new Random(17);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = directed
+                ? new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class)
+                : new WeightedPseudograph<>(DefaultWeightedEdge.class);
+            new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(50, 0.1, rng, true)
+                .generateGraph(g, new IntegerVertexFactory(), null);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextDouble());
+            }
+
+            DijkstraShortestPath<Integer, DefaultWeightedEdge> plain =
+                new DijkstraShortestPath<>(g);
+            DijkstraShortestPath<Integer, DefaultWeightedEdge> indexed =
+                new DijkstraShortestPath<>(new CSRGraph<>(g), Double.POSITIVE_INFINITY, true);
+            for (Integer v : g.vertexSet()) {
+                SingleSourcePaths<Integer, DefaultWeightedEdge> paths = indexed.getPaths(v);
+                for (Integer u : g.vertexSet()) {
+                    double expected = plain.getPathWeight(v, u);
+                    assertEquals(expected, indexed.getPathWeight(v, u), 1e-9);
+                    assertEquals(expected, paths.getWeight(u), 1e-9);
+                    GraphPath<Integer, DefaultWeightedEdge> path = paths.getPath(u);
+                    if (expected == Double.POSITIVE_INFINITY) {
+                        assertNull(path);
+                    } else {
+                        assertEquals(v, path.getStartVertex());
+                        assertEquals(u, path.getEndVertex());
+                        double weight = 0d;
+                        for (DefaultWeightedEdge e : path.getEdgeList()) {
+                            weight += g.getEdgeWeight(e);
+                        }
+                        assertEquals(expected, weight, 1e-9);
+                    }
+                }
+            }
+        }
+    }
+
+    public void testIndexedInfiniteWeights()
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(V1, V2, V3, V4));
+
+        DefaultWeightedEdge we12 = g.addEdge(V1, V2);
+        DefaultWeightedEdge we13 = g.addEdge(V1, V3);
+        DefaultWeightedEdge we32 = g.addEdge(V3, V2);
+        DefaultWeightedEdge we24 = g.addEdge(V2, V4);
+        DefaultWeightedEdge we34 = g.addEdge(V3, V4);
+        DefaultWeightedEdge we21 = g.addEdge(V2, V1);
+
+        g.setEdgeWeight(we12, Double.POSITIVE_INFINITY);
+        g.setEdgeWeight(we13, Double.POSITIVE_INFINITY);
+        g.setEdgeWeight(we32, Double.POSITIVE_INFINITY);
+        g.setEdgeWeight(we24, Double.POSITIVE_INFINITY);
+        g.setEdgeWeight(we34, Double.POSITIVE_INFINITY);
+        g.setEdgeWeight(we21, 1.0);
+
+        SingleSourcePaths<String, DefaultWeightedEdge> pathsTree =
+            new DijkstraShortestPath<>(g, Double.POSITIVE_INFINITY, true).getPaths(V1);
+        assertEquals(0d, pathsTree.getWeight(V1), 1e-9);
+        assertEquals(Double.POSITIVE_INFINITY, pathsTree.getWeight(V2), 1e-9);
+        assertEquals(Double.POSITIVE_INFINITY, pathsTree.getWeight(V3), 1e-9);
+        assertEquals(Double.POSITIVE_INFINITY, pathsTree.getWeight(V4), 1e-9);
+        assertNull(pathsTree.getPath(V4));
+
+        IndexedDijkstraClosestFirstIterator<String, DefaultWeightedEdge> it =
+            new IndexedDijkstraClosestFirstIterator<>(
+                g, new CSRGraph<>(g), 0, Double.POSITIVE_INFINITY);
+        Set<Integer> settled = new HashSet<>();
+        while (it.hasNext()) {
+            assertTrue(settled.add(it.next()));
+        }
+        assertEquals(4, settled.size());
+    }
+
+    public void testIndexedNonNegativeWeights()
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(V1, V2));
+
+        DefaultWeightedEdge we12 = g.addEdge(V1, V2);
+        g.setEdgeWeight(we12, -100.0);
+
+        try {
+            new DijkstraShortestPath<>(g, Double.POSITIVE_INFINITY, true).getPath(V1, V2);
+            fail("No!");
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
 }
 
 // End DijkstraShortestPathTest.java
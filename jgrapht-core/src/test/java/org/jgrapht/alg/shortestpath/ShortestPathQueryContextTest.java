@@ -0,0 +1,162 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link ShortestPathQueryContext}.
+ *
+ * @author agent
+ */
+public class ShortestPathQueryContextTest
+{
+
+    private Graph<Integer, DefaultWeightedEdge> createRandomGraph(boolean directed, Random rng)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = directed
+            ? new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class)
+            : new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(40, 0.08, rng, true)
+            .generateGraph(g, new IntegerVertexFactory(), null);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, rng.nextDouble());
+        }
+        return g;
+    }
+
+    private void assertPath(
+        Graph<Integer, DefaultWeightedEdge> g, Integer source, Integer sink, double expected,
+        GraphPath<Integer, DefaultWeightedEdge> path)
+    {
+        if (expected == Double.POSITIVE_INFINITY) {
+            assertNull(path);
+            return;
+        }
+        assertEquals(source, path.getStartVertex());
+        assertEquals(sink, path.getEndVertex());
+        assertEquals(expected, path.getWeight(), 1e-9);
+        double weight = 0d;
+        Integer cur = source;
+        for (DefaultWeightedEdge e : path.getEdgeList()) {
+            cur = Graphs.getOppositeVertex(g, e, cur);
+            weight += g.getEdgeWeight(e);
+        }
+        assertEquals(sink, cur);
+        assertEquals(expected, weight, 1e-9);
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rng = new Random(33);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = createRandomGraph(directed, rng);
+            DijkstraShortestPath<Integer, DefaultWeightedEdge> plain =
+                new DijkstraShortestPath<>(g);
+
+            List<ShortestPathQueryContext<Integer, DefaultWeightedEdge>> contexts =
+                Arrays.asList(
+                    plain.createQueryContext(),
+                    new DijkstraShortestPath<>(g, Double.POSITIVE_INFINITY, true)
+                        .createQueryContext(),
+                    new BidirectionalDijkstraShortestPath<>(g).createQueryContext(),
+                    new AStarShortestPath<>(g, (u, t) -> 0d).createQueryContext());
+
+            for (ShortestPathQueryContext<Integer, DefaultWeightedEdge> context : contexts) {
+                // repeat all queries to exercise reuse of the context
+                for (int repeat = 0; repeat < 2; repeat++) {
+                    for (Integer v : g.vertexSet()) {
+                        for (Integer u : g.vertexSet()) {
+                            double expected = plain.getPathWeight(v, u);
+                            assertEquals(expected, context.getPathWeight(v, u), 1e-9);
+                            assertPath(g, v, u, expected, context.getPath(v, u));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRadius()
+    {
+        Random rng = new Random(7);
+        Graph<Integer, DefaultWeightedEdge> g = createRandomGraph(true, rng);
+        double radius = 0.5;
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> plain =
+            new DijkstraShortestPath<>(g, radius);
+        ShortestPathQueryContext<Integer, DefaultWeightedEdge> dijkstra =
+            plain.createQueryContext();
+        ShortestPathQueryContext<Integer, DefaultWeightedEdge> bidirectional =
+            new BidirectionalDijkstraShortestPath<>(g, radius).createQueryContext();
+        for (Integer v : g.vertexSet()) {
+            for (Integer u : g.vertexSet()) {
+                double expected = plain.getPathWeight(v, u);
+                assertEquals(expected, dijkstra.getPathWeight(v, u), 1e-9);
+                assertEquals(expected, bidirectional.getPathWeight(v, u), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void testSameSourceAndSink()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        g.addVertex("a");
+        ShortestPathQueryContext<String, DefaultWeightedEdge> context =
+            new BidirectionalDijkstraShortestPath<>(g).createQueryContext();
+        GraphPath<String, DefaultWeightedEdge> path = context.getPath("a", "a");
+        assertEquals(Collections.singletonList("a"), path.getVertexList());
+        assertEquals(0d, context.getPathWeight("a", "a"), 0d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingVertex()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        g.addVertex("a");
+        new DijkstraShortestPath<>(g).createQueryContext().getPath("a", "b");
+    }
+
+    @Test
+    public void testGenerationOverflow()
+    {
+        ShortestPathQueryContext.SearchSpace space = new ShortestPathQueryContext.SearchSpace(3);
+        space.reset();
+        space.label(1, -1, 2d, 2d);
+        space.generation = Integer.MAX_VALUE - 1;
+        space.stamp[2] = Integer.MAX_VALUE;
+        space.reset();
+        assertEquals(1, space.generation);
+        assertTrue(space.heap.isEmpty());
+        for (int v = 0; v < 3; v++) {
+            assertFalse(space.isReached(v));
+            assertEquals(Double.POSITIVE_INFINITY, space.getDistance(v), 0d);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link ConcurrentUnionFind}.
+ *
+ * @author agent
+ */
+public class ConcurrentUnionFindTest
+{
+    @Test
+    public void testSequential()
+    {
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(6);
+        assertEquals(6, uf.size());
+        assertTrue(uf.union(4, 2));
+        assertTrue(uf.union(5, 4));
+        assertFalse(uf.union(2, 5));
+        assertTrue(uf.union(1, 3));
+        assertTrue(uf.inSameSet(5, 2));
+        assertFalse(uf.inSameSet(1, 2));
+
+        // representatives are the minimum elements
+        assertEquals(2, uf.find(5));
+        assertEquals(1, uf.find(3));
+        assertEquals(0, uf.find(0));
+    }
+
+    @Test
+    public void testConcurrent()
+        throws InterruptedException
+    {
+        final int n = 100000;
+        final int threads = 4;
+        Random rng = new Random(3);
+        int[] a = new int[n];
+        int[] b = new int[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = rng.nextInt(n);
+            b[i] = rng.nextInt(n);
+        }
+
+        UnionFind<Integer> expected = new UnionFind<>(new HashSet<>());
+        for (int i = 0; i < n; i++) {
+            expected.addElement(i);
+        }
+        for (int i = 0; i < n; i++) {
+            expected.union(a[i], b[i]);
+        }
+
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(n);
+        int[] merges = new int[threads];
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            Thread worker = new Thread(() -> {
+                for (int i = id; i < n; i += threads) {
+                    if (uf.union(a[i], b[i])) {
+                        merges[id]++;
+                    }
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        int sets = 0;
+        for (int i = 0; i < n; i++) {
+            if (uf.find(i) == i) {
+                sets++;
+            }
+            assertTrue(uf.find(i) <= i);
+            assertEquals(
+                expected.find(i).equals(expected.find(a[i])), uf.inSameSet(i, a[i]));
+            assertEquals(
+                expected.find(i).equals(expected.find(b[i / 2])), uf.inSameSet(i, b[i / 2]));
+        }
+        int totalMerges = 0;
+        for (int m : merges) {
+            totalMerges += m;
+        }
+        assertEquals(n - totalMerges, sets);
+    }
+}
+
+// End ConcurrentUnionFindTest.java
@@ -0,0 +1,135 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link IntUnionFind} and {@link IndexedUnionFind}.
+ *
+ * @author agent
+ */
+public class IntUnionFindTest
+{
+    @Test
+    public void testUnionFind()
+    {
+        IntUnionFind uf = new IntUnionFind(5, true);
+        assertEquals(5, uf.size());
+        assertEquals(5, uf.numberOfSets());
+
+        assertTrue(uf.union(0, 1));
+        assertTrue(uf.union(2, 3));
+        assertTrue(uf.union(3, 4));
+        assertFalse(uf.union(4, 2));
+        assertEquals(2, uf.numberOfSets());
+        assertEquals(2, uf.getSetSize(1));
+        assertEquals(3, uf.getSetSize(2));
+        assertTrue(uf.inSameSet(2, 4));
+        assertFalse(uf.inSameSet(0, 4));
+
+        assertTrue(uf.union(1, 4));
+        assertEquals(1, uf.numberOfSets());
+        assertEquals(5, uf.getSetSize(0));
+        int[] roots = uf.findAll();
+        for (int i = 0; i < 5; i++) {
+            assertEquals(roots[0], roots[i]);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSizesNotTracked()
+    {
+        new IntUnionFind(3).getSetSize(0);
+    }
+
+    @Test
+    public void testUnionAll()
+    {
+        final int n = 1000;
+        Random rng = new Random(7);
+        int[] a = new int[n];
+        int[] b = new int[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = rng.nextInt(n);
+            b[i] = rng.nextInt(n);
+        }
+
+        IntUnionFind batch = new IntUnionFind(n, true);
+        int merges = batch.unionAll(a, b);
+        assertEquals(n - merges, batch.numberOfSets());
+
+        UnionFind<Integer> expected = new UnionFind<>(new LinkedHashSet<>());
+        for (int i = 0; i < n; i++) {
+            expected.addElement(i);
+        }
+        for (int i = 0; i < n; i++) {
+            expected.union(a[i], b[i]);
+        }
+        int sizeSum = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = i; j < n; j += 37) {
+                assertEquals(
+                    expected.find(i).equals(expected.find(j)), batch.inSameSet(i, j));
+            }
+            if (batch.find(i) == i) {
+                sizeSum += batch.getSetSize(i);
+            }
+        }
+        assertEquals(n, sizeSum);
+    }
+
+    @Test
+    public void testIndexedUnionFind()
+    {
+        IndexedUnionFind<String> uf = new IndexedUnionFind<>(
+            new LinkedHashSet<>(Arrays.asList("a", "b", "c", "d")), true);
+        assertEquals(2, uf.getIndex("c"));
+        assertEquals("d", uf.getElement(3));
+        assertEquals(4, uf.numberOfSets());
+
+        assertTrue(uf.union("a", "c"));
+        assertFalse(uf.union("c", "a"));
+        assertTrue(uf.inSameSet("a", "c"));
+        assertFalse(uf.inSameSet("a", "b"));
+        assertEquals(uf.find("a"), uf.find("c"));
+        assertEquals("b", uf.find("b"));
+        assertEquals(2, uf.getSetSize("c"));
+        assertEquals(3, uf.numberOfSets());
+
+        uf.getIntUnionFind().union(uf.getIndex("b"), uf.getIndex("d"));
+        assertTrue(uf.inSameSet("b", "d"));
+        assertEquals(2, uf.numberOfSets());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIndexedUnionFindMissingElement()
+    {
+        new IndexedUnionFind<>(new LinkedHashSet<>(Arrays.asList("a"))).find("b");
+    }
+}
+
+// End IntUnionFindTest.java
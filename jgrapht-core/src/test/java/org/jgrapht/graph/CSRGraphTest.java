@@ -0,0 +1,160 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link CSRGraph}.
+ *
+ * @author agent
+ */
+public class CSRGraphTest
+{
+
+    private static <V, E> void assertSameGraph(Graph<V, E> expected, Graph<V, E> actual)
+    {
+        assertEquals(expected.vertexSet(), actual.vertexSet());
+        assertEquals(expected.edgeSet(), actual.edgeSet());
+        for (E e : expected.edgeSet()) {
+            assertEquals(expected.getEdgeSource(e), actual.getEdgeSource(e));
+            assertEquals(expected.getEdgeTarget(e), actual.getEdgeTarget(e));
+            assertEquals(expected.getEdgeWeight(e), actual.getEdgeWeight(e), 1e-9);
+        }
+        for (V v : expected.vertexSet()) {
+            assertEquals(expected.degreeOf(v), actual.degreeOf(v));
+            assertEquals(expected.inDegreeOf(v), actual.inDegreeOf(v));
+            assertEquals(expected.outDegreeOf(v), actual.outDegreeOf(v));
+            assertEquals(expected.edgesOf(v), actual.edgesOf(v));
+            assertEquals(expected.incomingEdgesOf(v), actual.incomingEdgesOf(v));
+            assertEquals(expected.outgoingEdgesOf(v), actual.outgoingEdgesOf(v));
+            assertEquals(expected.edgesOf(v).size(), actual.edgesOf(v).size());
+            for (V u : expected.vertexSet()) {
+                assertEquals(expected.getAllEdges(v, u), actual.getAllEdges(v, u));
+                assertEquals(expected.containsEdge(v, u), actual.containsEdge(v, u));
+            }
+        }
+    }
+
+    @Test
+    public void testDirectedPseudograph()
+    {
+        DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3, 4));
+        g.setEdgeWeight(g.addEdge(3, 1), 2.0);
+        g.setEdgeWeight(g.addEdge(0, 1), 3.0);
+        g.setEdgeWeight(g.addEdge(0, 1), 4.0);
+        g.setEdgeWeight(g.addEdge(1, 1), 5.0);
+        g.setEdgeWeight(g.addEdge(1, 2), 6.0);
+        g.setEdgeWeight(g.addEdge(2, 0), 7.0);
+
+        CSRGraph<Integer, DefaultWeightedEdge> csr = new CSRGraph<>(g);
+
+        assertTrue(csr.getType().isDirected());
+        assertTrue(csr.getType().isWeighted());
+        assertFalse(csr.getType().isModifiable());
+        assertSame(csr.getType(), csr.getType());
+        assertSameGraph(g, csr);
+        assertEquals(5, csr.edgesOf(1).size());
+        assertFalse(csr.containsVertex(5));
+        assertNull(csr.getEdge(4, 0));
+        assertNull(csr.getAllEdges(5, 0));
+    }
+
+    @Test
+    public void testUndirectedPseudograph()
+    {
+        Pseudograph<Integer, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3));
+        g.addEdge(0, 1);
+        g.addEdge(1, 0);
+        g.addEdge(2, 2);
+        g.addEdge(2, 1);
+        g.addEdge(3, 0);
+
+        CSRGraph<Integer, DefaultEdge> csr = new CSRGraph<>(g);
+
+        assertTrue(csr.getType().isUndirected());
+        assertFalse(csr.getType().isWeighted());
+        assertSameGraph(g, csr);
+        assertNotNull(csr.getEdge(1, 2));
+        assertEquals(2, csr.getAllEdges(1, 0).size());
+    }
+
+    @Test
+    public void testBuilder()
+    {
+        CSRGraph<String, DefaultWeightedEdge> g =
+            new CSRGraph.Builder<String, DefaultWeightedEdge>(
+                new ClassBasedEdgeFactory<>(DefaultWeightedEdge.class), true, true)
+                    .addVertex("d").addEdge("a", "b", new DefaultWeightedEdge(), 1.0)
+                    .addEdge("b", "c", new DefaultWeightedEdge(), 2.0)
+                    .addEdge("a", "c", new DefaultWeightedEdge(), 5.0).addEdge("c", "d")
+                    .build();
+
+        assertEquals(4, g.vertexSet().size());
+        assertEquals(4, g.edgeSet().size());
+        assertEquals(1.0, g.getEdgeWeight(g.getEdge("c", "d")), 1e-9);
+
+        for (int i = 0; i < g.vertexSet().size(); i++) {
+            assertEquals(i, g.getVertexIndex(g.getVertex(i)));
+        }
+        for (int i = 0; i < g.edgeSet().size(); i++) {
+            assertEquals(i, g.getEdgeIndex(g.getEdge(i)));
+        }
+
+        GraphPath<String, DefaultWeightedEdge> path =
+            new DijkstraShortestPath<>(g).getPath("a", "d");
+        assertEquals(Arrays.asList("a", "b", "c", "d"), path.getVertexList());
+        assertEquals(4.0, path.getWeight(), 1e-9);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderDuplicateEdge()
+    {
+        DefaultEdge e = new DefaultEdge();
+        new CSRGraph.Builder<String, DefaultEdge>(
+            new ClassBasedEdgeFactory<>(DefaultEdge.class), true, false)
+                .addEdge("a", "b", e).addEdge("b", "c", e).build();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiable()
+    {
+        SimpleGraph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        g.addVertex(0);
+        new CSRGraph<>(g).addVertex(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingVertex()
+    {
+        SimpleGraph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        g.addVertex(0);
+        new CSRGraph<>(g).edgesOf(1);
+    }
+}
+
+// End CSRGraphTest.java
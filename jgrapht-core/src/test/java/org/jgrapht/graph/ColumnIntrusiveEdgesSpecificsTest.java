@@ -0,0 +1,204 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.jgrapht.EdgeFactory;
+import org.jgrapht.Graph;
+import org.jgrapht.Graphs;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.generate.GnmRandomGraphGenerator;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ColumnIntrusiveEdgesSpecifics}.
+ * 
+ * @author agent
+ */
+public class ColumnIntrusiveEdgesSpecificsTest
+{
+    private static <V, E> DirectedWeightedPseudograph<V, E> createGraph(EdgeFactory<V, E> ef)
+    {
+        return new DirectedWeightedPseudograph<>(ef, true);
+    }
+
+    @Test
+    public void testAddRemove()
+    {
+        ColumnIntrusiveEdgesSpecifics<Integer, String> specifics =
+            new ColumnIntrusiveEdgesSpecifics<>(true);
+        Map<String, double[]> expected = new LinkedHashMap<>();
+        List<String> present = new ArrayList<>();
+        Random rng = new Random(17);
+
+        for (int i = 0; i < 5000; i++) {
+            if (present.isEmpty() || rng.nextInt(3) != 0) {
+                String e = "e" + i;
+                int s = rng.nextInt(100), t = rng.nextInt(100);
+                double w = rng.nextDouble();
+                specifics.add(e, s, t);
+                specifics.setEdgeWeight(e, w);
+                expected.put(e, new double[] { s, t, w });
+                present.add(e);
+            } else {
+                String e = present.remove(rng.nextInt(present.size()));
+                specifics.remove(e);
+                expected.remove(e);
+                assertFalse(specifics.containsEdge(e));
+            }
+        }
+
+        assertEquals(expected.size(), specifics.getEdgeCount());
+        assertEquals(expected.keySet(), new HashSet<>(specifics.getEdgeSet()));
+        for (Map.Entry<String, double[]> entry : expected.entrySet()) {
+            String e = entry.getKey();
+            assertTrue(specifics.containsEdge(e));
+            assertEquals((int) entry.getValue()[0], specifics.getEdgeSource(e).intValue());
+            assertEquals((int) entry.getValue()[1], specifics.getEdgeTarget(e).intValue());
+            assertEquals(entry.getValue()[2], specifics.getEdgeWeight(e), 0d);
+
+            int index = specifics.getEdgeIndex(e);
+            assertSame(e, specifics.getEdge(index));
+            assertEquals(entry.getValue()[2], specifics.getEdgeWeight(index), 0d);
+        }
+        assertEquals(-1, specifics.getEdgeIndex("missing"));
+        assertFalse(specifics.containsEdge(null));
+    }
+
+    @Test
+    public void testDefaultWeightedEdges()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createGraph(
+            new ClassBasedEdgeFactory<Integer, DefaultWeightedEdge>(DefaultWeightedEdge.class));
+        Graph<Integer, DefaultWeightedEdge> reference =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        GnmRandomGraphGenerator<Integer, DefaultWeightedEdge> generator =
+            new GnmRandomGraphGenerator<>(100, 1000, 7, true, true);
+        generator.generateGraph(reference, new IntegerVertexFactory(), null);
+
+        Random rng = new Random(7);
+        for (DefaultWeightedEdge e : reference.edgeSet()) {
+            reference.setEdgeWeight(e, rng.nextDouble());
+        }
+        // edges keep their weight when added to another graph
+        Graphs.addGraph(g, reference);
+        assertEquals(reference.toString(), g.toString());
+
+        DefaultWeightedEdge e = g.edgeSet().iterator().next();
+        g.setEdgeWeight(e, 100d);
+        assertEquals(100d, reference.getEdgeWeight(e), 0d);
+
+        for (Integer v : reference.vertexSet()) {
+            assertEquals(
+                new DijkstraShortestPath<>(reference).getPaths(0).getWeight(v),
+                new DijkstraShortestPath<>(g).getPaths(0).getWeight(v), 1e-9);
+        }
+
+        g.removeVertex(0);
+        reference.removeVertex(0);
+        assertEquals(reference.edgeSet(), g.edgeSet());
+
+        @SuppressWarnings("unchecked")
+        Graph<Integer, DefaultWeightedEdge> clone =
+            (Graph<Integer, DefaultWeightedEdge>) ((AbstractBaseGraph<?, ?>) g).clone();
+        assertEquals(g.edgeSet(), clone.edgeSet());
+    }
+
+    @Test
+    public void testSerialization()
+        throws Exception
+    {
+        Graph<String, String> g =
+            createGraph((EdgeFactory<String, String> & Serializable) (s, t) -> s + t);
+        g.addVertex("a");
+        g.addVertex("b");
+        g.addEdge("a", "b");
+        g.addEdge("b", "a");
+        g.setEdgeWeight("ab", 2d);
+        g.removeEdge("ab");
+        g.addEdge("a", "b");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(g);
+        }
+        @SuppressWarnings("unchecked")
+        Graph<String, String> copy = (Graph<String, String>) new ObjectInputStream(
+            new ByteArrayInputStream(bytes.toByteArray())).readObject();
+
+        assertEquals(g.edgeSet(), copy.edgeSet());
+        assertEquals("a", copy.getEdgeSource("ab"));
+        assertEquals(1d, copy.getEdgeWeight("ab"), 0d);
+        assertTrue(copy.containsEdge("b", "a"));
+        assertNull(copy.getEdge("b", "b"));
+    }
+
+    @Test
+    public void testPseudographColumnEdges()
+    {
+        Pseudograph<String, DefaultEdge> g =
+            new Pseudograph<>(new ClassBasedEdgeFactory<>(DefaultEdge.class), false, true);
+        DefaultEdge ab = Graphs.addEdgeWithVertices(g, "a", "b");
+        DefaultEdge bc = Graphs.addEdgeWithVertices(g, "b", "c");
+        DefaultEdge ca = Graphs.addEdgeWithVertices(g, "c", "a");
+
+        // the last edge takes the index of a removed edge
+        g.removeEdge(ab);
+        assertEquals(Arrays.asList(ca, bc), new ArrayList<>(g.edgeSet()));
+        assertEquals("c", g.getEdgeSource(ca));
+        assertEquals("a", g.getEdgeTarget(ca));
+        assertEquals(1d, g.getEdgeWeight(bc), 0d);
+
+        // clones keep the storage
+        @SuppressWarnings("unchecked")
+        Graph<String, DefaultEdge> copy = (Graph<String, DefaultEdge>) g.clone();
+        copy.removeEdge(ca);
+        assertEquals(Arrays.asList(bc), new ArrayList<>(copy.edgeSet()));
+        assertTrue(g.containsEdge(ca));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnweighted()
+    {
+        ColumnIntrusiveEdgesSpecifics<Integer, String> specifics =
+            new ColumnIntrusiveEdgesSpecifics<>(false);
+        specifics.add("e", 1, 2);
+        assertEquals(1d, specifics.getEdgeWeight("e"), 0d);
+        specifics.setEdgeWeight("e", 2d);
+    }
+}
+
+// End ColumnIntrusiveEdgesSpecificsTest.java
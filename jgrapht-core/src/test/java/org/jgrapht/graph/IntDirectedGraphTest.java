@@ -0,0 +1,155 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.traverse.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link IntDirectedGraph}.
+ *
+ * @author agent
+ */
+public class IntDirectedGraphTest
+{
+
+    private IntDirectedGraph createGraph()
+    {
+        IntDirectedGraph g = new IntDirectedGraph(4, true);
+        g.setEdgeWeight(g.addEdge(0, 1), 1.0);
+        g.setEdgeWeight(g.addEdge(0, 2), 4.0);
+        g.setEdgeWeight(g.addEdge(1, 2), 1.0);
+        g.setEdgeWeight(g.addEdge(2, 3), 1.0);
+        g.setEdgeWeight(g.addEdge(2, 2), 1.0);
+        g.setEdgeWeight(g.addEdge(0, 1), 7.0);
+        return g;
+    }
+
+    @Test
+    public void testPrimitiveAccessors()
+    {
+        IntDirectedGraph g = createGraph();
+
+        assertEquals(4, g.vertexCount());
+        assertEquals(6, g.edgeCount());
+        assertEquals(3, g.outDegreeOf(0));
+        assertEquals(0, g.inDegreeOf(0));
+        assertEquals(5, g.degreeOf(2));
+        assertEquals(2, g.getEdgeSource(4));
+        assertEquals(3, g.getEdgeTarget(3));
+        assertEquals(7.0, g.getEdgeWeight(5), 1e-9);
+
+        List<Integer> successors = new ArrayList<>();
+        g.forEachSuccessor(0, successors::add);
+        assertEquals(Arrays.asList(1, 2, 1), successors);
+
+        List<Integer> predecessors = new ArrayList<>();
+        g.forEachPredecessor(2, predecessors::add);
+        assertEquals(Arrays.asList(0, 1, 2), predecessors);
+
+        List<Integer> edges = new ArrayList<>();
+        g.forEachOutgoingEdge(2, edges::add);
+        g.forEachIncomingEdge(3, edges::add);
+        assertEquals(Arrays.asList(3, 4, 3), edges);
+    }
+
+    @Test
+    public void testGenericView()
+    {
+        IntDirectedGraph g = createGraph();
+
+        DirectedWeightedPseudograph<Integer, Integer> expected =
+            new DirectedWeightedPseudograph<>((s, t) -> null);
+        Graphs.addAllVertices(expected, g.vertexSet());
+        for (Integer e : g.edgeSet()) {
+            expected.addEdge(g.getEdgeSource(e), g.getEdgeTarget(e), e);
+            expected.setEdgeWeight(e, g.getEdgeWeight(e));
+        }
+
+        assertEquals(expected.vertexSet(), g.vertexSet());
+        assertEquals(expected.edgeSet(), g.edgeSet());
+        for (Integer v : expected.vertexSet()) {
+            assertEquals(expected.degreeOf(v), g.degreeOf(v));
+            assertEquals(expected.inDegreeOf(v), g.inDegreeOf(v));
+            assertEquals(expected.outDegreeOf(v), g.outDegreeOf(v));
+            assertEquals(expected.edgesOf(v), g.edgesOf(v));
+            assertEquals(expected.edgesOf(v).size(), g.edgesOf(v).size());
+            assertEquals(expected.incomingEdgesOf(v), g.incomingEdgesOf(v));
+            assertEquals(expected.outgoingEdgesOf(v), g.outgoingEdgesOf(v));
+            for (Integer u : expected.vertexSet()) {
+                assertEquals(expected.getAllEdges(v, u), g.getAllEdges(v, u));
+            }
+        }
+    }
+
+    @Test
+    public void testAlgorithms()
+    {
+        IntDirectedGraph g = createGraph();
+
+        List<Integer> order = new ArrayList<>();
+        new BreadthFirstIterator<>(g, 0).forEachRemaining(order::add);
+        assertEquals(Arrays.asList(0, 1, 2, 3), order);
+
+        GraphPath<Integer, Integer> path = new DijkstraShortestPath<>(g).getPath(0, 3);
+        assertEquals(Arrays.asList(0, 1, 2, 3), path.getVertexList());
+        assertEquals(3.0, path.getWeight(), 1e-9);
+    }
+
+    @Test
+    public void testAddVertex()
+    {
+        IntDirectedGraph g = new IntDirectedGraph();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, g.addVertex());
+        }
+        assertTrue(g.addVertex(100));
+        assertFalse(g.addVertex(50));
+        assertEquals(101, g.vertexSet().size());
+        assertEquals(Integer.valueOf(0), g.addEdge(Integer.valueOf(99), Integer.valueOf(100)));
+        assertTrue(g.addEdge(1, 2, Integer.valueOf(1)));
+        assertFalse(g.addEdge(1, 2, Integer.valueOf(1)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonConsecutiveVertex()
+    {
+        new IntDirectedGraph().addVertex(1);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRemoval()
+    {
+        createGraph().removeEdge(0);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnweighted()
+    {
+        IntDirectedGraph g = new IntDirectedGraph(2, false);
+        g.setEdgeWeight(g.addEdge(0, 1), 2.0);
+    }
+}
+
+// End IntDirectedGraphTest.java
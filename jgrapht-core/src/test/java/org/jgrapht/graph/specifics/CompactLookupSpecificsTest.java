@@ -0,0 +1,227 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.specifics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jgrapht.Graph;
+import org.jgrapht.Graphs;
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.DirectedPseudograph;
+import org.jgrapht.graph.Pseudograph;
+import org.jgrapht.util.TypeUtil;
+import org.junit.Test;
+
+/**
+ * Tests for {@link CompactLookupDirectedSpecifics} and {@link CompactLookupUndirectedSpecifics}.
+ * 
+ * @author agent
+ */
+public class CompactLookupSpecificsTest
+{
+    private static class CompactDirectedPseudograph<V>
+        extends DirectedPseudograph<V, DefaultEdge>
+    {
+        private static final long serialVersionUID = 1L;
+
+        CompactDirectedPseudograph()
+        {
+            super(DefaultEdge.class);
+        }
+
+        @Override
+        protected Specifics<V, DefaultEdge> createSpecifics(boolean directed)
+        {
+            return new CompactLookupDirectedSpecifics<>(this);
+        }
+    }
+
+    private static class CompactPseudograph<V>
+        extends Pseudograph<V, DefaultEdge>
+    {
+        private static final long serialVersionUID = 1L;
+
+        CompactPseudograph()
+        {
+            super(DefaultEdge.class);
+        }
+
+        @Override
+        protected Specifics<V, DefaultEdge> createSpecifics(boolean directed)
+        {
+            return new CompactLookupUndirectedSpecifics<>(this);
+        }
+    }
+
+    @Test
+    public void testDirected()
+    {
+        runRandomOperations(new CompactDirectedPseudograph<>(),
+            new DirectedPseudograph<>(DefaultEdge.class), 30);
+    }
+
+    @Test
+    public void testManyVertices()
+    {
+        runRandomOperations(new CompactDirectedPseudograph<>(),
+            new DirectedPseudograph<>(DefaultEdge.class), 500);
+        runRandomOperations(new CompactPseudograph<>(), new Pseudograph<>(DefaultEdge.class), 500);
+    }
+
+    @Test
+    public void testUndirected()
+    {
+        runRandomOperations(new CompactPseudograph<>(), new Pseudograph<>(DefaultEdge.class), 30);
+    }
+
+    @Test
+    public void testMissingVertices()
+    {
+        Graph<Integer, DefaultEdge> g = new CompactPseudograph<>();
+        g.addVertex(1);
+        assertNull(g.getEdge(1, 2));
+        assertNull(g.getAllEdges(1, 2));
+        assertEquals(0, g.getAllEdges(1, 1).size());
+    }
+
+    @Test
+    public void testSerialization()
+        throws Exception
+    {
+        testSerialization(new CompactDirectedPseudograph<>());
+        testSerialization(new CompactPseudograph<>());
+    }
+
+    private static void testSerialization(Graph<Node, DefaultEdge> g)
+        throws Exception
+    {
+        // vertices with identity hash codes, which change across serialization
+        Node[] nodes = new Node[8];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = new Node();
+            g.addVertex(nodes[i]);
+        }
+        for (int i = 0; i < nodes.length; i++) {
+            g.addEdge(nodes[i], nodes[(i + 1) % nodes.length]);
+            g.addEdge(nodes[i], nodes[(i + 3) % nodes.length]);
+        }
+        g.addEdge(nodes[0], nodes[1]);
+        g.addEdge(nodes[2], nodes[2]);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(g);
+        }
+        Graph<Node, DefaultEdge> copy;
+        try (ObjectInputStream in =
+            new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+        {
+            copy = TypeUtil.uncheckedCast(in.readObject(), null);
+        }
+
+        assertEquals(g.edgeSet().size(), copy.edgeSet().size());
+        for (DefaultEdge e : copy.edgeSet()) {
+            Node u = copy.getEdgeSource(e);
+            Node v = copy.getEdgeTarget(e);
+            assertTrue(copy.containsEdge(u, v));
+            assertTrue(copy.getAllEdges(u, v).contains(e));
+            assertTrue(copy.getEdge(u, v) != null);
+        }
+        Node first = copy.vertexSet().iterator().next();
+        Node second = Graphs.successorListOf(copy, first).get(0);
+        assertEquals(2, copy.getAllEdges(first, second).size());
+
+        // the index remains usable after deserialization
+        DefaultEdge e = copy.getEdge(first, second);
+        copy.removeEdge(e);
+        assertEquals(1, copy.getAllEdges(first, second).size());
+        copy.removeAllEdges(new ArrayList<>(copy.edgeSet()));
+        assertNull(copy.getEdge(first, second));
+    }
+
+    private static class Node
+        implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static void runRandomOperations(
+        Graph<Integer, DefaultEdge> g, Graph<Integer, DefaultEdge> expected, int n)
+    {
+        Random rng = new Random(33);
+        for (int v = 0; v < n; v++) {
+            g.addVertex(v);
+            expected.addVertex(v);
+        }
+
+        for (int i = 0; i < 20000; i++) {
+            int u = rng.nextInt(n), v = rng.nextInt(n);
+            int op = rng.nextInt(10);
+            if (op < 6) {
+                DefaultEdge e = new DefaultEdge();
+                g.addEdge(u, v, e);
+                expected.addEdge(u, v, e);
+            } else if (op < 9) {
+                DefaultEdge e = expected.getEdge(u, v);
+                if (e != null) {
+                    g.removeEdge(e);
+                    expected.removeEdge(e);
+                }
+            } else {
+                g.removeVertex(u);
+                expected.removeVertex(u);
+                g.addVertex(u);
+                expected.addVertex(u);
+            }
+        }
+
+        assertEquals(expected.edgeSet(), g.edgeSet());
+        for (int u = 0; u < n; u++) {
+            for (int v = 0; v < n; v++) {
+                assertEquals(expected.getAllEdges(u, v), g.getAllEdges(u, v));
+                assertEquals(expected.containsEdge(u, v), g.containsEdge(u, v));
+                DefaultEdge e = g.getEdge(u, v);
+                if (e != null) {
+                    assertTrue(expected.getAllEdges(u, v).contains(e));
+                }
+            }
+        }
+
+        // remove everything and verify lookups are empty
+        List<DefaultEdge> edges = new ArrayList<>(g.edgeSet());
+        g.removeAllEdges(edges);
+        for (int u = 0; u < n; u++) {
+            for (int v = 0; v < n; v++) {
+                assertNull(g.getEdge(u, v));
+            }
+        }
+    }
+}
+
+// End CompactLookupSpecificsTest.java
@@ -0,0 +1,117 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.connectivity;
+
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import junit.framework.*;
+
+/**
+ * A small benchmark comparing strong connectivity algorithms on sparse random directed graphs.
+ *
+ * @author agent
+ */
+public class StrongConnectivityPerformanceTest
+    extends TestCase
+{
+    public static final int PERF_BENCHMARK_VERTICES_COUNT = 20000;
+    public static final int PERF_BENCHMARK_EDGES_COUNT = 30000;
+
+    @State(Scope.Benchmark)
+    private static abstract class RandomGraphBenchmarkBase
+    {
+        public static final long SEED = 13l;
+
+        private Graph<Integer, DefaultEdge> graph;
+
+        abstract StrongConnectivityAlgorithm<Integer, DefaultEdge> createSolver(
+            Graph<Integer, DefaultEdge> graph);
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            graph = new DirectedPseudograph<>(DefaultEdge.class);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(
+                PERF_BENCHMARK_VERTICES_COUNT, PERF_BENCHMARK_EDGES_COUNT, SEED, true, true)
+                    .generateGraph(graph, new IntegerVertexFactory(), null);
+        }
+
+        @Benchmark
+        public int run()
+        {
+            return createSolver(graph).stronglyConnectedSets().size();
+        }
+    }
+
+    public static class GabowRandomGraphBenchmark
+        extends RandomGraphBenchmarkBase
+    {
+        @Override
+        StrongConnectivityAlgorithm<Integer, DefaultEdge> createSolver(
+            Graph<Integer, DefaultEdge> graph)
+        {
+            return new GabowStrongConnectivityInspector<>(graph);
+        }
+    }
+
+    public static class KosarajuRandomGraphBenchmark
+        extends RandomGraphBenchmarkBase
+    {
+        @Override
+        StrongConnectivityAlgorithm<Integer, DefaultEdge> createSolver(
+            Graph<Integer, DefaultEdge> graph)
+        {
+            return new KosarajuStrongConnectivityInspector<>(graph);
+        }
+    }
+
+    public static class PearceRandomGraphBenchmark
+        extends RandomGraphBenchmarkBase
+    {
+        @Override
+        StrongConnectivityAlgorithm<Integer, DefaultEdge> createSolver(
+            Graph<Integer, DefaultEdge> graph)
+        {
+            return new PearceStrongConnectivityInspector<>(graph);
+        }
+    }
+
+    public void testRandomGraphBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + GabowRandomGraphBenchmark.class.getSimpleName() + ".*")
+            .include(".*" + KosarajuRandomGraphBenchmark.class.getSimpleName() + ".*")
+            .include(".*" + PearceRandomGraphBenchmark.class.getSimpleName() + ".*")
+            .mode(Mode.SingleShotTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(5)
+            .measurementIterations(10).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+}
+
+// End StrongConnectivityPerformanceTest.java
@@ -103,6 +103,23 @@ public class DijkstraShortestPathPerformanceTest
         }
     }
 
+    public static class IndexedDijkstraBenchmark
+        extends BenchmarkBase
+    {
+        @Override
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> createSolver(
+            Graph<Integer, DefaultWeightedEdge> graph)
+        {
+            return new DijkstraShortestPath<>(graph, Double.POSITIVE_INFINITY, true);
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Dijkstra (indexed)";
+        }
+    }
+
     public static class ClosestFirstIteratorBenchmark
         extends BenchmarkBase
     {
@@ -174,6 +191,23 @@ public class DijkstraShortestPathPerformanceTest
         }
     }
 
+    public static class ContractionHierarchyBenchmark
+        extends BenchmarkBase
+    {
+        @Override
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> createSolver(
+            Graph<Integer, DefaultWeightedEdge> graph)
+        {
+            return new ContractionHierarchyBidirectionalDijkstra<>(graph);
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Contraction hierarchy (including preprocessing)";
+        }
+    }
+
     public static class AStarNoHeuristicBenchmark
         extends BenchmarkBase
     {
@@ -235,10 +269,12 @@ public class DijkstraShortestPathPerformanceTest
         List<Supplier<BenchmarkBase>> algFactory = new ArrayList<>();
         algFactory.add(() -> new ClosestFirstIteratorBenchmark());
         algFactory.add(() -> new DijkstraBenchmark());
+        algFactory.add(() -> new IndexedDijkstraBenchmark());
         algFactory.add(() -> new AStarNoHeuristicBenchmark());
         algFactory.add(() -> new ALTBenchmark(1));
         algFactory.add(() -> new ALTBenchmark(5));
         algFactory.add(() -> new BidirectionalDijkstraBenchmark());
+        algFactory.add(() -> new ContractionHierarchyBenchmark());
 
         for (Supplier<BenchmarkBase> alg : algFactory) {
 
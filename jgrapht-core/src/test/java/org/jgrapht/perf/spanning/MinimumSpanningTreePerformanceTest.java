@@ -24,6 +24,7 @@ import java.util.function.*;
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.alg.spanning.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.util.*;
@@ -32,7 +33,9 @@ import org.openjdk.jmh.runner.*;
 import junit.framework.*;
 
 /**
- * A small benchmark comparing spanning tree algorithms on random graphs.
+ * A small benchmark comparing spanning tree algorithms on random graphs. Kruskal's algorithm is
+ * also executed using the hash-based {@link UnionFind}, in order to report the speedup of the
+ * index-based {@link IntUnionFind} used by the spanning tree algorithms.
  * 
  * @author Dimitrios Michail
  */
@@ -114,6 +117,43 @@ public class MinimumSpanningTreePerformanceTest
         }
     }
 
+    public static class KruskalHashUnionFindBenchmark
+        extends BenchmarkBase
+    {
+        @Override
+        SpanningTreeAlgorithm<DefaultWeightedEdge> createSolver(
+            Graph<Integer, DefaultWeightedEdge> graph)
+        {
+            return () -> {
+                UnionFind<Integer> forest = new UnionFind<>(graph.vertexSet());
+                List<DefaultWeightedEdge> allEdges = new ArrayList<>(graph.edgeSet());
+                Collections.sort(
+                    allEdges, (edge1, edge2) -> Double
+                        .compare(graph.getEdgeWeight(edge1), graph.getEdgeWeight(edge2)));
+
+                double spanningTreeCost = 0;
+                Set<DefaultWeightedEdge> edgeList = new HashSet<>();
+                for (DefaultWeightedEdge edge : allEdges) {
+                    Integer source = graph.getEdgeSource(edge);
+                    Integer target = graph.getEdgeTarget(edge);
+                    if (forest.find(source).equals(forest.find(target))) {
+                        continue;
+                    }
+                    forest.union(source, target);
+                    edgeList.add(edge);
+                    spanningTreeCost += graph.getEdgeWeight(edge);
+                }
+                return new SpanningTreeAlgorithm.SpanningTreeImpl<>(edgeList, spanningTreeCost);
+            };
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Kruskal (hash union-find)";
+        }
+    }
+
     public static class BoruvkaBenchmark
         extends BenchmarkBase
     {
@@ -145,6 +185,7 @@ public class MinimumSpanningTreePerformanceTest
         List<Supplier<BenchmarkBase>> algFactory = new ArrayList<>();
         algFactory.add(() -> new PrimBenchmark());
         algFactory.add(() -> new KruskalBenchmark());
+        algFactory.add(() -> new KruskalHashUnionFindBenchmark());
         algFactory.add(() -> new BoruvkaBenchmark());
 
         for (Supplier<BenchmarkBase> alg : algFactory) {
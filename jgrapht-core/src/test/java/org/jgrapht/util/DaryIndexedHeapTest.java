@@ -0,0 +1,111 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import java.util.*;
+
+import junit.framework.*;
+
+/**
+ * Tests for {@link DaryIndexedHeap}.
+ *
+ * @author agent
+ */
+public class DaryIndexedHeapTest
+    extends TestCase
+{
+
+    public void testInsertDeleteMin()
+    {
+        for (int arity : new int[] { 2, 3, 4, 8 }) {
+            Random rng = new Random(arity);
+            int n = 1000;
+            DaryIndexedHeap h = new DaryIndexedHeap(n, arity);
+            double[] keys = new double[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = rng.nextDouble();
+                h.insert(i, keys[i]);
+            }
+            assertEquals(n, h.size());
+
+            // decrease some keys
+            for (int i = 0; i < n; i += 3) {
+                keys[i] /= 2;
+                h.decreaseKey(i, keys[i]);
+                assertEquals(keys[i], h.getKey(i));
+            }
+
+            double last = Double.NEGATIVE_INFINITY;
+            while (!h.isEmpty()) {
+                double minKey = h.findMinKey();
+                int min = h.deleteMin();
+                assertEquals(keys[min], minKey);
+                assertTrue(last <= minKey);
+                assertFalse(h.contains(min));
+                last = minKey;
+            }
+        }
+    }
+
+    public void testClearAndReuse()
+    {
+        DaryIndexedHeap h = new DaryIndexedHeap(10);
+        h.insert(3, 1.0);
+        h.insert(7, 0.5);
+        assertTrue(h.contains(3));
+        h.clear();
+        assertTrue(h.isEmpty());
+        assertFalse(h.contains(3));
+        assertFalse(h.contains(7));
+
+        h.insert(3, 2.0);
+        h.insert(9, 1.0);
+        assertEquals(9, h.findMin());
+        assertEquals(9, h.deleteMin());
+        assertEquals(3, h.deleteMin());
+    }
+
+    public void testInvalidOperations()
+    {
+        DaryIndexedHeap h = new DaryIndexedHeap(2);
+        h.insert(0, 1.0);
+        try {
+            h.insert(0, 2.0);
+            fail("No!");
+        } catch (IllegalArgumentException e) {
+        }
+        try {
+            h.decreaseKey(0, 3.0);
+            fail("No!");
+        } catch (IllegalArgumentException e) {
+        }
+        try {
+            h.decreaseKey(1, 0.0);
+            fail("No!");
+        } catch (IllegalArgumentException e) {
+        }
+        h.deleteMin();
+        try {
+            h.deleteMin();
+            fail("No!");
+        } catch (NoSuchElementException e) {
+        }
+    }
+}
+
+// End DaryIndexedHeapTest.java
@@ -0,0 +1,142 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.nio.charset.*;
+
+/**
+ * Parsing of numbers and whitespace directly from ASCII encoded bytes.
+ *
+ * <p>
+ * Used by the byte-level importers in order to parse numeric fields without decoding them into
+ * strings first.
+ *
+ * @author agent
+ */
+final class AsciiParsing
+{
+    private static final double[] POWERS_OF_TEN =
+        { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15 };
+
+    private AsciiParsing()
+    {
+    }
+
+    /**
+     * Check whether a byte is whitespace, as matched by the regular expression {@code \s}.
+     *
+     * @param b the byte
+     * @return true if the byte is whitespace, false otherwise
+     */
+    static boolean isBlank(byte b)
+    {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n' || b == '\f' || b == 0x0B;
+    }
+
+    /**
+     * Parse a decimal integer with an optional sign, as {@link Integer#parseInt(String)} does.
+     *
+     * @param data the array containing the number
+     * @param from the start of the number, inclusive
+     * @param to the end of the number, exclusive
+     * @return the number
+     * @throws NumberFormatException if the bytes do not form an integer in range
+     */
+    static int parseInt(byte[] data, int from, int to)
+    {
+        int i = from;
+        boolean negative = i < to && data[i] == '-';
+        if (negative || (i < to && data[i] == '+')) {
+            i++;
+        }
+        if (i == to) {
+            throw invalidNumber(data, from, to);
+        }
+        long value = 0;
+        for (; i < to; i++) {
+            int digit = data[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw invalidNumber(data, from, to);
+            }
+            value = 10 * value + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw invalidNumber(data, from, to);
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw invalidNumber(data, from, to);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Parse a floating point number, with the same result as {@link Double#parseDouble(String)}.
+     *
+     * @param data the array containing the number
+     * @param from the start of the number, inclusive
+     * @param to the end of the number, exclusive
+     * @return the number
+     * @throws NumberFormatException if the bytes do not form a floating point number
+     */
+    static double parseDouble(byte[] data, int from, int to)
+    {
+        // fast path for plain decimals with at most 15 significant digits, which are exactly
+        // representable, thus a single division is correctly rounded
+        int i = from;
+        boolean negative = i < to && data[i] == '-';
+        if (negative || (i < to && data[i] == '+')) {
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; i < to; i++) {
+            byte b = data[i];
+            if (b >= '0' && b <= '9') {
+                mantissa = 10 * mantissa + (b - '0');
+                digits++;
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else if (b == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else {
+                break;
+            }
+        }
+        if (i == to && digits > 0 && digits <= 15) {
+            double value = mantissa;
+            if (fractionDigits > 0) {
+                value /= POWERS_OF_TEN[fractionDigits];
+            }
+            return negative ? -value : value;
+        }
+
+        return Double.parseDouble(new String(data, from, to - from, StandardCharsets.US_ASCII));
+    }
+
+    private static NumberFormatException invalidNumber(byte[] data, int from, int to)
+    {
+        return new NumberFormatException(
+            "For input string: \"" + new String(data, from, to - from, StandardCharsets.UTF_8)
+                + "\"");
+    }
+}
+
+// End AsciiParsing.java
@@ -0,0 +1,513 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import org.jgrapht.*;
+
+/**
+ * The sections of a binary snapshot, as written by {@link BinarySnapshotExporter}.
+ *
+ * <p>
+ * A snapshot starts with a fixed header of seven 32-bit integers: the magic number, the format
+ * version, the flags (directed and weighted), the number of vertices n, the number of edges m, the
+ * number of vertex attribute columns and the number of edge attribute columns. The header is
+ * followed by a sequence of sections, each consisting of its length in bytes as a 64-bit integer
+ * followed by its content:
+ * <ol>
+ * <li>the vertex identifier offsets, n+1 integers</li>
+ * <li>the vertex identifier data, UTF-8 encoded</li>
+ * <li>the outgoing edge offsets, n+1 integers</li>
+ * <li>the edge sources, m integers</li>
+ * <li>the edge targets, m integers</li>
+ * <li>the incoming edge offsets, n+1 integers</li>
+ * <li>the incoming edges, m integers</li>
+ * <li>the edge weights, m doubles, or empty if the snapshot is unweighted</li>
+ * <li>for each vertex attribute column the key, the n+1 value offsets and the value data</li>
+ * <li>for each edge attribute column the key, the m+1 value offsets and the value data</li>
+ * </ol>
+ * Edges are sorted by source and target, thus the outgoing edges of vertex v are the edges with
+ * indices in the range given by the outgoing edge offsets of v and v+1. The incoming edges of v
+ * are the edges listed in the corresponding range of the incoming edges section. All values are
+ * stored in big-endian byte order.
+ *
+ * <p>
+ * The sections are either read into heap buffers from a stream or memory mapped from a file. Each
+ * section is split into segments of at most 1 GiB, which are read or mapped separately, thus
+ * neither a section nor the whole file is limited by the maximum size of a single buffer. Since
+ * string values are addressed using 32-bit offsets, each string data section is limited to 2 GiB.
+ *
+ * @author agent
+ */
+final class BinarySnapshot
+{
+    static final int MAGIC = 0x4A475348;
+    static final int VERSION = 1;
+    static final int FLAG_DIRECTED = 1;
+    static final int FLAG_WEIGHTED = 2;
+    static final int HEADER_SIZE = 7 * Integer.BYTES;
+    static final int SEGMENT_SHIFT = 30;
+
+    final boolean directed;
+    final boolean weighted;
+    final int n;
+    final int m;
+
+    private final Section vertexIdOffsets;
+    private final Section vertexIdData;
+    final Section outOffsets;
+    final Section edgeSources;
+    final Section edgeTargets;
+    final Section inOffsets;
+    final Section inEdges;
+    private final Section edgeWeights;
+    final List<String> vertexAttributeKeys;
+    private final List<Section> vertexAttributeOffsets;
+    private final List<Section> vertexAttributeData;
+    final List<String> edgeAttributeKeys;
+    private final List<Section> edgeAttributeOffsets;
+    private final List<Section> edgeAttributeData;
+
+    private BinarySnapshot(SectionReader reader)
+        throws IOException, ImportException
+    {
+        ByteBuffer header = reader.readHeader();
+        if (header.getInt() != MAGIC) {
+            throw new ImportException("Not a binary graph snapshot");
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new ImportException("Unsupported snapshot version: " + version);
+        }
+        int flags = header.getInt();
+        this.directed = (flags & FLAG_DIRECTED) != 0;
+        this.weighted = (flags & FLAG_WEIGHTED) != 0;
+        this.n = header.getInt();
+        this.m = header.getInt();
+        int vertexColumns = header.getInt();
+        int edgeColumns = header.getInt();
+        if (n < 0 || m < 0 || vertexColumns < 0 || edgeColumns < 0) {
+            throw new ImportException("Corrupted snapshot header");
+        }
+
+        this.vertexIdOffsets = intSection(reader, n + 1);
+        this.vertexIdData = reader.readSection();
+        this.outOffsets = intSection(reader, n + 1);
+        this.edgeSources = intSection(reader, m);
+        this.edgeTargets = intSection(reader, m);
+        this.inOffsets = intSection(reader, n + 1);
+        this.inEdges = intSection(reader, m);
+        this.edgeWeights = reader.readSection();
+        if (edgeWeights.length != (weighted ? (long) m * Double.BYTES : 0)) {
+            throw new ImportException("Corrupted snapshot weights section");
+        }
+
+        this.vertexAttributeKeys = new ArrayList<>(vertexColumns);
+        this.vertexAttributeOffsets = new ArrayList<>(vertexColumns);
+        this.vertexAttributeData = new ArrayList<>(vertexColumns);
+        for (int i = 0; i < vertexColumns; i++) {
+            vertexAttributeKeys.add(decode(reader.readSection()));
+            vertexAttributeOffsets.add(intSection(reader, n + 1));
+            vertexAttributeData.add(reader.readSection());
+        }
+        this.edgeAttributeKeys = new ArrayList<>(edgeColumns);
+        this.edgeAttributeOffsets = new ArrayList<>(edgeColumns);
+        this.edgeAttributeData = new ArrayList<>(edgeColumns);
+        for (int i = 0; i < edgeColumns; i++) {
+            edgeAttributeKeys.add(decode(reader.readSection()));
+            edgeAttributeOffsets.add(intSection(reader, m + 1));
+            edgeAttributeData.add(reader.readSection());
+        }
+    }
+
+    /**
+     * Read a snapshot from an input stream into heap buffers.
+     *
+     * @param in the input stream
+     * @return the snapshot
+     * @throws ImportException in case of an I/O error or an invalid snapshot
+     */
+    static BinarySnapshot read(InputStream in)
+        throws ImportException
+    {
+        return read(in, SEGMENT_SHIFT);
+    }
+
+    /**
+     * Read a snapshot from an input stream into heap buffers of a given maximum size.
+     *
+     * @param in the input stream
+     * @param segmentShift the base two logarithm of the maximum segment size, at least three
+     * @return the snapshot
+     * @throws ImportException in case of an I/O error or an invalid snapshot
+     */
+    static BinarySnapshot read(InputStream in, int segmentShift)
+        throws ImportException
+    {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in, 1 << 16));
+        try {
+            return new BinarySnapshot(new SectionReader(segmentShift)
+            {
+                @Override
+                ByteBuffer readHeader()
+                    throws IOException
+                {
+                    return readSegment(HEADER_SIZE);
+                }
+
+                @Override
+                long readLength()
+                    throws IOException
+                {
+                    return data.readLong();
+                }
+
+                @Override
+                ByteBuffer readSegment(int length)
+                    throws IOException
+                {
+                    byte[] segment = new byte[length];
+                    data.readFully(segment);
+                    return ByteBuffer.wrap(segment);
+                }
+            });
+        } catch (IOException e) {
+            throw new ImportException(e);
+        }
+    }
+
+    /**
+     * Open a snapshot from a file by memory mapping each of its sections.
+     *
+     * @param file the file
+     * @return the snapshot
+     * @throws ImportException in case of an I/O error or an invalid snapshot
+     */
+    static BinarySnapshot map(File file)
+        throws ImportException
+    {
+        return map(file, SEGMENT_SHIFT);
+    }
+
+    /**
+     * Open a snapshot from a file by memory mapping its sections in segments of a given maximum
+     * size.
+     *
+     * @param file the file
+     * @param segmentShift the base two logarithm of the maximum segment size, at least three
+     * @return the snapshot
+     * @throws ImportException in case of an I/O error or an invalid snapshot
+     */
+    static BinarySnapshot map(File file, int segmentShift)
+        throws ImportException
+    {
+        // the mappings remain valid after the channel is closed
+        try (FileChannel channel = new RandomAccessFile(file, "r").getChannel()) {
+            return new BinarySnapshot(new SectionReader(segmentShift)
+            {
+                private long position = 0;
+
+                @Override
+                ByteBuffer readHeader()
+                    throws IOException, ImportException
+                {
+                    return readFully(HEADER_SIZE);
+                }
+
+                @Override
+                long readLength()
+                    throws IOException, ImportException
+                {
+                    long length = readFully(Long.BYTES).getLong();
+                    if (length > channel.size() - position) {
+                        throw new ImportException("Unexpected end of snapshot");
+                    }
+                    return length;
+                }
+
+                @Override
+                ByteBuffer readSegment(int length)
+                    throws IOException
+                {
+                    ByteBuffer segment =
+                        channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                    position += length;
+                    return segment;
+                }
+
+                private ByteBuffer readFully(int length)
+                    throws IOException, ImportException
+                {
+                    ByteBuffer buffer = ByteBuffer.allocate(length);
+                    while (buffer.hasRemaining()) {
+                        if (channel.read(buffer, position + buffer.position()) < 0) {
+                            throw new ImportException("Unexpected end of snapshot");
+                        }
+                    }
+                    position += length;
+                    buffer.flip();
+                    return buffer;
+                }
+            });
+        } catch (IOException e) {
+            throw new ImportException(e);
+        }
+    }
+
+    /**
+     * Get the identifier of a vertex.
+     *
+     * @param v the vertex index
+     * @return the vertex identifier
+     */
+    String getVertexId(int v)
+    {
+        return decode(vertexIdData, vertexIdOffsets.getInt(v), vertexIdOffsets.getInt(v + 1));
+    }
+
+    /**
+     * Get the weight of an edge.
+     *
+     * @param e the edge index
+     * @return the edge weight, or the default edge weight if the snapshot is unweighted
+     */
+    double getEdgeWeight(int e)
+    {
+        return weighted ? edgeWeights.getDouble(e) : Graph.DEFAULT_EDGE_WEIGHT;
+    }
+
+    /**
+     * Get the value of a vertex attribute.
+     *
+     * @param column the attribute column
+     * @param v the vertex index
+     * @return the attribute value, or null if the vertex does not have the attribute
+     */
+    String getVertexAttribute(int column, int v)
+    {
+        return attribute(vertexAttributeOffsets.get(column), vertexAttributeData.get(column), v);
+    }
+
+    /**
+     * Get the value of an edge attribute.
+     *
+     * @param column the attribute column
+     * @param e the edge index
+     * @return the attribute value, or null if the edge does not have the attribute
+     */
+    String getEdgeAttribute(int column, int e)
+    {
+        return attribute(edgeAttributeOffsets.get(column), edgeAttributeData.get(column), e);
+    }
+
+    /**
+     * Check that all offsets and indices stored in the snapshot are within range, so that
+     * accessing the snapshot cannot fail. This requires a pass over all sections except the edge
+     * weights and the string data.
+     *
+     * @throws ImportException if the snapshot is corrupted
+     */
+    void validate()
+        throws ImportException
+    {
+        validateOffsets(outOffsets, n, m, "outgoing edge offsets");
+        validateOffsets(inOffsets, n, m, "incoming edge offsets");
+        validateIndices(edgeSources, m, n, "edge sources");
+        validateIndices(edgeTargets, m, n, "edge targets");
+        validateIndices(inEdges, m, m, "incoming edges");
+        validateOffsets(vertexIdOffsets, n, vertexIdData.length, "vertex identifier offsets");
+        for (int c = 0; c < vertexAttributeKeys.size(); c++) {
+            validateOffsets(
+                vertexAttributeOffsets.get(c), n, vertexAttributeData.get(c).length,
+                "vertex attribute offsets");
+        }
+        for (int c = 0; c < edgeAttributeKeys.size(); c++) {
+            validateOffsets(
+                edgeAttributeOffsets.get(c), m, edgeAttributeData.get(c).length,
+                "edge attribute offsets");
+        }
+    }
+
+    private static void validateOffsets(Section offsets, int count, long limit, String name)
+        throws ImportException
+    {
+        int previous = 0;
+        for (int i = 0; i <= count; i++) {
+            int offset = offsets.getInt(i);
+            if (offset < previous || offset > limit || (i == 0 && offset != 0)) {
+                throw new ImportException("Corrupted snapshot " + name + " at index " + i);
+            }
+            previous = offset;
+        }
+    }
+
+    private static void validateIndices(Section indices, int count, int bound, String name)
+        throws ImportException
+    {
+        for (int i = 0; i < count; i++) {
+            int index = indices.getInt(i);
+            if (index < 0 || index >= bound) {
+                throw new ImportException("Corrupted snapshot " + name + " at index " + i);
+            }
+        }
+    }
+
+    private static String attribute(Section offsets, Section data, int i)
+    {
+        int start = offsets.getInt(i);
+        int end = offsets.getInt(i + 1);
+        return start == end ? null : decode(data, start, end);
+    }
+
+    private static Section intSection(SectionReader reader, int length)
+        throws IOException, ImportException
+    {
+        Section section = reader.readSection();
+        if (section.length != (long) length * Integer.BYTES) {
+            throw new ImportException("Corrupted snapshot section");
+        }
+        return section;
+    }
+
+    private static String decode(Section section)
+        throws ImportException
+    {
+        if (section.length > Integer.MAX_VALUE) {
+            throw new ImportException("Corrupted snapshot attribute key");
+        }
+        return decode(section, 0, (int) section.length);
+    }
+
+    private static String decode(Section data, int start, int end)
+    {
+        return new String(data.getBytes(start, end - start), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A section of a snapshot, stored as a sequence of buffers which all except the last have the
+     * same size, a power of two and at least eight bytes. Thus no int or double value crosses a
+     * segment boundary.
+     */
+    static final class Section
+    {
+        final long length;
+        private final ByteBuffer[] segments;
+        private final int shift;
+        private final int mask;
+
+        Section(ByteBuffer[] segments, int shift, long length)
+        {
+            this.segments = segments;
+            this.shift = shift;
+            this.mask = (1 << shift) - 1;
+            this.length = length;
+        }
+
+        /**
+         * Get the int value at a given index.
+         *
+         * @param i the index, in ints
+         * @return the value
+         */
+        int getInt(int i)
+        {
+            long position = (long) i * Integer.BYTES;
+            return segments[(int) (position >>> shift)].getInt((int) position & mask);
+        }
+
+        /**
+         * Get the double value at a given index.
+         *
+         * @param i the index, in doubles
+         * @return the value
+         */
+        double getDouble(int i)
+        {
+            long position = (long) i * Double.BYTES;
+            return segments[(int) (position >>> shift)].getDouble((int) position & mask);
+        }
+
+        /**
+         * Copy a range of bytes, which may span several segments.
+         *
+         * @param position the position of the first byte
+         * @param count the number of bytes
+         * @return the bytes
+         */
+        byte[] getBytes(long position, int count)
+        {
+            byte[] bytes = new byte[count];
+            int copied = 0;
+            while (copied < count) {
+                ByteBuffer segment = segments[(int) (position >>> shift)].duplicate();
+                segment.position((int) position & mask);
+                int chunk = Math.min(count - copied, segment.remaining());
+                segment.get(bytes, copied, chunk);
+                copied += chunk;
+                position += chunk;
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * Reads the header and the sections of a snapshot in order.
+     */
+    private abstract static class SectionReader
+    {
+        private final int shift;
+
+        SectionReader(int shift)
+        {
+            if (shift < 3 || shift > SEGMENT_SHIFT) {
+                throw new IllegalArgumentException("Invalid segment size");
+            }
+            this.shift = shift;
+        }
+
+        abstract ByteBuffer readHeader()
+            throws IOException, ImportException;
+
+        abstract long readLength()
+            throws IOException, ImportException;
+
+        abstract ByteBuffer readSegment(int length)
+            throws IOException, ImportException;
+
+        Section readSection()
+            throws IOException, ImportException
+        {
+            long length = readLength();
+            if (length < 0 || (length >>> shift) >= Integer.MAX_VALUE) {
+                throw new ImportException("Invalid snapshot section length: " + length);
+            }
+            long segmentSize = 1L << shift;
+            ByteBuffer[] segments = new ByteBuffer[(int) ((length + segmentSize - 1) >>> shift)];
+            for (int i = 0; i < segments.length; i++) {
+                long remaining = length - (long) i * segmentSize;
+                segments[i] = readSegment((int) Math.min(segmentSize, remaining));
+            }
+            return new Section(segments, shift, length);
+        }
+    }
+}
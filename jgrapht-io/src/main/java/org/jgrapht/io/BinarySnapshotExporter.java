@@ -0,0 +1,346 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.function.*;
+
+import org.jgrapht.*;
+
+/**
+ * Exports a graph into a compact binary snapshot.
+ *
+ * <p>
+ * The snapshot contains a header, a table with the identifiers of the vertices, the adjacency
+ * structure in compressed sparse row (CSR) format for both directions, the edge weights if the
+ * graph is weighted and optionally columns with vertex and edge attributes. The format is designed
+ * to be reopened with almost no parsing, either by {@link BinarySnapshotImporter} or as a
+ * read-only {@link BinarySnapshotGraph} which memory maps the file. Edges are stored sorted by
+ * source and target vertex, thus their order may differ from the iteration order of the exported
+ * graph.
+ *
+ * <p>
+ * Attribute columns are created for all attribute keys returned by the vertex and edge attribute
+ * providers. An empty attribute value is not distinguished from a missing one. Mixed graphs are
+ * not supported.
+ *
+ * <p>
+ * Since the format is binary, the graph can only be exported to an {@link OutputStream} or a
+ * {@link File}. Exporting to a {@link Writer} results in an {@link ExportException}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class BinarySnapshotExporter<V, E>
+    implements GraphExporter<V, E>
+{
+    private final ComponentNameProvider<V> vertexIDProvider;
+    private final ComponentAttributeProvider<V> vertexAttributeProvider;
+    private final ComponentAttributeProvider<E> edgeAttributeProvider;
+
+    /**
+     * Constructs a new exporter which uses consecutive integers as vertex identifiers.
+     */
+    public BinarySnapshotExporter()
+    {
+        this(new IntegerComponentNameProvider<>());
+    }
+
+    /**
+     * Constructs a new exporter with a given vertex ID provider.
+     *
+     * @param vertexIDProvider for generating vertex IDs. Must not be null.
+     */
+    public BinarySnapshotExporter(ComponentNameProvider<V> vertexIDProvider)
+    {
+        this(vertexIDProvider, null, null);
+    }
+
+    /**
+     * Constructs a new exporter with a given vertex ID provider and attribute providers.
+     *
+     * @param vertexIDProvider for generating vertex IDs. Must not be null.
+     * @param vertexAttributeProvider for generating vertex attributes. If null, no vertex
+     *        attributes are exported.
+     * @param edgeAttributeProvider for generating edge attributes. If null, no edge attributes are
+     *        exported.
+     */
+    public BinarySnapshotExporter(
+        ComponentNameProvider<V> vertexIDProvider,
+        ComponentAttributeProvider<V> vertexAttributeProvider,
+        ComponentAttributeProvider<E> edgeAttributeProvider)
+    {
+        this.vertexIDProvider =
+            Objects.requireNonNull(vertexIDProvider, "Vertex id provider cannot be null");
+        this.vertexAttributeProvider = vertexAttributeProvider;
+        this.edgeAttributeProvider = edgeAttributeProvider;
+    }
+
+    /**
+     * Not supported, since the format is binary.
+     *
+     * @throws ExportException always
+     */
+    @Override
+    public void exportGraph(Graph<V, E> g, Writer writer)
+        throws ExportException
+    {
+        throw new ExportException("Binary snapshots can only be written to an output stream");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void exportGraph(Graph<V, E> g, File file)
+        throws ExportException
+    {
+        try (OutputStream out = new FileOutputStream(file)) {
+            exportGraph(g, out);
+        } catch (IOException e) {
+            throw new ExportException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void exportGraph(Graph<V, E> g, OutputStream os)
+        throws ExportException
+    {
+        GraphType type = g.getType();
+        if (type.isMixed()) {
+            throw new ExportException("Mixed graphs are not supported");
+        }
+
+        // index vertices
+        int n = g.vertexSet().size();
+        List<V> vertices = new ArrayList<>(g.vertexSet());
+        Map<V, Integer> vertexIndex = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            vertexIndex.put(vertices.get(i), i);
+        }
+
+        // sort edges by source and target using two stable counting sorts
+        int m = g.edgeSet().size();
+        List<E> edgeList = new ArrayList<>(g.edgeSet());
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        for (int i = 0; i < m; i++) {
+            E e = edgeList.get(i);
+            sources[i] = vertexIndex.get(g.getEdgeSource(e));
+            targets[i] = vertexIndex.get(g.getEdgeTarget(e));
+        }
+        vertexIndex = null;
+        int[] byTarget = countingSort(n, targets, identity(m));
+        int[] order = countingSort(n, sources, byTarget);
+        int[] edgeSources = new int[m];
+        int[] edgeTargets = new int[m];
+        for (int i = 0; i < m; i++) {
+            edgeSources[i] = sources[order[i]];
+            edgeTargets[i] = targets[order[i]];
+        }
+        sources = null;
+        targets = null;
+        int[] outOffsets = offsets(n, edgeSources);
+        int[] inOffsets = offsets(n, edgeTargets);
+        int[] inEdges = countingSort(n, edgeTargets, identity(m));
+
+        // collect attributes, fetching the attributes of each component only once
+        List<Map<String, String>> vertexAttributes =
+            attributes(vertices, vertexAttributeProvider);
+        List<String> vertexKeys = attributeKeys(vertexAttributes);
+        List<E> sortedEdges = new AbstractList<E>()
+        {
+            @Override
+            public E get(int index)
+            {
+                return edgeList.get(order[index]);
+            }
+
+            @Override
+            public int size()
+            {
+                return m;
+            }
+        };
+        List<Map<String, String>> edgeAttributes = attributes(sortedEdges, edgeAttributeProvider);
+        List<String> edgeKeys = attributeKeys(edgeAttributes);
+
+        try {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os, 1 << 16));
+
+            // header
+            boolean weighted = type.isWeighted();
+            int flags = (type.isDirected() ? BinarySnapshot.FLAG_DIRECTED : 0)
+                | (weighted ? BinarySnapshot.FLAG_WEIGHTED : 0);
+            out.writeInt(BinarySnapshot.MAGIC);
+            out.writeInt(BinarySnapshot.VERSION);
+            out.writeInt(flags);
+            out.writeInt(n);
+            out.writeInt(m);
+            out.writeInt(vertexKeys.size());
+            out.writeInt(edgeKeys.size());
+
+            // vertex identifiers
+            writeStrings(out, n, v -> vertexIDProvider.getName(vertices.get(v)));
+
+            // adjacency
+            writeInts(out, outOffsets);
+            writeInts(out, edgeSources);
+            writeInts(out, edgeTargets);
+            writeInts(out, inOffsets);
+            writeInts(out, inEdges);
+
+            // weights
+            if (weighted) {
+                out.writeLong((long) m * Double.BYTES);
+                for (int i = 0; i < m; i++) {
+                    out.writeDouble(g.getEdgeWeight(sortedEdges.get(i)));
+                }
+            } else {
+                out.writeLong(0);
+            }
+
+            // attributes
+            writeAttributes(out, vertexAttributes, vertexKeys);
+            writeAttributes(out, edgeAttributes, edgeKeys);
+
+            out.flush();
+        } catch (IOException e) {
+            throw new ExportException(e);
+        }
+    }
+
+    private static <T> List<Map<String, String>> attributes(
+        List<T> components, ComponentAttributeProvider<T> provider)
+    {
+        if (provider == null) {
+            return Collections.emptyList();
+        }
+        List<Map<String, String>> attributes = new ArrayList<>(components.size());
+        for (T c : components) {
+            attributes.add(provider.getComponentAttributes(c));
+        }
+        return attributes;
+    }
+
+    private static List<String> attributeKeys(List<Map<String, String>> attributes)
+    {
+        Set<String> keys = new TreeSet<>();
+        for (Map<String, String> a : attributes) {
+            if (a != null) {
+                keys.addAll(a.keySet());
+            }
+        }
+        return new ArrayList<>(keys);
+    }
+
+    private static void writeAttributes(
+        DataOutputStream out, List<Map<String, String>> attributes, List<String> keys)
+        throws IOException
+    {
+        for (String key : keys) {
+            byte[] encodedKey = key.getBytes(StandardCharsets.UTF_8);
+            out.writeLong(encodedKey.length);
+            out.write(encodedKey);
+            writeStrings(out, attributes.size(), i -> {
+                Map<String, String> a = attributes.get(i);
+                return a == null ? null : a.get(key);
+            });
+        }
+    }
+
+    /**
+     * Write a string table as an offsets section followed by a data section. The strings are
+     * encoded twice in order to avoid keeping all the encoded strings in memory.
+     */
+    private static void writeStrings(DataOutputStream out, int count, IntFunction<String> values)
+        throws IOException
+    {
+        out.writeLong((long) (count + 1) * Integer.BYTES);
+        int offset = 0;
+        out.writeInt(offset);
+        for (int i = 0; i < count; i++) {
+            String value = values.apply(i);
+            if (value != null) {
+                long next = (long) offset + value.getBytes(StandardCharsets.UTF_8).length;
+                if (next > Integer.MAX_VALUE) {
+                    throw new IOException("String table too large");
+                }
+                offset = (int) next;
+            }
+            out.writeInt(offset);
+        }
+        out.writeLong(offset);
+        for (int i = 0; i < count; i++) {
+            String value = values.apply(i);
+            if (value != null) {
+                out.write(value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values)
+        throws IOException
+    {
+        out.writeLong((long) values.length * Integer.BYTES);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static int[] identity(int m)
+    {
+        int[] result = new int[m];
+        for (int i = 0; i < m; i++) {
+            result[i] = i;
+        }
+        return result;
+    }
+
+    /**
+     * Stable counting sort of a permutation by the keys of its elements.
+     */
+    private static int[] countingSort(int n, int[] keys, int[] order)
+    {
+        int[] position = offsets(n, keys);
+        int[] result = new int[order.length];
+        for (int i : order) {
+            result[position[keys[i]]++] = i;
+        }
+        return result;
+    }
+
+    private static int[] offsets(int n, int[] keys)
+    {
+        int[] offsets = new int[n + 1];
+        for (int key : keys) {
+            offsets[key + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        return offsets;
+    }
+}
@@ -0,0 +1,665 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.io.*;
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+/**
+ * A read-only graph backed directly by a binary snapshot written by
+ * {@link BinarySnapshotExporter}.
+ *
+ * <p>
+ * The vertices of the graph are the integers 0 to n-1 and the edges are the integers 0 to m-1, in
+ * the order in which they are stored in the snapshot. The adjacency structure is accessed directly
+ * from the snapshot buffers, thus when opened from a file using {@link #open(File)} no parsing
+ * takes place and the operating system pages in the parts of the file which are actually used.
+ * The original vertex identifiers and the vertex and edge attributes are decoded on demand.
+ *
+ * <p>
+ * All the sets returned by the graph are unmodifiable views. Any attempt to modify the graph,
+ * including changing an edge weight, results in an {@link UnsupportedOperationException}.
+ *
+ * @author agent
+ */
+public class BinarySnapshotGraph
+    extends AbstractGraph<Integer, Integer>
+{
+    private static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+    private final BinarySnapshot snapshot;
+    private final Set<Integer> vertexSet;
+    private final Set<Integer> edgeSet;
+    private final GraphType type;
+    private Map<String, Integer> vertexIds;
+
+    private BinarySnapshotGraph(BinarySnapshot snapshot)
+    {
+        this.snapshot = snapshot;
+        this.vertexSet = new IndexRange(snapshot.n);
+        this.edgeSet = new IndexRange(snapshot.m);
+
+        DefaultGraphType.Builder builder = new DefaultGraphType.Builder();
+        if (snapshot.directed) {
+            builder.directed();
+        } else {
+            builder.undirected();
+        }
+        this.type = builder
+            .weighted(snapshot.weighted).allowMultipleEdges(true).allowSelfLoops(true)
+            .modifiable(false).build();
+    }
+
+    /**
+     * Open a snapshot file as a graph. The file is memory mapped.
+     *
+     * @param file the snapshot file
+     * @return the graph
+     * @throws ImportException in case of an I/O error or an invalid snapshot
+     */
+    public static BinarySnapshotGraph open(File file)
+        throws ImportException
+    {
+        return new BinarySnapshotGraph(BinarySnapshot.map(file));
+    }
+
+    /**
+     * Read a snapshot from an input stream into memory as a graph.
+     *
+     * @param in the input stream
+     * @return the graph
+     * @throws ImportException in case of an I/O error or an invalid snapshot
+     */
+    public static BinarySnapshotGraph open(InputStream in)
+        throws ImportException
+    {
+        return new BinarySnapshotGraph(BinarySnapshot.read(in));
+    }
+
+    /**
+     * Get the identifier of a vertex, as written by the vertex ID provider of the exporter.
+     *
+     * @param v the vertex
+     * @return the vertex identifier
+     */
+    public String getVertexId(Integer v)
+    {
+        return snapshot.getVertexId(assertVertexIndex(v));
+    }
+
+    /**
+     * Get the vertex with a given identifier. The first call builds a lookup table of all the
+     * vertex identifiers.
+     *
+     * @param id the vertex identifier
+     * @return the vertex, or null if no vertex has the given identifier
+     */
+    public Integer getVertexById(String id)
+    {
+        if (vertexIds == null) {
+            Map<String, Integer> ids = new HashMap<>();
+            for (int v = 0; v < snapshot.n; v++) {
+                ids.put(snapshot.getVertexId(v), v);
+            }
+            vertexIds = ids;
+        }
+        return vertexIds.get(id);
+    }
+
+    /**
+     * Get the vertex attribute keys stored in the snapshot.
+     *
+     * @return the vertex attribute keys
+     */
+    public List<String> getVertexAttributeKeys()
+    {
+        return Collections.unmodifiableList(snapshot.vertexAttributeKeys);
+    }
+
+    /**
+     * Get the edge attribute keys stored in the snapshot.
+     *
+     * @return the edge attribute keys
+     */
+    public List<String> getEdgeAttributeKeys()
+    {
+        return Collections.unmodifiableList(snapshot.edgeAttributeKeys);
+    }
+
+    /**
+     * Get the value of a vertex attribute.
+     *
+     * @param v the vertex
+     * @param key the attribute key
+     * @return the attribute value, or null if the vertex does not have the attribute
+     */
+    public String getVertexAttribute(Integer v, String key)
+    {
+        int index = assertVertexIndex(v);
+        int column = snapshot.vertexAttributeKeys.indexOf(key);
+        return column == -1 ? null : snapshot.getVertexAttribute(column, index);
+    }
+
+    /**
+     * Get the value of an edge attribute.
+     *
+     * @param e the edge
+     * @param key the attribute key
+     * @return the attribute value, or null if the edge does not have the attribute
+     */
+    public String getEdgeAttribute(Integer e, String key)
+    {
+        int index = assertEdgeIndex(e);
+        int column = snapshot.edgeAttributeKeys.indexOf(key);
+        return column == -1 ? null : snapshot.getEdgeAttribute(column, index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Integer> getAllEdges(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        int s = sourceVertex;
+        int t = targetVertex;
+        Set<Integer> result = new LinkedHashSet<>();
+        int end = snapshot.outOffsets.getInt(s + 1);
+        for (int e = findFirstOutEdge(s, t); e < end && snapshot.edgeTargets.getInt(e) == t; e++) {
+            result.add(e);
+        }
+        if (!snapshot.directed && s != t) {
+            end = snapshot.outOffsets.getInt(t + 1);
+            for (int e = findFirstOutEdge(t, s); e < end && snapshot.edgeTargets.getInt(e) == s;
+                e++)
+            {
+                result.add(e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        int s = sourceVertex;
+        int t = targetVertex;
+        int e = findFirstOutEdge(s, t);
+        if (e < snapshot.outOffsets.getInt(s + 1) && snapshot.edgeTargets.getInt(e) == t) {
+            return e;
+        }
+        if (!snapshot.directed) {
+            e = findFirstOutEdge(t, s);
+            if (e < snapshot.outOffsets.getInt(t + 1) && snapshot.edgeTargets.getInt(e) == s) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EdgeFactory<Integer, Integer> getEdgeFactory()
+    {
+        return (sourceVertex, targetVertex) -> {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer addEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addEdge(Integer sourceVertex, Integer targetVertex, Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsEdge(Integer e)
+    {
+        return edgeSet.contains(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsVertex(Integer v)
+    {
+        return vertexSet.contains(v);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Integer> edgeSet()
+    {
+        return edgeSet;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int degreeOf(Integer vertex)
+    {
+        int v = assertVertexIndex(vertex);
+        return outDegree(v) + inDegree(v);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Integer> edgesOf(Integer vertex)
+    {
+        return new VertexEdgeSet(assertVertexIndex(vertex), true, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int inDegreeOf(Integer vertex)
+    {
+        if (!snapshot.directed) {
+            return degreeOf(vertex);
+        }
+        return inDegree(assertVertexIndex(vertex));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Integer> incomingEdgesOf(Integer vertex)
+    {
+        return new VertexEdgeSet(assertVertexIndex(vertex), !snapshot.directed, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int outDegreeOf(Integer vertex)
+    {
+        if (!snapshot.directed) {
+            return degreeOf(vertex);
+        }
+        return outDegree(assertVertexIndex(vertex));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Integer> outgoingEdgesOf(Integer vertex)
+    {
+        return new VertexEdgeSet(assertVertexIndex(vertex), true, !snapshot.directed);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeAllEdges(Collection<? extends Integer> edges)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Integer> removeAllEdges(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeAllVertices(Collection<? extends Integer> vertices)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer removeEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeEdge(Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Integer> vertexSet()
+    {
+        return vertexSet;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getEdgeSource(Integer e)
+    {
+        return snapshot.edgeSources.getInt(assertEdgeIndex(e));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getEdgeTarget(Integer e)
+    {
+        return snapshot.edgeTargets.getInt(assertEdgeIndex(e));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphType getType()
+    {
+        return type;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getEdgeWeight(Integer e)
+    {
+        return snapshot.getEdgeWeight(assertEdgeIndex(e));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setEdgeWeight(Integer e, double weight)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    private int assertVertexIndex(Integer v)
+    {
+        if (v == null) {
+            throw new NullPointerException();
+        }
+        if (!containsVertex(v)) {
+            throw new IllegalArgumentException("no such vertex in graph: " + v.toString());
+        }
+        return v;
+    }
+
+    private int assertEdgeIndex(Integer e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        if (!containsEdge(e)) {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+        return e;
+    }
+
+    private int outDegree(int v)
+    {
+        return snapshot.outOffsets.getInt(v + 1) - snapshot.outOffsets.getInt(v);
+    }
+
+    private int inDegree(int v)
+    {
+        return snapshot.inOffsets.getInt(v + 1) - snapshot.inOffsets.getInt(v);
+    }
+
+    /**
+     * Binary search inside the sorted outgoing range of a vertex.
+     *
+     * @return the position of the first edge from s to t, or the position where such an edge
+     *         would be inserted
+     */
+    private int findFirstOutEdge(int s, int t)
+    {
+        int low = snapshot.outOffsets.getInt(s);
+        int high = snapshot.outOffsets.getInt(s + 1);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (snapshot.edgeTargets.getInt(mid) < t) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * The set of integers from zero up to a given size.
+     */
+    private static class IndexRange
+        extends AbstractSet<Integer>
+    {
+        private final int size;
+
+        IndexRange(int size)
+        {
+            this.size = size;
+        }
+
+        @Override
+        public Iterator<Integer> iterator()
+        {
+            return new Iterator<Integer>()
+            {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return next < size;
+                }
+
+                @Override
+                public Integer next()
+                {
+                    if (next >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    return next++;
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Integer)) {
+                return false;
+            }
+            int i = (Integer) o;
+            return i >= 0 && i < size;
+        }
+    }
+
+    /**
+     * A view of the edges touching a vertex. The outgoing edges are a range of the edge indices,
+     * while the incoming edges are a range of the incoming edges section. When both directions are
+     * included self-loops are reported only once.
+     */
+    private class VertexEdgeSet
+        extends AbstractSet<Integer>
+    {
+        private final int vertex;
+        private final boolean out;
+        private final boolean in;
+
+        VertexEdgeSet(int vertex, boolean out, boolean in)
+        {
+            this.vertex = vertex;
+            this.out = out;
+            this.in = in;
+        }
+
+        @Override
+        public Iterator<Integer> iterator()
+        {
+            return new Iterator<Integer>()
+            {
+                private int outPos = out ? snapshot.outOffsets.getInt(vertex) : 0;
+                private final int outEnd = out ? snapshot.outOffsets.getInt(vertex + 1) : 0;
+                private int inPos = in ? snapshot.inOffsets.getInt(vertex) : 0;
+                private final int inEnd = in ? snapshot.inOffsets.getInt(vertex + 1) : 0;
+
+                {
+                    advance();
+                }
+
+                @Override
+                public boolean hasNext()
+                {
+                    return outPos < outEnd || inPos < inEnd;
+                }
+
+                @Override
+                public Integer next()
+                {
+                    if (outPos < outEnd) {
+                        return outPos++;
+                    }
+                    if (inPos < inEnd) {
+                        int e = snapshot.inEdges.getInt(inPos++);
+                        advance();
+                        return e;
+                    }
+                    throw new NoSuchElementException();
+                }
+
+                private void advance()
+                {
+                    if (out) {
+                        while (inPos < inEnd && snapshot
+                            .edgeSources.getInt(snapshot.inEdges.getInt(inPos)) == vertex)
+                        {
+                            inPos++;
+                        }
+                    }
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            int size = 0;
+            if (out) {
+                size += outDegree(vertex);
+            }
+            if (in) {
+                for (int i = snapshot.inOffsets.getInt(vertex),
+                    end = snapshot.inOffsets.getInt(vertex + 1); i < end; i++)
+                {
+                    if (!out || snapshot.edgeSources.getInt(snapshot.inEdges.getInt(i)) != vertex) {
+                        size++;
+                    }
+                }
+            }
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!edgeSet.contains(o)) {
+                return false;
+            }
+            int e = (Integer) o;
+            return (out && snapshot.edgeSources.getInt(e) == vertex)
+                || (in && snapshot.edgeTargets.getInt(e) == vertex);
+        }
+    }
+}
+
+// End BinarySnapshotGraph.java
@@ -0,0 +1,198 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.io.*;
+import java.util.*;
+
+import org.jgrapht.*;
+
+/**
+ * Imports a graph from a binary snapshot written by {@link BinarySnapshotExporter}.
+ *
+ * <p>
+ * Reading a snapshot involves no parsing besides decoding the vertex identifiers and the
+ * attribute values, since the adjacency structure is stored in binary form. When importing from
+ * a {@link File} the snapshot is memory mapped, otherwise it is read into memory. Vertices are
+ * created using the vertex provider with their identifier and attributes, and edges are created
+ * using the edge provider with the edge index as label and the edge attributes. If the provided
+ * graph is weighted and the snapshot contains edge weights, the weights are also imported. All
+ * offsets and vertex indices are checked before the graph is modified, thus a corrupted snapshot
+ * results in an {@link ImportException}.
+ *
+ * <p>
+ * In order to avoid creating vertex and edge objects altogether, use
+ * {@link BinarySnapshotGraph#open(File)} which provides a read-only graph backed directly by the
+ * memory mapped file.
+ *
+ * <p>
+ * Since the format is binary, the graph can only be imported from an {@link InputStream} or a
+ * {@link File}. Importing from a {@link Reader} results in an {@link ImportException}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class BinarySnapshotImporter<V, E>
+    implements GraphImporter<V, E>
+{
+    private VertexProvider<V> vertexProvider;
+    private EdgeProvider<V, E> edgeProvider;
+
+    /**
+     * Construct a new importer.
+     *
+     * @param vertexProvider provider for the generation of vertices. Must not be null.
+     * @param edgeProvider provider for the generation of edges. Must not be null.
+     */
+    public BinarySnapshotImporter(
+        VertexProvider<V> vertexProvider, EdgeProvider<V, E> edgeProvider)
+    {
+        if (vertexProvider == null) {
+            throw new IllegalArgumentException("Vertex provider cannot be null");
+        }
+        this.vertexProvider = vertexProvider;
+        if (edgeProvider == null) {
+            throw new IllegalArgumentException("Edge provider cannot be null");
+        }
+        this.edgeProvider = edgeProvider;
+    }
+
+    /**
+     * Get the vertex provider
+     *
+     * @return the vertex provider
+     */
+    public VertexProvider<V> getVertexProvider()
+    {
+        return vertexProvider;
+    }
+
+    /**
+     * Set the vertex provider
+     *
+     * @param vertexProvider the new vertex provider. Must not be null.
+     */
+    public void setVertexProvider(VertexProvider<V> vertexProvider)
+    {
+        if (vertexProvider == null) {
+            throw new IllegalArgumentException("Vertex provider cannot be null");
+        }
+        this.vertexProvider = vertexProvider;
+    }
+
+    /**
+     * Get the edge provider
+     *
+     * @return The edge provider
+     */
+    public EdgeProvider<V, E> getEdgeProvider()
+    {
+        return edgeProvider;
+    }
+
+    /**
+     * Set the edge provider.
+     *
+     * @param edgeProvider the new edge provider. Must not be null.
+     */
+    public void setEdgeProvider(EdgeProvider<V, E> edgeProvider)
+    {
+        if (edgeProvider == null) {
+            throw new IllegalArgumentException("Edge provider cannot be null");
+        }
+        this.edgeProvider = edgeProvider;
+    }
+
+    /**
+     * Not supported, since the format is binary.
+     *
+     * @throws ImportException always
+     */
+    @Override
+    public void importGraph(Graph<V, E> graph, Reader input)
+        throws ImportException
+    {
+        throw new ImportException("Binary snapshots can only be read from an input stream");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void importGraph(Graph<V, E> graph, InputStream in)
+        throws ImportException
+    {
+        importGraph(graph, BinarySnapshot.read(in));
+    }
+
+    /**
+     * Import a graph from a file. The file is memory mapped.
+     *
+     * @param graph the graph
+     * @param file the file to read from
+     * @throws ImportException in case any error occurs, such as I/O or an invalid snapshot
+     */
+    @Override
+    public void importGraph(Graph<V, E> graph, File file)
+        throws ImportException
+    {
+        importGraph(graph, BinarySnapshot.map(file));
+    }
+
+    private void importGraph(Graph<V, E> graph, BinarySnapshot snapshot)
+        throws ImportException
+    {
+        snapshot.validate();
+
+        List<V> vertices = new ArrayList<>(snapshot.n);
+        for (int v = 0; v < snapshot.n; v++) {
+            Map<String, String> attributes = new HashMap<>();
+            for (int c = 0; c < snapshot.vertexAttributeKeys.size(); c++) {
+                String value = snapshot.getVertexAttribute(c, v);
+                if (value != null) {
+                    attributes.put(snapshot.vertexAttributeKeys.get(c), value);
+                }
+            }
+            V vertex = vertexProvider.buildVertex(snapshot.getVertexId(v), attributes);
+            vertices.add(vertex);
+            graph.addVertex(vertex);
+        }
+
+        boolean weighted = snapshot.weighted && graph.getType().isWeighted();
+        for (int e = 0; e < snapshot.m; e++) {
+            Map<String, String> attributes = new HashMap<>();
+            for (int c = 0; c < snapshot.edgeAttributeKeys.size(); c++) {
+                String value = snapshot.getEdgeAttribute(c, e);
+                if (value != null) {
+                    attributes.put(snapshot.edgeAttributeKeys.get(c), value);
+                }
+            }
+            V from = vertices.get(snapshot.edgeSources.getInt(e));
+            V to = vertices.get(snapshot.edgeTargets.getInt(e));
+            E edge = edgeProvider.buildEdge(from, to, String.valueOf(e), attributes);
+            graph.addEdge(from, to, edge);
+            if (weighted) {
+                graph.setEdgeWeight(edge, snapshot.getEdgeWeight(e));
+            }
+        }
+    }
+}
+
+// End BinarySnapshotImporter.java
@@ -0,0 +1,202 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.nio.charset.*;
+import java.util.*;
+
+/**
+ * An index which assigns consecutive integer identifiers to byte sequences.
+ *
+ * <p>
+ * Used by the fast importers in order to intern vertex keys directly from the input bytes. Keys
+ * are stored back to back in a single byte array and looked up using an open-addressing table of
+ * {@code int} identifiers, thus looking up a key which is already present does not allocate any
+ * object. A key is decoded into a {@link String} only on request, which normally happens once when
+ * the corresponding vertex is created.
+ *
+ * @author agent
+ */
+final class ByteKeyIndex
+{
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MAX_TABLE_CAPACITY = 1 << 30;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private byte[] data;
+    private int dataSize;
+    private int[] offsets;
+    private int[] hashes;
+    private int size;
+
+    // slots contain the identifier plus one, or zero if empty
+    private int[] table;
+    private int mask;
+
+    /**
+     * Create a new empty index.
+     */
+    ByteKeyIndex()
+    {
+        this.data = new byte[INITIAL_CAPACITY * 8];
+        this.offsets = new int[INITIAL_CAPACITY + 1];
+        this.hashes = new int[INITIAL_CAPACITY];
+        this.table = new int[INITIAL_CAPACITY * 2];
+        this.mask = table.length - 1;
+    }
+
+    /**
+     * Get the number of keys in the index.
+     *
+     * @return the number of keys
+     */
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * Get the identifier of a key, adding the key if not already present. Identifiers are assigned
+     * consecutively starting from zero, thus a key has been added if the returned identifier is
+     * equal to the size of the index before the call.
+     *
+     * @param bytes array containing the key
+     * @param offset offset of the key in the array
+     * @param length length of the key
+     * @return the identifier of the key
+     */
+    int getOrAdd(byte[] bytes, int offset, int length)
+    {
+        int h = hash(bytes, offset, length);
+        int slot = h & mask;
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            int id = entry - 1;
+            if (hashes[id] == h && keyEquals(id, bytes, offset, length)) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        // add new key, keeping at least one empty slot in the table
+        int id = size;
+        if (id == MAX_TABLE_CAPACITY - 1) {
+            throw new IllegalArgumentException("Too many keys: " + size);
+        }
+        if (id == hashes.length) {
+            int capacity = newCapacity(id, id + 1L);
+            hashes = Arrays.copyOf(hashes, capacity);
+            offsets = Arrays.copyOf(offsets, capacity + 1);
+        }
+        if (dataSize + length > data.length) {
+            data = Arrays.copyOf(data, newCapacity(data.length, (long) dataSize + length));
+        }
+        System.arraycopy(bytes, offset, data, dataSize, length);
+        dataSize += length;
+        offsets[id + 1] = dataSize;
+        hashes[id] = h;
+        table[slot] = id + 1;
+        size++;
+
+        if (2 * size > table.length && table.length < MAX_TABLE_CAPACITY) {
+            rehash();
+        }
+        return id;
+    }
+
+    /**
+     * Get the identifier of a key of another index, adding the key if not already present.
+     *
+     * @param other the other index
+     * @param otherId the identifier of the key in the other index
+     * @return the identifier of the key in this index
+     */
+    int getOrAdd(ByteKeyIndex other, int otherId)
+    {
+        int start = other.offsets[otherId];
+        return getOrAdd(other.data, start, other.offsets[otherId + 1] - start);
+    }
+
+    /**
+     * Get a key decoded as UTF-8.
+     *
+     * @param id the identifier of the key
+     * @return the key
+     */
+    String getKey(int id)
+    {
+        int start = offsets[id];
+        return new String(data, start, offsets[id + 1] - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compute the new capacity of a growing array, doubling it if possible.
+     *
+     * @param length the current length of the array
+     * @param required the required length of the array
+     * @return the new capacity
+     * @throws IllegalArgumentException if the required length exceeds the maximum array size
+     */
+    static int newCapacity(int length, long required)
+    {
+        if (required > MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException("Keys too large: " + required + " bytes");
+        }
+        return (int) Math.min(Math.max(2L * length, required), MAX_ARRAY_SIZE);
+    }
+
+    private boolean keyEquals(int id, byte[] bytes, int offset, int length)
+    {
+        int start = offsets[id];
+        if (offsets[id + 1] - start != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (data[start + i] != bytes[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rehash()
+    {
+        table = new int[2 * table.length];
+        mask = table.length - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = hashes[id] & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = id + 1;
+        }
+    }
+
+    private static int hash(byte[] bytes, int offset, int length)
+    {
+        int h = 1;
+        for (int i = offset; i < offset + length; i++) {
+            h = 31 * h + bytes[i];
+        }
+        // spread higher bits, since the table uses the low bits
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
+
+// End ByteKeyIndex.java
@@ -120,7 +120,7 @@ public class CSVExporter<V, E>
     @Override
     public void exportGraph(Graph<V, E> g, Writer writer)
     {
-        PrintWriter out = new PrintWriter(writer);
+        PrintWriter out = new PrintWriter(new BufferedWriter(writer));
         switch (format) {
         case EDGE_LIST:
             exportAsEdgeList(g, out);
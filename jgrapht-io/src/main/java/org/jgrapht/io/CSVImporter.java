@@ -51,10 +51,12 @@ import org.jgrapht.io.CSVParser;
  * <p>
  * This importer does not distinguish between {@link CSVFormat#EDGE_LIST} and
  * {@link CSVFormat#ADJACENCY_LIST}. In both cases it assumes the format is
- * {@link CSVFormat#ADJACENCY_LIST}.
+ * {@link CSVFormat#ADJACENCY_LIST}. For large inputs in these formats consider using
+ * {@link FastCSVImporter}.
  * </p>
  * 
  * @see CSVFormat
+ * @see FastCSVImporter
  *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -0,0 +1,227 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Reading of line-based inputs in chunks which are aligned to line boundaries.
+ *
+ * <p>
+ * Used by the byte-level importers in order to split a file into byte ranges, read each range
+ * using positional reads and parse the ranges in parallel. A range which does not start at the
+ * beginning of the input skips its first partial line, which is read by the previous range, and
+ * stops after the first line ending at or after its end.
+ *
+ * @author agent
+ */
+final class ChunkedFileReader
+{
+    private static final byte LF = '\n';
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final long MIN_CHUNK_SIZE = 1 << 20;
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private ChunkedFileReader()
+    {
+    }
+
+    /**
+     * Consumes the bytes of a range of the input.
+     */
+    interface ByteConsumer
+    {
+        /**
+         * Consume a block of bytes.
+         *
+         * @param data the array containing the bytes
+         * @param from the start of the bytes, inclusive
+         * @param to the end of the bytes, exclusive
+         * @param position the position of the first byte in the input
+         * @return true if no more bytes are needed, false otherwise
+         * @throws ImportException in case of a parse error
+         */
+        boolean accept(byte[] data, int from, int to, long position)
+            throws ImportException;
+    }
+
+    /**
+     * Parses a range of a file.
+     *
+     * @param <T> the type of the parse result
+     */
+    interface ChunkParser<T>
+    {
+        /**
+         * Parse a range of the file.
+         *
+         * @param start the start of the range
+         * @param end the end of the range
+         * @param first whether the range starts at the beginning of the split part of the file,
+         *        otherwise the start is possibly inside a line
+         * @return the parse result
+         * @throws IOException in case of an I/O error
+         * @throws ImportException in case of a parse error
+         */
+        T parse(long start, long end, boolean first)
+            throws IOException, ImportException;
+    }
+
+    /**
+     * Creates the exceptions reported by an importer.
+     */
+    interface ErrorFactory
+    {
+        /**
+         * Create an exception.
+         *
+         * @param message the message
+         * @param cause the cause, or null
+         * @return the exception
+         */
+        ImportException create(String message, Throwable cause);
+    }
+
+    /**
+     * Compute the number of chunks a part of a file should be split into, such that each thread of
+     * a pool gets a few chunks while chunks are not too small.
+     *
+     * @param pool the pool
+     * @param length the length of the part
+     * @return the number of chunks, one if the part should not be split
+     */
+    static int chunkCount(ForkJoinPool pool, long length)
+    {
+        return (int) Math.min(
+            (long) pool.getParallelism() * CHUNKS_PER_THREAD, Math.max(1, length / MIN_CHUNK_SIZE));
+    }
+
+    /**
+     * Split a part of a file into equally sized ranges and parse them in parallel.
+     *
+     * @param pool the pool
+     * @param start the start of the part
+     * @param end the end of the part
+     * @param chunks the number of ranges
+     * @param parser the parser of a single range
+     * @param error creates the reported exceptions
+     * @param <T> the type of the parse results
+     * @return the parse results in input order
+     * @throws ImportException in case of an I/O or parse error
+     */
+    static <T> List<T> parseChunks(
+        ForkJoinPool pool, long start, long end, int chunks, ChunkParser<T> parser,
+        ErrorFactory error)
+        throws ImportException
+    {
+        long length = end - start;
+        List<ForkJoinTask<T>> tasks = new ArrayList<>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            long chunkStart = start + length * i / chunks;
+            long chunkEnd = start + length * (i + 1) / chunks;
+            boolean first = i == 0;
+            tasks.add(pool.submit(() -> parser.parse(chunkStart, chunkEnd, first)));
+        }
+
+        try {
+            List<T> result = new ArrayList<>(chunks);
+            for (ForkJoinTask<T> task : tasks) {
+                result.add(task.get());
+            }
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw error.create("interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ImportException) {
+                throw (ImportException) cause;
+            }
+            throw error.create(cause.getMessage(), cause);
+        } finally {
+            for (ForkJoinTask<T> task : tasks) {
+                task.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Read the bytes of a range of a channel and pass them to a consumer, until either the
+     * consumer needs no more bytes or the end of the input is reached.
+     *
+     * @param channel the channel
+     * @param start if negative the channel is read sequentially from its current position,
+     *        otherwise it must be a file channel which is read using positional reads starting at
+     *        this position
+     * @param skipPartialLine whether the start is possibly inside a line, in which case the first
+     *        byte passed to the consumer is the first one of the first line starting at or after
+     *        the start
+     * @param end the position at or after which no new line is started. If the partial line
+     *        extends to the end, the consumer is not called at all.
+     * @param consumer the consumer
+     * @return true if the consumer stopped reading, false if the end of the input was reached
+     * @throws IOException in case of an I/O error
+     * @throws ImportException in case of a parse error
+     */
+    static boolean read(
+        ReadableByteChannel channel, long start, boolean skipPartialLine, long end,
+        ByteConsumer consumer)
+        throws IOException, ImportException
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        byte[] data = buffer.array();
+        FileChannel fileChannel = start >= 0 ? (FileChannel) channel : null;
+
+        // skip the partial line before the start, by looking for the previous line feed
+        boolean skipping = skipPartialLine;
+        long position = skipping ? start - 1 : Math.max(start, 0);
+
+        while (true) {
+            buffer.clear();
+            int n = fileChannel != null ? fileChannel.read(buffer, position) : channel.read(buffer);
+            if (n < 0) {
+                return false;
+            }
+            int i = 0;
+            if (skipping) {
+                while (i < n && data[i] != LF) {
+                    i++;
+                }
+                if (i == n) {
+                    position += n;
+                    continue;
+                }
+                skipping = false;
+                i++;
+                if (position + i >= end) {
+                    return true;
+                }
+            }
+            if (i < n && consumer.accept(data, i, n, position + i)) {
+                return true;
+            }
+            position += n;
+        }
+    }
+}
+
+// End ChunkedFileReader.java
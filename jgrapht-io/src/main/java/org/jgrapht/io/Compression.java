@@ -0,0 +1,178 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.io.*;
+import java.util.zip.*;
+
+/**
+ * Compression formats supported when exporting a graph.
+ *
+ * @see GraphExporter#exportGraph(org.jgrapht.Graph, OutputStream, Compression)
+ *
+ * @author agent
+ */
+public enum Compression
+{
+    /**
+     * No compression.
+     */
+    NONE,
+    /**
+     * The GZIP file format, as written by {@link GZIPOutputStream}.
+     */
+    GZIP,
+    /**
+     * The ZLIB format, as written by {@link DeflaterOutputStream}.
+     */
+    DEFLATE;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Wrap an output stream into a compressing stream. After writing, the returned stream must be
+     * passed to {@link #finish(OutputStream)} and, whether writing succeeded or not, to
+     * {@link #release(OutputStream)}.
+     *
+     * @param out the output stream
+     * @return the compressing stream
+     * @throws IOException in case of an I/O error
+     */
+    OutputStream wrap(OutputStream out)
+        throws IOException
+    {
+        switch (this) {
+        case GZIP:
+            return new GZIPStream(new NonClosingOutputStream(out));
+        case DEFLATE:
+            return new DeflateStream(new NonClosingOutputStream(out));
+        default:
+            return out;
+        }
+    }
+
+    /**
+     * Finish writing compressed data to a stream returned by {@link #wrap(OutputStream)}. The
+     * compressor is released, but the underlying stream is only flushed and not closed.
+     *
+     * @param out the compressing stream
+     * @throws IOException in case of an I/O error
+     */
+    void finish(OutputStream out)
+        throws IOException
+    {
+        if (this == NONE) {
+            out.flush();
+        } else {
+            out.close();
+        }
+    }
+
+    /**
+     * Release the compressor of a stream returned by {@link #wrap(OutputStream)}, without writing
+     * any further data. Releasing a stream more than once has no effect.
+     *
+     * @param out the compressing stream
+     */
+    void release(OutputStream out)
+    {
+        if (out instanceof Releasable) {
+            ((Releasable) out).release();
+        }
+    }
+
+    /**
+     * A compressing stream whose native compressor can be released.
+     */
+    private interface Releasable
+    {
+        void release();
+    }
+
+    private static class GZIPStream
+        extends GZIPOutputStream
+        implements Releasable
+    {
+        GZIPStream(OutputStream out)
+            throws IOException
+        {
+            super(out, BUFFER_SIZE);
+        }
+
+        @Override
+        public void release()
+        {
+            def.end();
+        }
+    }
+
+    private static class DeflateStream
+        extends DeflaterOutputStream
+        implements Releasable
+    {
+        DeflateStream(OutputStream out)
+        {
+            super(out, new Deflater(), BUFFER_SIZE);
+        }
+
+        @Override
+        public void close()
+            throws IOException
+        {
+            try {
+                super.close();
+            } finally {
+                release();
+            }
+        }
+
+        @Override
+        public void release()
+        {
+            def.end();
+        }
+    }
+
+    /**
+     * Protects the underlying stream from being closed together with the compressing stream.
+     */
+    private static class NonClosingOutputStream
+        extends FilterOutputStream
+    {
+        NonClosingOutputStream(OutputStream out)
+        {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len)
+            throws IOException
+        {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close()
+            throws IOException
+        {
+            out.flush();
+        }
+    }
+}
+
+// End Compression.java
@@ -100,7 +100,7 @@ public class DIMACSExporter<V, E>
     @Override
     public void exportGraph(Graph<V, E> g, Writer writer)
     {
-        PrintWriter out = new PrintWriter(writer);
+        PrintWriter out = new PrintWriter(new BufferedWriter(writer));
 
         out.println("c");
         out.println("c SOURCE: " + HEADER);
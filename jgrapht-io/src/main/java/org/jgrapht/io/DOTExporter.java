@@ -30,6 +30,11 @@ import org.jgrapht.graph.*;
  * For a description of the format see <a href="http://en.wikipedia.org/wiki/DOT_language">
  * http://en.wikipedia.org/wiki/DOT_language</a>.
  * </p>
+ *
+ * <p>
+ * The output is buffered and written in a single pass over the vertex and edge sets of the graph,
+ * thus a subgraph view such as {@link MaskSubgraph} can be exported without copying it.
+ * </p>
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -146,7 +151,21 @@ public class DOTExporter<V, E>
     @Override
     public void exportGraph(Graph<V, E> g, Writer writer)
     {
-        PrintWriter out = new PrintWriter(writer);
+        exportGraph(g, g.edgeSet().iterator(), writer);
+    }
+
+    /**
+     * Exports all vertices of a graph together with the edges returned by an iterator into a plain
+     * text file in DOT format. The edges are consumed one at a time while writing, thus they can
+     * be produced lazily without being collected first. All edges must belong to the graph.
+     *
+     * @param g the graph to be exported
+     * @param edges the edges to be exported
+     * @param writer the writer to which the graph to be exported
+     */
+    public void exportGraph(Graph<V, E> g, Iterator<? extends E> edges, Writer writer)
+    {
+        PrintWriter out = new PrintWriter(new BufferedWriter(writer));
         String indent = "  ";
         String connector;
         String header = (g instanceof AbstractBaseGraph
@@ -171,7 +190,8 @@ public class DOTExporter<V, E>
         header += " " + graphId + " {";
         out.println(header);
         for (V v : g.vertexSet()) {
-            out.print(indent + getVertexID(v));
+            out.print(indent);
+            out.print(getVertexID(v));
 
             String labelName = null;
             if (vertexLabelProvider != null) {
@@ -186,11 +206,15 @@ public class DOTExporter<V, E>
             out.println(";");
         }
 
-        for (E e : g.edgeSet()) {
+        while (edges.hasNext()) {
+            E e = edges.next();
             String source = getVertexID(g.getEdgeSource(e));
             String target = getVertexID(g.getEdgeTarget(e));
 
-            out.print(indent + source + connector + target);
+            out.print(indent);
+            out.print(source);
+            out.print(connector);
+            out.print(target);
 
             String labelName = null;
             if (edgeLabelProvider != null) {
@@ -17,6 +17,7 @@
  */
 package org.jgrapht.io;
 
+import java.io.IOException;
 import java.io.Reader;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -29,12 +30,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.BaseErrorListener;
 import org.antlr.v4.runtime.CommonTokenFactory;
 import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.Recognizer;
 import org.antlr.v4.runtime.UnbufferedCharStream;
 import org.antlr.v4.runtime.UnbufferedTokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.commons.lang3.StringEscapeUtils;
 import org.apache.commons.lang3.text.translate.AggregateTranslator;
@@ -52,6 +56,17 @@ import org.jgrapht.Graph;
  * http://www.graphviz.org/doc/info/lang.html</a>
  * </p>
  *
+ * <p>
+ * The input is parsed without building a parse tree and vertices and edges are added to the graph
+ * as soon as their statements are recognized. By default the parser reads the input unbuffered
+ * and uses full LL prediction. In fast mode, enabled using {@link #setFastMode(boolean)}, the
+ * characters of the input are buffered and parsing is performed in two stages. The first stage
+ * uses the faster SLL prediction mode and stops at the first syntax error. The updates of the
+ * first stage, including the calls to the providers, are buffered and only applied to the graph
+ * once it succeeds. Otherwise they are discarded and the input is parsed again from scratch using
+ * full LL prediction, which either reports the error precisely or completes the import.
+ * </p>
+ *
  * @author Dimitrios Michail
  *
  * @param <V> the graph vertex type
@@ -74,6 +89,7 @@ public class DOTImporter<V, E>
     private ComponentUpdater<V> vertexUpdater;
     private EdgeProvider<V, E> edgeProvider;
     private ComponentUpdater<Graph<V, E>> graphUpdater;
+    private boolean fastMode = false;
 
     /**
      * Constructs a new importer.
@@ -121,6 +137,27 @@ public class DOTImporter<V, E>
         };
     }
 
+    /**
+     * Whether the importer uses fast mode.
+     *
+     * @return true if fast mode is enabled, false otherwise
+     */
+    public boolean isFastMode()
+    {
+        return fastMode;
+    }
+
+    /**
+     * Set whether the importer uses fast mode, that is two-stage parsing with SLL prediction in
+     * the first stage. Fast mode buffers the characters of the input.
+     *
+     * @param fastMode if true fast mode is enabled
+     */
+    public void setFastMode(boolean fastMode)
+    {
+        this.fastMode = fastMode;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -128,6 +165,10 @@ public class DOTImporter<V, E>
     public void importGraph(Graph<V, E> g, Reader in)
         throws ImportException
     {
+        if (fastMode) {
+            importGraphTwoStage(g, in);
+            return;
+        }
         try {
             /**
              * Create lexer with unbuffered input stream and use a token factory which copies
@@ -150,7 +191,7 @@ public class DOTImporter<V, E>
              * Disable parse tree building and attach listener.
              */
             parser.setBuildParseTree(false);
-            parser.addParseListener(new CreateGraphDOTListener(g));
+            parser.addParseListener(new CreateGraphDOTListener(g, false));
 
             /**
              * Parse
@@ -161,6 +202,54 @@ public class DOTImporter<V, E>
         }
     }
 
+    private void importGraphTwoStage(Graph<V, E> g, Reader in)
+        throws ImportException
+    {
+        try {
+            ANTLRInputStream input = new ANTLRInputStream(in);
+            ThrowingErrorListener errorListener = new ThrowingErrorListener();
+
+            /**
+             * First stage with SLL prediction, bail out at the first error.
+             */
+            CreateGraphDOTListener firstStage = new CreateGraphDOTListener(g, true);
+            try {
+                DOTParser parser = createParser(input, errorListener);
+                parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+                parser.removeErrorListeners();
+                parser.setErrorHandler(new BailErrorStrategy());
+                parser.addParseListener(firstStage);
+                parser.graph();
+                firstStage.applyDeferredUpdates();
+                return;
+            } catch (ParseCancellationException e) {
+                input.reset();
+            }
+
+            /**
+             * Second stage with full LL prediction.
+             */
+            DOTParser parser = createParser(input, errorListener);
+            parser.addParseListener(new CreateGraphDOTListener(g, false));
+            parser.graph();
+        } catch (IOException | ParseCancellationException | IllegalArgumentException e) {
+            throw new ImportException("Failed to import DOT graph: " + e.getMessage(), e);
+        }
+    }
+
+    private DOTParser createParser(ANTLRInputStream input, ThrowingErrorListener errorListener)
+    {
+        DOTLexer lexer = new DOTLexer(input);
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(errorListener);
+
+        DOTParser parser = new DOTParser(new UnbufferedTokenStream<>(lexer));
+        parser.removeErrorListeners();
+        parser.addErrorListener(errorListener);
+        parser.setBuildParseTree(false);
+        return parser;
+    }
+
     /*
      * Common error listener for both lexer and parser which throws an exception.
      */
@@ -181,24 +270,56 @@ public class DOTImporter<V, E>
     /*
      * Listen on parser events and construct the graph. The listener is strongly dependent on the
      * grammar.
+     *
+     * During the first stage of fast mode the listener defers all graph updates, including the
+     * calls to the providers and updaters, so that nothing is applied if the stage fails. Thus
+     * the parse state refers to vertices by their node identifiers, which are resolved when the
+     * updates are applied.
      */
     private class CreateGraphDOTListener
         extends DOTBaseListener
     {
         // graph to update
         private Graph<V, E> graph;
+        // created vertices, node identifiers are mapped to null until their creation is applied
         private Map<String, V> vertices;
 
         // stacks to maintain scope and state
         private Deque<SubgraphScope> subgraphScopes;
         private Deque<State> stack;
 
-        public CreateGraphDOTListener(Graph<V, E> graph)
+        // graph updates deferred until the end of the parse, or null to update immediately
+        private List<Runnable> deferredUpdates;
+
+        public CreateGraphDOTListener(Graph<V, E> graph, boolean deferUpdates)
         {
             this.graph = graph;
             this.vertices = new HashMap<>();
             this.stack = new ArrayDeque<>();
             this.subgraphScopes = new ArrayDeque<>();
+            this.deferredUpdates = deferUpdates ? new ArrayList<>() : null;
+        }
+
+        /**
+         * Apply the graph updates deferred during parsing, in the order they were recognized.
+         */
+        public void applyDeferredUpdates()
+        {
+            if (deferredUpdates != null) {
+                for (Runnable update : deferredUpdates) {
+                    update.run();
+                }
+                deferredUpdates = null;
+            }
+        }
+
+        private void update(Runnable update)
+        {
+            if (deferredUpdates != null) {
+                deferredUpdates.add(update);
+            } else {
+                update.run();
+            }
         }
 
         @Override
@@ -258,13 +379,8 @@ public class DOTImporter<V, E>
             State idPartial = s.children.peekFirst();
 
             if (idPartial != null) {
-                try {
-                    // notify graph updater
-                    graphUpdater.update(
-                        graph, Collections.singletonMap(DEFAULT_GRAPH_ID_KEY, idPartial.getId()));
-                } catch (Exception e) {
-                    throw new IllegalArgumentException("Graph update failed: " + e.getMessage(), e);
-                }
+                // notify graph updater
+                updateGraph(Collections.singletonMap(DEFAULT_GRAPH_ID_KEY, idPartial.getId()));
             }
 
             // add as child of parent
@@ -399,8 +515,8 @@ public class DOTImporter<V, E>
                     // last node with attributes
                     break;
                 } else if (prev != null) {
-                    for (V sourceVertex : prev.getVertices()) {
-                        for (V targetVertex : cur.getVertices()) {
+                    for (String sourceId : prev.getNodeIds()) {
+                        for (String targetId : cur.getNodeIds()) {
                             // find default attributes
                             Map<String, String> edgeAttrs =
                                 new HashMap<>(subgraphScopes.element().edgeAttrs);
@@ -409,14 +525,19 @@ public class DOTImporter<V, E>
                                 edgeAttrs.putAll(attrs);
                             }
 
-                            try {
-                                E e = edgeProvider.buildEdge(
-                                    sourceVertex, targetVertex, edgeAttrs.get("label"), edgeAttrs);
-                                graph.addEdge(sourceVertex, targetVertex, e);
-                            } catch (Exception e) {
-                                throw new IllegalArgumentException(
-                                    "Edge creation failed: " + e.getMessage(), e);
-                            }
+                            update(() -> {
+                                V sourceVertex = vertices.get(sourceId);
+                                V targetVertex = vertices.get(targetId);
+                                try {
+                                    E e = edgeProvider.buildEdge(
+                                        sourceVertex, targetVertex, edgeAttrs.get("label"),
+                                        edgeAttrs);
+                                    graph.addEdge(sourceVertex, targetVertex, e);
+                                } catch (Exception e) {
+                                    throw new IllegalArgumentException(
+                                        "Edge creation failed: " + e.getMessage(), e);
+                                }
+                            });
                         }
                     }
                 }
@@ -452,11 +573,7 @@ public class DOTImporter<V, E>
             SubgraphScope scope = subgraphScopes.element();
             scope.graphAttrs.put(key, value);
             if (subgraphScopes.size() == 1) {
-                try {
-                    graphUpdater.update(graph, Collections.singletonMap(key, value));
-                } catch (Exception e) {
-                    throw new IllegalArgumentException("Graph update failed: " + e.getMessage(), e);
-                }
+                updateGraph(Collections.singletonMap(key, value));
             }
         }
 
@@ -490,26 +607,19 @@ public class DOTImporter<V, E>
             }
 
             // create or update vertex
-            V v = vertices.get(nodeId);
-            if (v == null) {
+            if (!vertices.containsKey(nodeId)) {
                 SubgraphScope scope = subgraphScopes.element();
                 // find default attributes
                 Map<String, String> defaultAttrs = new HashMap<>(scope.nodeAttrs);
                 // append extra attributes
                 defaultAttrs.putAll(attrs);
-                try {
-                    v = vertexProvider.buildVertex(nodeId, defaultAttrs);
-                } catch (Exception e) {
-                    throw new IllegalArgumentException(
-                        "Vertex creation failed: " + e.getMessage(), e);
-                }
-                graph.addVertex(v);
-                vertices.put(nodeId, v);
-                scope.addVertex(v);
+                createVertex(nodeId, defaultAttrs);
+                scope.addNodeId(nodeId);
             } else {
-                vertexUpdater.update(v, attrs);
+                Map<String, String> vertexAttrs = attrs;
+                update(() -> vertexUpdater.update(vertices.get(nodeId), vertexAttrs));
             }
-            s.addVertex(v);
+            s.addNodeId(nodeId);
 
             // add as child of parent
             s.children.clear();
@@ -541,29 +651,48 @@ public class DOTImporter<V, E>
             State nodeIdPartial = it.next();
             String nodeId = nodeIdPartial.getId();
 
-            // create or update vertex
-            V v = vertices.get(nodeId);
-            if (v == null) {
+            // create vertex
+            if (!vertices.containsKey(nodeId)) {
                 SubgraphScope scope = subgraphScopes.element();
                 // find default attributes
                 Map<String, String> defaultAttrs = new HashMap<>(scope.nodeAttrs);
+                createVertex(nodeId, defaultAttrs);
+                scope.addNodeId(nodeId);
+            }
+            s.addNodeId(nodeId);
+
+            // add as child of parent
+            s.children.clear();
+            if (!stack.isEmpty()) {
+                stack.element().children.addLast(s);
+            }
+        }
+
+        private void createVertex(String nodeId, Map<String, String> attrs)
+        {
+            vertices.put(nodeId, null);
+            update(() -> {
+                V v;
                 try {
-                    v = vertexProvider.buildVertex(nodeId, defaultAttrs);
+                    v = vertexProvider.buildVertex(nodeId, attrs);
                 } catch (Exception e) {
                     throw new IllegalArgumentException(
                         "Vertex creation failed: " + e.getMessage(), e);
                 }
                 graph.addVertex(v);
                 vertices.put(nodeId, v);
-                scope.addVertex(v);
-            }
-            s.addVertex(v);
+            });
+        }
 
-            // add as child of parent
-            s.children.clear();
-            if (!stack.isEmpty()) {
-                stack.element().children.addLast(s);
-            }
+        private void updateGraph(Map<String, String> attrs)
+        {
+            update(() -> {
+                try {
+                    graphUpdater.update(graph, attrs);
+                } catch (Exception e) {
+                    throw new IllegalArgumentException("Graph update failed: " + e.getMessage(), e);
+                }
+            });
         }
 
         @Override
@@ -624,8 +753,8 @@ public class DOTImporter<V, E>
             State s = stack.pop();
 
             // if not on root graph, append nodes to subgraph one level up
-            if (scope.vertices != null && subgraphScopes.size() > 1) {
-                subgraphScopes.element().addVertices(scope.vertices);
+            if (scope.nodeIds != null && subgraphScopes.size() > 1) {
+                subgraphScopes.element().addNodeIds(scope.nodeIds);
             }
 
             // add as child of parent
@@ -715,7 +844,7 @@ public class DOTImporter<V, E>
         LinkedList<State> children;
         List<String> ids;
         Map<String, String> attrs;
-        List<V> vertices;
+        List<String> nodeIds;
         SubgraphScope subgraph;
 
         public State()
@@ -723,7 +852,7 @@ public class DOTImporter<V, E>
             this.children = new LinkedList<>();
             this.ids = null;
             this.attrs = null;
-            this.vertices = null;
+            this.nodeIds = null;
             this.subgraph = null;
         }
 
@@ -760,20 +889,20 @@ public class DOTImporter<V, E>
             this.attrs.putAll(attrs);
         }
 
-        public void addVertex(V v)
+        public void addNodeId(String nodeId)
         {
-            if (this.vertices == null) {
-                this.vertices = new ArrayList<>();
+            if (this.nodeIds == null) {
+                this.nodeIds = new ArrayList<>();
             }
-            this.vertices.add(v);
+            this.nodeIds.add(nodeId);
         }
 
-        public List<V> getVertices()
+        public List<String> getNodeIds()
         {
-            if (vertices != null) {
-                return vertices;
-            } else if (subgraph != null && subgraph.vertices != null) {
-                return subgraph.vertices;
+            if (nodeIds != null) {
+                return nodeIds;
+            } else if (subgraph != null && subgraph.nodeIds != null) {
+                return subgraph.nodeIds;
             }
             return Collections.emptyList();
         }
@@ -787,30 +916,30 @@ public class DOTImporter<V, E>
         Map<String, String> graphAttrs;
         Map<String, String> nodeAttrs;
         Map<String, String> edgeAttrs;
-        List<V> vertices;
+        List<String> nodeIds;
 
         public SubgraphScope()
         {
             this.graphAttrs = new HashMap<>();
             this.nodeAttrs = new HashMap<>();
             this.edgeAttrs = new HashMap<>();
-            this.vertices = null;
+            this.nodeIds = null;
         }
 
-        public void addVertex(V v)
+        public void addNodeId(String nodeId)
         {
-            if (this.vertices == null) {
-                this.vertices = new ArrayList<>();
+            if (this.nodeIds == null) {
+                this.nodeIds = new ArrayList<>();
             }
-            this.vertices.add(v);
+            this.nodeIds.add(nodeId);
         }
 
-        public void addVertices(List<V> v)
+        public void addNodeIds(List<String> nodeIds)
         {
-            if (this.vertices == null) {
-                this.vertices = new ArrayList<>();
+            if (this.nodeIds == null) {
+                this.nodeIds = new ArrayList<>();
             }
-            this.vertices.addAll(v);
+            this.nodeIds.addAll(nodeIds);
         }
     }
 
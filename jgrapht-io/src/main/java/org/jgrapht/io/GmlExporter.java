@@ -169,7 +169,7 @@ public class GmlExporter<V, E>
     @Override
     public void exportGraph(Graph<V, E> g, Writer writer)
     {
-        PrintWriter out = new PrintWriter(writer);
+        PrintWriter out = new PrintWriter(new BufferedWriter(writer));
 
         for (V from : g.vertexSet()) {
             // assign ids in vertex set iteration order
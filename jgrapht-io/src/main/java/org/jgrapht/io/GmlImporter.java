@@ -21,6 +21,7 @@ import java.io.*;
 import java.util.*;
 
 import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
 import org.antlr.v4.runtime.misc.*;
 import org.antlr.v4.runtime.tree.*;
 import org.jgrapht.*;
@@ -67,6 +68,18 @@ import org.jgrapht.io.GmlParser.*;
  * In case the graph is an instance of {@link org.jgrapht.WeightedGraph} then the importer also
  * reads edge weights. Otherwise edge weights are ignored.
  *
+ * <p>
+ * By default the whole input is parsed into a parse tree, which is then walked in order to
+ * construct the graph. In fast mode, enabled using {@link #setFastMode(boolean)}, no parse tree is
+ * built. Instead vertices and edges are added to the graph as soon as the parser recognizes them,
+ * while only edges referring to nodes which have not been read yet are kept until the end of the
+ * input. Parsing is then performed in two stages. The first stage uses the faster SLL prediction
+ * mode and stops at the first syntax error. Its graph updates, including the calls to the
+ * providers, are buffered and only applied once it succeeds. Otherwise they are discarded and the
+ * input is parsed again from scratch using full LL prediction, which either reports the error
+ * precisely or completes the import. The order in which vertices and edges are added to the graph
+ * differs between the two modes.
+ *
  * @param <V> the vertex type
  * @param <E> the edge type
  */
@@ -75,6 +88,7 @@ public class GmlImporter<V, E>
 {
     private VertexProvider<V> vertexProvider;
     private EdgeProvider<V, E> edgeProvider;
+    private boolean fastMode = false;
 
     /**
      * Constructs a new importer.
@@ -140,6 +154,27 @@ public class GmlImporter<V, E>
         this.edgeProvider = edgeProvider;
     }
 
+    /**
+     * Whether the importer uses fast mode.
+     * 
+     * @return true if fast mode is enabled, false otherwise
+     */
+    public boolean isFastMode()
+    {
+        return fastMode;
+    }
+
+    /**
+     * Set whether the importer uses fast mode, that is parsing without a parse tree and with SLL
+     * prediction in the first stage.
+     * 
+     * @param fastMode if true fast mode is enabled
+     */
+    public void setFastMode(boolean fastMode)
+    {
+        this.fastMode = fastMode;
+    }
+
     /**
      * Import a graph.
      * 
@@ -160,6 +195,10 @@ public class GmlImporter<V, E>
     public void importGraph(Graph<V, E> graph, Reader input)
         throws ImportException
     {
+        if (fastMode) {
+            importGraphTwoStage(graph, input);
+            return;
+        }
         try {
             ThrowingErrorListener errorListener = new ThrowingErrorListener();
 
@@ -192,6 +231,54 @@ public class GmlImporter<V, E>
         }
     }
 
+    private void importGraphTwoStage(Graph<V, E> graph, Reader input)
+        throws ImportException
+    {
+        try {
+            ANTLRInputStream chars = new ANTLRInputStream(input);
+            ThrowingErrorListener errorListener = new ThrowingErrorListener();
+
+            // first stage with SLL prediction, bail out at the first error
+            StreamingGmlListener listener = new StreamingGmlListener(graph, true);
+            try {
+                GmlParser parser = createParser(chars, errorListener);
+                parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+                parser.removeErrorListeners();
+                parser.setErrorHandler(new BailErrorStrategy());
+                parser.addParseListener(listener);
+                parser.gml();
+            } catch (ParseCancellationException e) {
+                // second stage with full LL prediction
+                chars.reset();
+                listener = new StreamingGmlListener(graph, false);
+                GmlParser parser = createParser(chars, errorListener);
+                parser.addParseListener(listener);
+                parser.gml();
+            }
+
+            listener.finish();
+        } catch (IOException e) {
+            throw new ImportException("Failed to import gml graph: " + e.getMessage(), e);
+        } catch (ParseCancellationException pe) {
+            throw new ImportException("Failed to import gml graph: " + pe.getMessage(), pe);
+        } catch (IllegalArgumentException iae) {
+            throw new ImportException("Failed to import gml graph: " + iae.getMessage(), iae);
+        }
+    }
+
+    private GmlParser createParser(CharStream chars, ThrowingErrorListener errorListener)
+    {
+        GmlLexer lexer = new GmlLexer(chars);
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(errorListener);
+
+        GmlParser parser = new GmlParser(new UnbufferedTokenStream<>(lexer));
+        parser.removeErrorListeners();
+        parser.addErrorListener(errorListener);
+        parser.setBuildParseTree(false);
+        return parser;
+    }
+
     private class ThrowingErrorListener
         extends BaseErrorListener
     {
@@ -367,6 +454,217 @@ public class GmlImporter<V, E>
 
     }
 
+    /*
+     * Create the graph while parsing, without a parse tree. Since rule contexts are not linked to
+     * their parents, the listener follows the structure of the input using the tokens consumed by
+     * the parser.
+     *
+     * During the first stage the listener defers all graph updates, including the calls to the
+     * providers, until the end of the input, so that nothing is applied if the stage fails.
+     */
+    private class StreamingGmlListener
+        extends GmlBaseListener
+    {
+        private static final String NODE = "node";
+        private static final String EDGE = "edge";
+        private static final String GRAPH = "graph";
+        private static final String WEIGHT = "weight";
+        private static final String ID = "id";
+        private static final String SOURCE = "source";
+        private static final String TARGET = "target";
+
+        private final Graph<V, E> graph;
+        private final boolean weighted;
+
+        private String key;
+        private Deque<String> keys;
+        private boolean insideGraph;
+        private boolean insideNode;
+        private boolean insideEdge;
+        private Integer nodeId;
+        private Integer sourceId;
+        private Integer targetId;
+        private Double weight;
+
+        // created vertices, node identifiers are mapped to null until their creation is applied
+        private Map<Integer, V> vertices;
+        private int maxId;
+        private int singletons;
+        private List<PartialEdge> pendingEdges;
+
+        // graph updates deferred until the end of the input, or null to update immediately
+        private List<Runnable> deferredUpdates;
+
+        public StreamingGmlListener(Graph<V, E> graph, boolean deferUpdates)
+        {
+            this.graph = graph;
+            this.weighted = graph.getType().isWeighted();
+            this.keys = new ArrayDeque<>();
+            this.vertices = new HashMap<>();
+            this.maxId = 1;
+            this.pendingEdges = new ArrayList<>();
+            this.deferredUpdates = deferUpdates ? new ArrayList<>() : null;
+        }
+
+        private void update(Runnable update)
+        {
+            if (deferredUpdates != null) {
+                deferredUpdates.add(update);
+            } else {
+                update.run();
+            }
+        }
+
+        @Override
+        public void visitTerminal(TerminalNode node)
+        {
+            switch (node.getSymbol().getType()) {
+            case GmlParser.ID:
+                key = node.getText();
+                break;
+            case GmlParser.NUMBER:
+                number(key, node.getText());
+                key = null;
+                break;
+            case GmlParser.STRING:
+                key = null;
+                break;
+            default:
+                if ("[".equals(node.getText())) {
+                    openList(key);
+                } else {
+                    closeList();
+                }
+                key = null;
+            }
+        }
+
+        private void number(String key, String value)
+        {
+            if (keys.size() != 2) {
+                return;
+            }
+            try {
+                if (insideNode && key.equals(ID)) {
+                    nodeId = Integer.parseInt(value);
+                } else if (insideEdge && key.equals(SOURCE)) {
+                    sourceId = Integer.parseInt(value);
+                } else if (insideEdge && key.equals(TARGET)) {
+                    targetId = Integer.parseInt(value);
+                } else if (insideEdge && key.equals(WEIGHT)) {
+                    weight = Double.parseDouble(value);
+                }
+            } catch (NumberFormatException e) {
+                // ignore error
+            }
+        }
+
+        private void openList(String key)
+        {
+            int level = keys.size();
+            if (level == 0 && key.equals(GRAPH)) {
+                insideGraph = true;
+            } else if (level == 1 && insideGraph && key.equals(NODE)) {
+                insideNode = true;
+                nodeId = null;
+            } else if (level == 1 && insideGraph && key.equals(EDGE)) {
+                insideEdge = true;
+                sourceId = null;
+                targetId = null;
+                weight = null;
+            }
+            keys.push(key);
+        }
+
+        private void closeList()
+        {
+            String key = keys.pop();
+            int level = keys.size();
+            if (level == 0 && key.equals(GRAPH)) {
+                insideGraph = false;
+            } else if (level == 1 && insideGraph && key.equals(NODE)) {
+                if (nodeId == null) {
+                    singletons++;
+                } else {
+                    addVertex(nodeId);
+                }
+                insideNode = false;
+            } else if (level == 1 && insideGraph && key.equals(EDGE)) {
+                if (sourceId != null && targetId != null) {
+                    if (vertices.containsKey(sourceId) && vertices.containsKey(targetId)) {
+                        Integer source = sourceId;
+                        Integer target = targetId;
+                        Double edgeWeight = weight;
+                        update(
+                            () -> addEdge(
+                                vertices.get(source), vertices.get(target), source, target,
+                                edgeWeight));
+                    } else {
+                        pendingEdges.add(new PartialEdge(sourceId, targetId, weight));
+                    }
+                }
+                insideEdge = false;
+            }
+        }
+
+        private void addVertex(Integer id)
+        {
+            maxId = Math.max(maxId, id);
+            if (vertices.containsKey(id)) {
+                return;
+            }
+            vertices.put(id, null);
+            update(() -> {
+                V vertex =
+                    vertexProvider.buildVertex(id.toString(), new HashMap<String, String>());
+                graph.addVertex(vertex);
+                vertices.put(id, vertex);
+            });
+        }
+
+        private void addEdge(V from, V to, Integer source, Integer target, Double weight)
+        {
+            String label = "e_" + source + "_" + target;
+            E e = edgeProvider.buildEdge(from, to, label, new HashMap<String, String>());
+            graph.addEdge(from, to, e);
+            if (weight != null && weighted) {
+                graph.setEdgeWeight(e, weight);
+            }
+        }
+
+        /**
+         * Apply any deferred updates and add the singleton nodes and the edges which were read
+         * before their nodes.
+         */
+        public void finish()
+            throws ImportException
+        {
+            if (deferredUpdates != null) {
+                for (Runnable update : deferredUpdates) {
+                    update.run();
+                }
+                deferredUpdates = null;
+            }
+
+            for (int i = 0; i < singletons; i++) {
+                String label = String.valueOf(maxId + 1 + i);
+                graph.addVertex(vertexProvider.buildVertex(label, new HashMap<String, String>()));
+            }
+
+            for (PartialEdge pe : pendingEdges) {
+                V from = vertices.get(pe.source);
+                if (from == null) {
+                    throw new ImportException("Node " + pe.source + " does not exist");
+                }
+                V to = vertices.get(pe.target);
+                if (to == null) {
+                    throw new ImportException("Node " + pe.target + " does not exist");
+                }
+                addEdge(from, to, pe.source, pe.target, pe.weight);
+            }
+        }
+    }
+
     private class PartialEdge
     {
         Integer source;
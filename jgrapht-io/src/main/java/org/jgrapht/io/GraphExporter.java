@@ -55,7 +55,31 @@ public interface GraphExporter<V, E>
         throws ExportException;
 
     /**
-     * Export a graph
+     * Export a graph, compressing the output
+     * 
+     * @param g the graph to export
+     * @param out the output stream. The stream is flushed but not closed.
+     * @param compression the compression format
+     * @throws ExportException in case any error occurs
+     */
+    default void exportGraph(Graph<V, E> g, OutputStream out, Compression compression)
+        throws ExportException
+    {
+        try {
+            OutputStream compressed = compression.wrap(out);
+            try {
+                exportGraph(g, compressed);
+                compression.finish(compressed);
+            } finally {
+                compression.release(compressed);
+            }
+        } catch (IOException e) {
+            throw new ExportException(e);
+        }
+    }
+
+    /**
+     * Export a graph. The file is written using the UTF-8 encoding.
      * 
      * @param g the graph to export
      * @param file the file to write to
@@ -64,8 +88,22 @@ public interface GraphExporter<V, E>
     default void exportGraph(Graph<V, E> g, File file)
         throws ExportException
     {
-        try {
-            exportGraph(g, new FileWriter(file));
+        exportGraph(g, file, Compression.NONE);
+    }
+
+    /**
+     * Export a graph, compressing the output
+     * 
+     * @param g the graph to export
+     * @param file the file to write to
+     * @param compression the compression format
+     * @throws ExportException in case any error occurs
+     */
+    default void exportGraph(Graph<V, E> g, File file, Compression compression)
+        throws ExportException
+    {
+        try (OutputStream out = new FileOutputStream(file)) {
+            exportGraph(g, out, compression);
         } catch (IOException e) {
             throw new ExportException(e);
         }
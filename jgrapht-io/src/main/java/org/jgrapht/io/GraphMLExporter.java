@@ -21,13 +21,7 @@ import java.io.*;
 import java.util.*;
 import java.util.Map.*;
 
-import javax.xml.transform.*;
-import javax.xml.transform.sax.*;
-import javax.xml.transform.stream.*;
-
 import org.jgrapht.*;
-import org.xml.sax.*;
-import org.xml.sax.helpers.*;
 
 /**
  * Exports a graph as GraphML.
@@ -37,6 +31,12 @@ import org.xml.sax.helpers.*;
  * http://en.wikipedia.org/wiki/ GraphML</a>.
  * </p>
  *
+ * <p>
+ * The output is written in a single pass through a buffered streaming writer, with one element per
+ * line and without indentation. Besides the vertex and edge sets of the graph nothing is
+ * collected, thus the memory required is independent of the size of the graph.
+ * </p>
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -442,89 +442,98 @@ public class GraphMLExporter<V, E>
     @Override
     public void exportGraph(Graph<V, E> g, Writer writer)
         throws ExportException
+    {
+        exportGraph(g, g.edgeSet().iterator(), writer);
+    }
+
+    /**
+     * Exports all vertices of a graph together with the edges returned by an iterator, in GraphML
+     * format. The edges are consumed one at a time while writing, thus they can be produced lazily
+     * without being collected first. All edges must belong to the graph.
+     *
+     * <p>
+     * In order to export only part of a graph, it is also possible to export a subgraph view such
+     * as {@link org.jgrapht.graph.MaskSubgraph}, since the exporter only iterates over the vertex
+     * and edge sets of the graph.
+     *
+     * @param g the graph
+     * @param edges the edges to export
+     * @param writer the writer to export the graph
+     * @throws ExportException in case any error occurs during export
+     */
+    public void exportGraph(Graph<V, E> g, Iterator<? extends E> edges, Writer writer)
+        throws ExportException
     {
         try {
-            // Prepare an XML file to receive the GraphML data
-            SAXTransformerFactory factory =
-                (SAXTransformerFactory) SAXTransformerFactory.newInstance();
-            TransformerHandler handler = factory.newTransformerHandler();
-            handler.getTransformer().setOutputProperty(OutputKeys.ENCODING, "UTF-8");
-            handler.getTransformer().setOutputProperty(OutputKeys.INDENT, "yes");
-            handler.setResult(new StreamResult(new PrintWriter(writer)));
+            // elements are written directly into a buffer flushed to the writer in blocks
+            SimpleXMLWriter xml = new SimpleXMLWriter(writer);
 
             // export
-            handler.startDocument();
-
-            writeHeader(handler);
-            writeKeys(handler);
-            writeGraphStart(handler, g);
-            writeNodes(handler, g);
-            writeEdges(handler, g);
-            writeGraphEnd(handler);
-            writeFooter(handler);
+            xml.startDocument();
 
-            handler.endDocument();
+            writeHeader(xml);
+            writeKeys(xml);
+            writeGraphStart(xml, g);
+            writeNodes(xml, g);
+            writeEdges(xml, g, edges);
+            writeGraphEnd(xml);
+            writeFooter(xml);
 
-            // flush
-            writer.flush();
+            xml.endDocument();
         } catch (Exception e) {
             throw new ExportException("Failed to export as GraphML", e);
         }
     }
 
-    private void writeHeader(TransformerHandler handler)
-        throws SAXException
+    private void writeHeader(SimpleXMLWriter xml)
+        throws IOException
     {
-        handler.startPrefixMapping("xsi", "http://www.w3.org/2001/XMLSchema-instance");
-        handler.endPrefixMapping("xsi");
-
-        AttributesImpl attr = new AttributesImpl();
-        attr.addAttribute(
-            "", "", "xsi:schemaLocation", "CDATA",
+        xml.startElement("graphml");
+        xml.attribute("xmlns", "http://graphml.graphdrawing.org/xmlns");
+        xml.attribute(
+            "xsi:schemaLocation",
             "http://graphml.graphdrawing.org/xmlns http://graphml.graphdrawing.org/xmlns/1.0/graphml.xsd");
-        handler.startElement("http://graphml.graphdrawing.org/xmlns", "", "graphml", attr);
+        xml.attribute("xmlns:xsi", "http://www.w3.org/2001/XMLSchema-instance");
     }
 
-    private void writeGraphStart(TransformerHandler handler, Graph<V, E> g)
-        throws SAXException
+    private void writeGraphStart(SimpleXMLWriter xml, Graph<V, E> g)
+        throws IOException
     {
         // <graph>
-        AttributesImpl attr = new AttributesImpl();
-        attr.addAttribute(
-            "", "", "edgedefault", "CDATA", g.getType().isDirected() ? "directed" : "undirected");
-        handler.startElement("", "", "graph", attr);
+        xml.startElement("graph");
+        xml.attribute("edgedefault", g.getType().isDirected() ? "directed" : "undirected");
     }
 
-    private void writeGraphEnd(TransformerHandler handler)
-        throws SAXException
+    private void writeGraphEnd(SimpleXMLWriter xml)
+        throws IOException
     {
-        handler.endElement("", "", "graph");
+        xml.endElement();
     }
 
-    private void writeFooter(TransformerHandler handler)
-        throws SAXException
+    private void writeFooter(SimpleXMLWriter xml)
+        throws IOException
     {
-        handler.endElement("", "", "graphml");
+        xml.endElement();
     }
 
-    private void writeKeys(TransformerHandler handler)
-        throws SAXException
+    private void writeKeys(SimpleXMLWriter xml)
+        throws IOException
     {
         if (vertexLabelProvider != null) {
             writeAttribute(
-                handler, vertexLabelAttributeName, new AttributeDetails(
+                xml, vertexLabelAttributeName, new AttributeDetails(
                     "vertex_label_key", AttributeCategory.NODE, AttributeType.STRING, null));
         }
 
         if (edgeLabelProvider != null) {
             writeAttribute(
-                handler, edgeLabelAttributeName, new AttributeDetails(
+                xml, edgeLabelAttributeName, new AttributeDetails(
                     "edge_label_key", AttributeCategory.EDGE, AttributeType.STRING, null));
         }
 
         if (exportEdgeWeights) {
             writeAttribute(
-                handler, edgeWeightAttributeName,
+                xml, edgeWeightAttributeName,
                 new AttributeDetails(
                     "edge_weight_key", AttributeCategory.EDGE, AttributeType.DOUBLE,
                     Double.toString(Graph.DEFAULT_EDGE_WEIGHT)));
@@ -532,53 +541,49 @@ public class GraphMLExporter<V, E>
 
         for (String attributeName : registeredAttributes.keySet()) {
             AttributeDetails details = registeredAttributes.get(attributeName);
-            writeAttribute(handler, attributeName, details);
+            writeAttribute(xml, attributeName, details);
         }
 
     }
 
-    private void writeData(TransformerHandler handler, String key, String value)
-        throws SAXException
+    private void writeData(SimpleXMLWriter xml, String key, String value)
+        throws IOException
     {
-        AttributesImpl attr = new AttributesImpl();
-        attr.addAttribute("", "", "key", "CDATA", key);
-        handler.startElement("", "", "data", attr);
-        handler.characters(value.toCharArray(), 0, value.length());
-        handler.endElement("", "", "data");
+        xml.startElement("data");
+        xml.attribute("key", key);
+        xml.characters(value);
+        xml.endElement();
     }
 
-    private void writeAttribute(TransformerHandler handler, String name, AttributeDetails details)
-        throws SAXException
+    private void writeAttribute(SimpleXMLWriter xml, String name, AttributeDetails details)
+        throws IOException
     {
-        AttributesImpl attr = new AttributesImpl();
-        attr.addAttribute("", "", "id", "CDATA", details.key);
-        attr.addAttribute("", "", "for", "CDATA", details.category.toString());
-        attr.addAttribute("", "", "attr.name", "CDATA", name);
-        attr.addAttribute("", "", "attr.type", "CDATA", details.type.toString());
-        handler.startElement("", "", "key", attr);
+        xml.startElement("key");
+        xml.attribute("id", details.key);
+        xml.attribute("for", details.category.toString());
+        xml.attribute("attr.name", name);
+        xml.attribute("attr.type", details.type.toString());
         if (details.defaultValue != null) {
-            handler.startElement("", "", "default", null);
-            handler
-                .characters(details.defaultValue.toCharArray(), 0, details.defaultValue.length());
-            handler.endElement("", "", "default");
+            xml.startElement("default");
+            xml.characters(details.defaultValue);
+            xml.endElement();
         }
-        handler.endElement("", "", "key");
+        xml.endElement();
     }
 
-    private void writeNodes(TransformerHandler handler, Graph<V, E> g)
-        throws SAXException
+    private void writeNodes(SimpleXMLWriter xml, Graph<V, E> g)
+        throws IOException
     {
         // Add all the vertices as <node> elements...
         for (V v : g.vertexSet()) {
             // <node>
-            AttributesImpl attr = new AttributesImpl();
-            attr.addAttribute("", "", "id", "CDATA", vertexIDProvider.getName(v));
-            handler.startElement("", "", "node", attr);
+            xml.startElement("node");
+            xml.attribute("id", vertexIDProvider.getName(v));
 
             if (vertexLabelProvider != null) {
                 String vertexLabel = vertexLabelProvider.getName(v);
                 if (vertexLabel != null) {
-                    writeData(handler, "vertex_label_key", vertexLabel);
+                    writeData(xml, "vertex_label_key", vertexLabel);
                 }
             }
 
@@ -603,7 +608,7 @@ public class GraphMLExporter<V, E>
                         String value = vertexAttributes.get(name);
                         if (defaultValue == null || !defaultValue.equals(value)) {
                             if (value != null) {
-                                writeData(handler, details.key, value);
+                                writeData(xml, details.key, value);
                             }
                         }
                     }
@@ -611,37 +616,34 @@ public class GraphMLExporter<V, E>
                 }
             }
 
-            handler.endElement("", "", "node");
+            xml.endElement();
         }
     }
 
-    private void writeEdges(TransformerHandler handler, Graph<V, E> g)
-        throws SAXException
+    private void writeEdges(SimpleXMLWriter xml, Graph<V, E> g, Iterator<? extends E> edges)
+        throws IOException
     {
         // Add all the edges as <edge> elements...
-        for (E e : g.edgeSet()) {
+        while (edges.hasNext()) {
+            E e = edges.next();
+
             // <edge>
-            AttributesImpl attr = new AttributesImpl();
-            attr.addAttribute("", "", "id", "CDATA", edgeIDProvider.getName(e));
-            attr.addAttribute(
-                "", "", "source", "CDATA", vertexIDProvider.getName(g.getEdgeSource(e)));
-            attr.addAttribute(
-                "", "", "target", "CDATA", vertexIDProvider.getName(g.getEdgeTarget(e)));
-            handler.startElement("", "", "edge", attr);
+            xml.startElement("edge");
+            xml.attribute("id", edgeIDProvider.getName(e));
+            xml.attribute("source", vertexIDProvider.getName(g.getEdgeSource(e)));
+            xml.attribute("target", vertexIDProvider.getName(g.getEdgeTarget(e)));
 
             if (edgeLabelProvider != null) {
                 String edgeLabel = edgeLabelProvider.getName(e);
                 if (edgeLabel != null) {
-                    writeData(handler, "edge_label_key", edgeLabel);
+                    writeData(xml, "edge_label_key", edgeLabel);
                 }
             }
 
             if (exportEdgeWeights) {
-                Double weight = g.getEdgeWeight(e);
-                if (!weight.equals(Graph.DEFAULT_EDGE_WEIGHT)) { // not
-                                                                 // default
-                                                                 // value
-                    writeData(handler, "edge_weight_key", String.valueOf(weight));
+                double weight = g.getEdgeWeight(e);
+                if (weight != Graph.DEFAULT_EDGE_WEIGHT) { // not default value
+                    writeData(xml, "edge_weight_key", String.valueOf(weight));
                 }
             }
 
@@ -666,7 +668,7 @@ public class GraphMLExporter<V, E>
                         String value = edgeAttributes.get(name);
                         if (defaultValue == null || !defaultValue.equals(value)) {
                             if (value != null) {
-                                writeData(handler, details.key, value);
+                                writeData(xml, details.key, value);
                             }
                         }
                     }
@@ -674,7 +676,7 @@ public class GraphMLExporter<V, E>
                 }
             }
 
-            handler.endElement("", "", "edge");
+            xml.endElement();
         }
     }
 
@@ -26,6 +26,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Consumer;
 
 import javax.xml.XMLConstants;
 import javax.xml.parsers.SAXParser;
@@ -120,8 +121,22 @@ import org.xml.sax.helpers.DefaultHandler;
  * graph object.
  * 
  * <p>
- * The importer validates the input using the 1.0
- * <a href="http://graphml.graphdrawing.org/xmlns/1.0/graphml.xsd">GraphML Schema</a>.
+ * By default the importer validates the input using the 1.0
+ * <a href="http://graphml.graphdrawing.org/xmlns/1.0/graphml.xsd">GraphML Schema</a>. Validation
+ * can be turned off using {@link #setSchemaValidation(boolean)}, which speeds up parsing of large
+ * inputs which are known to be valid.
+ * 
+ * <p>
+ * By default the importer collects all nodes and edges of the input and populates the graph after
+ * the whole document has been parsed. In streaming mode, enabled using
+ * {@link #setStreaming(boolean)}, each vertex is added to the graph as soon as its node element has
+ * been parsed and each edge as soon as both its endpoints are known. Edges which refer to nodes
+ * appearing later in the document are kept aside until these nodes are parsed, and an error is
+ * reported at the end of the document if some node is never found. Thus only the mapping from node
+ * identifiers to vertices and the unresolved edges are kept in memory besides the graph itself.
+ * Streaming mode requires that keys are declared before the elements which use them, as mandated
+ * by the GraphML schema. Using {@link #importGraph(Reader, Consumer, Consumer)} the vertices and
+ * edges can also be streamed to arbitrary consumers instead of a graph.
  *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -142,6 +157,9 @@ public class GraphMLImporter<V, E>
     private static final String EDGE_WEIGHT_DEFAULT_ATTRIBUTE_NAME = "weight";
     private String edgeWeightAttributeName = EDGE_WEIGHT_DEFAULT_ATTRIBUTE_NAME;
 
+    private boolean schemaValidation = true;
+    private boolean streaming = false;
+
     /**
      * Constructs a new importer.
      * 
@@ -229,6 +247,47 @@ public class GraphMLImporter<V, E>
         this.edgeWeightAttributeName = edgeWeightAttributeName;
     }
 
+    /**
+     * Whether the input is validated against the GraphML schema.
+     * 
+     * @return true if the input is validated, false otherwise
+     */
+    public boolean isSchemaValidation()
+    {
+        return schemaValidation;
+    }
+
+    /**
+     * Set whether the input is validated against the GraphML schema. Defaults to true.
+     * 
+     * @param schemaValidation if true the input is validated, otherwise validation is skipped
+     */
+    public void setSchemaValidation(boolean schemaValidation)
+    {
+        this.schemaValidation = schemaValidation;
+    }
+
+    /**
+     * Whether the importer adds vertices and edges to the graph while parsing.
+     * 
+     * @return true if streaming mode is enabled, false otherwise
+     */
+    public boolean isStreaming()
+    {
+        return streaming;
+    }
+
+    /**
+     * Set whether the importer adds vertices and edges to the graph while parsing, instead of
+     * collecting the whole document first. Defaults to false.
+     * 
+     * @param streaming if true streaming mode is enabled
+     */
+    public void setStreaming(boolean streaming)
+    {
+        this.streaming = streaming;
+    }
+
     /**
      * Import a graph.
      * 
@@ -255,7 +314,8 @@ public class GraphMLImporter<V, E>
         try {
             // parse
             XMLReader xmlReader = createXMLReader();
-            GraphMLHandler handler = new GraphMLHandler();
+            GraphMLHandler handler = streaming
+                ? new StreamingGraphMLHandler(graph, graph::addVertex, null) : new GraphMLHandler();
             xmlReader.setContentHandler(handler);
             xmlReader.setErrorHandler(handler);
             xmlReader.parse(new InputSource(input));
@@ -267,43 +327,85 @@ public class GraphMLImporter<V, E>
         }
     }
 
-    private XMLReader createXMLReader()
+    /**
+     * Import the vertices and edges of a graph in streaming mode, passing each of them to a
+     * consumer as soon as it is created. Vertices are created using the vertex provider and edges
+     * using the edge provider, thus the endpoints of an edge are available to the edge provider.
+     * Each vertex is passed to the vertex consumer before any edge touching it is passed to the
+     * edge consumer. Edge weights are not handled, but the edge attributes are passed to the edge
+     * provider as usual.
+     * 
+     * @param input the input reader
+     * @param vertexConsumer consumer of the vertices
+     * @param edgeConsumer consumer of the edges
+     * @throws ImportException in case an error occurs, such as I/O or parse error
+     */
+    public void importGraph(Reader input, Consumer<V> vertexConsumer, Consumer<E> edgeConsumer)
         throws ImportException
     {
+        if (vertexConsumer == null) {
+            throw new IllegalArgumentException("Vertex consumer cannot be null");
+        }
+        if (edgeConsumer == null) {
+            throw new IllegalArgumentException("Edge consumer cannot be null");
+        }
         try {
-            SchemaFactory schemaFactory =
-                SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-
-            // load schema
-            InputStream xsdStream =
-                Thread.currentThread().getContextClassLoader().getResourceAsStream(
-                    GRAPHML_SCHEMA_FILENAME);
-            if (xsdStream == null) {
-                throw new ImportException("Failed to locate GraphML xsd");
-            }
-            InputStream xlinkStream = Thread
-                .currentThread().getContextClassLoader().getResourceAsStream(XLINK_SCHEMA_FILENAME);
-            if (xlinkStream == null) {
-                throw new ImportException("Failed to locate XLink xsd");
-            }
-            Source[] sources = new Source[2];
-            sources[0] = new StreamSource(xlinkStream);
-            sources[1] = new StreamSource(xsdStream);
-            Schema schema = schemaFactory.newSchema(sources);
+            XMLReader xmlReader = createXMLReader();
+            GraphMLHandler handler =
+                new StreamingGraphMLHandler(null, vertexConsumer, edgeConsumer);
+            xmlReader.setContentHandler(handler);
+            xmlReader.setErrorHandler(handler);
+            xmlReader.parse(new InputSource(input));
+        } catch (Exception se) {
+            throw new ImportException("Failed to parse GraphML", se);
+        }
+    }
 
+    private XMLReader createXMLReader()
+        throws ImportException
+    {
+        try {
             // create parser
             SAXParserFactory spf = SAXParserFactory.newInstance();
             spf.setNamespaceAware(true);
-            spf.setSchema(schema);
+            if (schemaValidation) {
+                spf.setSchema(loadSchema());
+            }
             SAXParser saxParser = spf.newSAXParser();
 
             // create reader
             return saxParser.getXMLReader();
+        } catch (ImportException se) {
+            throw se;
         } catch (Exception se) {
             throw new ImportException("Failed to parse GraphML", se);
         }
     }
 
+    private Schema loadSchema()
+        throws ImportException, SAXException
+    {
+        SchemaFactory schemaFactory =
+            SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+
+        // load schema
+        InputStream xsdStream =
+            Thread.currentThread().getContextClassLoader().getResourceAsStream(
+                GRAPHML_SCHEMA_FILENAME);
+        if (xsdStream == null) {
+            throw new ImportException("Failed to locate GraphML xsd");
+        }
+        InputStream xlinkStream = Thread
+            .currentThread().getContextClassLoader().getResourceAsStream(XLINK_SCHEMA_FILENAME);
+        if (xlinkStream == null) {
+            throw new ImportException("Failed to locate XLink xsd");
+        }
+        Source[] sources = new Source[2];
+        sources[0] = new StreamSource(xlinkStream);
+        sources[1] = new StreamSource(xsdStream);
+        return schemaFactory.newSchema(sources);
+    }
+
     // content handler
     private class GraphMLHandler
         extends DefaultHandler
@@ -342,6 +444,10 @@ public class GraphMLImporter<V, E>
         private Map<String, Key> nodeValidKeys;
         private Map<String, Key> edgeValidKeys;
 
+        // special edge weight handling
+        private boolean handleSpecialEdgeWeights;
+        private double defaultSpecialEdgeWeight;
+
         // construct the actual graph after parsing
         public void updateGraph(Graph<V, E> graph)
             throws ImportException
@@ -356,47 +462,14 @@ public class GraphMLImporter<V, E>
             for (Entry<String, GraphElement> en : nodes.entrySet()) {
                 String nodeId = en.getKey();
 
-                // create attributes
-                Map<String, String> collectedAttributes = en.getValue().attributes;
-                Map<String, String> finalAttributes = new HashMap<String, String>();
-
-                for (Key validKey : nodeValidKeys.values()) {
-                    String validId = validKey.id;
-                    if (collectedAttributes.containsKey(validId)) {
-                        finalAttributes
-                            .put(validKey.attributeName, collectedAttributes.get(validId));
-                    } else if (validKey.defaultValue != null) {
-                        finalAttributes.put(validKey.attributeName, validKey.defaultValue);
-                    }
-                }
-
                 // create the actual node
-                V v = vertexProvider.buildVertex(nodeId, finalAttributes);
+                V v = buildVertex(en.getValue());
                 graphNodes.put(nodeId, v);
                 graph.addVertex(v);
             }
 
             // check how to handle special edge weight
-            boolean handleSpecialEdgeWeights = false;
-            double defaultSpecialEdgeWeight = Graph.DEFAULT_EDGE_WEIGHT;
-            if (graph.getType().isWeighted()) {
-                for (Key k : edgeValidKeys.values()) {
-                    if (k.attributeName.equals(edgeWeightAttributeName)) {
-                        handleSpecialEdgeWeights = true;
-                        String defaultValue = k.defaultValue;
-                        try {
-                            if (defaultValue != null) {
-                                defaultSpecialEdgeWeight = Double.parseDouble(defaultValue);
-                            }
-                        } catch (NumberFormatException e) {
-                            // ignore
-                        }
-                        // first key only which maps to special edge "weight"
-                        break;
-                    }
-                }
-
-            }
+            initEdgeWeights(graph);
 
             // create edges
             for (GraphElement p : edges) {
@@ -409,40 +482,112 @@ public class GraphMLImporter<V, E>
                     throw new ImportException("Target vertex " + p.id2 + " not found");
                 }
 
-                // create attributes
-                Map<String, String> collectedAttributes = p.attributes;
-                Map<String, String> finalAttributes = new HashMap<String, String>();
-
-                for (Key validKey : edgeValidKeys.values()) {
-                    String validId = validKey.id;
-                    if (collectedAttributes.containsKey(validId)) {
-                        finalAttributes
-                            .put(validKey.attributeName, collectedAttributes.get(validId));
-                    } else {
-                        if (validKey.defaultValue != null) {
-                            finalAttributes.put(validKey.attributeName, validKey.defaultValue);
-                        }
+                addEdge(graph, from, to, p);
+            }
+
+        }
+
+        /**
+         * Create a vertex using the vertex provider.
+         */
+        protected V buildVertex(GraphElement node)
+        {
+            return vertexProvider
+                .buildVertex(node.id1, finalAttributes(node.attributes, nodeValidKeys));
+        }
+
+        /**
+         * Create an edge using the edge provider and add it to a graph, also setting its weight if
+         * edge weights are handled.
+         */
+        protected E addEdge(Graph<V, E> graph, V from, V to, GraphElement edge)
+        {
+            Map<String, String> finalAttributes = finalAttributes(edge.attributes, edgeValidKeys);
+
+            E e = edgeProvider.buildEdge(from, to, "e_" + from + "_" + to, finalAttributes);
+            if (graph == null) {
+                return e;
+            }
+            graph.addEdge(from, to, e);
+
+            // special handling for weighted graphs
+            if (handleSpecialEdgeWeights) {
+                if (finalAttributes.containsKey(edgeWeightAttributeName)) {
+                    try {
+                        graph.setEdgeWeight(
+                            e, Double.parseDouble(finalAttributes.get(edgeWeightAttributeName)));
+                    } catch (NumberFormatException nfe) {
+                        graph.setEdgeWeight(e, defaultSpecialEdgeWeight);
                     }
                 }
+            }
+            return e;
+        }
 
-                E e = edgeProvider.buildEdge(from, to, "e_" + from + "_" + to, finalAttributes);
-                graph.addEdge(from, to, e);
-
-                // special handling for weighted graphs
-                if (handleSpecialEdgeWeights) {
-                    if (finalAttributes.containsKey(edgeWeightAttributeName)) {
+        /**
+         * Check how to handle the special edge weight attribute.
+         */
+        protected void initEdgeWeights(Graph<V, E> graph)
+        {
+            handleSpecialEdgeWeights = false;
+            defaultSpecialEdgeWeight = Graph.DEFAULT_EDGE_WEIGHT;
+            if (graph != null && graph.getType().isWeighted()) {
+                for (Key k : edgeValidKeys.values()) {
+                    if (k.attributeName.equals(edgeWeightAttributeName)) {
+                        handleSpecialEdgeWeights = true;
+                        String defaultValue = k.defaultValue;
                         try {
-                            graph.setEdgeWeight(
-                                e,
-                                Double.parseDouble(finalAttributes.get(edgeWeightAttributeName)));
-                        } catch (NumberFormatException nfe) {
-                            graph.setEdgeWeight(e, defaultSpecialEdgeWeight);
+                            if (defaultValue != null) {
+                                defaultSpecialEdgeWeight = Double.parseDouble(defaultValue);
+                            }
+                        } catch (NumberFormatException e) {
+                            // ignore
                         }
+                        // first key only which maps to special edge "weight"
+                        break;
                     }
+                }
+            }
+        }
 
+        /**
+         * Map the collected attributes from key identifiers to attribute names, adding the
+         * default values of the keys which are missing.
+         */
+        private Map<String, String> finalAttributes(
+            Map<String, String> collectedAttributes, Map<String, Key> validKeys)
+        {
+            Map<String, String> finalAttributes = new HashMap<String, String>();
+            for (Key validKey : validKeys.values()) {
+                String validId = validKey.id;
+                if (collectedAttributes.containsKey(validId)) {
+                    finalAttributes.put(validKey.attributeName, collectedAttributes.get(validId));
+                } else if (validKey.defaultValue != null) {
+                    finalAttributes.put(validKey.attributeName, validKey.defaultValue);
                 }
             }
+            return finalAttributes;
+        }
+
+        /**
+         * Called when a node element has been completely parsed.
+         */
+        protected void nodeParsed(GraphElement node)
+            throws SAXException
+        {
+            if (nodes.containsKey(node.id1)) {
+                throw new SAXException("Node with id " + node.id1 + " already exists");
+            }
+            nodes.put(node.id1, node);
+        }
 
+        /**
+         * Called when an edge element has been completely parsed.
+         */
+        protected void edgeParsed(GraphElement edge)
+            throws SAXException
+        {
+            edges.add(edge);
         }
 
         @Override
@@ -518,15 +663,10 @@ public class GraphMLImporter<V, E>
                 currentGraphElement.pop();
                 break;
             case NODE:
-                GraphElement currentNode = currentGraphElement.pop();
-                if (nodes.containsKey(currentNode.id1)) {
-                    throw new SAXException("Node with id " + currentNode.id1 + " already exists");
-                }
-                nodes.put(currentNode.id1, currentNode);
+                nodeParsed(currentGraphElement.pop());
                 break;
             case EDGE:
-                GraphElement currentEdge = currentGraphElement.pop();
-                edges.add(currentEdge);
+                edgeParsed(currentGraphElement.pop());
                 break;
             case KEY:
                 if (currentKey.isValid()) {
@@ -603,6 +743,104 @@ public class GraphMLImporter<V, E>
 
     }
 
+    // content handler which creates vertices and edges while parsing
+    private class StreamingGraphMLHandler
+        extends GraphMLHandler
+    {
+        private final Graph<V, E> graph;
+        private final Consumer<V> vertexConsumer;
+        private final Consumer<E> edgeConsumer;
+
+        // created vertices
+        private Map<String, V> graphNodes;
+
+        // edges waiting for a vertex, indexed by the missing vertex identifier
+        private Map<String, List<GraphElement>> pendingEdges;
+        private boolean edgeWeightsInitialized;
+
+        public StreamingGraphMLHandler(
+            Graph<V, E> graph, Consumer<V> vertexConsumer, Consumer<E> edgeConsumer)
+        {
+            this.graph = graph;
+            this.vertexConsumer = vertexConsumer;
+            this.edgeConsumer = edgeConsumer;
+        }
+
+        @Override
+        public void updateGraph(Graph<V, E> graph)
+        {
+            // nothing to do, graph already updated while parsing
+        }
+
+        @Override
+        public void startDocument()
+            throws SAXException
+        {
+            super.startDocument();
+            graphNodes = new HashMap<String, V>();
+            pendingEdges = new HashMap<String, List<GraphElement>>();
+            edgeWeightsInitialized = false;
+        }
+
+        @Override
+        public void endDocument()
+            throws SAXException
+        {
+            for (List<GraphElement> waiting : pendingEdges.values()) {
+                GraphElement p = waiting.get(0);
+                if (!graphNodes.containsKey(p.id1)) {
+                    throw new SAXException("Source vertex " + p.id1 + " not found");
+                }
+                throw new SAXException("Target vertex " + p.id2 + " not found");
+            }
+        }
+
+        @Override
+        protected void nodeParsed(GraphElement node)
+            throws SAXException
+        {
+            if (graphNodes.containsKey(node.id1)) {
+                throw new SAXException("Node with id " + node.id1 + " already exists");
+            }
+            V v = buildVertex(node);
+            graphNodes.put(node.id1, v);
+            vertexConsumer.accept(v);
+
+            // resolve forward references
+            List<GraphElement> waiting = pendingEdges.remove(node.id1);
+            if (waiting != null) {
+                for (GraphElement p : waiting) {
+                    edgeParsed(p);
+                }
+            }
+        }
+
+        @Override
+        protected void edgeParsed(GraphElement edge)
+            throws SAXException
+        {
+            V from = graphNodes.get(edge.id1);
+            if (from == null) {
+                pendingEdges.computeIfAbsent(edge.id1, k -> new ArrayList<>()).add(edge);
+                return;
+            }
+            V to = graphNodes.get(edge.id2);
+            if (to == null) {
+                pendingEdges.computeIfAbsent(edge.id2, k -> new ArrayList<>()).add(edge);
+                return;
+            }
+
+            if (!edgeWeightsInitialized) {
+                initEdgeWeights(graph);
+                edgeWeightsInitialized = true;
+            }
+            E e = addEdge(graph, from, to, edge);
+            if (edgeConsumer != null) {
+                edgeConsumer.accept(e);
+            }
+        }
+    }
+
     // ----- Helper classes for storing partial parser results -----
 
     private enum KeyTarget
@@ -0,0 +1,545 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.jgrapht.*;
+
+/**
+ * A push-style importer which incrementally appends vertex and edge records into an existing
+ * graph.
+ *
+ * <p>
+ * Unlike a {@link GraphImporter}, which reads a complete input in one call, this importer is fed
+ * records one at a time, for example by a thread tailing a log, and keeps the target graph up to
+ * date without re-importing. Records are buffered and applied to the graph in batches: whenever the
+ * number of pending records reaches the batch size, see {@link #setBatchSize(int)}, the pending
+ * records are applied in the order in which they were added. Calling {@link #flush()} applies the
+ * pending records immediately.
+ *
+ * <p>
+ * Vertices are identified by string identifiers. The first time an identifier is encountered the
+ * vertex is created using the vertex provider and added to the graph, unless an equal vertex is
+ * already contained in it, and is then remembered for all subsequent records. Edges are created
+ * using the edge provider with the label {@code e_<source>_<target>}. If the graph is weighted,
+ * the weight of an edge record is also set; edges without a weight keep the weight assigned by the
+ * graph.
+ *
+ * <p>
+ * After each committed batch, a {@link BatchStatistics} object with the number of records applied,
+ * the number of vertices and edges actually added and the time spent is passed to the batch
+ * listener,
+ * see {@link #setBatchListener(Consumer)}, and is also available using
+ * {@link #getLastBatchStatistics()}.
+ *
+ * <p>
+ * This class is not thread-safe. If records are produced by multiple threads, or if the graph is
+ * read concurrently, the caller must provide the necessary synchronization.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class IncrementalGraphImporter<V, E>
+{
+    /**
+     * Default batch size.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    private final Graph<V, E> graph;
+    private VertexProvider<V> vertexProvider;
+    private EdgeProvider<V, E> edgeProvider;
+    private int batchSize;
+    private Consumer<BatchStatistics> batchListener;
+
+    private final Map<String, V> vertices;
+    private final List<Record> pending;
+    private long batchCount;
+    private BatchStatistics lastBatchStatistics;
+    // identifiers first seen and vertices added by the batch being applied
+    private final List<String> batchIds;
+    private final List<V> batchVertices;
+
+    /**
+     * Construct a new importer.
+     *
+     * @param graph the graph to append to
+     * @param vertexProvider provider for the generation of vertices. Must not be null.
+     * @param edgeProvider provider for the generation of edges. Must not be null.
+     */
+    public IncrementalGraphImporter(
+        Graph<V, E> graph, VertexProvider<V> vertexProvider, EdgeProvider<V, E> edgeProvider)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        if (vertexProvider == null) {
+            throw new IllegalArgumentException("Vertex provider cannot be null");
+        }
+        this.vertexProvider = vertexProvider;
+        if (edgeProvider == null) {
+            throw new IllegalArgumentException("Edge provider cannot be null");
+        }
+        this.edgeProvider = edgeProvider;
+        this.batchSize = DEFAULT_BATCH_SIZE;
+        this.vertices = new HashMap<>();
+        this.pending = new ArrayList<>();
+        this.batchIds = new ArrayList<>();
+        this.batchVertices = new ArrayList<>();
+    }
+
+    /**
+     * Get the graph which the records are appended to.
+     *
+     * @return the graph
+     */
+    public Graph<V, E> getGraph()
+    {
+        return graph;
+    }
+
+    /**
+     * Get the vertex provider
+     *
+     * @return the vertex provider
+     */
+    public VertexProvider<V> getVertexProvider()
+    {
+        return vertexProvider;
+    }
+
+    /**
+     * Set the vertex provider
+     *
+     * @param vertexProvider the new vertex provider. Must not be null.
+     */
+    public void setVertexProvider(VertexProvider<V> vertexProvider)
+    {
+        if (vertexProvider == null) {
+            throw new IllegalArgumentException("Vertex provider cannot be null");
+        }
+        this.vertexProvider = vertexProvider;
+    }
+
+    /**
+     * Get the edge provider
+     *
+     * @return The edge provider
+     */
+    public EdgeProvider<V, E> getEdgeProvider()
+    {
+        return edgeProvider;
+    }
+
+    /**
+     * Set the edge provider.
+     *
+     * @param edgeProvider the new edge provider. Must not be null.
+     */
+    public void setEdgeProvider(EdgeProvider<V, E> edgeProvider)
+    {
+        if (edgeProvider == null) {
+            throw new IllegalArgumentException("Edge provider cannot be null");
+        }
+        this.edgeProvider = edgeProvider;
+    }
+
+    /**
+     * Get the batch size.
+     *
+     * @return the batch size
+     */
+    public int getBatchSize()
+    {
+        return batchSize;
+    }
+
+    /**
+     * Set the batch size, which is the number of pending records at which the records are applied
+     * to the graph. The default is {@link #DEFAULT_BATCH_SIZE}. If there are already as many
+     * pending records, they are applied the next time a record is added.
+     *
+     * @param batchSize the batch size. Must be positive.
+     */
+    public void setBatchSize(int batchSize)
+    {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Get the batch listener.
+     *
+     * @return the batch listener, or null if none
+     */
+    public Consumer<BatchStatistics> getBatchListener()
+    {
+        return batchListener;
+    }
+
+    /**
+     * Set a listener which is called after each batch has been applied to the graph.
+     *
+     * @param batchListener the batch listener, or null for none
+     */
+    public void setBatchListener(Consumer<BatchStatistics> batchListener)
+    {
+        this.batchListener = batchListener;
+    }
+
+    /**
+     * Get the number of records which have been added but not yet applied to the graph.
+     *
+     * @return the number of pending records
+     */
+    public int getPendingCount()
+    {
+        return pending.size();
+    }
+
+    /**
+     * Get the number of batches applied so far.
+     *
+     * @return the number of batches
+     */
+    public long getBatchCount()
+    {
+        return batchCount;
+    }
+
+    /**
+     * Get the statistics of the last batch applied.
+     *
+     * @return the statistics of the last batch, or null if no batch has been applied yet
+     */
+    public BatchStatistics getLastBatchStatistics()
+    {
+        return lastBatchStatistics;
+    }
+
+    /**
+     * Add a vertex record.
+     *
+     * @param id the vertex identifier
+     * @throws ImportException if the record completed a batch and applying the batch failed
+     */
+    public void addVertex(String id)
+        throws ImportException
+    {
+        addVertex(id, Collections.emptyMap());
+    }
+
+    /**
+     * Add a vertex record. The attributes are passed to the vertex provider if the vertex does not
+     * exist, otherwise they are ignored.
+     *
+     * @param id the vertex identifier
+     * @param attributes the vertex attributes
+     * @throws ImportException if the record completed a batch and applying the batch failed
+     */
+    public void addVertex(String id, Map<String, String> attributes)
+        throws ImportException
+    {
+        add(new Record(Objects.requireNonNull(id), null, Double.NaN, false, attributes));
+    }
+
+    /**
+     * Add an edge record.
+     *
+     * @param source the source vertex identifier
+     * @param target the target vertex identifier
+     * @throws ImportException if the record completed a batch and applying the batch failed
+     */
+    public void addEdge(String source, String target)
+        throws ImportException
+    {
+        addEdge(source, target, Collections.emptyMap());
+    }
+
+    /**
+     * Add an edge record with a weight.
+     *
+     * @param source the source vertex identifier
+     * @param target the target vertex identifier
+     * @param weight the edge weight
+     * @throws ImportException if the record completed a batch and applying the batch failed
+     */
+    public void addEdge(String source, String target, double weight)
+        throws ImportException
+    {
+        addEdge(source, target, weight, Collections.emptyMap());
+    }
+
+    /**
+     * Add an edge record with attributes, which are passed to the edge provider.
+     *
+     * @param source the source vertex identifier
+     * @param target the target vertex identifier
+     * @param attributes the edge attributes
+     * @throws ImportException if the record completed a batch and applying the batch failed
+     */
+    public void addEdge(String source, String target, Map<String, String> attributes)
+        throws ImportException
+    {
+        add(
+            new Record(
+                Objects.requireNonNull(source), Objects.requireNonNull(target), Double.NaN, false,
+                attributes));
+    }
+
+    /**
+     * Add an edge record with a weight and attributes, which are passed to the edge provider.
+     *
+     * @param source the source vertex identifier
+     * @param target the target vertex identifier
+     * @param weight the edge weight
+     * @param attributes the edge attributes
+     * @throws ImportException if the record completed a batch and applying the batch failed
+     */
+    public void addEdge(
+        String source, String target, double weight, Map<String, String> attributes)
+        throws ImportException
+    {
+        add(
+            new Record(
+                Objects.requireNonNull(source), Objects.requireNonNull(target), weight, true,
+                attributes));
+    }
+
+    /**
+     * Apply all pending records to the graph. Does nothing if there are no pending records.
+     *
+     * <p>
+     * If a record cannot be applied, for example because the graph does not allow self-loops, the
+     * batch is rolled back: the vertices and edges added by its records are removed from the graph,
+     * all its records are discarded and an exception is thrown. A rolled back batch is not counted
+     * and does not produce any statistics.
+     *
+     * @throws ImportException if a record cannot be applied to the graph
+     */
+    public void flush()
+        throws ImportException
+    {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        int records = pending.size();
+        batchIds.clear();
+        batchVertices.clear();
+        List<E> batchEdges = new ArrayList<>();
+        boolean weighted = graph.getType().isWeighted();
+        boolean committed = false;
+        try {
+            for (Record r : pending) {
+                V from = getVertex(r.source, r.target == null ? r.attributes : null);
+                if (r.target != null) {
+                    V to = getVertex(r.target, null);
+                    String label = "e_" + r.source + "_" + r.target;
+                    E e = edgeProvider.buildEdge(from, to, label, r.attributes);
+                    if (graph.addEdge(from, to, e)) {
+                        batchEdges.add(e);
+                        if (weighted && r.weighted) {
+                            graph.setEdgeWeight(e, r.weight);
+                        }
+                    }
+                }
+            }
+            committed = true;
+        } catch (IllegalArgumentException | UnsupportedOperationException e) {
+            throw new ImportException(
+                "Failed to import records: Provided graph does not support input: "
+                    + e.getMessage(),
+                e);
+        } finally {
+            pending.clear();
+            if (!committed) {
+                rollback(batchEdges);
+            }
+        }
+        batchCount++;
+        lastBatchStatistics = new BatchStatistics(
+            batchCount, records, batchVertices.size(), batchEdges.size(),
+            System.nanoTime() - start);
+        if (batchListener != null) {
+            batchListener.accept(lastBatchStatistics);
+        }
+    }
+
+    private void add(Record r)
+        throws ImportException
+    {
+        pending.add(r);
+        if (pending.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Get a vertex, creating it if necessary.
+     */
+    private V getVertex(String id, Map<String, String> attributes)
+    {
+        V v = vertices.get(id);
+        if (v == null) {
+            v = vertexProvider.buildVertex(
+                id, attributes == null ? Collections.emptyMap() : attributes);
+            if (graph.addVertex(v)) {
+                batchVertices.add(v);
+            }
+            vertices.put(id, v);
+            batchIds.add(id);
+        }
+        return v;
+    }
+
+    /**
+     * Remove the edges and vertices added by a failed batch and forget its identifiers.
+     */
+    private void rollback(List<E> batchEdges)
+    {
+        for (E e : batchEdges) {
+            graph.removeEdge(e);
+        }
+        for (V v : batchVertices) {
+            graph.removeVertex(v);
+        }
+        for (String id : batchIds) {
+            vertices.remove(id);
+        }
+    }
+
+    /**
+     * A pending vertex or edge record. Vertex records have a null target.
+     */
+    private static class Record
+    {
+        final String source;
+        final String target;
+        final double weight;
+        final boolean weighted;
+        final Map<String, String> attributes;
+
+        Record(
+            String source, String target, double weight, boolean weighted,
+            Map<String, String> attributes)
+        {
+            this.source = source;
+            this.target = target;
+            this.weight = weight;
+            this.weighted = weighted;
+            this.attributes = attributes == null ? Collections.emptyMap() : attributes;
+        }
+    }
+
+    /**
+     * Statistics of a batch of records applied to the graph.
+     */
+    public static final class BatchStatistics
+    {
+        private final long batch;
+        private final int records;
+        private final int verticesAdded;
+        private final int edgesAdded;
+        private final long nanos;
+
+        BatchStatistics(long batch, int records, int verticesAdded, int edgesAdded, long nanos)
+        {
+            this.batch = batch;
+            this.records = records;
+            this.verticesAdded = verticesAdded;
+            this.edgesAdded = edgesAdded;
+            this.nanos = nanos;
+        }
+
+        /**
+         * Get the number of the batch, starting from one.
+         *
+         * @return the number of the batch
+         */
+        public long getBatch()
+        {
+            return batch;
+        }
+
+        /**
+         * Get the number of records in the batch.
+         *
+         * @return the number of records
+         */
+        public int getRecords()
+        {
+            return records;
+        }
+
+        /**
+         * Get the number of vertices added to the graph by the batch.
+         *
+         * @return the number of vertices added
+         */
+        public int getVerticesAdded()
+        {
+            return verticesAdded;
+        }
+
+        /**
+         * Get the number of edges added to the graph by the batch. Edges which the graph rejected,
+         * for example parallel edges in a simple graph, are not counted.
+         *
+         * @return the number of edges added
+         */
+        public int getEdgesAdded()
+        {
+            return edgesAdded;
+        }
+
+        /**
+         * Get the time spent applying the batch.
+         *
+         * @return the time in nanoseconds
+         */
+        public long getNanos()
+        {
+            return nanos;
+        }
+
+        /**
+         * Get the number of records applied per second.
+         *
+         * @return the number of records per second
+         */
+        public double getRecordsPerSecond()
+        {
+            return records * 1e9 / Math.max(1, nanos);
+        }
+
+        @Override
+        public String toString()
+        {
+            return "BatchStatistics [batch=" + batch + ", records=" + records + ", verticesAdded="
+                + verticesAdded + ", edgesAdded=" + edgesAdded + ", nanos=" + nanos + "]";
+        }
+    }
+}
+
+// End IncrementalGraphImporter.java
@@ -158,26 +158,24 @@ public class MatrixExporter<V, E>
             vertexIDProvider.getName(from);
         }
 
-        PrintWriter out = new PrintWriter(writer);
+        PrintWriter out = new PrintWriter(new BufferedWriter(writer));
 
-        if (g.getType().isDirected()) {
-            for (V from : g.vertexSet()) {
-                exportAdjacencyMatrixVertex(out, from, Graphs.successorListOf(g, from));
-            }
-        } else {
-            for (V from : g.vertexSet()) {
-                exportAdjacencyMatrixVertex(out, from, Graphs.neighborListOf(g, from));
-            }
+        boolean directed = g.getType().isDirected();
+        for (V from : g.vertexSet()) {
+            exportAdjacencyMatrixVertex(
+                out, g, from, directed ? g.outgoingEdgesOf(from) : g.edgesOf(from));
         }
 
         out.flush();
     }
 
-    private void exportAdjacencyMatrixVertex(PrintWriter writer, V from, List<V> neighbors)
+    private void exportAdjacencyMatrixVertex(
+        PrintWriter writer, Graph<V, E> g, V from, Set<E> edges)
     {
         String fromName = vertexIDProvider.getName(from);
         Map<String, ModifiableInteger> counts = new LinkedHashMap<>();
-        for (V to : neighbors) {
+        for (E e : edges) {
+            V to = Graphs.getOppositeVertex(g, e, from);
             String toName = vertexIDProvider.getName(to);
             ModifiableInteger count = counts.get(toName);
             if (count == null) {
@@ -200,12 +198,16 @@ public class MatrixExporter<V, E>
 
     private void exportEntry(PrintWriter writer, String from, String to, String value)
     {
-        writer.println(from + delimiter + to + delimiter + value);
+        writer.print(from);
+        writer.print(delimiter);
+        writer.print(to);
+        writer.print(delimiter);
+        writer.println(value);
     }
 
     private void exportLaplacianMatrix(Graph<V, E> g, Writer writer)
     {
-        PrintWriter out = new PrintWriter(writer);
+        PrintWriter out = new PrintWriter(new BufferedWriter(writer));
 
         ComponentNameProvider<V> nameProvider = new IntegerComponentNameProvider<>();
         for (V from : g.vertexSet()) {
@@ -216,10 +218,10 @@ public class MatrixExporter<V, E>
         for (V from : g.vertexSet()) {
             String fromName = nameProvider.getName(from);
 
-            List<V> neighbors = Graphs.neighborListOf(g, from);
-            exportEntry(out, fromName, fromName, Integer.toString(neighbors.size()));
-            for (V to : neighbors) {
-                String toName = nameProvider.getName(to);
+            Set<E> edges = g.edgesOf(from);
+            exportEntry(out, fromName, fromName, Integer.toString(edges.size()));
+            for (E e : edges) {
+                String toName = nameProvider.getName(Graphs.getOppositeVertex(g, e, from));
                 exportEntry(out, fromName, toName, "-1");
             }
         }
@@ -229,7 +231,7 @@ public class MatrixExporter<V, E>
 
     private void exportNormalizedLaplacianMatrix(Graph<V, E> g, Writer writer)
     {
-        PrintWriter out = new PrintWriter(writer);
+        PrintWriter out = new PrintWriter(new BufferedWriter(writer));
 
         ComponentNameProvider<V> nameProvider = new IntegerComponentNameProvider<>();
         for (V from : g.vertexSet()) {
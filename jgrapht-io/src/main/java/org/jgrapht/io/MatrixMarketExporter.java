@@ -0,0 +1,181 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.io.*;
+import java.util.*;
+
+import org.jgrapht.*;
+
+/**
+ * Exports the adjacency matrix of a graph in the Matrix Market coordinate format.
+ *
+ * <p>
+ * For a description of the format see
+ * <a href="http://math.nist.gov/MatrixMarket/formats.html">
+ * http://math.nist.gov/MatrixMarket/formats.html</a>. Vertices are numbered from {@code 1} to
+ * {@code n} in the iteration order of the vertex set and each edge is written as one entry, with
+ * its weight as the value if edge weights are exported or as a {@code pattern} entry otherwise.
+ * Edges are streamed directly to the writer and multiple edges between the same pair of vertices
+ * result in duplicate entries.
+ *
+ * <p>
+ * Undirected graphs are exported by default as {@code symmetric} matrices, containing only the
+ * lower triangle. When symmetric output is disabled, each edge which is not a self-loop is written
+ * in both directions. Directed graphs are always exported as {@code general} matrices.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see MatrixMarketImporter
+ *
+ * @author agent
+ */
+public class MatrixMarketExporter<V, E>
+    implements GraphExporter<V, E>
+{
+    private boolean exportEdgeWeights;
+    private boolean symmetric;
+
+    /**
+     * Creates a new exporter which does not export edge weights.
+     */
+    public MatrixMarketExporter()
+    {
+        this(false);
+    }
+
+    /**
+     * Creates a new exporter.
+     *
+     * @param exportEdgeWeights whether to export edge weights
+     */
+    public MatrixMarketExporter(boolean exportEdgeWeights)
+    {
+        this.exportEdgeWeights = exportEdgeWeights;
+        this.symmetric = true;
+    }
+
+    /**
+     * Whether the exporter will output edge weights.
+     *
+     * @return {@code true} if the exporter will output edge weights, {@code false} otherwise
+     */
+    public boolean isExportEdgeWeights()
+    {
+        return exportEdgeWeights;
+    }
+
+    /**
+     * Set whether the exporter will output edge weights. If not, a {@code pattern} matrix is
+     * written.
+     *
+     * @param exportEdgeWeights value to set
+     */
+    public void setExportEdgeWeights(boolean exportEdgeWeights)
+    {
+        this.exportEdgeWeights = exportEdgeWeights;
+    }
+
+    /**
+     * Whether undirected graphs are exported as symmetric matrices.
+     *
+     * @return {@code true} if undirected graphs are exported as symmetric matrices, {@code false}
+     *         otherwise
+     */
+    public boolean isSymmetric()
+    {
+        return symmetric;
+    }
+
+    /**
+     * Set whether undirected graphs are exported as symmetric matrices. Has no effect on directed
+     * graphs.
+     *
+     * @param symmetric value to set
+     */
+    public void setSymmetric(boolean symmetric)
+    {
+        this.symmetric = symmetric;
+    }
+
+    @Override
+    public void exportGraph(Graph<V, E> g, Writer writer)
+        throws ExportException
+    {
+        boolean undirected = g.getType().isUndirected();
+        boolean symmetricOutput = undirected && symmetric;
+
+        Set<V> vertices = g.vertexSet();
+        Map<V, Integer> ids = new HashMap<>(vertices.size() * 4 / 3 + 1);
+        for (V v : vertices) {
+            ids.put(v, ids.size() + 1);
+        }
+
+        long entries = g.edgeSet().size();
+        if (undirected && !symmetricOutput) {
+            entries *= 2;
+            for (E e : g.edgeSet()) {
+                if (g.getEdgeSource(e).equals(g.getEdgeTarget(e))) {
+                    entries--;
+                }
+            }
+        }
+
+        PrintWriter out = new PrintWriter(new BufferedWriter(writer));
+        out.print("%%MatrixMarket matrix coordinate ");
+        out.print(exportEdgeWeights ? "real" : "pattern");
+        out.print(symmetricOutput ? " symmetric" : " general");
+        out.println();
+        out.print(vertices.size());
+        out.print(' ');
+        out.print(vertices.size());
+        out.print(' ');
+        out.print(entries);
+        out.println();
+
+        for (E e : g.edgeSet()) {
+            int source = ids.get(g.getEdgeSource(e));
+            int target = ids.get(g.getEdgeTarget(e));
+            double weight = exportEdgeWeights ? g.getEdgeWeight(e) : 0d;
+            if (symmetricOutput) {
+                exportEntry(out, Math.max(source, target), Math.min(source, target), weight);
+            } else {
+                exportEntry(out, source, target, weight);
+                if (undirected && source != target) {
+                    exportEntry(out, target, source, weight);
+                }
+            }
+        }
+        out.flush();
+    }
+
+    private void exportEntry(PrintWriter out, int row, int column, double weight)
+    {
+        out.print(row);
+        out.print(' ');
+        out.print(column);
+        if (exportEdgeWeights) {
+            out.print(' ');
+            out.print(weight);
+        }
+        out.println();
+    }
+}
+
+// End MatrixMarketExporter.java
@@ -0,0 +1,587 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+/**
+ * Imports a graph from a sparse matrix in the Matrix Market coordinate format.
+ *
+ * <p>
+ * For a description of the format see
+ * <a href="http://math.nist.gov/MatrixMarket/formats.html">
+ * http://math.nist.gov/MatrixMarket/formats.html</a>. The input starts with a header line such as
+ *
+ * <pre>
+ * %%MatrixMarket matrix coordinate real general
+ * </pre>
+ *
+ * followed by optional comment lines starting with {@code %}, a size line with the number of
+ * rows, columns and entries, and one line per entry with its one-based row and column indices and,
+ * unless the field is {@code pattern}, its value. The matrix must be square. The fields
+ * {@code real}, {@code double}, {@code integer} and {@code pattern} and the symmetry types
+ * {@code general}, {@code symmetric} and {@code skew-symmetric} are supported, while the
+ * {@code array} format and complex matrices are not.
+ *
+ * <p>
+ * The matrix is interpreted as the adjacency matrix of the graph. For an {@code n x n} matrix,
+ * vertices {@code 1} to {@code n} are created in this order using the vertex provider and each
+ * entry {@code (i, j)} results in an edge from vertex {@code i} to vertex {@code j}, created by
+ * the edge provider with the label {@code e_<i>_<j>}. If the graph is weighted and the matrix is
+ * not a pattern, the value of the entry becomes the edge weight. For symmetric matrices, where
+ * only the lower triangle is stored, a directed graph also gets the reverse edge of each
+ * off-diagonal entry; skew-symmetric matrices additionally negate its weight and can only be
+ * imported into directed graphs.
+ *
+ * <p>
+ * The input is parsed directly from bytes and must be ASCII compatible. Besides importing into a
+ * {@link Graph}, the entries can be loaded into an {@link IntDirectedGraph} using
+ * {@link #importIntGraph(File)}, which creates no object per entry.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see MatrixMarketExporter
+ *
+ * @author agent
+ */
+public class MatrixMarketImporter<V, E>
+    implements GraphImporter<V, E>
+{
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private VertexProvider<V> vertexProvider;
+    private EdgeProvider<V, E> edgeProvider;
+
+    /**
+     * Construct a new importer.
+     *
+     * @param vertexProvider provider for the generation of vertices. Must not be null.
+     * @param edgeProvider provider for the generation of edges. Must not be null.
+     */
+    public MatrixMarketImporter(VertexProvider<V> vertexProvider, EdgeProvider<V, E> edgeProvider)
+    {
+        if (vertexProvider == null) {
+            throw new IllegalArgumentException("Vertex provider cannot be null");
+        }
+        this.vertexProvider = vertexProvider;
+        if (edgeProvider == null) {
+            throw new IllegalArgumentException("Edge provider cannot be null");
+        }
+        this.edgeProvider = edgeProvider;
+    }
+
+    /**
+     * Get the vertex provider
+     *
+     * @return the vertex provider
+     */
+    public VertexProvider<V> getVertexProvider()
+    {
+        return vertexProvider;
+    }
+
+    /**
+     * Set the vertex provider
+     *
+     * @param vertexProvider the new vertex provider. Must not be null.
+     */
+    public void setVertexProvider(VertexProvider<V> vertexProvider)
+    {
+        if (vertexProvider == null) {
+            throw new IllegalArgumentException("Vertex provider cannot be null");
+        }
+        this.vertexProvider = vertexProvider;
+    }
+
+    /**
+     * Get the edge provider
+     *
+     * @return The edge provider
+     */
+    public EdgeProvider<V, E> getEdgeProvider()
+    {
+        return edgeProvider;
+    }
+
+    /**
+     * Set the edge provider.
+     *
+     * @param edgeProvider the new edge provider. Must not be null.
+     */
+    public void setEdgeProvider(EdgeProvider<V, E> edgeProvider)
+    {
+        if (edgeProvider == null) {
+            throw new IllegalArgumentException("Edge provider cannot be null");
+        }
+        this.edgeProvider = edgeProvider;
+    }
+
+    /**
+     * Import a graph. The characters of the reader are encoded into UTF-8 before being parsed.
+     *
+     * @param graph the graph
+     * @param input the input reader
+     * @throws ImportException in case an error occurs, such as I/O or parse error
+     */
+    @Override
+    public void importGraph(Graph<V, E> graph, Reader input)
+        throws ImportException
+    {
+        importGraph(graph, new ReaderByteChannel(input));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void importGraph(Graph<V, E> graph, InputStream input)
+        throws ImportException
+    {
+        importGraph(graph, Channels.newChannel(input));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void importGraph(Graph<V, E> graph, File file)
+        throws ImportException
+    {
+        try (FileChannel channel = new RandomAccessFile(file, "r").getChannel()) {
+            importGraph(graph, channel);
+        } catch (IOException e) {
+            throw new ImportException("Failed to import Matrix Market graph: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Import a graph from a channel. The channel is read until its end, but it is not closed.
+     *
+     * @param graph the graph
+     * @param channel the input channel
+     * @throws ImportException in case an error occurs, such as I/O or parse error
+     */
+    public void importGraph(Graph<V, E> graph, ReadableByteChannel channel)
+        throws ImportException
+    {
+        MatrixReader reader = new MatrixReader(channel);
+        reader.readHeader();
+
+        boolean directed = graph.getType().isDirected();
+        if (reader.skewSymmetric && !directed) {
+            throw new ImportException(
+                "Failed to import Matrix Market graph: "
+                    + "skew-symmetric matrices can only be imported into directed graphs");
+        }
+        boolean mirror = directed && reader.symmetric;
+        double mirrorSign = reader.skewSymmetric ? -1d : 1d;
+        boolean weighted = graph.getType().isWeighted() && !reader.pattern;
+
+        try {
+            List<V> vertices = new ArrayList<>(reader.n);
+            for (int i = 0; i < reader.n; i++) {
+                V v = vertexProvider
+                    .buildVertex(String.valueOf(i + 1), Collections.<String, String> emptyMap());
+                vertices.add(v);
+                graph.addVertex(v);
+            }
+            reader.readEntries((i, j, value) -> {
+                addEdge(graph, vertices, i, j, weighted, value);
+                if (mirror && i != j) {
+                    addEdge(graph, vertices, j, i, weighted, mirrorSign * value);
+                }
+            });
+        } catch (IllegalArgumentException e) {
+            throw new ImportException(
+                "Failed to import Matrix Market graph: Provided graph does not support input: "
+                    + e.getMessage(),
+                e);
+        }
+    }
+
+    private void addEdge(
+        Graph<V, E> graph, List<V> vertices, int i, int j, boolean weighted, double value)
+    {
+        V from = vertices.get(i);
+        V to = vertices.get(j);
+        String label = "e_" + (i + 1) + "_" + (j + 1);
+        E e = edgeProvider.buildEdge(from, to, label, Collections.<String, String> emptyMap());
+        graph.addEdge(from, to, e);
+        if (weighted) {
+            graph.setEdgeWeight(e, value);
+        }
+    }
+
+    /**
+     * Import a matrix from an input stream into a new {@link IntDirectedGraph}.
+     *
+     * @param input the input stream
+     * @return the graph
+     * @throws ImportException in case an error occurs, such as I/O or parse error
+     * @see #importIntGraph(ReadableByteChannel)
+     */
+    public static IntDirectedGraph importIntGraph(InputStream input)
+        throws ImportException
+    {
+        return importIntGraph(Channels.newChannel(input));
+    }
+
+    /**
+     * Import a matrix from a file into a new {@link IntDirectedGraph}.
+     *
+     * @param file the file to read from
+     * @return the graph
+     * @throws ImportException in case an error occurs, such as I/O or parse error
+     * @see #importIntGraph(ReadableByteChannel)
+     */
+    public static IntDirectedGraph importIntGraph(File file)
+        throws ImportException
+    {
+        try (FileChannel channel = new RandomAccessFile(file, "r").getChannel()) {
+            return importIntGraph(channel);
+        } catch (IOException e) {
+            throw new ImportException("Failed to import Matrix Market graph: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Import a matrix from a channel into a new {@link IntDirectedGraph}. The channel is read until
+     * its end, but it is not closed.
+     *
+     * <p>
+     * Row and column {@code i} of the matrix correspond to vertex {@code i-1} of the graph. The
+     * graph is weighted unless the matrix is a pattern. Symmetric and skew-symmetric matrices
+     * result in both directions of each off-diagonal entry, as when importing into a directed
+     * {@link Graph}. Entries are parsed and added to the graph without creating any object.
+     *
+     * @param channel the input channel
+     * @return the graph
+     * @throws ImportException in case an error occurs, such as I/O or parse error
+     */
+    public static IntDirectedGraph importIntGraph(ReadableByteChannel channel)
+        throws ImportException
+    {
+        MatrixReader reader = new MatrixReader(channel);
+        reader.readHeader();
+
+        boolean weighted = !reader.pattern;
+        boolean mirror = reader.symmetric;
+        double mirrorSign = reader.skewSymmetric ? -1d : 1d;
+        IntDirectedGraph graph = new IntDirectedGraph(reader.n, weighted);
+        reader.readEntries((i, j, value) -> {
+            int e = graph.addEdge(i, j);
+            if (weighted) {
+                graph.setEdgeWeight(e, value);
+            }
+            if (mirror && i != j) {
+                e = graph.addEdge(j, i);
+                if (weighted) {
+                    graph.setEdgeWeight(e, mirrorSign * value);
+                }
+            }
+        });
+        return graph;
+    }
+
+    /**
+     * Receives the entries of the matrix using zero-based indices.
+     */
+    private interface EntryHandler
+    {
+        void entry(int row, int column, double value);
+    }
+
+    /**
+     * Reads the header and the entries of a matrix line by line, directly from the bytes of a
+     * channel.
+     */
+    private static class MatrixReader
+    {
+        private static final byte LF = '\n';
+        private static final int MAX_TOKENS = 5;
+
+        private final ReadableByteChannel channel;
+        private final ByteBuffer buffer;
+        private final byte[] data;
+        private int position;
+        private int limit;
+        private boolean eof;
+
+        // lines spanning more than one buffer are collected here
+        private byte[] line;
+        private int lineLength;
+        private long lineNumber;
+
+        // the current line and its tokens
+        private byte[] current;
+        private final int[] tokens;
+        private int tokenCount;
+
+        // header
+        private boolean pattern;
+        private boolean symmetric;
+        private boolean skewSymmetric;
+        private int n;
+        private long entries;
+
+        MatrixReader(ReadableByteChannel channel)
+        {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            this.data = buffer.array();
+            this.line = new byte[256];
+            this.tokens = new int[2 * MAX_TOKENS];
+        }
+
+        void readHeader()
+            throws ImportException
+        {
+            if (!nextLine() || tokenCount < 5 || !token(0).equalsIgnoreCase("%%MatrixMarket")) {
+                throw error("missing header");
+            }
+            if (!token(1).equalsIgnoreCase("matrix")) {
+                throw error("unsupported object " + token(1));
+            }
+            if (!token(2).equalsIgnoreCase("coordinate")) {
+                throw error("unsupported format " + token(2) + ", only coordinate is supported");
+            }
+            String field = token(3).toLowerCase(Locale.ROOT);
+            switch (field) {
+            case "real":
+            case "double":
+            case "integer":
+                break;
+            case "pattern":
+                pattern = true;
+                break;
+            default:
+                throw error("unsupported field " + token(3));
+            }
+            String symmetry = token(4).toLowerCase(Locale.ROOT);
+            switch (symmetry) {
+            case "general":
+                break;
+            case "symmetric":
+                symmetric = true;
+                break;
+            case "skew-symmetric":
+                symmetric = true;
+                skewSymmetric = true;
+                break;
+            default:
+                throw error("unsupported symmetry " + token(4));
+            }
+
+            // size line after any comments
+            do {
+                if (!nextLine()) {
+                    throw error("missing size line");
+                }
+            } while (tokenCount == 0 || data(0) == '%');
+            if (tokenCount != 3) {
+                throw error("invalid size line");
+            }
+            int rows = parseInt(0);
+            int columns = parseInt(1);
+            if (rows < 0 || rows != columns) {
+                throw error("matrix must be square");
+            }
+            n = rows;
+            entries = parseLong(2);
+            if (entries < 0) {
+                throw error("invalid number of entries");
+            }
+        }
+
+        void readEntries(EntryHandler handler)
+            throws ImportException
+        {
+            int expectedTokens = pattern ? 2 : 3;
+            long count = 0;
+            while (nextLine()) {
+                if (tokenCount == 0 || data(0) == '%') {
+                    continue;
+                }
+                if (tokenCount != expectedTokens) {
+                    throw error("expected " + expectedTokens + " fields");
+                }
+                if (++count > entries) {
+                    throw error("more than " + entries + " entries");
+                }
+                int row = parseInt(0);
+                int column = parseInt(1);
+                if (row < 1 || row > n || column < 1 || column > n) {
+                    throw error("index out of range");
+                }
+                double value = 1d;
+                if (!pattern) {
+                    try {
+                        value = AsciiParsing.parseDouble(current, tokens[4], tokens[5]);
+                    } catch (NumberFormatException e) {
+                        throw error("invalid value " + token(2));
+                    }
+                }
+                handler.entry(row - 1, column - 1, value);
+            }
+            if (count != entries) {
+                throw error("expected " + entries + " entries but found " + count);
+            }
+        }
+
+        /**
+         * Read the next line and split it into tokens.
+         *
+         * @return false if there are no more lines
+         */
+        private boolean nextLine()
+            throws ImportException
+        {
+            lineLength = 0;
+            boolean spanning = false;
+            while (true) {
+                if (position == limit) {
+                    if (eof) {
+                        if (!spanning) {
+                            return false;
+                        }
+                        setLine(line, 0, lineLength);
+                        return true;
+                    }
+                    fill();
+                    continue;
+                }
+                int lf = position;
+                while (lf < limit && data[lf] != LF) {
+                    lf++;
+                }
+                if (lf == limit) {
+                    append(position, limit - position);
+                    spanning = true;
+                    position = limit;
+                    continue;
+                }
+                if (spanning) {
+                    append(position, lf - position);
+                    setLine(line, 0, lineLength);
+                } else {
+                    setLine(data, position, lf);
+                }
+                position = lf + 1;
+                return true;
+            }
+        }
+
+        private void fill()
+            throws ImportException
+        {
+            try {
+                buffer.clear();
+                int read = channel.read(buffer);
+                if (read < 0) {
+                    eof = true;
+                    read = 0;
+                }
+                position = 0;
+                limit = read;
+            } catch (IOException e) {
+                throw new ImportException(
+                    "Failed to import Matrix Market graph: " + e.getMessage(), e);
+            }
+        }
+
+        private void append(int offset, int length)
+        {
+            if (lineLength + length > line.length) {
+                line = Arrays.copyOf(line, Math.max(2 * line.length, lineLength + length));
+            }
+            System.arraycopy(data, offset, line, lineLength, length);
+            lineLength += length;
+        }
+
+        private void setLine(byte[] bytes, int from, int to)
+        {
+            lineNumber++;
+            current = bytes;
+            tokenCount = 0;
+            int i = from;
+            while (true) {
+                while (i < to && AsciiParsing.isBlank(bytes[i])) {
+                    i++;
+                }
+                if (i == to) {
+                    return;
+                }
+                int start = i;
+                while (i < to && !AsciiParsing.isBlank(bytes[i])) {
+                    i++;
+                }
+                if (tokenCount < MAX_TOKENS) {
+                    tokens[2 * tokenCount] = start;
+                    tokens[2 * tokenCount + 1] = i;
+                }
+                tokenCount++;
+            }
+        }
+
+        private byte data(int token)
+        {
+            return current[tokens[2 * token]];
+        }
+
+        private String token(int token)
+        {
+            int from = tokens[2 * token];
+            return new String(current, from, tokens[2 * token + 1] - from);
+        }
+
+        private int parseInt(int token)
+            throws ImportException
+        {
+            try {
+                return AsciiParsing.parseInt(current, tokens[2 * token], tokens[2 * token + 1]);
+            } catch (NumberFormatException e) {
+                throw error("invalid integer " + token(token));
+            }
+        }
+
+        private long parseLong(int token)
+            throws ImportException
+        {
+            try {
+                return Long.parseLong(token(token));
+            } catch (NumberFormatException e) {
+                throw error("invalid integer " + token(token));
+            }
+        }
+
+        private ImportException error(String message)
+        {
+            return new ImportException(
+                "Failed to import Matrix Market graph: line " + lineNumber + ": " + message);
+        }
+    }
+}
+
+// End MatrixMarketImporter.java
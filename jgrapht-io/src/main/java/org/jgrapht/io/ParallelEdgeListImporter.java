@@ -0,0 +1,996 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+/**
+ * Imports a graph from a large edge list or DIMACS file by parsing it in parallel.
+ *
+ * <p>
+ * Two line-based formats are supported, see {@link Format}. In the {@link Format#EDGE_LIST} format
+ * each line contains a source vertex, a target vertex and optionally an edge weight, separated by
+ * whitespace. Lines starting with {@code #} or {@code %} are comments. Vertices are identified by
+ * arbitrary keys and are created in the order in which their keys first appear in the input. In
+ * the {@link Format#DIMACS} format the input is read exactly as by {@link DIMACSImporter}: the
+ * first line which is not a comment must be the problem line {@code p <type> <n> <m>}, vertices
+ * {@code 1} to {@code n} are created in this order, edges are read from lines starting with
+ * {@code e} or {@code a} and all other lines are ignored. The input must be encoded in UTF-8.
+ *
+ * <p>
+ * Importing happens in two phases. In the parse phase the input is split into byte ranges which
+ * are aligned to line boundaries, and each range is parsed into its own primitive buffers of edge
+ * sources, targets and weights, without creating any vertex or edge object. When importing from a
+ * {@link File} or a {@link FileChannel} and a {@link ForkJoinPool} has been set using
+ * {@link #setForkJoinPool(ForkJoinPool)}, the ranges are parsed in parallel. In the merge phase the
+ * buffers are translated to global vertex indices in input order and the graph is populated in one
+ * bulk step: first all vertices are created using the vertex provider and then all edges using the
+ * edge provider. The result is therefore identical regardless of the number of threads. Vertices
+ * are created with their key as identifier and edges with the label {@code e_<source>_<target>}.
+ * Both providers are passed an empty unmodifiable attribute map. Edges without a weight get the
+ * default weight, see {@link #setDefaultWeight(double)}, and weights are ignored if the graph is
+ * unweighted.
+ *
+ * <p>
+ * Instead of populating a graph, {@link #importCSRGraph(File, boolean, boolean)} directly builds an
+ * immutable {@link CSRGraph}. After each successful import, the size of the input, the time spent
+ * in each phase and the resulting throughput are available using {@link #getStatistics()}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class ParallelEdgeListImporter<V, E>
+    implements GraphImporter<V, E>
+{
+    /**
+     * Supported input formats.
+     */
+    public enum Format
+    {
+        /**
+         * One edge per line given by its source vertex, its target vertex and optionally its
+         * weight, separated by whitespace.
+         */
+        EDGE_LIST,
+        /**
+         * The DIMACS format as read by {@link DIMACSImporter}.
+         */
+        DIMACS
+    }
+
+    private Format format;
+    private VertexProvider<V> vertexProvider;
+    private EdgeProvider<V, E> edgeProvider;
+    private double defaultWeight;
+    private ForkJoinPool pool;
+    private Statistics statistics;
+
+    /**
+     * Construct a new importer for the {@link Format#EDGE_LIST} format.
+     *
+     * @param vertexProvider provider for the generation of vertices. Must not be null.
+     * @param edgeProvider provider for the generation of edges. Must not be null.
+     */
+    public ParallelEdgeListImporter(
+        VertexProvider<V> vertexProvider, EdgeProvider<V, E> edgeProvider)
+    {
+        this(vertexProvider, edgeProvider, Format.EDGE_LIST);
+    }
+
+    /**
+     * Construct a new importer.
+     *
+     * @param vertexProvider provider for the generation of vertices. Must not be null.
+     * @param edgeProvider provider for the generation of edges. Must not be null.
+     * @param format the input format. Must not be null.
+     */
+    public ParallelEdgeListImporter(
+        VertexProvider<V> vertexProvider, EdgeProvider<V, E> edgeProvider, Format format)
+    {
+        if (vertexProvider == null) {
+            throw new IllegalArgumentException("Vertex provider cannot be null");
+        }
+        this.vertexProvider = vertexProvider;
+        if (edgeProvider == null) {
+            throw new IllegalArgumentException("Edge provider cannot be null");
+        }
+        this.edgeProvider = edgeProvider;
+        if (format == null) {
+            throw new IllegalArgumentException("Format cannot be null");
+        }
+        this.format = format;
+        this.defaultWeight = Graph.DEFAULT_EDGE_WEIGHT;
+    }
+
+    /**
+     * Get the vertex provider
+     *
+     * @return the vertex provider
+     */
+    public VertexProvider<V> getVertexProvider()
+    {
+        return vertexProvider;
+    }
+
+    /**
+     * Set the vertex provider
+     *
+     * @param vertexProvider the new vertex provider. Must not be null.
+     */
+    public void setVertexProvider(VertexProvider<V> vertexProvider)
+    {
+        if (vertexProvider == null) {
+            throw new IllegalArgumentException("Vertex provider cannot be null");
+        }
+        this.vertexProvider = vertexProvider;
+    }
+
+    /**
+     * Get the edge provider
+     *
+     * @return The edge provider
+     */
+    public EdgeProvider<V, E> getEdgeProvider()
+    {
+        return edgeProvider;
+    }
+
+    /**
+     * Set the edge provider.
+     *
+     * @param edgeProvider the new edge provider. Must not be null.
+     */
+    public void setEdgeProvider(EdgeProvider<V, E> edgeProvider)
+    {
+        if (edgeProvider == null) {
+            throw new IllegalArgumentException("Edge provider cannot be null");
+        }
+        this.edgeProvider = edgeProvider;
+    }
+
+    /**
+     * Get the input format.
+     *
+     * @return the input format
+     */
+    public Format getFormat()
+    {
+        return format;
+    }
+
+    /**
+     * Set the input format.
+     *
+     * @param format the input format. Must not be null.
+     */
+    public void setFormat(Format format)
+    {
+        if (format == null) {
+            throw new IllegalArgumentException("Format cannot be null");
+        }
+        this.format = format;
+    }
+
+    /**
+     * Get the weight of edges which do not have a weight in the input.
+     *
+     * @return the default edge weight
+     */
+    public double getDefaultWeight()
+    {
+        return defaultWeight;
+    }
+
+    /**
+     * Set the weight of edges which do not have a weight in the input. The default value is
+     * {@link Graph#DEFAULT_EDGE_WEIGHT}.
+     *
+     * @param defaultWeight the default edge weight
+     */
+    public void setDefaultWeight(double defaultWeight)
+    {
+        this.defaultWeight = defaultWeight;
+    }
+
+    /**
+     * Get the pool used for parallel parsing.
+     *
+     * @return the pool, or null if the input is always parsed sequentially
+     */
+    public ForkJoinPool getForkJoinPool()
+    {
+        return pool;
+    }
+
+    /**
+     * Set the pool used for parallel parsing of files. If null, which is the default, the input
+     * is always parsed sequentially.
+     *
+     * @param pool the pool, or null
+     */
+    public void setForkJoinPool(ForkJoinPool pool)
+    {
+        this.pool = pool;
+    }
+
+    /**
+     * Get the statistics of the last import.
+     *
+     * @return the statistics of the last import, or null if no import has completed or the last
+     *         import failed
+     */
+    public Statistics getStatistics()
+    {
+        return statistics;
+    }
+
+    /**
+     * Import a graph. The characters of the reader are encoded into UTF-8 before being parsed.
+     *
+     * @param graph the graph
+     * @param input the input reader
+     * @throws ImportException in case an error occurs, such as I/O or parse error
+     */
+    @Override
+    public void importGraph(Graph<V, E> graph, Reader input)
+        throws ImportException
+    {
+        importGraph(graph, new ReaderByteChannel(input));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void importGraph(Graph<V, E> graph, InputStream input)
+        throws ImportException
+    {
+        importGraph(graph, Channels.newChannel(input));
+    }
+
+    /**
+     * Import a graph from a file. If a pool has been set, the file is parsed in parallel.
+     *
+     * @param graph the graph
+     * @param file the file to read from
+     * @throws ImportException in case an error occurs, such as I/O or parse error
+     */
+    @Override
+    public void importGraph(Graph<V, E> graph, File file)
+        throws ImportException
+    {
+        statistics = null;
+        try (FileChannel channel = new RandomAccessFile(file, "r").getChannel()) {
+            importGraph(graph, channel);
+        } catch (IOException e) {
+            throw error(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Import a graph from a channel. The channel is read until its end, but it is not closed. If
+     * the channel is a {@link FileChannel} and a pool has been set, the channel is parsed in
+     * parallel starting from its current position.
+     *
+     * @param graph the graph
+     * @param channel the input channel
+     * @throws ImportException in case an error occurs, such as I/O or parse error
+     */
+    public void importGraph(Graph<V, E> graph, ReadableByteChannel channel)
+        throws ImportException
+    {
+        statistics = null;
+        long start = System.nanoTime();
+        Edges edges = readEdges(channel);
+        try {
+            List<V> vertices = createVertices(edges);
+            for (V v : vertices) {
+                graph.addVertex(v);
+            }
+            boolean weighted = graph.getType().isWeighted();
+            for (int i = 0; i < edges.size; i++) {
+                V from = vertices.get(edges.sources[i]);
+                V to = vertices.get(edges.targets[i]);
+                E e = createEdge(edges, i, from, to);
+                graph.addEdge(from, to, e);
+                if (weighted) {
+                    graph.setEdgeWeight(e, edges.getWeight(i));
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            throw error("Provided graph does not support input: " + e.getMessage(), e);
+        }
+        statistics = edges.createStatistics(start, System.nanoTime());
+    }
+
+    /**
+     * Import a file into a new {@link CSRGraph}. If a pool has been set, the file is parsed in
+     * parallel.
+     *
+     * @param file the file to read from
+     * @param directed whether the graph is directed
+     * @param weighted whether the graph stores edge weights
+     * @return the graph
+     * @throws ImportException in case an error occurs, such as I/O or parse error
+     */
+    public CSRGraph<V, E> importCSRGraph(File file, boolean directed, boolean weighted)
+        throws ImportException
+    {
+        statistics = null;
+        try (FileChannel channel = new RandomAccessFile(file, "r").getChannel()) {
+            return importCSRGraph(channel, directed, weighted);
+        } catch (IOException e) {
+            throw error(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Import a channel into a new {@link CSRGraph}. The channel is read until its end, but it is
+     * not closed. If the channel is a {@link FileChannel} and a pool has been set, the channel is
+     * parsed in parallel starting from its current position.
+     *
+     * @param channel the input channel
+     * @param directed whether the graph is directed
+     * @param weighted whether the graph stores edge weights
+     * @return the graph
+     * @throws ImportException in case an error occurs, such as I/O or parse error
+     */
+    public CSRGraph<V, E> importCSRGraph(
+        ReadableByteChannel channel, boolean directed, boolean weighted)
+        throws ImportException
+    {
+        statistics = null;
+        long start = System.nanoTime();
+        Edges edges = readEdges(channel);
+        CSRGraph<V, E> graph;
+        try {
+            List<V> vertices = createVertices(edges);
+            CSRGraph.Builder<V, E> builder = new CSRGraph.Builder<>(
+                (s, t) -> edgeProvider.buildEdge(
+                    s, t, "e_" + s + "_" + t, Collections.<String, String> emptyMap()),
+                directed, weighted);
+            for (V v : vertices) {
+                builder.addVertex(v);
+            }
+            for (int i = 0; i < edges.size; i++) {
+                V from = vertices.get(edges.sources[i]);
+                V to = vertices.get(edges.targets[i]);
+                builder.addEdge(from, to, createEdge(edges, i, from, to), edges.getWeight(i));
+            }
+            graph = builder.build();
+        } catch (IllegalArgumentException e) {
+            throw error("Provided graph does not support input: " + e.getMessage(), e);
+        }
+        statistics = edges.createStatistics(start, System.nanoTime());
+        return graph;
+    }
+
+    private List<V> createVertices(Edges edges)
+    {
+        List<V> vertices = new ArrayList<>(edges.ids.length);
+        for (String id : edges.ids) {
+            vertices.add(vertexProvider.buildVertex(id, Collections.<String, String> emptyMap()));
+        }
+        return vertices;
+    }
+
+    private E createEdge(Edges edges, int i, V from, V to)
+    {
+        String label = "e_" + edges.ids[edges.sources[i]] + "_" + edges.ids[edges.targets[i]];
+        return edgeProvider.buildEdge(from, to, label, Collections.<String, String> emptyMap());
+    }
+
+    /**
+     * Parse the input into chunks and merge them into global edge arrays.
+     */
+    private Edges readEdges(ReadableByteChannel channel)
+        throws ImportException
+    {
+        List<Chunk> chunks;
+        try {
+            chunks = parse(channel);
+        } catch (IOException e) {
+            throw error(e.getMessage(), e);
+        }
+        long parsed = System.nanoTime();
+        Edges edges = format == Format.DIMACS ? mergeDIMACS(chunks) : mergeEdgeList(chunks);
+        edges.parsed = parsed;
+        edges.chunks = chunks.size();
+        for (Chunk chunk : chunks) {
+            edges.bytes += chunk.bytes;
+        }
+        return edges;
+    }
+
+    private List<Chunk> parse(ReadableByteChannel channel)
+        throws IOException, ImportException
+    {
+        if (pool != null && channel instanceof FileChannel) {
+            FileChannel fileChannel = (FileChannel) channel;
+            long start = fileChannel.position();
+            long end = fileChannel.size();
+            int chunks = ChunkedFileReader.chunkCount(pool, end - start);
+            if (chunks > 1) {
+                List<Chunk> result = new ArrayList<>(chunks + 1);
+                if (format == Format.DIMACS) {
+                    // read the comments and the problem line sequentially, since they may be
+                    // arbitrarily long
+                    Chunk header = new Chunk(true);
+                    header.parseHeader(fileChannel, start);
+                    result.add(header);
+                    start = header.lineOffset;
+                }
+                result.addAll(
+                    ChunkedFileReader.parseChunks(
+                        pool, start, end, chunks, (chunkStart, chunkEnd, first) -> {
+                            Chunk chunk = new Chunk(false);
+                            chunk.parse(fileChannel, chunkStart, !first, chunkEnd);
+                            return chunk;
+                        }, this::error));
+                return result;
+            }
+        }
+        Chunk chunk = new Chunk(format == Format.DIMACS);
+        chunk.parse(channel, -1, false, Long.MAX_VALUE);
+        return Collections.singletonList(chunk);
+    }
+
+    private Edges mergeEdgeList(List<Chunk> chunks)
+    {
+        Edges edges = new Edges(chunks);
+        ByteKeyIndex index = new ByteKeyIndex();
+        int k = 0;
+        for (Chunk chunk : chunks) {
+            // chunk local key identifiers are translated lazily in input order, thus global
+            // identifiers follow the order of first appearance in the input
+            int[] map = new int[chunk.index.size()];
+            Arrays.fill(map, -1);
+            for (int i = 0; i < chunk.size; i++, k++) {
+                edges.sources[k] = globalId(index, chunk, map, chunk.sources[i]);
+                edges.targets[k] = globalId(index, chunk, map, chunk.targets[i]);
+            }
+        }
+        edges.ids = new String[index.size()];
+        for (int id = 0; id < edges.ids.length; id++) {
+            edges.ids[id] = index.getKey(id);
+        }
+        return edges;
+    }
+
+    private int globalId(ByteKeyIndex index, Chunk chunk, int[] map, int localId)
+    {
+        int id = map[localId];
+        if (id == -1) {
+            id = index.getOrAdd(chunk.index, localId);
+            map[localId] = id;
+        }
+        return id;
+    }
+
+    private Edges mergeDIMACS(List<Chunk> chunks)
+        throws ImportException
+    {
+        int n = chunks.get(0).nodeCount;
+        if (n < 0) {
+            throw error("Failed to read number of vertices.", null);
+        }
+        Edges edges = new Edges(chunks);
+        int k = 0;
+        for (Chunk chunk : chunks) {
+            for (int i = 0; i < chunk.size; i++, k++) {
+                int source = chunk.sources[i];
+                if (source < 1 || source > n) {
+                    throw error("Node " + source + " does not exist", null);
+                }
+                int target = chunk.targets[i];
+                if (target < 1 || target > n) {
+                    throw error("Node " + target + " does not exist", null);
+                }
+                edges.sources[k] = source - 1;
+                edges.targets[k] = target - 1;
+            }
+        }
+        edges.ids = new String[n];
+        for (int i = 0; i < n; i++) {
+            edges.ids[i] = String.valueOf(i + 1);
+        }
+        return edges;
+    }
+
+    private ImportException error(String message, Throwable cause)
+    {
+        String prefix = format == Format.DIMACS ? "Failed to import DIMACS graph: "
+            : "Failed to import edge list: ";
+        return new ImportException(prefix + message, cause);
+    }
+
+    /**
+     * The edges of the whole input, using global vertex indices.
+     */
+    private class Edges
+    {
+        private final int size;
+        private final int[] sources;
+        private final int[] targets;
+        private final double[] weights;
+        private String[] ids;
+
+        private long bytes;
+        private int chunks;
+        private long parsed;
+
+        Edges(List<Chunk> chunkList)
+        {
+            int m = 0;
+            boolean weighted = false;
+            for (Chunk chunk : chunkList) {
+                m += chunk.size;
+                weighted |= chunk.weights != null;
+            }
+            this.size = m;
+            this.sources = new int[m];
+            this.targets = new int[m];
+            if (weighted) {
+                // weights are copied here since they do not depend on vertex indices
+                this.weights = new double[m];
+                int k = 0;
+                for (Chunk chunk : chunkList) {
+                    if (chunk.weights != null) {
+                        System.arraycopy(chunk.weights, 0, weights, k, chunk.size);
+                    } else {
+                        Arrays.fill(weights, k, k + chunk.size, defaultWeight);
+                    }
+                    k += chunk.size;
+                }
+            } else {
+                this.weights = null;
+            }
+        }
+
+        double getWeight(int i)
+        {
+            return weights != null ? weights[i] : defaultWeight;
+        }
+
+        Statistics createStatistics(long start, long end)
+        {
+            return new Statistics(bytes, ids.length, size, chunks, parsed - start, end - parsed);
+        }
+    }
+
+    /**
+     * A range of the input parsed into primitive edge buffers.
+     */
+    private class Chunk
+        implements ChunkedFileReader.ByteConsumer
+    {
+        private static final byte CR = '\r';
+        private static final byte LF = '\n';
+        private static final int MAX_TOKENS = 4;
+
+        // whether the chunk starts with the DIMACS problem line, possibly after comments
+        private final boolean header;
+        // local key index, only used by the edge list format
+        private final ByteKeyIndex index;
+
+        private int[] sources = new int[1024];
+        private int[] targets = new int[1024];
+        // allocated when the first weight is encountered
+        private double[] weights;
+        private int size;
+
+        private int nodeCount = -1;
+        private long bytes;
+
+        private byte[] line = new byte[256];
+        private int lineLength;
+        private long lineOffset;
+        private final int[] tokens = new int[2 * MAX_TOKENS];
+
+        // the range being parsed
+        private long firstOffset = -1;
+        private long lastOffset;
+        private long end;
+        private boolean headerOnly;
+
+        Chunk(boolean header)
+        {
+            this.header = header;
+            this.index = format == Format.EDGE_LIST ? new ByteKeyIndex() : null;
+        }
+
+        /**
+         * Parse the lines starting inside a range of a channel.
+         *
+         * @param channel the channel
+         * @param start if negative the channel is read sequentially from its current position,
+         *        otherwise it must be a file channel which is read using positional reads starting
+         *        at this position
+         * @param skipPartialLine whether the start is possibly inside a line, in which case the
+         *        first line parsed is the first one starting after the start
+         * @param end the position at or after which no new line is started
+         */
+        void parse(ReadableByteChannel channel, long start, boolean skipPartialLine, long end)
+            throws IOException, ImportException
+        {
+            this.end = end;
+            lineOffset = Math.max(start, 0);
+            if (!ChunkedFileReader.read(channel, start, skipPartialLine, end, this)) {
+                if (lineLength > 0) {
+                    parseLine(line, 0, lineLength);
+                }
+                lineOffset = Math.max(lineOffset, lastOffset);
+                bytes = firstOffset < 0 ? 0 : lastOffset - firstOffset;
+            }
+        }
+
+        /**
+         * Parse the lines of a file channel up to and including the DIMACS problem line. Afterwards
+         * the line offset is the position of the line following the problem line.
+         *
+         * @param channel the channel
+         * @param start the position to start reading from
+         */
+        void parseHeader(FileChannel channel, long start)
+            throws IOException, ImportException
+        {
+            headerOnly = true;
+            parse(channel, start, false, Long.MAX_VALUE);
+        }
+
+        @Override
+        public boolean accept(byte[] data, int from, int to, long position)
+            throws ImportException
+        {
+            if (firstOffset < 0) {
+                firstOffset = lineOffset = position;
+            }
+            lastOffset = position + to - from;
+            int i = from;
+            while (i < to) {
+                int lf = i;
+                while (lf < to && data[lf] != LF) {
+                    lf++;
+                }
+                if (lf == to) {
+                    append(data, i, to - i);
+                    break;
+                }
+                if (lineLength > 0) {
+                    // the line started in a previous buffer
+                    append(data, i, lf - i);
+                    parseLine(line, 0, lineLength);
+                    lineLength = 0;
+                } else {
+                    parseLine(data, i, lf);
+                }
+                lineOffset = position + lf - from + 1;
+                i = lf + 1;
+                if (lineOffset >= end || (headerOnly && nodeCount >= 0)) {
+                    bytes = lineOffset - firstOffset;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void append(byte[] data, int offset, int length)
+        {
+            if (lineLength + length > line.length) {
+                line = Arrays.copyOf(line, Math.max(2 * line.length, lineLength + length));
+            }
+            System.arraycopy(data, offset, line, lineLength, length);
+            lineLength += length;
+        }
+
+        private void parseLine(byte[] data, int from, int to)
+            throws ImportException
+        {
+            if (to > from && data[to - 1] == CR) {
+                to--;
+            }
+            int count = split(data, from, to);
+            if (count == 0) {
+                return;
+            }
+            if (format == Format.DIMACS) {
+                parseDIMACSLine(data, count);
+            } else {
+                parseEdgeListLine(data, count);
+            }
+        }
+
+        private void parseEdgeListLine(byte[] data, int count)
+            throws ImportException
+        {
+            byte c = data[tokens[0]];
+            if (c == '#' || c == '%') {
+                return;
+            }
+            if (count < 2) {
+                throw lineError("missing target vertex");
+            }
+            if (count > 3) {
+                throw lineError("too many fields");
+            }
+            int source = index.getOrAdd(data, tokens[0], tokens[1] - tokens[0]);
+            int target = index.getOrAdd(data, tokens[2], tokens[3] - tokens[2]);
+            addEdge(source, target);
+            if (count == 3) {
+                setWeight(parseWeight(data, tokens[4], tokens[5]));
+            }
+        }
+
+        private void parseDIMACSLine(byte[] data, int count)
+            throws ImportException
+        {
+            int length = tokens[1] - tokens[0];
+            byte c = data[tokens[0]];
+            if ((length == 1 && c == 'c') || c == '%') {
+                return;
+            }
+            if (header && nodeCount < 0) {
+                if (length != 1 || c != 'p' || count < 3) {
+                    throw lineError("Failed to read number of vertices.");
+                }
+                nodeCount = parseInt(data, tokens[4], tokens[5], "number of vertices");
+                if (nodeCount < 0) {
+                    throw lineError("Negative number of vertices.");
+                }
+                return;
+            }
+            if (length == 1 && (c == 'e' || c == 'a')) {
+                if (count < 3) {
+                    throw lineError("Failed to parse edge");
+                }
+                addEdge(
+                    parseInt(data, tokens[2], tokens[3], "edge source node"),
+                    parseInt(data, tokens[4], tokens[5], "edge target node"));
+                if (count > 3) {
+                    setWeight(parseWeight(data, tokens[6], tokens[7]));
+                }
+            }
+        }
+
+        /**
+         * Split a line into whitespace separated tokens, storing the bounds of the first tokens.
+         *
+         * @return the number of tokens
+         */
+        private int split(byte[] data, int from, int to)
+        {
+            int count = 0;
+            int i = from;
+            while (true) {
+                while (i < to && AsciiParsing.isBlank(data[i])) {
+                    i++;
+                }
+                if (i == to) {
+                    return count;
+                }
+                int tokenStart = i;
+                while (i < to && !AsciiParsing.isBlank(data[i])) {
+                    i++;
+                }
+                if (count < MAX_TOKENS) {
+                    tokens[2 * count] = tokenStart;
+                    tokens[2 * count + 1] = i;
+                }
+                count++;
+            }
+        }
+
+        private void addEdge(int source, int target)
+        {
+            if (size == sources.length) {
+                sources = Arrays.copyOf(sources, 2 * size);
+                targets = Arrays.copyOf(targets, 2 * size);
+                if (weights != null) {
+                    weights = Arrays.copyOf(weights, 2 * size);
+                }
+            }
+            sources[size] = source;
+            targets[size] = target;
+            if (weights != null) {
+                weights[size] = defaultWeight;
+            }
+            size++;
+        }
+
+        private void setWeight(double weight)
+        {
+            if (weights == null) {
+                weights = new double[sources.length];
+                Arrays.fill(weights, 0, size, defaultWeight);
+            }
+            weights[size - 1] = weight;
+        }
+
+        private int parseInt(byte[] data, int from, int to, String what)
+            throws ImportException
+        {
+            try {
+                return AsciiParsing.parseInt(data, from, to);
+            } catch (NumberFormatException e) {
+                throw invalidToken(data, from, to, what);
+            }
+        }
+
+        private double parseWeight(byte[] data, int from, int to)
+            throws ImportException
+        {
+            try {
+                return AsciiParsing.parseDouble(data, from, to);
+            } catch (NumberFormatException e) {
+                throw invalidToken(data, from, to, "edge weight");
+            }
+        }
+
+        private ImportException invalidToken(byte[] data, int from, int to, String what)
+        {
+            return lineError(
+                "Failed to parse " + what + ": "
+                    + new String(data, from, to - from, StandardCharsets.UTF_8));
+        }
+
+        private ImportException lineError(String message)
+        {
+            return error("line at offset " + lineOffset + ": " + message, null);
+        }
+    }
+
+    /**
+     * Statistics of an import.
+     */
+    public static final class Statistics
+    {
+        private final long bytes;
+        private final int vertexCount;
+        private final int edgeCount;
+        private final int chunkCount;
+        private final long parseNanos;
+        private final long mergeNanos;
+
+        Statistics(
+            long bytes, int vertexCount, int edgeCount, int chunkCount, long parseNanos,
+            long mergeNanos)
+        {
+            this.bytes = bytes;
+            this.vertexCount = vertexCount;
+            this.edgeCount = edgeCount;
+            this.chunkCount = chunkCount;
+            this.parseNanos = parseNanos;
+            this.mergeNanos = mergeNanos;
+        }
+
+        /**
+         * Get the number of bytes read.
+         *
+         * @return the number of bytes read
+         */
+        public long getBytes()
+        {
+            return bytes;
+        }
+
+        /**
+         * Get the number of vertices created.
+         *
+         * @return the number of vertices created
+         */
+        public int getVertexCount()
+        {
+            return vertexCount;
+        }
+
+        /**
+         * Get the number of edges read.
+         *
+         * @return the number of edges read
+         */
+        public int getEdgeCount()
+        {
+            return edgeCount;
+        }
+
+        /**
+         * Get the number of chunks the input was split into. A value of one means that the input
+         * was parsed sequentially.
+         *
+         * @return the number of chunks
+         */
+        public int getChunkCount()
+        {
+            return chunkCount;
+        }
+
+        /**
+         * Get the time spent parsing the input into edge buffers.
+         *
+         * @return the parse time in nanoseconds
+         */
+        public long getParseNanos()
+        {
+            return parseNanos;
+        }
+
+        /**
+         * Get the time spent merging the edge buffers and populating the graph.
+         *
+         * @return the merge time in nanoseconds
+         */
+        public long getMergeNanos()
+        {
+            return mergeNanos;
+        }
+
+        /**
+         * Get the total time of the import.
+         *
+         * @return the total time in nanoseconds
+         */
+        public long getTotalNanos()
+        {
+            return parseNanos + mergeNanos;
+        }
+
+        /**
+         * Get the number of edges imported per second, over the total time of the import.
+         *
+         * @return the number of edges per second
+         */
+        public double getEdgesPerSecond()
+        {
+            return perSecond(edgeCount);
+        }
+
+        /**
+         * Get the number of bytes imported per second, over the total time of the import.
+         *
+         * @return the number of bytes per second
+         */
+        public double getBytesPerSecond()
+        {
+            return perSecond(bytes);
+        }
+
+        private double perSecond(long count)
+        {
+            return count * 1e9 / Math.max(1, getTotalNanos());
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Statistics [bytes=" + bytes + ", vertices=" + vertexCount + ", edges="
+                + edgeCount + ", chunks=" + chunkCount + ", parseNanos=" + parseNanos
+                + ", mergeNanos=" + mergeNanos + "]";
+        }
+    }
+}
+
+// End ParallelEdgeListImporter.java
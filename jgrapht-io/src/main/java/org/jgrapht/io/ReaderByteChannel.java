@@ -0,0 +1,102 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+
+/**
+ * Adapts a reader to a byte channel by encoding its characters into UTF-8.
+ *
+ * <p>
+ * Used by the byte-level importers in order to support importing from a {@link Reader}.
+ *
+ * @author agent
+ */
+final class ReaderByteChannel
+    implements ReadableByteChannel
+{
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private final Reader reader;
+    private final CharBuffer chars;
+    private final CharsetEncoder encoder;
+    private boolean eof;
+    private boolean done;
+
+    /**
+     * Create a new adapter.
+     *
+     * @param reader the reader to encode
+     */
+    ReaderByteChannel(Reader reader)
+    {
+        this.reader = reader;
+        this.chars = CharBuffer.allocate(DEFAULT_BUFFER_SIZE);
+        this.chars.flip();
+        this.encoder = StandardCharsets.UTF_8
+            .newEncoder().onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    @Override
+    public int read(ByteBuffer dst)
+        throws IOException
+    {
+        int start = dst.position();
+        while (!done) {
+            if (!eof) {
+                if (encoder.encode(chars, dst, false).isOverflow()) {
+                    break;
+                }
+                chars.compact();
+                int n = reader.read(chars);
+                chars.flip();
+                if (n < 0) {
+                    eof = true;
+                }
+            } else {
+                if (encoder.encode(chars, dst, true).isOverflow()) {
+                    break;
+                }
+                if (encoder.flush(dst).isOverflow()) {
+                    break;
+                }
+                done = true;
+            }
+        }
+        int n = dst.position() - start;
+        return n == 0 && done ? -1 : n;
+    }
+
+    @Override
+    public boolean isOpen()
+    {
+        return !done;
+    }
+
+    @Override
+    public void close()
+    {
+        done = true;
+    }
+}
+
+// End ReaderByteChannel.java
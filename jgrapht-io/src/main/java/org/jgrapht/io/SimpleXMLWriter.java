@@ -0,0 +1,231 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * A minimal streaming XML writer.
+ *
+ * <p>
+ * Used by the XML based exporters instead of a transformer, in order to write elements directly
+ * into a character buffer which is flushed to the underlying writer in large blocks. Every element
+ * which does not contain text starts on a new line and elements without content are written as
+ * empty-element tags. Attribute values and text are escaped, namespace handling is left to the
+ * caller.
+ *
+ * @author agent
+ */
+final class SimpleXMLWriter
+{
+    private static final int BUFFER_SIZE = 1 << 13;
+    private static final String NL = System.lineSeparator();
+
+    private final Writer writer;
+    private final char[] buffer;
+    private int size;
+
+    private final List<String> elements;
+    private boolean startTagOpen;
+
+    /**
+     * Create a new XML writer.
+     *
+     * @param writer the underlying writer
+     */
+    SimpleXMLWriter(Writer writer)
+    {
+        this.writer = writer;
+        this.buffer = new char[BUFFER_SIZE];
+        this.elements = new ArrayList<>();
+    }
+
+    /**
+     * Write the XML declaration.
+     *
+     * @throws IOException in case of an I/O error
+     */
+    void startDocument()
+        throws IOException
+    {
+        write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+        write(NL);
+    }
+
+    /**
+     * Start an element. Attributes can be added until any other method is called.
+     *
+     * @param name the element name
+     * @throws IOException in case of an I/O error
+     */
+    void startElement(String name)
+        throws IOException
+    {
+        closeStartTag(true);
+        write('<');
+        write(name);
+        elements.add(name);
+        startTagOpen = true;
+    }
+
+    /**
+     * Add an attribute to the element which was just started.
+     *
+     * @param name the attribute name
+     * @param value the attribute value
+     * @throws IOException in case of an I/O error
+     */
+    void attribute(String name, String value)
+        throws IOException
+    {
+        if (!startTagOpen) {
+            throw new IllegalStateException("Attributes must follow the start of an element");
+        }
+        write(' ');
+        write(name);
+        write("=\"");
+        escape(value, true);
+        write('"');
+    }
+
+    /**
+     * Write text content.
+     *
+     * @param text the text
+     * @throws IOException in case of an I/O error
+     */
+    void characters(String text)
+        throws IOException
+    {
+        closeStartTag(false);
+        escape(text, false);
+    }
+
+    /**
+     * End the last started element.
+     *
+     * @throws IOException in case of an I/O error
+     */
+    void endElement()
+        throws IOException
+    {
+        String name = elements.remove(elements.size() - 1);
+        if (startTagOpen) {
+            write("/>");
+            startTagOpen = false;
+        } else {
+            write("</");
+            write(name);
+            write('>');
+        }
+        write(NL);
+    }
+
+    /**
+     * Flush all buffered output to the underlying writer and flush the writer.
+     *
+     * @throws IOException in case of an I/O error
+     */
+    void endDocument()
+        throws IOException
+    {
+        if (!elements.isEmpty()) {
+            throw new IllegalStateException(
+                "Unclosed element " + elements.get(elements.size() - 1));
+        }
+        writer.write(buffer, 0, size);
+        size = 0;
+        writer.flush();
+    }
+
+    private void closeStartTag(boolean newline)
+        throws IOException
+    {
+        if (startTagOpen) {
+            write('>');
+            if (newline) {
+                write(NL);
+            }
+            startTagOpen = false;
+        }
+    }
+
+    private void escape(String s, boolean attribute)
+        throws IOException
+    {
+        int length = s.length();
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            switch (c) {
+            case '&':
+                write("&amp;");
+                break;
+            case '<':
+                write("&lt;");
+                break;
+            case '>':
+                write("&gt;");
+                break;
+            case '\r':
+                write("&#13;");
+                break;
+            case '"':
+                write(attribute ? "&quot;" : "\"");
+                break;
+            case '\n':
+                write(attribute ? "&#10;" : "\n");
+                break;
+            case '\t':
+                write(attribute ? "&#9;" : "\t");
+                break;
+            default:
+                write(c);
+            }
+        }
+    }
+
+    private void write(char c)
+        throws IOException
+    {
+        if (size == buffer.length) {
+            writer.write(buffer, 0, size);
+            size = 0;
+        }
+        buffer[size++] = c;
+    }
+
+    private void write(String s)
+        throws IOException
+    {
+        int length = s.length();
+        int offset = 0;
+        while (offset < length) {
+            if (size == buffer.length) {
+                writer.write(buffer, 0, size);
+                size = 0;
+            }
+            int n = Math.min(length - offset, buffer.length - size);
+            s.getChars(offset, offset + n, buffer, size);
+            size += n;
+            offset += n;
+        }
+    }
+}
+
+// End SimpleXMLWriter.java
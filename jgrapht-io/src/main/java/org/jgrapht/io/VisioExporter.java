@@ -72,7 +72,7 @@ public class VisioExporter<V, E>
     @Override
     public void exportGraph(Graph<V, E> g, Writer writer)
     {
-        PrintWriter out = new PrintWriter(writer);
+        PrintWriter out = new PrintWriter(new BufferedWriter(writer));
 
         for (V v : g.vertexSet()) {
             exportVertex(out, v);
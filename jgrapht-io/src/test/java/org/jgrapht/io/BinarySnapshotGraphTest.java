@@ -0,0 +1,175 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.io.*;
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+import junit.framework.*;
+
+/**
+ * Tests for {@link BinarySnapshotGraph}.
+ *
+ * @author agent
+ */
+public class BinarySnapshotGraphTest
+    extends TestCase
+{
+
+    private static <V, E> BinarySnapshotGraph open(
+        Graph<V, E> g, BinarySnapshotExporter<V, E> exporter)
+        throws ExportException, ImportException, IOException
+    {
+        File file = File.createTempFile("snapshot", ".bin");
+        file.deleteOnExit();
+        exporter.exportGraph(g, file);
+        return BinarySnapshotGraph.open(file);
+    }
+
+    public void testDirected()
+        throws ExportException, ImportException, IOException
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        g.addVertex("a");
+        g.addVertex("b");
+        g.addVertex("c");
+        g.setEdgeWeight(g.addEdge("a", "b"), 2.0);
+        g.setEdgeWeight(g.addEdge("b", "c"), 3.0);
+        g.setEdgeWeight(g.addEdge("c", "a"), 4.0);
+        g.setEdgeWeight(g.addEdge("a", "a"), 5.0);
+        g.setEdgeWeight(g.addEdge("a", "b"), 6.0);
+
+        BinarySnapshotGraph h = open(
+            g, new BinarySnapshotExporter<>(
+                v -> v, v -> Collections.singletonMap("name", v.toUpperCase()), null));
+
+        assertTrue(h.getType().isDirected());
+        assertTrue(h.getType().isWeighted());
+        assertFalse(h.getType().isModifiable());
+        assertEquals(3, h.vertexSet().size());
+        assertEquals(5, h.edgeSet().size());
+
+        int a = h.getVertexById("a");
+        int b = h.getVertexById("b");
+        int c = h.getVertexById("c");
+        assertNull(h.getVertexById("d"));
+        assertEquals("a", h.getVertexId(a));
+        assertEquals("B", h.getVertexAttribute(b, "name"));
+        assertNull(h.getVertexAttribute(b, "color"));
+        assertEquals(Arrays.asList("name"), h.getVertexAttributeKeys());
+
+        assertEquals(3, h.outDegreeOf(a));
+        assertEquals(2, h.inDegreeOf(a));
+        assertEquals(5, h.degreeOf(a));
+        assertEquals(3, h.outgoingEdgesOf(a).size());
+        assertEquals(2, h.incomingEdgesOf(a).size());
+        assertEquals(4, h.edgesOf(a).size());
+        assertEquals(2, h.getAllEdges(a, b).size());
+        assertTrue(h.getAllEdges(b, a).isEmpty());
+        assertNull(h.getEdge(b, a));
+
+        Integer ca = h.getEdge(c, a);
+        assertEquals(Integer.valueOf(c), h.getEdgeSource(ca));
+        assertEquals(Integer.valueOf(a), h.getEdgeTarget(ca));
+        assertEquals(4.0, h.getEdgeWeight(ca), 1e-9);
+        assertEquals(5.0, h.getEdgeWeight(h.getEdge(a, a)), 1e-9);
+        double sum = 0d;
+        for (Integer e : h.getAllEdges(a, b)) {
+            sum += h.getEdgeWeight(e);
+        }
+        assertEquals(8.0, sum, 1e-9);
+
+        try {
+            h.addVertex(3);
+            fail("Graph is unmodifiable");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            h.degreeOf(3);
+            fail("No such vertex");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    public void testUndirected()
+        throws ExportException, ImportException, IOException
+    {
+        Graph<String, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        g.addVertex("a");
+        g.addVertex("b");
+        g.addVertex("c");
+        g.addEdge("b", "a");
+        g.addEdge("b", "c");
+        g.addEdge("c", "c");
+
+        BinarySnapshotGraph h = open(g, new BinarySnapshotExporter<>(v -> v));
+
+        assertFalse(h.getType().isDirected());
+        assertFalse(h.getType().isWeighted());
+        int a = h.getVertexById("a");
+        int b = h.getVertexById("b");
+        int c = h.getVertexById("c");
+
+        assertNotNull(h.getEdge(a, b));
+        assertEquals(h.getEdge(a, b), h.getEdge(b, a));
+        assertEquals(2, h.degreeOf(b));
+        assertEquals(2, h.edgesOf(b).size());
+        assertEquals(2, h.outgoingEdgesOf(b).size());
+        assertEquals(2, h.incomingEdgesOf(b).size());
+        assertEquals(3, h.degreeOf(c));
+        assertEquals(2, h.edgesOf(c).size());
+        Set<Integer> edges = new HashSet<>();
+        for (Integer e : h.edgesOf(c)) {
+            edges.add(e);
+        }
+        assertEquals(h.edgesOf(c), edges);
+        assertEquals(Graph.DEFAULT_EDGE_WEIGHT, h.getEdgeWeight(h.getEdge(c, c)), 1e-9);
+    }
+
+    public void testFromStream()
+        throws ExportException, ImportException
+    {
+        Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        for (int i = 0; i < 10; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i < 10; i++) {
+            g.addEdge(i, (i + 1) % 10);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BinarySnapshotExporter<Integer, DefaultEdge>(v -> String.valueOf(v))
+            .exportGraph(g, out);
+        BinarySnapshotGraph h =
+            BinarySnapshotGraph.open(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(10, h.edgeSet().size());
+        for (int i = 0; i < 10; i++) {
+            int v = h.getVertexById(String.valueOf(i));
+            int u = h.getVertexById(String.valueOf((i + 1) % 10));
+            assertNotNull(h.getEdge(v, u));
+            assertEquals(1, h.outDegreeOf(v));
+        }
+    }
+}
+
+// End BinarySnapshotGraphTest.java
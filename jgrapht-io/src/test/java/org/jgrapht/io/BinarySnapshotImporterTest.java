@@ -0,0 +1,286 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+import junit.framework.*;
+
+/**
+ * Tests for {@link BinarySnapshotExporter} and {@link BinarySnapshotImporter}.
+ *
+ * @author agent
+ */
+public class BinarySnapshotImporterTest
+    extends TestCase
+{
+
+    private static <V, E> byte[] export(
+        Graph<V, E> g, BinarySnapshotExporter<V, E> exporter)
+        throws ExportException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.exportGraph(g, out);
+        return out.toByteArray();
+    }
+
+    private static BinarySnapshotImporter<String, DefaultWeightedEdge> createImporter(
+        Graph<String, DefaultWeightedEdge> g, Map<String, Map<String, String>> vertexAttributes,
+        Map<String, Map<String, String>> edgeAttributes)
+    {
+        return new BinarySnapshotImporter<>((id, a) -> {
+            vertexAttributes.put(id, a);
+            return id;
+        }, (f, t, l, a) -> {
+            edgeAttributes.put(f + "-" + t, a);
+            return g.getEdgeFactory().createEdge(f, t);
+        });
+    }
+
+    public void testDirectedWeightedRoundTrip()
+        throws ExportException, ImportException
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        g.addVertex("c");
+        g.addVertex("a");
+        g.addVertex("b");
+        g.addVertex("isolated");
+        g.setEdgeWeight(g.addEdge("a", "b"), 2.5);
+        g.setEdgeWeight(g.addEdge("b", "c"), -1.0);
+        g.setEdgeWeight(g.addEdge("c", "a"), 3.0);
+        g.setEdgeWeight(g.addEdge("a", "a"), 4.0);
+        g.setEdgeWeight(g.addEdge("a", "b"), 5.0);
+
+        byte[] snapshot = export(g, new BinarySnapshotExporter<>(v -> v));
+
+        Graph<String, DefaultWeightedEdge> h =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        createImporter(h, new HashMap<>(), new HashMap<>())
+            .importGraph(h, new ByteArrayInputStream(snapshot));
+
+        assertEquals(g.vertexSet(), h.vertexSet());
+        assertEquals(5, h.edgeSet().size());
+        assertEquals(2, h.getAllEdges("a", "b").size());
+        double sum = 0d;
+        for (DefaultWeightedEdge e : h.getAllEdges("a", "b")) {
+            sum += h.getEdgeWeight(e);
+        }
+        assertEquals(7.5, sum, 1e-9);
+        assertEquals(-1.0, h.getEdgeWeight(h.getEdge("b", "c")), 1e-9);
+        assertEquals(3.0, h.getEdgeWeight(h.getEdge("c", "a")), 1e-9);
+        assertEquals(4.0, h.getEdgeWeight(h.getEdge("a", "a")), 1e-9);
+        assertNull(h.getEdge("b", "a"));
+    }
+
+    public void testUndirectedFileRoundTripWithAttributes()
+        throws ExportException, ImportException, IOException
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        g.addVertex("a");
+        g.addVertex("b");
+        g.addVertex("αβ");
+        g.addEdge("a", "b");
+        g.addEdge("b", "αβ");
+
+        int[] calls = new int[2];
+        BinarySnapshotExporter<String, DefaultWeightedEdge> exporter =
+            new BinarySnapshotExporter<>(v -> v, v -> {
+                calls[0]++;
+                Map<String, String> m = new HashMap<>();
+                m.put("label", v.toUpperCase());
+                if (v.equals("a")) {
+                    m.put("color", "red");
+                }
+                return m;
+            }, e -> {
+                calls[1]++;
+                return Collections.singletonMap("name", g.getEdgeSource(e) + g.getEdgeTarget(e));
+            });
+
+        File file = File.createTempFile("snapshot", ".bin");
+        file.deleteOnExit();
+        exporter.exportGraph(g, file);
+
+        // each provider is asked once per component
+        assertEquals(3, calls[0]);
+        assertEquals(2, calls[1]);
+
+        Graph<String, DefaultWeightedEdge> h = new SimpleGraph<>(DefaultWeightedEdge.class);
+        Map<String, Map<String, String>> vertexAttributes = new HashMap<>();
+        Map<String, Map<String, String>> edgeAttributes = new HashMap<>();
+        createImporter(h, vertexAttributes, edgeAttributes).importGraph(h, file);
+
+        assertEquals(g.vertexSet(), h.vertexSet());
+        assertEquals(2, h.edgeSet().size());
+        assertTrue(h.containsEdge("b", "a"));
+        assertTrue(h.containsEdge("αβ", "b"));
+        assertEquals("red", vertexAttributes.get("a").get("color"));
+        assertEquals("A", vertexAttributes.get("a").get("label"));
+        assertFalse(vertexAttributes.get("b").containsKey("color"));
+        assertEquals("ΑΒ", vertexAttributes.get("αβ").get("label"));
+        assertEquals(2, edgeAttributes.size());
+        for (Map<String, String> a : edgeAttributes.values()) {
+            assertEquals(1, a.size());
+            assertNotNull(a.get("name"));
+        }
+    }
+
+    public void testEmptyGraph()
+        throws ExportException, ImportException
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        byte[] snapshot = export(g, new BinarySnapshotExporter<>());
+        Graph<String, DefaultWeightedEdge> h =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        createImporter(h, new HashMap<>(), new HashMap<>())
+            .importGraph(h, new ByteArrayInputStream(snapshot));
+        assertTrue(h.vertexSet().isEmpty());
+    }
+
+    public void testInvalidSnapshot()
+        throws ExportException
+    {
+        Graph<String, DefaultWeightedEdge> h =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        BinarySnapshotImporter<String, DefaultWeightedEdge> importer =
+            createImporter(h, new HashMap<>(), new HashMap<>());
+        try {
+            importer.importGraph(h, new ByteArrayInputStream(new byte[40]));
+            fail("Bad magic number accepted");
+        } catch (ImportException e) {
+            // expected
+        }
+
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        g.addVertex("a");
+        g.addVertex("b");
+        g.addEdge("a", "b");
+        byte[] snapshot = export(g, new BinarySnapshotExporter<>());
+        try {
+            importer.importGraph(
+                h, new ByteArrayInputStream(Arrays.copyOf(snapshot, snapshot.length - 9)));
+            fail("Truncated snapshot accepted");
+        } catch (ImportException e) {
+            // expected
+        }
+    }
+
+    public void testCorruptedEdgeEndpoint()
+        throws ExportException
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        g.addVertex("a");
+        g.addVertex("b");
+        g.addEdge("a", "b");
+        byte[] snapshot = export(g, new BinarySnapshotExporter<>());
+
+        // skip the header and the sections before the edge targets
+        ByteBuffer buffer = ByteBuffer.wrap(snapshot);
+        int position = BinarySnapshot.HEADER_SIZE;
+        for (int i = 0; i < 4; i++) {
+            position += Long.BYTES + (int) buffer.getLong(position);
+        }
+        buffer.putInt(position + Long.BYTES, 2);
+
+        Graph<String, DefaultWeightedEdge> h =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        try {
+            createImporter(h, new HashMap<>(), new HashMap<>())
+                .importGraph(h, new ByteArrayInputStream(snapshot));
+            fail("Edge target out of range accepted");
+        } catch (ImportException e) {
+            // expected
+        }
+        assertTrue(h.vertexSet().isEmpty());
+    }
+
+    public void testSegmentedSections()
+        throws ExportException, ImportException, IOException
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        for (int i = 0; i < 20; i++) {
+            g.addVertex("vertex" + i);
+        }
+        for (int i = 0; i < 20; i++) {
+            g.setEdgeWeight(g.addEdge("vertex" + i, "vertex" + (i * 7 % 20)), i / 2d);
+        }
+        BinarySnapshotExporter<String, DefaultWeightedEdge> exporter =
+            new BinarySnapshotExporter<>(
+                v -> v, v -> Collections.singletonMap("label", v.toUpperCase()), null);
+
+        File file = File.createTempFile("snapshot", ".bin");
+        file.deleteOnExit();
+        exporter.exportGraph(g, file);
+        byte[] bytes = export(g, exporter);
+
+        // segments of eight bytes, so that every section and string spans several of them
+        BinarySnapshot expected = BinarySnapshot.map(file);
+        for (BinarySnapshot s : Arrays.asList(
+            BinarySnapshot.map(file, 3), BinarySnapshot.read(new ByteArrayInputStream(bytes), 3)))
+        {
+            s.validate();
+            assertEquals(expected.n, s.n);
+            assertEquals(expected.m, s.m);
+            for (int v = 0; v < s.n; v++) {
+                assertEquals(expected.getVertexId(v), s.getVertexId(v));
+                assertEquals(expected.getVertexAttribute(0, v), s.getVertexAttribute(0, v));
+                assertEquals(expected.outOffsets.getInt(v), s.outOffsets.getInt(v));
+                assertEquals(expected.inOffsets.getInt(v), s.inOffsets.getInt(v));
+            }
+            for (int e = 0; e < s.m; e++) {
+                assertEquals(expected.edgeSources.getInt(e), s.edgeSources.getInt(e));
+                assertEquals(expected.edgeTargets.getInt(e), s.edgeTargets.getInt(e));
+                assertEquals(expected.inEdges.getInt(e), s.inEdges.getInt(e));
+                assertEquals(expected.getEdgeWeight(e), s.getEdgeWeight(e), 0d);
+            }
+        }
+    }
+
+    public void testNoTextInputOrOutput()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        try {
+            new BinarySnapshotExporter<String, DefaultWeightedEdge>()
+                .exportGraph(g, new StringWriter());
+            fail("Export to a writer");
+        } catch (ExportException e) {
+            // expected
+        }
+        try {
+            createImporter(g, new HashMap<>(), new HashMap<>())
+                .importGraph(g, new StringReader(""));
+            fail("Import from a reader");
+        } catch (ImportException e) {
+            // expected
+        }
+    }
+}
+
+// End BinarySnapshotImporterTest.java
@@ -0,0 +1,74 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.nio.charset.*;
+
+import junit.framework.*;
+
+/**
+ * Tests for {@link ByteKeyIndex}.
+ *
+ * @author agent
+ */
+public class ByteKeyIndexTest
+    extends TestCase
+{
+
+    public void testGetOrAdd()
+    {
+        ByteKeyIndex index = new ByteKeyIndex();
+        byte[] bytes = "a,bb,a,ccc".getBytes(StandardCharsets.UTF_8);
+        assertEquals(0, index.getOrAdd(bytes, 0, 1));
+        assertEquals(1, index.getOrAdd(bytes, 2, 2));
+        assertEquals(0, index.getOrAdd(bytes, 5, 1));
+        assertEquals(2, index.getOrAdd(bytes, 7, 3));
+        assertEquals(3, index.size());
+        assertEquals("bb", index.getKey(1));
+
+        // force growth of all arrays
+        for (int i = 0; i < 1000; i++) {
+            byte[] key = ("key" + i + "-padding-padding").getBytes(StandardCharsets.UTF_8);
+            assertEquals(3 + i, index.getOrAdd(key, 0, key.length));
+        }
+        assertEquals(1003, index.size());
+        assertEquals("key999-padding-padding", index.getKey(1002));
+        assertEquals("ccc", index.getKey(2));
+    }
+
+    public void testNewCapacity()
+    {
+        assertEquals(128, ByteKeyIndex.newCapacity(64, 65));
+        assertEquals(300, ByteKeyIndex.newCapacity(64, 300));
+
+        // doubling would overflow an int
+        int large = 1 << 30;
+        int max = Integer.MAX_VALUE - 8;
+        assertEquals(max, ByteKeyIndex.newCapacity(large + 1, large + 2L));
+        assertEquals(max, ByteKeyIndex.newCapacity(large, max));
+
+        try {
+            ByteKeyIndex.newCapacity(max, max + 1L);
+            fail("No exception");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+}
+
+// End ByteKeyIndexTest.java
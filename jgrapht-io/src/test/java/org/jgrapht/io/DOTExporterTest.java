@@ -153,6 +153,28 @@ public class DOTExporterTest
         assertEquals(correctResult, res);
     }
 
+    public void testEdgeIterator()
+    {
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        g.addVertex(V1);
+        g.addVertex(V2);
+        g.addVertex(V3);
+        g.addEdge(V1, V2);
+        g.addEdge(V2, V3);
+        g.addEdge(V3, V1);
+
+        DOTExporter<String, DefaultEdge> exporter =
+            new DOTExporter<>(new StringComponentNameProvider<>(), null, null);
+        StringWriter writer = new StringWriter();
+        exporter.exportGraph(
+            g, g.edgeSet().stream().filter(e -> !g.getEdgeTarget(e).equals(V1)).iterator(),
+            writer);
+
+        String expected = "digraph G {" + NL + "  v1;" + NL + "  v2;" + NL + "  v3;" + NL
+            + "  v1 -> v2;" + NL + "  v2 -> v3;" + NL + "}" + NL;
+        assertEquals(expected, writer.toString());
+    }
+
 }
 
 // End DOTExporterTest.java
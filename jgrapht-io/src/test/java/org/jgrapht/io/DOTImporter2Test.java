@@ -18,11 +18,14 @@
 package org.jgrapht.io;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.jgrapht.Graphs;
@@ -517,6 +520,75 @@ public class DOTImporter2Test
         assertEquals("<h1/>", vertexAttributes.get("a0").get("name"));
     }
 
+    @Test
+    public void testFastMode()
+        throws ImportException
+    {
+        // @formatter:off
+        String input = "digraph G {" + NL +
+                       "  node [color=red];" + NL +
+                       "  a0 -> { a00 -> a11 } -> b0 -> { b00 -> b11 }" + NL +
+                       "  subgraph cluster { edge [weight=2.0]; c0 -> c1 [label=\"x\"] }" + NL +
+                       "  c1 [shape=box]; c1 -> a0;" + NL +
+                       "}";
+        // @formatter:on
+
+        VertexProvider<String> vp = (a, b) -> a;
+        EdgeProvider<String, DefaultEdge> ep = (f, t, l, a) -> new DefaultEdge();
+        DOTImporter<String, DefaultEdge> importer = new DOTImporter<String, DefaultEdge>(vp, ep);
+        DirectedPseudograph<String, DefaultEdge> expected =
+            new DirectedPseudograph<String, DefaultEdge>(DefaultEdge.class);
+        importer.importGraph(expected, new StringReader(input));
+
+        importer.setFastMode(true);
+        assertTrue(importer.isFastMode());
+        DirectedPseudograph<String, DefaultEdge> graph =
+            new DirectedPseudograph<String, DefaultEdge>(DefaultEdge.class);
+        importer.importGraph(graph, new StringReader(input));
+        assertEquals(expected.toString(), graph.toString());
+
+        try {
+            importer.importGraph(
+                new DirectedPseudograph<String, DefaultEdge>(DefaultEdge.class),
+                new StringReader("digraph G { a -> ; }"));
+            fail("Managed to import wrong input");
+        } catch (ImportException e) {
+            assertTrue(e.getMessage().contains("line 1"));
+        }
+    }
+
+    @Test
+    public void testFastModeUpdatesOnce()
+    {
+        String input = "digraph G { label=x; a [color=red]; a [shape=box]; b -> a; a -> ; }";
+
+        for (boolean fastMode : new boolean[] { false, true }) {
+            List<String> updates = new ArrayList<>();
+            DOTImporter<String, DefaultEdge> importer = new DOTImporter<String, DefaultEdge>(
+                (l, a) -> {
+                    updates.add("create " + l);
+                    return l;
+                }, (f, t, l, a) -> new DefaultEdge(),
+                (v, a) -> updates.add("vertex " + v + " " + a),
+                (g, a) -> updates.add("graph " + a));
+            importer.setFastMode(fastMode);
+            DirectedPseudograph<String, DefaultEdge> graph =
+                new DirectedPseudograph<String, DefaultEdge>(DefaultEdge.class);
+            try {
+                importer.importGraph(graph, new StringReader(input));
+                fail("Managed to import wrong input");
+            } catch (ImportException e) {
+            }
+            assertEquals(
+                Arrays.asList(
+                    "graph {ID=G}", "graph {label=x}", "create a", "vertex a {shape=box}",
+                    "create b"),
+                updates);
+            assertEquals(2, graph.vertexSet().size());
+            assertEquals(1, graph.edgeSet().size());
+        }
+    }
+
     @Test
     public void testError()
         throws ImportException
@@ -0,0 +1,165 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+import junit.framework.*;
+
+/**
+ * Tests for {@link FastCSVImporter}.
+ *
+ * @author agent
+ */
+public class FastCSVImporterTest
+    extends TestCase
+{
+
+    private static FastCSVImporter<String, String> createImporter(char delimiter)
+    {
+        return new FastCSVImporter<>(
+            (l, a) -> l, (f, t, l, a) -> f + "->" + t, CSVFormat.ADJACENCY_LIST, delimiter);
+    }
+
+    private static Graph<String, String> createGraph()
+    {
+        return new DirectedPseudograph<>((f, t) -> f + "->" + t);
+    }
+
+    private static Graph<String, String> readGraph(String input, char delimiter)
+        throws ImportException
+    {
+        Graph<String, String> g = createGraph();
+        createImporter(delimiter).importGraph(g, new StringReader(input));
+        return g;
+    }
+
+    private static void assertSameGraph(Graph<String, String> expected, Graph<String, String> g)
+    {
+        assertEquals(new ArrayList<>(expected.vertexSet()), new ArrayList<>(g.vertexSet()));
+        assertEquals(new ArrayList<>(expected.edgeSet()), new ArrayList<>(g.edgeSet()));
+    }
+
+    public void testSameAsCSVImporter()
+        throws ImportException
+    {
+        // @formatter:off
+        String input = "1;2;3\n"
+                     + "\"a;b\";\"x\"\"y\";1\n"
+                     + "3;\"plain\"\n"
+                     + "4\n"
+                     + "αβ;1;1\n";
+        // @formatter:on
+
+        Graph<String, String> expected = createGraph();
+        new CSVImporter<String, String>(
+            (l, a) -> l, (f, t, l, a) -> f + "->" + t, CSVFormat.ADJACENCY_LIST, ';')
+                .importGraph(expected, new StringReader(input));
+
+        Graph<String, String> g = readGraph(input, ';');
+        assertSameGraph(expected, g);
+        assertTrue(g.containsVertex("a;b"));
+        assertTrue(g.containsVertex("x\"y"));
+    }
+
+    public void testLineEndings()
+        throws ImportException
+    {
+        Graph<String, String> g = readGraph("1,2\r\n\n2,3\r\n\r\n3,1", ',');
+        assertEquals(3, g.vertexSet().size());
+        assertEquals(3, g.edgeSet().size());
+        assertTrue(g.containsEdge("3", "1"));
+    }
+
+    public void testInputStream()
+        throws ImportException
+    {
+        Graph<String, String> g = createGraph();
+        createImporter(',').importGraph(
+            g, new ByteArrayInputStream("1,2,3\n2,3\n".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(3, g.vertexSet().size());
+        assertEquals(3, g.edgeSet().size());
+    }
+
+    public void testErrors()
+    {
+        String[] inputs = { "1,2\n1,\n", ",2\n", "1,\"2\n", "1,\"2\"3\n", "1,2\r3\n", "1,2\"\n" };
+        for (String input : inputs) {
+            try {
+                readGraph(input, ',');
+                fail("Accepted invalid input: " + input);
+            } catch (ImportException e) {
+                // expected
+            }
+        }
+        try {
+            createImporter(',').setFormat(CSVFormat.MATRIX);
+            fail("Matrix format is not supported");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    public void testParallel()
+        throws ImportException, IOException
+    {
+        File file = File.createTempFile("edges", ".csv");
+        file.deleteOnExit();
+        Random rng = new Random(17);
+        try (Writer w = new BufferedWriter(
+            new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)))
+        {
+            for (int i = 0; i < 300000; i++) {
+                w.write("v" + rng.nextInt(50000));
+                int targets = rng.nextInt(3);
+                for (int j = 0; j < targets; j++) {
+                    w.write(",");
+                    if (rng.nextInt(10) == 0) {
+                        w.write("\"w," + rng.nextInt(1000) + "\"");
+                    } else {
+                        w.write("v" + rng.nextInt(50000));
+                    }
+                }
+                w.write(i % 7 == 0 ? "\r\n" : "\n");
+            }
+        }
+        assertTrue(file.length() > 3 << 20);
+
+        FastCSVImporter<String, String> importer = createImporter(',');
+        Graph<String, String> expected = createGraph();
+        importer.importGraph(expected, file);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            importer.setForkJoinPool(pool);
+            Graph<String, String> g = createGraph();
+            importer.importGraph(g, file);
+            assertSameGraph(expected, g);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
+
+// End FastCSVImporterTest.java
@@ -37,6 +37,14 @@ public class GmlImporterTest
     public <E> Graph<String, E> readGraph(
         String input, Class<? extends E> edgeClass, boolean directed, boolean weighted)
         throws ImportException
+    {
+        return readGraph(input, edgeClass, directed, weighted, false);
+    }
+
+    public <E> Graph<String, E> readGraph(
+        String input, Class<? extends E> edgeClass, boolean directed, boolean weighted,
+        boolean fastMode)
+        throws ImportException
     {
         Graph<String, E> g;
         if (directed) {
@@ -55,6 +63,7 @@ public class GmlImporterTest
 
         GmlImporter<String, E> importer = new GmlImporter<String, E>(
             (l, a) -> l, (f, t, l, a) -> g.getEdgeFactory().createEdge(f, t));
+        importer.setFastMode(fastMode);
         importer.importGraph(g, new StringReader(input));
 
         return g;
@@ -457,6 +466,64 @@ public class GmlImporterTest
         }
     }
 
+    public void testFastMode()
+        throws ImportException
+    {
+        // @formatter:off
+        String input = "graph [\n"
+                     + "  directed 1\n"
+                     + "  edge [ source 3 target 1 weight 3.0 ]\n"
+                     + "  node [ id 1 label \"one\" ]\n"
+                     + "  node [ id 2 ]\n"
+                     + "  node [ ]\n"
+                     + "  edge [ source 1 target 2 weight 2.0 ]\n"
+                     + "  edge [ source 2 target 2 attrs [ source 1 ] ]\n"
+                     + "  node [ id 3 ]\n"
+                     + "]";
+        // @formatter:on
+
+        Graph<String, DefaultWeightedEdge> expected =
+            readGraph(input, DefaultWeightedEdge.class, true, true);
+        Graph<String, DefaultWeightedEdge> g =
+            readGraph(input, DefaultWeightedEdge.class, true, true, true);
+
+        assertEquals(expected.vertexSet(), g.vertexSet());
+        assertEquals(4, g.vertexSet().size());
+        assertTrue(g.containsVertex("4"));
+        assertEquals(3, g.edgeSet().size());
+        assertEquals(2.0, g.getEdgeWeight(g.getEdge("1", "2")));
+        assertEquals(3.0, g.getEdgeWeight(g.getEdge("3", "1")));
+        assertTrue(g.containsEdge("2", "2"));
+    }
+
+    public void testFastModeErrors()
+    {
+        String[] inputs = new String[] { "graph [ [ node ] ]", "graph [ node [ id 1 ] ",
+            "graph [ edge [ source 1 target 2 ] ]" };
+        for (String input : inputs) {
+            try {
+                readGraph(input, DefaultEdge.class, false, false, true);
+                fail("Managed to import wrong input");
+            } catch (ImportException e) {
+            }
+        }
+
+        // the failed first stage does not create any vertex
+        List<String> created = new ArrayList<>();
+        Graph<String, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        GmlImporter<String, DefaultEdge> importer = new GmlImporter<String, DefaultEdge>((l, a) -> {
+            created.add(l);
+            return l;
+        }, (f, t, l, a) -> g.getEdgeFactory().createEdge(f, t));
+        importer.setFastMode(true);
+        try {
+            importer.importGraph(g, new StringReader("graph [ node [ id 1 ] node [ id 2 ] [ ]"));
+            fail("Managed to import wrong input");
+        } catch (ImportException e) {
+        }
+        assertEquals(Arrays.asList("1", "2"), created);
+    }
+
     public void testExportImport()
         throws ImportException, ExportException, UnsupportedEncodingException
     {
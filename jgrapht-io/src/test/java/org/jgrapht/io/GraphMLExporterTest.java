@@ -17,14 +17,21 @@
  */
 package org.jgrapht.io;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 import org.custommonkey.xmlunit.XMLAssert;
 import org.jgrapht.Graph;
 import org.jgrapht.graph.DefaultEdge;
 import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jgrapht.graph.MaskSubgraph;
 import org.jgrapht.graph.SimpleDirectedGraph;
 import org.jgrapht.graph.SimpleGraph;
 import org.jgrapht.graph.SimpleWeightedGraph;
@@ -655,6 +662,96 @@ public class GraphMLExporterTest
         XMLAssert.assertXMLEqual(output, res);
     }
 
+    public void testEdgeIteratorAndSubgraph()
+        throws Exception
+    {
+        String output =
+            // @formatter:off
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + NL
+                + "<graphml xmlns=\"http://graphml.graphdrawing.org/xmlns\" "
+                + "xsi:schemaLocation=\"http://graphml.graphdrawing.org/xmlns "
+                + "http://graphml.graphdrawing.org/xmlns/1.0/graphml.xsd\" "
+                + "xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\">" + NL
+                + "<key id=\"vertex_label_key\" for=\"node\" attr.name=\"Vertex Label\" "
+                + "attr.type=\"string\"/>" + NL
+                + "<graph edgedefault=\"directed\">" + NL
+                + "<node id=\"v1\">" + NL
+                + "<data key=\"vertex_label_key\">a&lt;b&amp;\"c\"</data>" + NL
+                + "</node>" + NL
+                + "<node id=\"v2\">" + NL
+                + "<data key=\"vertex_label_key\">a&lt;b&amp;\"c\"</data>" + NL
+                + "</node>" + NL
+                + "<edge id=\"1\" source=\"v2\" target=\"v1\"/>" + NL
+                + "</graph>" + NL
+                + "</graphml>" + NL;
+            // @formatter:on
+
+        Graph<String, DefaultEdge> g =
+            new SimpleDirectedGraph<String, DefaultEdge>(DefaultEdge.class);
+        g.addVertex(V1);
+        g.addVertex(V2);
+        g.addVertex(V3);
+        g.addEdge(V1, V2);
+        g.addEdge(V2, V1);
+        g.addEdge(V3, V1);
+
+        GraphMLExporter<String, DefaultEdge> exporter = new GraphMLExporter<>(
+            v -> v, v -> "a<b&\"c\"", new IntegerComponentNameProvider<>(), null);
+
+        // only the edges returned by the iterator
+        StringWriter writer = new StringWriter();
+        exporter.exportGraph(
+            new MaskSubgraph<>(g, v -> v.equals(V3), e -> false),
+            Arrays.asList(g.getEdge(V2, V1)).iterator(), writer);
+        XMLAssert.assertXMLEqual(output, writer.toString());
+
+        // same output from a subgraph view which masks the other edges
+        exporter = new GraphMLExporter<>(
+            v -> v, v -> "a<b&\"c\"", new IntegerComponentNameProvider<>(), null);
+        writer = new StringWriter();
+        exporter.exportGraph(
+            new MaskSubgraph<>(g, v -> v.equals(V3), e -> e != g.getEdge(V2, V1)), writer);
+        XMLAssert.assertXMLEqual(output, writer.toString());
+    }
+
+    public void testCompression()
+        throws Exception
+    {
+        Graph<String, DefaultEdge> g = new SimpleGraph<String, DefaultEdge>(DefaultEdge.class);
+        for (int i = 0; i < 1000; i++) {
+            g.addVertex("v" + i);
+            if (i > 0) {
+                g.addEdge("v" + i, "v" + (i - 1));
+            }
+        }
+
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        new GraphMLExporter<String, DefaultEdge>().exportGraph(g, plain);
+
+        for (Compression compression : Compression.values()) {
+            ByteArrayOutputStream os = new ByteArrayOutputStream();
+            new GraphMLExporter<String, DefaultEdge>().exportGraph(g, os, compression);
+            InputStream in = new ByteArrayInputStream(os.toByteArray());
+            if (compression == Compression.GZIP) {
+                in = new GZIPInputStream(in);
+            } else if (compression == Compression.DEFLATE) {
+                in = new InflaterInputStream(in);
+            } else {
+                assertEquals(plain.size(), os.size());
+            }
+            ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                decompressed.write(buffer, 0, n);
+            }
+            assertTrue(Arrays.equals(plain.toByteArray(), decompressed.toByteArray()));
+            if (compression != Compression.NONE) {
+                assertTrue(os.size() < plain.size() / 4);
+            }
+        }
+    }
+
 }
 
 // End GraphMLExporterTest.java
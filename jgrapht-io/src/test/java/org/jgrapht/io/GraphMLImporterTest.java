@@ -923,6 +923,118 @@ public class GraphMLImporterTest
             new HashMap<E, Map<String, String>>());
     }
 
+    public void testStreamingForwardReferences()
+        throws ImportException
+    {
+        // @formatter:off
+        String input =
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + NL +
+            "<graphml xmlns=\"http://graphml.graphdrawing.org/xmlns\"" + NL +
+            "xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"" + NL +
+            "xsi:schemaLocation=\"http://graphml.graphdrawing.org/xmlns " +
+            "http://graphml.graphdrawing.org/xmlns/1.0/graphml.xsd\">" + NL +
+            "<key id=\"d0\" for=\"node\" attr.name=\"color\" attr.type=\"string\">" + NL +
+            "<default>yellow</default>" + NL +
+            "</key>" + NL +
+            "<key id=\"d1\" for=\"edge\" attr.name=\"weight\" attr.type=\"double\">" + NL +
+            "<default>2.0</default>" + NL +
+            "</key>" + NL +
+            "<graph id=\"G\" edgedefault=\"directed\">" + NL +
+            "<node id=\"1\">" + NL +
+            "<data key=\"d0\">green</data>" + NL +
+            "</node>" + NL +
+            "<edge source=\"1\" target=\"2\">" + NL +
+            "<data key=\"d1\">3.0</data>" + NL +
+            "</edge>" + NL +
+            "<edge source=\"3\" target=\"2\"/>" + NL +
+            "<edge source=\"1\" target=\"1\"/>" + NL +
+            "<node id=\"2\"/>" + NL +
+            "<node id=\"3\"/>" + NL +
+            "</graph>" + NL +
+            "</graphml>";
+        // @formatter:on
+
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Map<String, Map<String, String>> vertexAttributes = new HashMap<>();
+        Map<DefaultWeightedEdge, Map<String, String>> edgeAttributes = new HashMap<>();
+        GraphMLImporter<String, DefaultWeightedEdge> importer =
+            createGraphImporter(g, vertexAttributes, edgeAttributes);
+        importer.setStreaming(true);
+        importer.importGraph(g, new StringReader(input));
+
+        assertEquals(3, g.vertexSet().size());
+        assertEquals(3, g.edgeSet().size());
+        assertEquals(3.0, g.getEdgeWeight(g.getEdge("1", "2")), 1e-9);
+        assertEquals(2.0, g.getEdgeWeight(g.getEdge("3", "2")), 1e-9);
+        assertEquals(2.0, g.getEdgeWeight(g.getEdge("1", "1")), 1e-9);
+        assertEquals("green", vertexAttributes.get("1").get("color"));
+        assertEquals("yellow", vertexAttributes.get("3").get("color"));
+    }
+
+    public void testStreamingMissingVertex()
+    {
+        // @formatter:off
+        String input =
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + NL +
+            "<graphml xmlns=\"http://graphml.graphdrawing.org/xmlns\">" + NL +
+            "<graph id=\"G\" edgedefault=\"undirected\">" + NL +
+            "<node id=\"1\"/>" + NL +
+            "<edge source=\"1\" target=\"2\"/>" + NL +
+            "</graph>" + NL +
+            "</graphml>";
+        // @formatter:on
+
+        Graph<String, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        GraphMLImporter<String, DefaultEdge> importer =
+            createGraphImporter(g, new HashMap<>(), new HashMap<>());
+        importer.setStreaming(true);
+        importer.setSchemaValidation(false);
+        try {
+            importer.importGraph(g, new StringReader(input));
+            fail("No!");
+        } catch (ImportException e) {
+            assertEquals("Target vertex 2 not found", e.getCause().getMessage());
+        }
+    }
+
+    public void testStreamingToConsumersWithoutValidation()
+        throws ImportException
+    {
+        // @formatter:off
+        String input =
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + NL +
+            "<graphml xmlns=\"http://graphml.graphdrawing.org/xmlns\">" + NL +
+            "<graph id=\"G\" edgedefault=\"undirected\">" + NL +
+            "<edge source=\"2\" target=\"1\"/>" + NL +
+            "<node id=\"1\"/>" + NL +
+            "<unknown/>" + NL +
+            "<node id=\"2\"/>" + NL +
+            "<edge source=\"1\" target=\"2\"/>" + NL +
+            "</graph>" + NL +
+            "</graphml>";
+        // @formatter:on
+
+        GraphMLImporter<String, String> importer =
+            new GraphMLImporter<>((label, attributes) -> label, (from, to, label, attributes) -> {
+                return from + "-" + to;
+            });
+        Graph<String, String> g = new Pseudograph<>((from, to) -> from + "-" + to);
+        try {
+            importer.importGraph(g, new StringReader(input));
+            fail("Schema validation should fail");
+        } catch (ImportException e) {
+            // expected
+        }
+
+        importer.setSchemaValidation(false);
+        List<String> vertices = new ArrayList<>();
+        List<String> edges = new ArrayList<>();
+        importer.importGraph(new StringReader(input), vertices::add, edges::add);
+        assertEquals(Arrays.asList("1", "2"), vertices);
+        assertEquals(Arrays.asList("2-1", "1-2"), edges);
+    }
+
     public <E> Graph<String, E> readGraph(
         String input, Graph<String, E> g, VertexProvider<String> vp, EdgeProvider<String, E> ep)
         throws ImportException
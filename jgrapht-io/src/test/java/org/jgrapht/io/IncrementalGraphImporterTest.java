@@ -0,0 +1,137 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.io.IncrementalGraphImporter.*;
+
+import junit.framework.*;
+
+/**
+ * Tests for {@link IncrementalGraphImporter}.
+ *
+ * @author agent
+ */
+public class IncrementalGraphImporterTest
+    extends TestCase
+{
+
+    private static IncrementalGraphImporter<String, DefaultWeightedEdge> createImporter(
+        Graph<String, DefaultWeightedEdge> g)
+    {
+        return new IncrementalGraphImporter<>(
+            g, (l, a) -> l, (f, t, l, a) -> new DefaultWeightedEdge());
+    }
+
+    public void testBatches()
+        throws ImportException
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        g.addVertex("a");
+
+        IncrementalGraphImporter<String, DefaultWeightedEdge> importer = createImporter(g);
+        importer.setBatchSize(3);
+        List<BatchStatistics> batches = new ArrayList<>();
+        importer.setBatchListener(batches::add);
+
+        importer.addEdge("a", "b", 2d);
+        importer.addEdge("b", "c");
+        assertEquals(2, importer.getPendingCount());
+        assertEquals(0, g.edgeSet().size());
+        assertNull(importer.getLastBatchStatistics());
+
+        // completes the first batch, the duplicate edge is rejected by the graph
+        importer.addEdge("a", "b", 5d);
+        assertEquals(0, importer.getPendingCount());
+        assertEquals(1, batches.size());
+        BatchStatistics first = batches.get(0);
+        assertEquals(1, first.getBatch());
+        assertEquals(3, first.getRecords());
+        assertEquals(2, first.getVerticesAdded());
+        assertEquals(2, first.getEdgesAdded());
+        assertTrue(first.getNanos() >= 0);
+        assertTrue(first.getRecordsPerSecond() > 0);
+        assertEquals(2d, g.getEdgeWeight(g.getEdge("a", "b")));
+        assertEquals(Graph.DEFAULT_EDGE_WEIGHT, g.getEdgeWeight(g.getEdge("b", "c")));
+
+        importer.addVertex("d");
+        importer.addEdge("c", "a", 0.5, Collections.singletonMap("color", "red"));
+        importer.flush();
+        importer.flush();
+        assertEquals(2, importer.getBatchCount());
+        assertSame(batches.get(1), importer.getLastBatchStatistics());
+        assertEquals(2, batches.get(1).getRecords());
+        assertEquals(1, batches.get(1).getVerticesAdded());
+        assertEquals(1, batches.get(1).getEdgesAdded());
+
+        assertEquals(new HashSet<>(Arrays.asList("a", "b", "c", "d")), g.vertexSet());
+        assertEquals(3, g.edgeSet().size());
+        assertEquals(0.5, g.getEdgeWeight(g.getEdge("c", "a")));
+    }
+
+    public void testFailedBatch()
+        throws ImportException
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        IncrementalGraphImporter<String, DefaultWeightedEdge> importer = createImporter(g);
+        importer.setBatchSize(10);
+
+        importer.addEdge("a", "b");
+        importer.addEdge("b", "b");
+        importer.addEdge("b", "c");
+        try {
+            importer.flush();
+            fail("Self-loops are not allowed");
+        } catch (ImportException e) {
+            // expected
+        }
+        // the batch is rolled back and not counted
+        assertEquals(0, importer.getPendingCount());
+        assertEquals(0, importer.getBatchCount());
+        assertNull(importer.getLastBatchStatistics());
+        assertEquals(0, g.vertexSet().size());
+        assertEquals(0, g.edgeSet().size());
+
+        // the importer remains usable
+        importer.addEdge("b", "c");
+        importer.flush();
+        assertTrue(g.containsEdge("b", "c"));
+        assertEquals(2, g.vertexSet().size());
+        assertEquals(1, importer.getBatchCount());
+        assertEquals(1, importer.getLastBatchStatistics().getRecords());
+        assertEquals(2, importer.getLastBatchStatistics().getVerticesAdded());
+    }
+
+    public void testInvalidBatchSize()
+    {
+        try {
+            createImporter(new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class))
+                .setBatchSize(0);
+            fail("Batch size must be positive");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+}
+
+// End IncrementalGraphImporterTest.java
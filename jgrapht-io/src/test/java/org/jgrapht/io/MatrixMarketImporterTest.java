@@ -0,0 +1,243 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.io.*;
+import java.nio.charset.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+import junit.framework.*;
+
+/**
+ * Tests for {@link MatrixMarketImporter} and {@link MatrixMarketExporter}.
+ *
+ * @author agent
+ */
+public class MatrixMarketImporterTest
+    extends TestCase
+{
+    private static final String NL = System.getProperty("line.separator");
+
+    private static <E> MatrixMarketImporter<String, E> createImporter(Class<E> edgeClass)
+    {
+        return new MatrixMarketImporter<>((l, a) -> l, (f, t, l, a) -> {
+            try {
+                return edgeClass.newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static InputStream stream(String input)
+    {
+        return new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void testWeightedGeneral()
+        throws ImportException
+    {
+        // @formatter:off
+        String input = "%%MatrixMarket matrix coordinate real general" + NL
+                     + "% a comment" + NL
+                     + NL
+                     + "3 3 3" + NL
+                     + "1 2 1.5" + NL
+                     + "2 3 -2" + NL
+                     + "3 3 4e-1";
+        // @formatter:on
+
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        createImporter(DefaultWeightedEdge.class).importGraph(g, new StringReader(input));
+
+        assertEquals(3, g.vertexSet().size());
+        assertEquals(3, g.edgeSet().size());
+        assertEquals(1.5, g.getEdgeWeight(g.getEdge("1", "2")));
+        assertEquals(-2d, g.getEdgeWeight(g.getEdge("2", "3")));
+        assertEquals(0.4, g.getEdgeWeight(g.getEdge("3", "3")));
+        assertNull(g.getEdge("2", "1"));
+    }
+
+    public void testSymmetricPattern()
+        throws ImportException
+    {
+        // @formatter:off
+        String input = "%%MatrixMarket MATRIX Coordinate pattern symmetric" + NL
+                     + "4 4 3" + NL
+                     + "2 1" + NL
+                     + "3 1" + NL
+                     + "4 4" + NL;
+        // @formatter:on
+
+        Graph<String, DefaultEdge> directed = new DirectedPseudograph<>(DefaultEdge.class);
+        createImporter(DefaultEdge.class).importGraph(directed, stream(input));
+        assertEquals(4, directed.vertexSet().size());
+        assertEquals(5, directed.edgeSet().size());
+        assertTrue(directed.containsEdge("1", "2"));
+        assertTrue(directed.containsEdge("2", "1"));
+        assertTrue(directed.containsEdge("1", "3"));
+        assertTrue(directed.containsEdge("4", "4"));
+
+        Graph<String, DefaultEdge> undirected = new Pseudograph<>(DefaultEdge.class);
+        createImporter(DefaultEdge.class).importGraph(undirected, stream(input));
+        assertEquals(3, undirected.edgeSet().size());
+        assertTrue(undirected.containsEdge("1", "2"));
+    }
+
+    public void testSkewSymmetric()
+        throws ImportException
+    {
+        // @formatter:off
+        String input = "%%MatrixMarket matrix coordinate integer skew-symmetric" + NL
+                     + "2 2 1" + NL
+                     + "2 1 3" + NL;
+        // @formatter:on
+
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        createImporter(DefaultWeightedEdge.class).importGraph(g, stream(input));
+        assertEquals(3d, g.getEdgeWeight(g.getEdge("2", "1")));
+        assertEquals(-3d, g.getEdgeWeight(g.getEdge("1", "2")));
+
+        try {
+            createImporter(DefaultWeightedEdge.class).importGraph(
+                new WeightedPseudograph<>(DefaultWeightedEdge.class), stream(input));
+            fail("Skew-symmetric matrices require a directed graph");
+        } catch (ImportException e) {
+            // expected
+        }
+    }
+
+    public void testIntGraph()
+        throws ImportException
+    {
+        // @formatter:off
+        String input = "%%MatrixMarket matrix coordinate real symmetric" + NL
+                     + "3 3 3" + NL
+                     + "1 1 1.0" + NL
+                     + "2 1 2.0" + NL
+                     + "3 2 3.0" + NL;
+        // @formatter:on
+
+        IntDirectedGraph g = MatrixMarketImporter.importIntGraph(stream(input));
+        assertEquals(3, g.vertexCount());
+        assertEquals(5, g.edgeCount());
+        assertEquals(1d, g.getEdgeWeight(g.getEdge(0, 0).intValue()));
+        assertEquals(2d, g.getEdgeWeight(g.getEdge(1, 0).intValue()));
+        assertEquals(2d, g.getEdgeWeight(g.getEdge(0, 1).intValue()));
+        assertEquals(3d, g.getEdgeWeight(g.getEdge(1, 2).intValue()));
+        assertEquals(2, g.outDegreeOf(1));
+    }
+
+    public void testLongLines()
+        throws ImportException
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append("%%MatrixMarket matrix coordinate pattern general").append(NL);
+        sb.append("% ");
+        for (int i = 0; i < 100000; i++) {
+            sb.append('x');
+        }
+        sb.append(NL);
+        sb.append("200 200 20000").append(NL);
+        for (int i = 0; i < 20000; i++) {
+            sb.append(i % 200 + 1).append(' ').append(i / 200 + 1).append(NL);
+        }
+
+        IntDirectedGraph g = MatrixMarketImporter.importIntGraph(stream(sb.toString()));
+        assertEquals(200, g.vertexCount());
+        assertEquals(20000, g.edgeCount());
+        assertEquals(100, g.outDegreeOf(0));
+    }
+
+    public void testRoundTrip()
+        throws ExportException, ImportException
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, java.util.Arrays.asList("1", "2", "3"));
+        g.setEdgeWeight(g.addEdge("1", "2"), 0.25);
+        g.setEdgeWeight(g.addEdge("3", "2"), 7d);
+        g.setEdgeWeight(g.addEdge("3", "3"), -1d);
+
+        MatrixMarketExporter<String, DefaultWeightedEdge> exporter =
+            new MatrixMarketExporter<>(true);
+        StringWriter w = new StringWriter();
+        exporter.exportGraph(g, w);
+        // @formatter:off
+        String expected = "%%MatrixMarket matrix coordinate real symmetric" + NL
+                        + "3 3 3" + NL
+                        + "2 1 0.25" + NL
+                        + "3 2 7.0" + NL
+                        + "3 3 -1.0" + NL;
+        // @formatter:on
+        assertEquals(expected, w.toString());
+
+        Graph<String, DefaultWeightedEdge> imported =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        createImporter(DefaultWeightedEdge.class)
+            .importGraph(imported, new StringReader(w.toString()));
+        assertEquals(g.vertexSet(), imported.vertexSet());
+        assertEquals(3, imported.edgeSet().size());
+        assertEquals(0.25, imported.getEdgeWeight(imported.getEdge("1", "2")));
+        assertEquals(7d, imported.getEdgeWeight(imported.getEdge("2", "3")));
+        assertEquals(-1d, imported.getEdgeWeight(imported.getEdge("3", "3")));
+
+        // general pattern output of an undirected graph
+        exporter.setExportEdgeWeights(false);
+        exporter.setSymmetric(false);
+        w = new StringWriter();
+        exporter.exportGraph(g, w);
+        // @formatter:off
+        expected = "%%MatrixMarket matrix coordinate pattern general" + NL
+                 + "3 3 5" + NL
+                 + "1 2" + NL
+                 + "2 1" + NL
+                 + "3 2" + NL
+                 + "2 3" + NL
+                 + "3 3" + NL;
+        // @formatter:on
+        assertEquals(expected, w.toString());
+    }
+
+    public void testInvalidInput()
+    {
+        String[] inputs = new String[] { "3 3 1" + NL + "1 1" + NL,
+            "%%MatrixMarket matrix array real general" + NL + "2 2" + NL,
+            "%%MatrixMarket matrix coordinate complex general" + NL + "2 2 0" + NL,
+            "%%MatrixMarket matrix coordinate real general" + NL + "2 3 0" + NL,
+            "%%MatrixMarket matrix coordinate real general" + NL + "2 2 1" + NL + "1 3 1" + NL,
+            "%%MatrixMarket matrix coordinate real general" + NL + "2 2 2" + NL + "1 2 1" + NL,
+            "%%MatrixMarket matrix coordinate real general" + NL + "2 2 1" + NL + "1 2 x" + NL,
+            "%%MatrixMarket matrix coordinate pattern general" + NL + "2 2 1" + NL + "1 2 1"
+                + NL };
+        for (String input : inputs) {
+            try {
+                MatrixMarketImporter.importIntGraph(stream(input));
+                fail("Invalid input: " + input);
+            } catch (ImportException e) {
+                // expected
+            }
+        }
+    }
+}
+
+// End MatrixMarketImporterTest.java
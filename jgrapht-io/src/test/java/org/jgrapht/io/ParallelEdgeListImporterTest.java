@@ -0,0 +1,297 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.io.ParallelEdgeListImporter.*;
+
+import junit.framework.*;
+
+/**
+ * Tests for {@link ParallelEdgeListImporter}.
+ *
+ * @author agent
+ */
+public class ParallelEdgeListImporterTest
+    extends TestCase
+{
+
+    private static ParallelEdgeListImporter<String, DefaultWeightedEdge> createImporter(
+        Format format)
+    {
+        return new ParallelEdgeListImporter<>(
+            (l, a) -> l, (f, t, l, a) -> new DefaultWeightedEdge(), format);
+    }
+
+    private static Graph<String, DefaultWeightedEdge> createGraph()
+    {
+        return new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+    }
+
+    private static void assertSameGraph(
+        Graph<String, DefaultWeightedEdge> expected, Graph<String, DefaultWeightedEdge> g)
+    {
+        assertEquals(new ArrayList<>(expected.vertexSet()), new ArrayList<>(g.vertexSet()));
+        assertEquals(expected.edgeSet().size(), g.edgeSet().size());
+        Iterator<DefaultWeightedEdge> it = g.edgeSet().iterator();
+        for (DefaultWeightedEdge e : expected.edgeSet()) {
+            DefaultWeightedEdge other = it.next();
+            assertEquals(expected.getEdgeSource(e), g.getEdgeSource(other));
+            assertEquals(expected.getEdgeTarget(e), g.getEdgeTarget(other));
+            assertEquals(expected.getEdgeWeight(e), g.getEdgeWeight(other));
+        }
+    }
+
+    private static List<String> edgeStrings(Graph<String, DefaultWeightedEdge> g)
+    {
+        List<String> result = new ArrayList<>();
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            result.add(g.getEdgeSource(e) + " " + g.getEdgeTarget(e) + " " + g.getEdgeWeight(e));
+        }
+        Collections.sort(result);
+        return result;
+    }
+
+    public void testEdgeList()
+        throws ImportException
+    {
+        // @formatter:off
+        String input = "# comment\n"
+                     + "a b 2.5\r\n"
+                     + "\n"
+                     + "  b\tc  \n"
+                     + "% comment\n"
+                     + "c a -1e3\n"
+                     + "αβ a 0.125";
+        // @formatter:on
+
+        ParallelEdgeListImporter<String, DefaultWeightedEdge> importer =
+            createImporter(Format.EDGE_LIST);
+        importer.setDefaultWeight(7d);
+        Graph<String, DefaultWeightedEdge> g = createGraph();
+        importer.importGraph(g, new StringReader(input));
+
+        assertEquals(Arrays.asList("a", "b", "c", "αβ"), new ArrayList<>(g.vertexSet()));
+        assertEquals(4, g.edgeSet().size());
+        assertEquals(2.5, g.getEdgeWeight(g.getEdge("a", "b")));
+        assertEquals(7d, g.getEdgeWeight(g.getEdge("b", "c")));
+        assertEquals(-1000d, g.getEdgeWeight(g.getEdge("c", "a")));
+        assertEquals(0.125, g.getEdgeWeight(g.getEdge("αβ", "a")));
+
+        Statistics statistics = importer.getStatistics();
+        assertEquals(input.getBytes(StandardCharsets.UTF_8).length, statistics.getBytes());
+        assertEquals(4, statistics.getVertexCount());
+        assertEquals(4, statistics.getEdgeCount());
+        assertEquals(1, statistics.getChunkCount());
+        assertTrue(statistics.getEdgesPerSecond() > 0);
+        assertTrue(statistics.getBytesPerSecond() > 0);
+    }
+
+    public void testSameAsDIMACSImporter()
+        throws ImportException
+    {
+        // @formatter:off
+        String input = "c a comment\n"
+                     + "p sp 5 4\n"
+                     + "a 1 2 3.5\n"
+                     + "c another comment\n"
+                     + "e 2 3\n"
+                     + "x ignored line\n"
+                     + "a 3 1 0.1\n"
+                     + "e 4 4 12\n";
+        // @formatter:on
+
+        Graph<String, DefaultWeightedEdge> expected = createGraph();
+        new DIMACSImporter<String, DefaultWeightedEdge>(
+            (l, a) -> l, (f, t, l, a) -> new DefaultWeightedEdge(), 2d)
+                .importGraph(expected, new StringReader(input));
+
+        ParallelEdgeListImporter<String, DefaultWeightedEdge> importer =
+            createImporter(Format.DIMACS);
+        importer.setDefaultWeight(2d);
+        Graph<String, DefaultWeightedEdge> g = createGraph();
+        importer.importGraph(
+            g, new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+        assertSameGraph(expected, g);
+        assertEquals(5, g.vertexSet().size());
+    }
+
+    public void testErrors()
+    {
+        String[][] inputs = { { "EDGE_LIST", "a b\na\n" }, { "EDGE_LIST", "a b 1 2\n" },
+            { "EDGE_LIST", "a b x\n" }, { "DIMACS", "e 1 2\np sp 2 1\n" },
+            { "DIMACS", "p sp 2 1\ne 1 3\n" }, { "DIMACS", "p sp 2 1\ne 1 b\n" },
+            { "DIMACS", "p sp -2 1\n" }, { "DIMACS", "c only a comment\n" } };
+        for (String[] input : inputs) {
+            try {
+                createImporter(Format.valueOf(input[0]))
+                    .importGraph(createGraph(), new StringReader(input[1]));
+                fail("Accepted invalid input: " + input[1]);
+            } catch (ImportException e) {
+                // expected
+            }
+        }
+    }
+
+    public void testParallel()
+        throws ImportException, IOException
+    {
+        File file = File.createTempFile("edges", ".txt");
+        file.deleteOnExit();
+        Random rng = new Random(17);
+        try (Writer w = new BufferedWriter(
+            new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)))
+        {
+            for (int i = 0; i < 300000; i++) {
+                w.write("v" + rng.nextInt(50000) + " v" + rng.nextInt(50000));
+                if (rng.nextBoolean()) {
+                    w.write(" " + rng.nextInt(1000) / 8d);
+                }
+                w.write(i % 7 == 0 ? "\r\n" : "\n");
+            }
+        }
+        assertTrue(file.length() > 3 << 20);
+
+        ParallelEdgeListImporter<String, DefaultWeightedEdge> importer =
+            createImporter(Format.EDGE_LIST);
+        Graph<String, DefaultWeightedEdge> expected = createGraph();
+        importer.importGraph(expected, file);
+        assertEquals(1, importer.getStatistics().getChunkCount());
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            importer.setForkJoinPool(pool);
+            Graph<String, DefaultWeightedEdge> g = createGraph();
+            importer.importGraph(g, file);
+            assertSameGraph(expected, g);
+
+            Statistics statistics = importer.getStatistics();
+            assertTrue(statistics.getChunkCount() > 1);
+            assertEquals(file.length(), statistics.getBytes());
+            assertEquals(300000, statistics.getEdgeCount());
+
+            CSRGraph<String, DefaultWeightedEdge> csr = importer.importCSRGraph(file, true, true);
+            assertEquals(new ArrayList<>(expected.vertexSet()), new ArrayList<>(csr.vertexSet()));
+            assertEquals(edgeStrings(expected), edgeStrings(csr));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public void testParallelDIMACS()
+        throws ImportException, IOException
+    {
+        File file = File.createTempFile("edges", ".dimacs");
+        file.deleteOnExit();
+        Random rng = new Random(33);
+        int n = 20000;
+        try (Writer w = new BufferedWriter(
+            new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)))
+        {
+            w.write("c random graph\np sp " + n + " 250000\n");
+            for (int i = 0; i < 250000; i++) {
+                w.write("a " + (1 + rng.nextInt(n)) + " " + (1 + rng.nextInt(n)));
+                w.write(" " + rng.nextInt(100000) / 1000d + "\n");
+            }
+        }
+        assertTrue(file.length() > 3 << 20);
+
+        Graph<String, DefaultWeightedEdge> expected = createGraph();
+        new DIMACSImporter<String, DefaultWeightedEdge>(
+            (l, a) -> l, (f, t, l, a) -> new DefaultWeightedEdge())
+                .importGraph(expected, file);
+
+        ParallelEdgeListImporter<String, DefaultWeightedEdge> importer =
+            createImporter(Format.DIMACS);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            importer.setForkJoinPool(pool);
+            Graph<String, DefaultWeightedEdge> g = createGraph();
+            importer.importGraph(g, file);
+            assertSameGraph(expected, g);
+            assertTrue(importer.getStatistics().getChunkCount() > 1);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public void testParallelDIMACSLongHeader()
+        throws ImportException, IOException
+    {
+        File file = File.createTempFile("edges", ".dimacs");
+        file.deleteOnExit();
+        int n = 1000;
+        try (Writer w = new BufferedWriter(
+            new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)))
+        {
+            // the problem line is not inside the first chunk
+            for (int i = 0; i < 50000; i++) {
+                w.write("c a long comment header, line " + i + " of the header\n");
+            }
+            w.write("p sp " + n + " 100000\n");
+            for (int i = 0; i < 100000; i++) {
+                w.write("a " + (1 + i % n) + " " + (1 + (i * 31) % n) + " " + i + "\n");
+            }
+        }
+        assertTrue(file.length() > 3 << 20);
+
+        ParallelEdgeListImporter<String, DefaultWeightedEdge> importer =
+            createImporter(Format.DIMACS);
+        Graph<String, DefaultWeightedEdge> expected = createGraph();
+        importer.importGraph(expected, file);
+        assertEquals(n, expected.vertexSet().size());
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            importer.setForkJoinPool(pool);
+            Graph<String, DefaultWeightedEdge> g = createGraph();
+            importer.importGraph(g, file);
+            assertSameGraph(expected, g);
+            Statistics statistics = importer.getStatistics();
+            assertTrue(statistics.getChunkCount() > 1);
+            assertEquals(file.length(), statistics.getBytes());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public void testStatisticsResetOnFailure()
+        throws ImportException
+    {
+        ParallelEdgeListImporter<String, DefaultWeightedEdge> importer =
+            createImporter(Format.EDGE_LIST);
+        importer.importGraph(createGraph(), new StringReader("a b\nb c\n"));
+        assertEquals(2, importer.getStatistics().getEdgeCount());
+
+        try {
+            importer.importGraph(createGraph(), new StringReader("a b\na\n"));
+            fail("Accepted invalid input");
+        } catch (ImportException e) {
+            // expected
+        }
+        assertNull(importer.getStatistics());
+    }
+}
+
+// End ParallelEdgeListImporterTest.java
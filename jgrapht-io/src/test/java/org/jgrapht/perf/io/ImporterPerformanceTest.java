@@ -0,0 +1,173 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.io;
+
+import java.io.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.io.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import junit.framework.*;
+
+/**
+ * A benchmark comparing the default and the fast mode of the DOT and GML importers on a random
+ * graph.
+ *
+ * @author agent
+ */
+public class ImporterPerformanceTest
+    extends TestCase
+{
+    public static final int PERF_BENCHMARK_VERTICES_COUNT = 10000;
+    public static final int PERF_BENCHMARK_EDGES_COUNT = 100000;
+
+    @State(Scope.Benchmark)
+    private static abstract class ImporterBenchmarkBase
+    {
+        public static final long SEED = 13l;
+
+        private String input;
+
+        abstract GraphExporter<Integer, DefaultEdge> createExporter();
+
+        abstract GraphImporter<String, DefaultEdge> createImporter();
+
+        @Setup
+        public void setup()
+            throws ExportException
+        {
+            GraphGenerator<Integer, DefaultEdge, Integer> generator = new GnmRandomGraphGenerator<>(
+                PERF_BENCHMARK_VERTICES_COUNT, PERF_BENCHMARK_EDGES_COUNT, SEED);
+            Graph<Integer, DefaultEdge> graph = new DirectedPseudograph<>(DefaultEdge.class);
+            int[] nextVertex = new int[] { 1 };
+            generator.generateGraph(graph, () -> nextVertex[0]++, null);
+
+            StringWriter writer = new StringWriter();
+            createExporter().exportGraph(graph, writer);
+            input = writer.toString();
+        }
+
+        @Benchmark
+        public Graph<String, DefaultEdge> run()
+            throws ImportException
+        {
+            Graph<String, DefaultEdge> graph = new DirectedPseudograph<>(DefaultEdge.class);
+            createImporter().importGraph(graph, new StringReader(input));
+            return graph;
+        }
+    }
+
+    private static abstract class DOTBenchmarkBase
+        extends ImporterBenchmarkBase
+    {
+        @Override
+        GraphExporter<Integer, DefaultEdge> createExporter()
+        {
+            return new DOTExporter<>();
+        }
+
+        DOTImporter<String, DefaultEdge> createDOTImporter()
+        {
+            return new DOTImporter<>((l, a) -> l, (f, t, l, a) -> new DefaultEdge());
+        }
+    }
+
+    private static abstract class GmlBenchmarkBase
+        extends ImporterBenchmarkBase
+    {
+        @Override
+        GraphExporter<Integer, DefaultEdge> createExporter()
+        {
+            return new GmlExporter<>();
+        }
+
+        GmlImporter<String, DefaultEdge> createGmlImporter()
+        {
+            return new GmlImporter<>((l, a) -> l, (f, t, l, a) -> new DefaultEdge());
+        }
+    }
+
+    public static class DOTDefaultModeBenchmark
+        extends DOTBenchmarkBase
+    {
+        @Override
+        GraphImporter<String, DefaultEdge> createImporter()
+        {
+            return createDOTImporter();
+        }
+    }
+
+    public static class DOTFastModeBenchmark
+        extends DOTBenchmarkBase
+    {
+        @Override
+        GraphImporter<String, DefaultEdge> createImporter()
+        {
+            DOTImporter<String, DefaultEdge> importer = createDOTImporter();
+            importer.setFastMode(true);
+            return importer;
+        }
+    }
+
+    public static class GmlDefaultModeBenchmark
+        extends GmlBenchmarkBase
+    {
+        @Override
+        GraphImporter<String, DefaultEdge> createImporter()
+        {
+            return createGmlImporter();
+        }
+    }
+
+    public static class GmlFastModeBenchmark
+        extends GmlBenchmarkBase
+    {
+        @Override
+        GraphImporter<String, DefaultEdge> createImporter()
+        {
+            GmlImporter<String, DefaultEdge> importer = createGmlImporter();
+            importer.setFastMode(true);
+            return importer;
+        }
+    }
+
+    public void testImporterBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + DOTDefaultModeBenchmark.class.getSimpleName() + ".*")
+            .include(".*" + DOTFastModeBenchmark.class.getSimpleName() + ".*")
+            .include(".*" + GmlDefaultModeBenchmark.class.getSimpleName() + ".*")
+            .include(".*" + GmlFastModeBenchmark.class.getSimpleName() + ".*")
+
+            .mode(Mode.AverageTime).timeUnit(TimeUnit.MILLISECONDS)
+            .warmupTime(TimeValue.seconds(1)).warmupIterations(3)
+            .measurementTime(TimeValue.seconds(1)).measurementIterations(5).forks(1)
+            .shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+}
+
+// End ImporterPerformanceTest.java